@@ -40,6 +40,9 @@ public class BeanComponent extends DefaultComponent {
     // for example the bean language using OGNL expression runs much faster reusing the BeanInfo from this cache
     @SuppressWarnings("unchecked")
     private final Map<BeanInfoCacheKey, BeanInfo> beanInfoCache = LRUCacheFactory.newLRUSoftCache(1000);
+    // the bean classes which have no generated bean methods, so they are not looked up again
+    @SuppressWarnings("unchecked")
+    private final Map<Class<?>, Boolean> noGeneratedMethodsCache = LRUCacheFactory.newLRUSoftCache(1000);
 
     @Deprecated
     @Metadata(defaultValue = "true", description = "Use singleton option instead.")
@@ -84,6 +87,14 @@ public class BeanComponent extends DefaultComponent {
         beanInfoCache.put(key, beanInfo);
     }
 
+    boolean hasNoGeneratedMethods(Class<?> type) {
+        return noGeneratedMethodsCache.containsKey(type);
+    }
+
+    void addNoGeneratedMethods(Class<?> type) {
+        noGeneratedMethodsCache.put(type, Boolean.TRUE);
+    }
+
     @Override
     protected void doShutdown() throws Exception {
         if (LOG.isDebugEnabled() && beanInfoCache instanceof LRUCache) {
@@ -92,6 +103,7 @@ public class BeanComponent extends DefaultComponent {
                     cache.getMisses(), cache.getEvicted());
         }
         beanInfoCache.clear();
+        noGeneratedMethodsCache.clear();
     }
 
     @Deprecated
@@ -25,6 +25,11 @@ public final class BeanConstants {
     public static final String BEAN_PARAMETER_MAPPING_STRATEGY = "CamelBeanParameterMappingStrategy";
     @Metadata(description = "The name of the method to invoke.", javaType = "String")
     public static final String BEAN_METHOD_NAME = Exchange.BEAN_METHOD_NAME;
+    /**
+     * Global option (see {@link org.apache.camel.CamelContext#getGlobalOptions()}) to invoke the bean methods by
+     * reflection instead of by method handles.
+     */
+    public static final String BEAN_INVOKE_BY_REFLECTION = "CamelBeanInvokeByReflection";
 
     private BeanConstants() {
         // Utility class
@@ -37,11 +37,13 @@ import org.apache.camel.ExchangeException;
 import org.apache.camel.ExchangeProperties;
 import org.apache.camel.ExchangeProperty;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Handler;
 import org.apache.camel.Header;
 import org.apache.camel.Headers;
 import org.apache.camel.Message;
 import org.apache.camel.PropertyInject;
+import org.apache.camel.spi.BeanMethods;
 import org.apache.camel.support.ObjectHelper;
 import org.apache.camel.support.builder.ExpressionBuilder;
 import org.apache.camel.support.language.AnnotationExpressionFactory;
@@ -84,6 +86,7 @@ public class BeanInfo {
     private Map<Method, MethodInfo> methodMap = new HashMap<>();
     private boolean publicConstructors;
     private boolean publicNoArgConstructors;
+    private boolean generatedMethods;
 
     public BeanInfo(CamelContext camelContext, Class<?> type) {
         this(camelContext, type, createParameterMappingStrategy(camelContext),
@@ -281,11 +284,16 @@ public class BeanInfo {
         publicConstructors = clazz.getConstructors().length > 0;
         publicNoArgConstructors = org.apache.camel.util.ObjectHelper.hasDefaultPublicNoArgConstructor(clazz);
 
-        MethodsFilter methods = new MethodsFilter(getType());
-        introspect(clazz, methods);
+        // use the generated methods if possible to avoid introspecting the class hierarchy
+        List<Method> methods = findGeneratedMethods(clazz);
+        if (methods == null) {
+            MethodsFilter filter = new MethodsFilter(getType());
+            introspect(clazz, filter);
+            methods = filter.asReadOnlyList();
+        }
 
         // now introspect the methods and filter non valid methods
-        for (Method method : methods.asReadOnlyList()) {
+        for (Method method : methods) {
             boolean valid = isValidMethod(clazz, method);
             LOG.trace("Method: {} is valid: {}", method, valid);
             if (valid) {
@@ -294,6 +302,31 @@ public class BeanInfo {
         }
     }
 
+    private List<Method> findGeneratedMethods(Class<?> clazz) {
+        // proxies are introspected as their target class
+        if (clazz.getName().startsWith("java.") || getTargetClass(clazz) != clazz
+                || component.hasNoGeneratedMethods(clazz)) {
+            return null;
+        }
+        BeanMethods generated = camelContext.adapt(ExtendedCamelContext.class).getDefaultFactoryFinder()
+                .newInstance(BeanMethods.FACTORY + "/" + clazz.getName(), BeanMethods.class).orElse(null);
+        if (generated == null) {
+            // remember the class has no generated methods, as the lookup is costly
+            component.addNoGeneratedMethods(clazz);
+            return null;
+        }
+        try {
+            List<Method> answer = Arrays.asList(generated.getMethods());
+            LOG.trace("Using generated methods: {} for class: {}", generated, clazz);
+            generatedMethods = true;
+            return answer;
+        } catch (NoSuchMethodException | LinkageError e) {
+            LOG.debug("Cannot use generated methods: {} for class: {} due to: {}. Introspecting the class instead.",
+                    generated, clazz, e.getMessage());
+            return null;
+        }
+    }
+
     private void introspect(Class<?> clazz, MethodsFilter filteredMethods) {
         // get the target clazz as it could potentially have been enhanced by
         // CGLIB etc.
@@ -455,10 +488,15 @@ public class BeanInfo {
     @SuppressWarnings("unchecked")
     protected List<Annotation>[] collectParameterAnnotations(Class<?> c, Method m) {
         List<Annotation>[] annotations = new List[m.getParameterCount()];
+        // the generated methods are not overridden, so their annotations are declared on the method itself
+        boolean declared = generatedMethods && m.getDeclaringClass().isAssignableFrom(c);
+        Annotation[][] pa = declared ? m.getParameterAnnotations() : null;
         for (int i = 0; i < annotations.length; i++) {
-            annotations[i] = new ArrayList<>();
+            annotations[i] = declared ? new ArrayList<>(Arrays.asList(pa[i])) : new ArrayList<>();
+        }
+        if (!declared) {
+            collectParameterAnnotations(c, m, annotations);
         }
-        collectParameterAnnotations(c, m, annotations);
         return annotations;
     }
 
@@ -17,6 +17,9 @@
 package org.apache.camel.component.bean;
 
 import java.lang.annotation.Annotation;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
 import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
@@ -82,6 +85,11 @@ public class MethodInfo {
     private AsyncProcessor recipientList;
     private AsyncProcessor routingSlip;
     private AsyncProcessor dynamicRouter;
+    private final boolean reflection;
+    private final Class<?>[] parameterTypes;
+    private final Class<?>[] boxedParameterTypes;
+    private volatile MethodHandle invoker;
+    private volatile boolean invokerFailed;
 
     /**
      * Adapter to invoke the method which has been annotated with the @DynamicRouter
@@ -121,6 +129,12 @@ public class MethodInfo {
         this.hasCustomAnnotation = hasCustomAnnotation;
         this.hasHandlerAnnotation = hasHandlerAnnotation;
         this.parametersExpression = createParametersExpression();
+        this.reflection = "true".equalsIgnoreCase(camelContext.getGlobalOption(BeanConstants.BEAN_INVOKE_BY_REFLECTION));
+        this.parameterTypes = method.getParameterTypes();
+        this.boxedParameterTypes = new Class<?>[parameterTypes.length];
+        for (int i = 0; i < parameterTypes.length; i++) {
+            boxedParameterTypes[i] = org.apache.camel.util.ObjectHelper.convertPrimitiveTypeToWrapperType(parameterTypes[i]);
+        }
 
         Map<Class<?>, Annotation> collectedMethodAnnotation = collectMethodAnnotations(type, method);
 
@@ -490,6 +504,18 @@ public class MethodInfo {
     }
 
     protected Object invoke(Method mth, Object pojo, Object[] arguments, Exchange exchange) throws InvocationTargetException {
+        if (mth == method && !reflection && isInvocable(pojo, arguments)) {
+            MethodHandle mh = getInvoker();
+            if (mh != null) {
+                try {
+                    return mh.invokeExact(pojo, arguments);
+                } catch (Throwable e) {
+                    // the arguments have been checked so this is thrown by the method itself
+                    throw new InvocationTargetException(e);
+                }
+            }
+        }
+
         try {
             return ObjectHelper.invokeMethodSafe(mth, pojo, arguments);
         } catch (IllegalAccessException e) {
@@ -503,6 +529,59 @@ public class MethodInfo {
         }
     }
 
+    /**
+     * Whether the method can be invoked by its method handle with the given bean and arguments, which is when no
+     * conversion is needed (else the method is invoked by reflection, which converts or fails the same as before).
+     */
+    private boolean isInvocable(Object pojo, Object[] arguments) {
+        if (!isStaticMethod() && !method.getDeclaringClass().isInstance(pojo)) {
+            return false;
+        }
+        if (arguments == null) {
+            return parameterTypes.length == 0;
+        }
+        if (arguments.length != parameterTypes.length) {
+            return false;
+        }
+        for (int i = 0; i < arguments.length; i++) {
+            Object arg = arguments[i];
+            if (arg == null ? parameterTypes[i].isPrimitive() : !boxedParameterTypes[i].isInstance(arg)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Gets the method handle to invoke the method with the bean and the arguments as an array, which is created on
+     * first use.
+     *
+     * @return the method handle, or <tt>null</tt> if the method cannot be invoked by a method handle
+     */
+    private MethodHandle getInvoker() {
+        MethodHandle answer = invoker;
+        if (answer == null && !invokerFailed) {
+            try {
+                if (!Modifier.isPublic(method.getModifiers())
+                        || !Modifier.isPublic(method.getDeclaringClass().getModifiers())) {
+                    method.trySetAccessible();
+                }
+                answer = MethodHandles.lookup().unreflect(method).asFixedArity();
+                if (isStaticMethod()) {
+                    answer = MethodHandles.dropArguments(answer, 0, Object.class);
+                }
+                answer = answer.asType(MethodType.genericMethodType(parameterTypes.length + 1))
+                        .asSpreader(Object[].class, parameterTypes.length);
+                invoker = answer;
+            } catch (Exception e) {
+                LOG.debug("Cannot create method handle for method: {} (will invoke by reflection) due to: {}", method,
+                        e.getMessage());
+                invokerFailed = true;
+            }
+        }
+        return answer;
+    }
+
     protected Expression[] createParameterExpressions() {
         final int size = parameters.size();
         LOG.trace("Creating parameters expression for {} parameters", size);
@@ -738,7 +817,7 @@ public class MethodInfo {
             Object result = expression.evaluate(exchange, Object.class);
             if (result != null) {
                 try {
-                    if (parameterType.isInstance(result)) {
+                    if (boxedParameterTypes[index].isInstance(result)) {
                         // optimize if the value is already the same type
                         answer = result;
                     } else {
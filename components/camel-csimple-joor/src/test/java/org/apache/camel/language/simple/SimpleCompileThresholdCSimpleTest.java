@@ -0,0 +1,111 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.test.junit5.CamelTestSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Tests compiling simple predicates and expressions at runtime using the csimple compiler.
+ */
+public class SimpleCompileThresholdCSimpleTest extends CamelTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.getGlobalOptions().put(Exchange.SIMPLE_COMPILE_THRESHOLD, "5");
+        return context;
+    }
+
+    private Exchange exchange(String foo) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setHeader("foo", foo);
+        return exchange;
+    }
+
+    @Test
+    public void testCompilePredicate() throws Exception {
+        Predicate predicate = context.resolveLanguage("simple").createPredicate("${header.foo} == 'bar'");
+        predicate.initPredicate(context);
+        TieredSimpleExpression tiered = assertInstanceOf(TieredSimpleExpression.class, predicate);
+
+        long deadline = System.currentTimeMillis() + 20000;
+        while (!tiered.isCompiled() && System.currentTimeMillis() < deadline) {
+            assertTrue(predicate.matches(exchange("bar")));
+            assertFalse(predicate.matches(exchange("baz")));
+            Thread.sleep(10);
+        }
+        assertTrue(tiered.isCompiled());
+
+        assertTrue(predicate.matches(exchange("bar")));
+        assertFalse(predicate.matches(exchange("baz")));
+    }
+
+    @Test
+    public void testCompileExpression() throws Exception {
+        Expression expression = context.resolveLanguage("simple").createExpression("Hello ${header.foo}");
+        expression.init(context);
+        TieredSimpleExpression tiered = assertInstanceOf(TieredSimpleExpression.class, expression);
+
+        long deadline = System.currentTimeMillis() + 20000;
+        while (!tiered.isCompiled() && System.currentTimeMillis() < deadline) {
+            assertEquals("Hello World", expression.evaluate(exchange("World"), String.class));
+            Thread.sleep(10);
+        }
+        assertTrue(tiered.isCompiled());
+
+        assertEquals("Hello Camel", expression.evaluate(exchange("Camel"), String.class));
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:bar");
+        mock.expectedMessageCount(100);
+        mock.expectedHeaderReceived("foo", "bar");
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBodyAndHeader("direct:start", "Hello " + i, "foo", i % 2 == 0 ? "bar" : "baz");
+            Thread.sleep(5);
+        }
+
+        MockEndpoint.assertIsSatisfied(context);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .filter(simple("${header.foo} == 'bar'"))
+                        .to("mock:bar");
+            }
+        };
+    }
+}
@@ -93,6 +93,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "include": target.setInclude(property(camelContext, java.lang.String.class, value)); return true;
         case "includeext":
         case "includeExt": target.setIncludeExt(property(camelContext, java.lang.String.class, value)); return true;
+        case "incrementalscan":
+        case "incrementalScan": target.setIncrementalScan(property(camelContext, boolean.class, value)); return true;
+        case "incrementalscanreconcileinterval":
+        case "incrementalScanReconcileInterval": target.setIncrementalScanReconcileInterval(property(camelContext, long.class, value)); return true;
         case "initialdelay":
         case "initialDelay": target.setInitialDelay(property(camelContext, long.class, value)); return true;
         case "jailstartingdirectory":
@@ -190,6 +194,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": target.setTimeUnit(property(camelContext, java.util.concurrent.TimeUnit.class, value)); return true;
         case "usefixeddelay":
         case "useFixedDelay": target.setUseFixedDelay(property(camelContext, boolean.class, value)); return true;
+        case "walkmaxpending":
+        case "walkMaxPending": target.setWalkMaxPending(property(camelContext, int.class, value)); return true;
+        case "walkparallelism":
+        case "walkParallelism": target.setWalkParallelism(property(camelContext, int.class, value)); return true;
         default: return false;
         }
     }
@@ -269,6 +277,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "include": return java.lang.String.class;
         case "includeext":
         case "includeExt": return java.lang.String.class;
+        case "incrementalscan":
+        case "incrementalScan": return boolean.class;
+        case "incrementalscanreconcileinterval":
+        case "incrementalScanReconcileInterval": return long.class;
         case "initialdelay":
         case "initialDelay": return long.class;
         case "jailstartingdirectory":
@@ -366,6 +378,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return java.util.concurrent.TimeUnit.class;
         case "usefixeddelay":
         case "useFixedDelay": return boolean.class;
+        case "walkmaxpending":
+        case "walkMaxPending": return int.class;
+        case "walkparallelism":
+        case "walkParallelism": return int.class;
         default: return null;
         }
     }
@@ -446,6 +462,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "include": return target.getInclude();
         case "includeext":
         case "includeExt": return target.getIncludeExt();
+        case "incrementalscan":
+        case "incrementalScan": return target.isIncrementalScan();
+        case "incrementalscanreconcileinterval":
+        case "incrementalScanReconcileInterval": return target.getIncrementalScanReconcileInterval();
         case "initialdelay":
         case "initialDelay": return target.getInitialDelay();
         case "jailstartingdirectory":
@@ -543,6 +563,10 @@ public class FileEndpointConfigurer extends PropertyConfigurerSupport implements
         case "timeUnit": return target.getTimeUnit();
         case "usefixeddelay":
         case "useFixedDelay": return target.isUseFixedDelay();
+        case "walkmaxpending":
+        case "walkMaxPending": return target.getWalkMaxPending();
+        case "walkparallelism":
+        case "walkParallelism": return target.getWalkParallelism();
         default: return null;
         }
     }
@@ -21,7 +21,7 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(94);
+        Set<String> props = new HashSet<>(98);
         props.add("allowNullBody");
         props.add("antExclude");
         props.add("antFilterCaseSensitive");
@@ -64,6 +64,8 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("inProgressRepository");
         props.add("include");
         props.add("includeExt");
+        props.add("incrementalScan");
+        props.add("incrementalScanReconcileInterval");
         props.add("initialDelay");
         props.add("jailStartingDirectory");
         props.add("keepLastModified");
@@ -116,6 +118,8 @@ public class FileEndpointUriFactory extends org.apache.camel.support.component.E
         props.add("tempPrefix");
         props.add("timeUnit");
         props.add("useFixedDelay");
+        props.add("walkMaxPending");
+        props.add("walkParallelism");
         PROPERTY_NAMES = Collections.unmodifiableSet(props);
         SECRET_PROPERTY_NAMES = Collections.emptySet();
         Set<String> prefixes = new HashSet<>(1);
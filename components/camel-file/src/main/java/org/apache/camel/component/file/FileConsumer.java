@@ -27,17 +27,22 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.Processor;
 import org.apache.camel.component.file.consumer.DirectoryEntriesResumeAdapter;
+import org.apache.camel.component.file.consumer.DirectoryListing;
 import org.apache.camel.component.file.consumer.FileOffsetResumeAdapter;
+import org.apache.camel.component.file.consumer.FileScanIndex;
+import org.apache.camel.component.file.consumer.ParallelDirectoryWalk;
 import org.apache.camel.resume.ResumeAdapter;
 import org.apache.camel.resume.ResumeAware;
 import org.apache.camel.resume.ResumeStrategy;
 import org.apache.camel.support.resume.Resumables;
 import org.apache.camel.util.FileUtil;
+import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -51,6 +56,8 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     private ResumeStrategy resumeStrategy;
     private String endpointPath;
     private Set<String> extendedAttributes;
+    private FileScanIndex scanIndex;
+    private ExecutorService walkExecutorService;
 
     public FileConsumer(FileEndpoint endpoint, Processor processor, GenericFileOperations<File> operations,
                         GenericFileProcessStrategy<File> processStrategy) {
@@ -72,22 +79,34 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         return exchange;
     }
 
-    private boolean pollDirectory(File directory, List<GenericFile<File>> fileList, int depth) {
+    private boolean pollDirectory(
+            File directory, List<GenericFile<File>> fileList, int depth, ParallelDirectoryWalk walk) {
         depth++;
 
         if (LOG.isTraceEnabled()) {
             LOG.trace("Polling directory: {}, absolute path: {}", directory.getPath(), directory.getAbsolutePath());
         }
-        final File[] files = listFiles(directory);
+        // the listing is only used by incremental scans and parallel walks, which read the attributes of the files
+        // when listing the directory
+        final DirectoryListing listing;
+        if (walk != null) {
+            listing = walk.list(directory, depth);
+        } else if (scanIndex != null) {
+            listing = scanIndex.list(directory);
+        } else {
+            listing = null;
+        }
+        final File[] files = listing != null ? listing.getFiles() : listFiles(directory);
         if (files == null || files.length == 0) {
             return true;
         }
 
-        if (getEndpoint().isPreSort()) {
+        if (listing == null && getEndpoint().isPreSort()) {
             Arrays.sort(files, Comparator.comparing(File::getAbsoluteFile));
         }
 
-        for (File file : files) {
+        for (int i = 0; i < files.length; i++) {
+            File file = files[i];
             // check if we can continue polling in files
             if (!canPollMoreFiles(fileList)) {
                 return false;
@@ -101,8 +120,20 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             }
 
             // creates a generic file
-            GenericFile<File> gf
-                    = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            final boolean isDirectory;
+            final GenericFile<File> gf;
+            if (listing != null) {
+                isDirectory = listing.isDirectory(i);
+                gf = newGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType(),
+                        isDirectory);
+                final long length = listing.getLength(i);
+                final long lastModified = listing.getLastModified(i);
+                gf.setFileLengthSupplier(() -> length);
+                gf.setLastModifiedSupplier(() -> lastModified);
+            } else {
+                isDirectory = file.isDirectory();
+                gf = asGenericFile(endpointPath, file, getEndpoint().getCharset(), getEndpoint().isProbeContentType());
+            }
 
             if (resumeStrategy != null) {
                 ResumeAdapter adapter = resumeStrategy.getAdapter();
@@ -122,9 +153,9 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                 }
             }
 
-            if (file.isDirectory()) {
+            if (isDirectory) {
                 if (endpoint.isRecursive() && depth < endpoint.getMaxDepth() && isValidFile(gf, true, files)) {
-                    boolean canPollMore = pollDirectory(file, fileList, depth);
+                    boolean canPollMore = pollDirectory(file, fileList, depth, walk);
                     if (!canPollMore) {
                         return false;
                     }
@@ -146,6 +177,11 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
                     }
 
                     fileList.add(gf);
+
+                    if (scanIndex != null) {
+                        // the file is likely moved or deleted when processed, so list the directory again
+                        scanIndex.invalidate(directory);
+                    }
                 }
 
             }
@@ -158,6 +194,10 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
     protected boolean pollDirectory(String fileName, List<GenericFile<File>> fileList, int depth) {
         LOG.trace("pollDirectory from fileName: {}", fileName);
 
+        if (scanIndex != null) {
+            scanIndex.begin();
+        }
+
         File directory = new File(fileName);
         if (!directory.exists() || !directory.isDirectory()) {
             LOG.debug("Cannot poll as directory does not exists or its not a directory: {}", directory);
@@ -167,7 +207,17 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             return true;
         }
 
-        return pollDirectory(directory, fileList, depth);
+        if (walkExecutorService == null) {
+            return pollDirectory(directory, fileList, depth, null);
+        }
+
+        final FileScanIndex index = scanIndex;
+        final boolean sort = getEndpoint().isPreSort();
+        try (ParallelDirectoryWalk walk = new ParallelDirectoryWalk(
+                walkExecutorService, dir -> index != null ? index.list(dir) : DirectoryListing.read(dir, sort),
+                endpoint.getMaxDepth(), getEndpoint().getWalkMaxPending())) {
+            return pollDirectory(directory, fileList, depth, walk);
+        }
     }
 
     private File[] listFiles(File directory) {
@@ -239,6 +289,17 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
      * @return                  wrapped as a GenericFile
      */
     public static GenericFile<File> asGenericFile(String endpointPath, File file, String charset, boolean probeContentType) {
+        GenericFile<File> answer = newGenericFile(endpointPath, file, charset, probeContentType, file.isDirectory());
+
+        // file length and last modified are loaded lazily
+        answer.setFileLengthSupplier(file::length);
+        answer.setLastModifiedSupplier(file::lastModified);
+
+        return answer;
+    }
+
+    private static GenericFile<File> newGenericFile(
+            String endpointPath, File file, String charset, boolean probeContentType, boolean isDirectory) {
         GenericFile<File> answer = new GenericFile<>(probeContentType);
         // use file specific binding
         answer.setBinding(new FileBinding());
@@ -247,7 +308,7 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setEndpointPath(endpointPath);
         answer.setFile(file);
         answer.setFileNameOnly(file.getName());
-        answer.setDirectory(file.isDirectory());
+        answer.setDirectory(isDirectory);
         // must use FileUtil.isAbsolute to have consistent check for whether the
         // file is
         // absolute or not. As windows do not consider \ paths as absolute where
@@ -260,10 +321,6 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
         answer.setAbsolute(FileUtil.isAbsolute(file));
         answer.setAbsoluteFilePath(file.getAbsolutePath());
 
-        // file length and last modified are loaded lazily
-        answer.setFileLengthSupplier(file::length);
-        answer.setLastModifiedSupplier(file::lastModified);
-
         // compute the file path as relative to the starting directory
         File path;
         String endpointNormalizedSep = FileUtil.normalizePath(endpointPath) + File.separator;
@@ -324,9 +381,34 @@ public class FileConsumer extends GenericFileConsumer<File> implements ResumeAwa
             resumeStrategy.loadCache();
         }
 
+        if (getEndpoint().isIncrementalScan()) {
+            scanIndex = new FileScanIndex(getEndpoint().getIncrementalScanReconcileInterval(), getEndpoint().isPreSort());
+        }
+        if (getEndpoint().getWalkParallelism() > 0 && getEndpoint().isRecursive()) {
+            walkExecutorService = getEndpoint().getCamelContext().getExecutorServiceManager().newFixedThreadPool(this,
+                    "FileConsumerWalk", getEndpoint().getWalkParallelism());
+        }
+
         super.doStart();
     }
 
+    @Override
+    protected void doStop() throws Exception {
+        super.doStop();
+
+        if (walkExecutorService != null) {
+            getEndpoint().getCamelContext().getExecutorServiceManager().shutdownNow(walkExecutorService);
+            walkExecutorService = null;
+        }
+        if (scanIndex != null) {
+            IOHelper.close(scanIndex, "scan index", LOG);
+        }
+    }
+
+    FileScanIndex getScanIndex() {
+        return scanIndex;
+    }
+
     @Override
     public ResumeStrategy getResumeStrategy() {
         return resumeStrategy;
@@ -24,6 +24,7 @@ import java.nio.file.attribute.PosixFilePermission;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.Category;
 import org.apache.camel.Component;
@@ -31,6 +32,8 @@ import org.apache.camel.Exchange;
 import org.apache.camel.Message;
 import org.apache.camel.PollingConsumer;
 import org.apache.camel.Processor;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
 import org.apache.camel.component.file.strategy.FileMoveExistingStrategy;
 import org.apache.camel.component.file.strategy.FileProcessStrategyFactory;
 import org.apache.camel.spi.Metadata;
@@ -48,6 +51,7 @@ import org.slf4j.LoggerFactory;
  */
 @UriEndpoint(firstVersion = "1.0.0", scheme = "file", title = "File", syntax = "file:directoryName",
              category = { Category.FILE, Category.CORE }, headersClass = FileConstants.class)
+@ManagedResource(description = "Managed FileEndpoint")
 public class FileEndpoint extends GenericFileEndpoint<File> {
 
     private static final Logger LOG = LoggerFactory.getLogger(FileEndpoint.class);
@@ -75,6 +79,14 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     private boolean probeContentType;
     @UriParam(label = "consumer,advanced")
     private String extendedAttributes;
+    @UriParam(label = "consumer,advanced")
+    private boolean incrementalScan;
+    @UriParam(label = "consumer,advanced", defaultValue = "300000")
+    private long incrementalScanReconcileInterval = 300000;
+    @UriParam(label = "consumer,advanced")
+    private int walkParallelism;
+    @UriParam(label = "consumer,advanced", defaultValue = "1000")
+    private int walkMaxPending = 1000;
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean forceWrites = true;
     @UriParam(label = "producer,advanced")
@@ -82,6 +94,8 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
     @UriParam(label = "producer,advanced")
     private String chmodDirectory;
 
+    private final LongAdder zeroCopyTransferredBytes = new LongAdder();
+
     public FileEndpoint() {
     }
 
@@ -360,6 +374,72 @@ public class FileEndpoint extends GenericFileEndpoint<File> {
         this.extendedAttributes = extendedAttributes;
     }
 
+    public boolean isIncrementalScan() {
+        return incrementalScan;
+    }
+
+    /**
+     * Whether to keep the listings of the directories between polls, and only list the directories which have changed
+     * since the previous poll, as detected by a {@link java.nio.file.WatchService}. This reduces the cost of polling
+     * large directories, or directory trees with recursive, where few files change between polls. The file size and
+     * last modified timestamp used by the filters are the ones of the listing.
+     */
+    public void setIncrementalScan(boolean incrementalScan) {
+        this.incrementalScan = incrementalScan;
+    }
+
+    public long getIncrementalScanReconcileInterval() {
+        return incrementalScanReconcileInterval;
+    }
+
+    /**
+     * The interval in millis to list all the directories again when incrementalScan is enabled, in case the file system
+     * did not report some changes. Use 0 to never list all the directories again.
+     */
+    public void setIncrementalScanReconcileInterval(long incrementalScanReconcileInterval) {
+        this.incrementalScanReconcileInterval = incrementalScanReconcileInterval;
+    }
+
+    public int getWalkParallelism() {
+        return walkParallelism;
+    }
+
+    /**
+     * The number of threads to list the subdirectories in parallel when recursive is enabled. The files are still
+     * filtered and sorted by the polling thread, in the same order as when the directories are listed one by one, so
+     * options such as maxMessagesPerPoll and sorter work as usual. This reduces the time to poll large directory trees
+     * on file systems where listing a directory is slow, such as network file systems. Use 0 to list the directories
+     * on the polling thread.
+     */
+    public void setWalkParallelism(int walkParallelism) {
+        this.walkParallelism = walkParallelism;
+    }
+
+    public int getWalkMaxPending() {
+        return walkMaxPending;
+    }
+
+    /**
+     * The maximum number of directories listed in parallel ahead of the polling thread when walkParallelism is
+     * enabled, which bounds the memory used by the listings.
+     */
+    public void setWalkMaxPending(int walkMaxPending) {
+        this.walkMaxPending = walkMaxPending;
+    }
+
+    /**
+     * Number of bytes written by the producer from file based message bodies, which have been transferred by the
+     * operating system without copying the content into the heap.
+     */
+    @ManagedAttribute(description = "Number of bytes of file based message bodies written without copying them into the heap")
+    public long getZeroCopyTransferredBytes() {
+        return zeroCopyTransferredBytes.sum();
+    }
+
+    void addZeroCopyTransferredBytes(long bytes) {
+        zeroCopyTransferredBytes.add(bytes);
+    }
+
     /**
      * Chmod value must be between 000 and 777; If there is a leading digit like in 0755 we will ignore it.
      */
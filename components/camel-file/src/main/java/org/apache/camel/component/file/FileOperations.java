@@ -17,7 +17,6 @@
 package org.apache.camel.component.file;
 
 import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.InputStreamReader;
@@ -27,9 +26,9 @@ import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.channels.FileChannel;
 import java.nio.channels.SeekableByteChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.Charset;
 import java.nio.file.Files;
-import java.nio.file.StandardCopyOption;
 import java.nio.file.StandardOpenOption;
 import java.nio.file.attribute.PosixFilePermission;
 import java.nio.file.attribute.PosixFilePermissions;
@@ -287,13 +286,11 @@ public class FileOperations implements GenericFileOperations<File> {
 
             // we can optimize and use file based if no charset must be used,
             // and the input body is a file
-            // however optimization cannot be applied when content should be
-            // appended to target file
             File source = null;
             boolean fileBased = false;
-            if (charset == null && endpoint.getFileExist() != GenericFileExist.Append) {
-                // if no charset and not in appending mode, then we can try
-                // using file directly (optimized)
+            boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+            if (charset == null) {
+                // if no charset, then we can try using file directly (optimized)
                 Object body = exchange.getIn().getBody();
                 if (body instanceof WrappedFile) {
                     WrappedFile wrapped = (WrappedFile) body;
@@ -321,8 +318,10 @@ public class FileOperations implements GenericFileOperations<File> {
                 // a full file to file copy, as the local work copy is to be
                 // deleted afterwards anyway
                 // local work path
+                // however the local work file cannot be renamed when content
+                // should be appended to target file
                 File local = exchange.getIn().getHeader(FileConstants.FILE_LOCAL_WORK_PATH, File.class);
-                if (local != null && local.exists()) {
+                if (!append && local != null && local.exists()) {
                     boolean renamed = writeFileByLocalWorkPath(local, file);
                     if (renamed) {
                         // try to keep last modified timestamp if configured to
@@ -437,21 +436,54 @@ public class FileOperations implements GenericFileOperations<File> {
     }
 
     private void writeFileByFile(File source, File target, Exchange exchange) throws IOException {
+        boolean append = endpoint.getFileExist() == GenericFileExist.Append;
+        if (!append && target.exists() && Files.isSameFile(source.toPath(), target.toPath())) {
+            LOG.trace("writeFileByFile skipped as source and target is the same file: {}", target);
+            return;
+        }
+
         // in case we are using file locks as read-locks then we need to use
         // file channels for copying to support this
         String path = source.getAbsolutePath();
         FileChannel channel
                 = exchange.getProperty(asExclusiveReadLockKey(path, Exchange.FILE_LOCK_CHANNEL_FILE), FileChannel.class);
-        if (channel != null) {
-            try (FileChannel out = new FileOutputStream(target).getChannel()) {
+        try (FileChannel out = append
+                ? FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.APPEND)
+                : FileChannel.open(target.toPath(), StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                        StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (channel != null) {
                 LOG.trace("writeFileByFile using FileChannel: {} -> {}", source, target);
-                channel.transferTo(0, channel.size(), out);
+                transferFile(channel, out);
+            } else {
+                try (FileChannel in = FileChannel.open(source.toPath(), StandardOpenOption.READ)) {
+                    LOG.trace("writeFileByFile using FileChannel.transferTo: {} -> {}", source, target);
+                    transferFile(in, out);
+                }
             }
-        } else {
-            // use regular file copy
-            LOG.trace("writeFileByFile using Files.copy: {} -> {}", source, target);
-            Files.copy(source.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+
+            if (append && endpoint.getAppendChars() != null) {
+                out.write(ByteBuffer.wrap(endpoint.getAppendChars().getBytes()));
+            }
+        }
+    }
+
+    /**
+     * Transfers the content of the source file using {@link FileChannel#transferTo(long, long, WritableByteChannel)},
+     * which lets the operating system copy the content without copying it into the heap.
+     */
+    private void transferFile(FileChannel in, FileChannel out) throws IOException {
+        long size = in.size();
+        long position = 0;
+        while (position < size) {
+            long count = in.transferTo(position, size - position, out);
+            if (count <= 0) {
+                // the source file has been truncated
+                break;
+            }
+            position += count;
         }
+        endpoint.addZeroCopyTransferredBytes(position);
     }
 
     private void writeFileByStream(InputStream in, File target) throws IOException {
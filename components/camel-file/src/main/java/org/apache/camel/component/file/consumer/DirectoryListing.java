@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Arrays;
+import java.util.Comparator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The listing of a directory, with the attributes of its files at the time of the listing.
+ */
+public final class DirectoryListing {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DirectoryListing.class);
+
+    private final File[] files;
+    private final boolean[] directories;
+    private final long[] lengths;
+    private final long[] lastModified;
+
+    private DirectoryListing(File[] files, boolean[] directories, long[] lengths, long[] lastModified) {
+        this.files = files;
+        this.directories = directories;
+        this.lengths = lengths;
+        this.lastModified = lastModified;
+    }
+
+    /**
+     * Lists the files of the directory and reads their attributes. Files which are deleted during the listing are
+     * skipped.
+     *
+     * @param  directory the directory
+     * @param  sort      whether to sort the files by their absolute path
+     * @return           the listing, or <tt>null</tt> if the directory cannot be listed
+     */
+    public static DirectoryListing read(File directory, boolean sort) {
+        File[] files = directory.listFiles();
+        if (files == null) {
+            return null;
+        }
+        if (sort) {
+            Arrays.sort(files, Comparator.comparing(File::getAbsoluteFile));
+        }
+
+        boolean[] dirs = new boolean[files.length];
+        long[] lengths = new long[files.length];
+        long[] modified = new long[files.length];
+        int count = 0;
+        for (File file : files) {
+            BasicFileAttributes attributes;
+            try {
+                attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            } catch (IOException e) {
+                // the file has been deleted since the listing
+                LOG.trace("Cannot read attributes of file: {} due to: {}", file, e.getMessage());
+                continue;
+            }
+            files[count] = file;
+            dirs[count] = attributes.isDirectory();
+            lengths[count] = attributes.size();
+            modified[count] = attributes.lastModifiedTime().toMillis();
+            count++;
+        }
+
+        if (count < files.length) {
+            files = Arrays.copyOf(files, count);
+        }
+        return new DirectoryListing(files, dirs, lengths, modified);
+    }
+
+    public File[] getFiles() {
+        return files;
+    }
+
+    public boolean isDirectory(int index) {
+        return directories[index];
+    }
+
+    public long getLength(int index) {
+        return lengths[index];
+    }
+
+    public long getLastModified(int index) {
+        return lastModified[index];
+    }
+}
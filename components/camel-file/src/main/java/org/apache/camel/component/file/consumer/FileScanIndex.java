@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.ClosedWatchServiceException;
+import java.nio.file.FileSystems;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An index of the directory listings of a file consumer, which is kept between polls, so only the directories which
+ * have changed since the previous poll are listed again.
+ * <p/>
+ * The changes are detected by a {@link WatchService} registered on the listed directories. All the directories are
+ * listed again when the reconcile interval has elapsed, or when the watch service has lost events. Directories which
+ * cannot be watched are listed on every poll.
+ * <p/>
+ * Directories can be listed concurrently, while the polls are started by the polling thread of the consumer.
+ */
+public class FileScanIndex implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(FileScanIndex.class);
+
+    private final long reconcileInterval;
+    private final boolean sort;
+    private final Map<Path, DirectoryListing> listings = new HashMap<>();
+    private final Map<Path, WatchKey> keys = new HashMap<>();
+    private final Map<WatchKey, Path> directories = new HashMap<>();
+    private WatchService watchService;
+    private long lastReconcile;
+    private long generation;
+    private long listCounter;
+    private long hitCounter;
+
+    /**
+     * @param reconcileInterval the interval in millis to list all the directories again, or 0 to never do so
+     * @param sort              whether to sort the files of the listings by their absolute path
+     */
+    public FileScanIndex(long reconcileInterval, boolean sort) {
+        this.reconcileInterval = reconcileInterval;
+        this.sort = sort;
+
+        try {
+            watchService = FileSystems.getDefault().newWatchService();
+        } catch (IOException | UnsupportedOperationException e) {
+            LOG.warn("Cannot create watch service, so all the directories are listed on every poll due to: {}",
+                    e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Starts a poll, by discarding the listings of the directories which have changed since the previous poll.
+     */
+    public synchronized void begin() {
+        if (watchService == null) {
+            return;
+        }
+
+        long now = System.currentTimeMillis();
+        boolean reconcile = reconcileInterval > 0 && now - lastReconcile >= reconcileInterval;
+
+        WatchKey key;
+        while ((key = pollKey()) != null) {
+            Path directory = directories.get(key);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    LOG.debug("Lost events of directory: {}", directory);
+                    reconcile = true;
+                } else if (directory != null && event.kind() != StandardWatchEventKinds.ENTRY_MODIFY) {
+                    // a created or deleted entry may be a directory which is renamed
+                    forget(directory.resolve((Path) event.context()));
+                }
+            }
+            if (directory != null) {
+                listings.remove(directory);
+                if (!key.reset()) {
+                    forget(directory);
+                }
+            }
+        }
+
+        if (reconcile) {
+            LOG.debug("Reconciling the listings of {} directories", listings.size());
+            listings.clear();
+            lastReconcile = now;
+        }
+
+        // listings which are still in progress from the previous poll may be outdated
+        generation++;
+    }
+
+    /**
+     * Lists the files of the directory, which is only listed again if it has changed since it was last listed.
+     *
+     * @return the listing, or <tt>null</tt> if the directory cannot be listed
+     */
+    public DirectoryListing list(File directory) {
+        Path path = directory.toPath();
+        boolean watched;
+        long current;
+        synchronized (this) {
+            DirectoryListing listing = listings.get(path);
+            if (listing != null) {
+                hitCounter++;
+                return listing;
+            }
+            // watch before listing so changes during the listing are not missed
+            watched = watch(path);
+            current = generation;
+            listCounter++;
+        }
+
+        DirectoryListing listing = DirectoryListing.read(directory, sort);
+        if (watched && listing != null) {
+            synchronized (this) {
+                if (current == generation && keys.containsKey(path)) {
+                    listings.put(path, listing);
+                }
+            }
+        }
+        return listing;
+    }
+
+    /**
+     * Discards the listing of the directory, so it is listed again on the next poll.
+     */
+    public synchronized void invalidate(File directory) {
+        listings.remove(directory.toPath());
+    }
+
+    /**
+     * Number of times a directory has been listed
+     */
+    public synchronized long getListCounter() {
+        return listCounter;
+    }
+
+    /**
+     * Number of times the listing of a directory has been reused
+     */
+    public synchronized long getHitCounter() {
+        return hitCounter;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        listings.clear();
+        keys.clear();
+        directories.clear();
+        if (watchService != null) {
+            watchService.close();
+            watchService = null;
+        }
+    }
+
+    private WatchKey pollKey() {
+        try {
+            return watchService != null ? watchService.poll() : null;
+        } catch (ClosedWatchServiceException e) {
+            // the consumer is stopping
+            return null;
+        }
+    }
+
+    private boolean watch(Path directory) {
+        if (watchService == null) {
+            return false;
+        }
+        if (keys.containsKey(directory)) {
+            return true;
+        }
+        try {
+            WatchKey key = directory.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                    StandardWatchEventKinds.ENTRY_DELETE, StandardWatchEventKinds.ENTRY_MODIFY);
+            // the same key is returned if the directory was registered by another path (e.g. renamed)
+            Path previous = directories.put(key, directory);
+            if (previous != null) {
+                keys.remove(previous);
+                listings.remove(previous);
+            }
+            keys.put(directory, key);
+            return true;
+        } catch (IOException | ClosedWatchServiceException e) {
+            LOG.debug("Cannot watch directory: {} so it is listed on every poll due to: {}", directory, e.getMessage());
+            return false;
+        }
+    }
+
+    private void forget(Path directory) {
+        listings.remove(directory);
+        WatchKey key = keys.remove(directory);
+        if (key != null) {
+            directories.remove(key);
+            key.cancel();
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file.consumer;
+
+import java.io.Closeable;
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.camel.RuntimeCamelException;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A walk of a directory tree during a poll of a file consumer, which lists the subdirectories in parallel ahead of the
+ * polling thread.
+ * <p/>
+ * When a directory is listed, its subdirectories are submitted to be listed by the thread pool, and so on for their
+ * subdirectories up to the maximum depth. The polling thread still walks the tree depth first, and filters the files
+ * in the same order as a sequential walk, but gets the listings of the directories from the thread pool instead of
+ * listing them itself. The number of listings kept ahead of the polling thread is bounded, and a directory which has
+ * not been submitted is listed by the polling thread.
+ * <p/>
+ * Hidden directories (starting with a dot) are not listed ahead, as they are never walked by the consumer.
+ */
+public final class ParallelDirectoryWalk implements Closeable {
+
+    private static final Logger LOG = LoggerFactory.getLogger(ParallelDirectoryWalk.class);
+
+    private final ExecutorService executorService;
+    private final Function<File, DirectoryListing> lister;
+    private final int maxDepth;
+    private final int maxPending;
+    private final Map<File, Future<DirectoryListing>> listings = new ConcurrentHashMap<>();
+    private final AtomicInteger pending = new AtomicInteger();
+    private volatile boolean closed;
+
+    /**
+     * @param executorService the thread pool to list the directories
+     * @param lister          lists a directory
+     * @param maxDepth        the maximum depth of the directories to list, where the starting directory is at depth 1
+     * @param maxPending      the maximum number of directories listed ahead of the polling thread
+     */
+    public ParallelDirectoryWalk(ExecutorService executorService, Function<File, DirectoryListing> lister,
+                                 int maxDepth, int maxPending) {
+        this.executorService = executorService;
+        this.lister = lister;
+        this.maxDepth = maxDepth;
+        this.maxPending = maxPending;
+    }
+
+    /**
+     * Gets the listing of the directory, waiting for it to be listed by the thread pool if it has been submitted, or
+     * else listing it.
+     *
+     * @param  directory the directory
+     * @param  depth     the depth of the directory, where the starting directory is at depth 1
+     * @return           the listing, or <tt>null</tt> if the directory cannot be listed
+     */
+    public DirectoryListing list(File directory, int depth) {
+        Future<DirectoryListing> future = listings.remove(directory);
+        if (future == null) {
+            return listAndSubmit(directory, depth);
+        }
+        pending.decrementAndGet();
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeCamelException("Interrupted while listing directory: " + directory, e);
+        } catch (ExecutionException e) {
+            throw RuntimeCamelException.wrapRuntimeException(e.getCause());
+        }
+    }
+
+    /**
+     * Number of directories listed ahead of the polling thread, which the polling thread has not yet walked
+     */
+    public int getPending() {
+        return pending.get();
+    }
+
+    /**
+     * Ends the walk, by discarding the listings which have not been walked by the polling thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Future<DirectoryListing> future : listings.values()) {
+            future.cancel(false);
+        }
+        listings.clear();
+        pending.set(0);
+    }
+
+    private DirectoryListing listAndSubmit(File directory, int depth) {
+        DirectoryListing listing = lister.apply(directory);
+        if (listing == null || depth >= maxDepth) {
+            return listing;
+        }
+
+        File[] files = listing.getFiles();
+        for (int i = 0; i < files.length && !closed; i++) {
+            File file = files[i];
+            if (!listing.isDirectory(i) || file.getName().startsWith(".")) {
+                continue;
+            }
+            if (pending.incrementAndGet() > maxPending) {
+                pending.decrementAndGet();
+                LOG.trace("Cannot list ahead more than {} directories", maxPending);
+                break;
+            }
+            try {
+                listings.put(file, executorService.submit(() -> listAndSubmit(file, depth + 1)));
+            } catch (RejectedExecutionException e) {
+                // the consumer is stopping
+                pending.decrementAndGet();
+                break;
+            }
+        }
+        return listing;
+    }
+}
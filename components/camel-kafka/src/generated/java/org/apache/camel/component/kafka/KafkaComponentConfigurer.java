@@ -42,6 +42,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autowiredEnabled": target.setAutowiredEnabled(property(camelContext, boolean.class, value)); return true;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": getOrCreateConfiguration(target).setBatchWithIndividualHeaders(property(camelContext, boolean.class, value)); return true;
+        case "batching": getOrCreateConfiguration(target).setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": getOrCreateConfiguration(target).setBatchingIntervalMs(property(camelContext, int.class, value)); return true;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": getOrCreateConfiguration(target).setBatchingMaxBytes(property(camelContext, int.class, value)); return true;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": getOrCreateConfiguration(target).setBatchingMaxRecords(property(camelContext, int.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": getOrCreateConfiguration(target).setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -111,6 +118,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "key": getOrCreateConfiguration(target).setKey(property(camelContext, java.lang.String.class, value)); return true;
         case "keydeserializer":
         case "keyDeserializer": getOrCreateConfiguration(target).setKeyDeserializer(property(camelContext, java.lang.String.class, value)); return true;
+        case "keyorderedmaxpendingrecords":
+        case "keyOrderedMaxPendingRecords": getOrCreateConfiguration(target).setKeyOrderedMaxPendingRecords(property(camelContext, int.class, value)); return true;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": getOrCreateConfiguration(target).setKeyOrderedProcessingThreads(property(camelContext, int.class, value)); return true;
         case "keyserializer":
         case "keySerializer": getOrCreateConfiguration(target).setKeySerializer(property(camelContext, java.lang.String.class, value)); return true;
         case "lazystartproducer":
@@ -264,6 +275,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autowiredEnabled": return boolean.class;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return boolean.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return int.class;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return int.class;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return int.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -333,6 +351,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "key": return java.lang.String.class;
         case "keydeserializer":
         case "keyDeserializer": return java.lang.String.class;
+        case "keyorderedmaxpendingrecords":
+        case "keyOrderedMaxPendingRecords": return int.class;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return int.class;
         case "keyserializer":
         case "keySerializer": return java.lang.String.class;
         case "lazystartproducer":
@@ -482,6 +504,13 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "autowiredEnabled": return target.isAutowiredEnabled();
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return getOrCreateConfiguration(target).isBatchWithIndividualHeaders();
+        case "batching": return getOrCreateConfiguration(target).isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return getOrCreateConfiguration(target).getBatchingIntervalMs();
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return getOrCreateConfiguration(target).getBatchingMaxBytes();
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return getOrCreateConfiguration(target).getBatchingMaxRecords();
         case "breakonfirsterror":
         case "breakOnFirstError": return getOrCreateConfiguration(target).isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -551,6 +580,10 @@ public class KafkaComponentConfigurer extends PropertyConfigurerSupport implemen
         case "key": return getOrCreateConfiguration(target).getKey();
         case "keydeserializer":
         case "keyDeserializer": return getOrCreateConfiguration(target).getKeyDeserializer();
+        case "keyorderedmaxpendingrecords":
+        case "keyOrderedMaxPendingRecords": return getOrCreateConfiguration(target).getKeyOrderedMaxPendingRecords();
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return getOrCreateConfiguration(target).getKeyOrderedProcessingThreads();
         case "keyserializer":
         case "keySerializer": return getOrCreateConfiguration(target).getKeySerializer();
         case "lazystartproducer":
@@ -33,6 +33,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": target.getConfiguration().setAutoOffsetReset(property(camelContext, java.lang.String.class, value)); return true;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": target.getConfiguration().setBatchWithIndividualHeaders(property(camelContext, boolean.class, value)); return true;
+        case "batching": target.getConfiguration().setBatching(property(camelContext, boolean.class, value)); return true;
+        case "batchingintervalms":
+        case "batchingIntervalMs": target.getConfiguration().setBatchingIntervalMs(property(camelContext, int.class, value)); return true;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": target.getConfiguration().setBatchingMaxBytes(property(camelContext, int.class, value)); return true;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": target.getConfiguration().setBatchingMaxRecords(property(camelContext, int.class, value)); return true;
         case "breakonfirsterror":
         case "breakOnFirstError": target.getConfiguration().setBreakOnFirstError(property(camelContext, boolean.class, value)); return true;
         case "bridgeerrorhandler":
@@ -101,6 +108,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": target.getConfiguration().setKey(property(camelContext, java.lang.String.class, value)); return true;
         case "keydeserializer":
         case "keyDeserializer": target.getConfiguration().setKeyDeserializer(property(camelContext, java.lang.String.class, value)); return true;
+        case "keyorderedmaxpendingrecords":
+        case "keyOrderedMaxPendingRecords": target.getConfiguration().setKeyOrderedMaxPendingRecords(property(camelContext, int.class, value)); return true;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": target.getConfiguration().setKeyOrderedProcessingThreads(property(camelContext, int.class, value)); return true;
         case "keyserializer":
         case "keySerializer": target.getConfiguration().setKeySerializer(property(camelContext, java.lang.String.class, value)); return true;
         case "lazystartproducer":
@@ -239,6 +250,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": return java.lang.String.class;
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return boolean.class;
+        case "batching": return boolean.class;
+        case "batchingintervalms":
+        case "batchingIntervalMs": return int.class;
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return int.class;
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return int.class;
         case "breakonfirsterror":
         case "breakOnFirstError": return boolean.class;
         case "bridgeerrorhandler":
@@ -307,6 +325,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": return java.lang.String.class;
         case "keydeserializer":
         case "keyDeserializer": return java.lang.String.class;
+        case "keyorderedmaxpendingrecords":
+        case "keyOrderedMaxPendingRecords": return int.class;
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return int.class;
         case "keyserializer":
         case "keySerializer": return java.lang.String.class;
         case "lazystartproducer":
@@ -446,6 +468,13 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "autoOffsetReset": return target.getConfiguration().getAutoOffsetReset();
         case "batchwithindividualheaders":
         case "batchWithIndividualHeaders": return target.getConfiguration().isBatchWithIndividualHeaders();
+        case "batching": return target.getConfiguration().isBatching();
+        case "batchingintervalms":
+        case "batchingIntervalMs": return target.getConfiguration().getBatchingIntervalMs();
+        case "batchingmaxbytes":
+        case "batchingMaxBytes": return target.getConfiguration().getBatchingMaxBytes();
+        case "batchingmaxrecords":
+        case "batchingMaxRecords": return target.getConfiguration().getBatchingMaxRecords();
         case "breakonfirsterror":
         case "breakOnFirstError": return target.getConfiguration().isBreakOnFirstError();
         case "bridgeerrorhandler":
@@ -514,6 +543,10 @@ public class KafkaEndpointConfigurer extends PropertyConfigurerSupport implement
         case "key": return target.getConfiguration().getKey();
         case "keydeserializer":
         case "keyDeserializer": return target.getConfiguration().getKeyDeserializer();
+        case "keyorderedmaxpendingrecords":
+        case "keyOrderedMaxPendingRecords": return target.getConfiguration().getKeyOrderedMaxPendingRecords();
+        case "keyorderedprocessingthreads":
+        case "keyOrderedProcessingThreads": return target.getConfiguration().getKeyOrderedProcessingThreads();
         case "keyserializer":
         case "keySerializer": return target.getConfiguration().getKeySerializer();
         case "lazystartproducer":
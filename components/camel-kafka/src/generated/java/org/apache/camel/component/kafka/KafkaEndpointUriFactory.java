@@ -21,13 +21,17 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(103);
+        Set<String> props = new HashSet<>(109);
         props.add("additionalProperties");
         props.add("allowManualCommit");
         props.add("autoCommitEnable");
         props.add("autoCommitIntervalMs");
         props.add("autoOffsetReset");
         props.add("batchWithIndividualHeaders");
+        props.add("batching");
+        props.add("batchingIntervalMs");
+        props.add("batchingMaxBytes");
+        props.add("batchingMaxRecords");
         props.add("breakOnFirstError");
         props.add("bridgeErrorHandler");
         props.add("brokers");
@@ -63,6 +67,8 @@ public class KafkaEndpointUriFactory extends org.apache.camel.support.component.
         props.add("kerberosRenewWindowFactor");
         props.add("key");
         props.add("keyDeserializer");
+        props.add("keyOrderedMaxPendingRecords");
+        props.add("keyOrderedProcessingThreads");
         props.add("keySerializer");
         props.add("lazyStartProducer");
         props.add("lingerMs");
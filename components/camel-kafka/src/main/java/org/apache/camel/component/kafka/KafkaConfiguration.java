@@ -140,6 +140,18 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
     @UriParam(label = "consumer")
     private boolean breakOnFirstError;
     @UriParam(label = "consumer")
+    private int keyOrderedProcessingThreads;
+    @UriParam(label = "consumer", defaultValue = "1000")
+    private int keyOrderedMaxPendingRecords = 1000;
+    @UriParam(label = "consumer")
+    private boolean batching;
+    @UriParam(label = "consumer", defaultValue = "500")
+    private int batchingMaxRecords = 500;
+    @UriParam(label = "consumer")
+    private int batchingMaxBytes;
+    @UriParam(label = "consumer")
+    private int batchingIntervalMs;
+    @UriParam(label = "consumer")
     private StateRepository<String, String> offsetRepository;
     @UriParam(label = "consumer", defaultValue = "ERROR_HANDLER")
     private PollOnError pollOnError = PollOnError.ERROR_HANDLER;
@@ -825,6 +837,86 @@ public class KafkaConfiguration implements Cloneable, HeaderFilterStrategyAware
         this.breakOnFirstError = breakOnFirstError;
     }
 
+    public int getKeyOrderedProcessingThreads() {
+        return keyOrderedProcessingThreads;
+    }
+
+    /**
+     * Number of threads used by each consumer to process the polled records in parallel. Records with the same key are
+     * processed by the same thread, so the records of a key are processed in the order of the partition, while records
+     * without a key are spread over the threads. The offsets are committed up to the last record which has been
+     * processed together with all the records before it. This requires autoCommitEnable to be false, and cannot be
+     * used together with allowManualCommit. The default value 0 processes the records one at a time by the consumer
+     * thread.
+     */
+    public void setKeyOrderedProcessingThreads(int keyOrderedProcessingThreads) {
+        this.keyOrderedProcessingThreads = keyOrderedProcessingThreads;
+    }
+
+    public int getKeyOrderedMaxPendingRecords() {
+        return keyOrderedMaxPendingRecords;
+    }
+
+    /**
+     * The maximum number of records each consumer has handed over to the processing threads, and which are not yet
+     * processed, when keyOrderedProcessingThreads is in use. When the limit is reached the consumer waits for records
+     * to be processed before handing over more records.
+     */
+    public void setKeyOrderedMaxPendingRecords(int keyOrderedMaxPendingRecords) {
+        this.keyOrderedMaxPendingRecords = keyOrderedMaxPendingRecords;
+    }
+
+    public boolean isBatching() {
+        return batching;
+    }
+
+    /**
+     * Whether to consume the records in batches, where each exchange contains a batch of records as a
+     * java.util.List of exchanges, which each have the body and headers of a record. The offsets of the records are
+     * committed when the exchange of the batch has been processed. The batches are limited by the options
+     * batchingMaxRecords, batchingMaxBytes and batchingIntervalMs.
+     */
+    public void setBatching(boolean batching) {
+        this.batching = batching;
+    }
+
+    public int getBatchingMaxRecords() {
+        return batchingMaxRecords;
+    }
+
+    /**
+     * The maximum number of records in a batch when batching is enabled.
+     */
+    public void setBatchingMaxRecords(int batchingMaxRecords) {
+        this.batchingMaxRecords = batchingMaxRecords;
+    }
+
+    public int getBatchingMaxBytes() {
+        return batchingMaxBytes;
+    }
+
+    /**
+     * The maximum size in bytes of the serialized keys and values of the records in a batch when batching is enabled. A
+     * batch is completed as soon as it reaches this size. The default value 0 does not limit the size of the batches.
+     */
+    public void setBatchingMaxBytes(int batchingMaxBytes) {
+        this.batchingMaxBytes = batchingMaxBytes;
+    }
+
+    public int getBatchingIntervalMs() {
+        return batchingIntervalMs;
+    }
+
+    /**
+     * The time in milliseconds to collect the records of further polls into a batch, from its first record, when
+     * batching is enabled. The batch is completed at the end of the first poll after the interval has elapsed, so it
+     * may be completed up to pollTimeoutMs later. This requires autoCommitEnable to be false. The default value 0
+     * completes the batches at the end of each poll.
+     */
+    public void setBatchingIntervalMs(int batchingIntervalMs) {
+        this.batchingIntervalMs = batchingIntervalMs;
+    }
+
     public String getBrokers() {
         return brokers;
     }
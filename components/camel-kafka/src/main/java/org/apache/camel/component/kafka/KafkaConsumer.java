@@ -123,6 +123,34 @@ public class KafkaConsumer extends DefaultConsumer
                 endpoint.getConfiguration().isBreakOnFirstError());
         super.doStart();
 
+        KafkaConfiguration configuration = endpoint.getConfiguration();
+        if (configuration.getKeyOrderedProcessingThreads() > 0) {
+            if (configuration.isAutoCommitEnable()) {
+                throw new IllegalArgumentException(
+                        "The option keyOrderedProcessingThreads requires the option autoCommitEnable to be false");
+            }
+            if (configuration.isAllowManualCommit()) {
+                throw new IllegalArgumentException(
+                        "The option keyOrderedProcessingThreads cannot be used together with the option allowManualCommit");
+            }
+            if (configuration.getKeyOrderedMaxPendingRecords() <= 0) {
+                throw new IllegalArgumentException("The option keyOrderedMaxPendingRecords must be a positive number");
+            }
+        }
+        if (configuration.isBatching()) {
+            if (configuration.getKeyOrderedProcessingThreads() > 0) {
+                throw new IllegalArgumentException(
+                        "The option batching cannot be used together with the option keyOrderedProcessingThreads");
+            }
+            if (configuration.getBatchingIntervalMs() > 0 && configuration.isAutoCommitEnable()) {
+                throw new IllegalArgumentException(
+                        "The option batchingIntervalMs requires the option autoCommitEnable to be false");
+            }
+            if (configuration.getBatchingMaxRecords() <= 0) {
+                throw new IllegalArgumentException("The option batchingMaxRecords must be a positive number");
+            }
+        }
+
         // health-check is optional so discover and resolve
         healthCheckRepository = HealthCheckHelper.getHealthCheckRepository(
                 endpoint.getCamelContext(),
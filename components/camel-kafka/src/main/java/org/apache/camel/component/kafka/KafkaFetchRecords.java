@@ -18,6 +18,7 @@ package org.apache.camel.component.kafka;
 
 import java.time.Duration;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Properties;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.locks.ReentrantLock;
@@ -25,10 +26,14 @@ import java.util.regex.Pattern;
 
 import org.apache.camel.component.kafka.consumer.CommitManager;
 import org.apache.camel.component.kafka.consumer.CommitManagers;
+import org.apache.camel.component.kafka.consumer.KeyOrderedCommitManager;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaConsumerListener;
 import org.apache.camel.component.kafka.consumer.errorhandler.KafkaErrorStrategies;
+import org.apache.camel.component.kafka.consumer.support.KafkaBatchRecordProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.KafkaRecordProcessorFacade;
+import org.apache.camel.component.kafka.consumer.support.KeyOrderedRecordProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.ProcessingResult;
+import org.apache.camel.component.kafka.consumer.support.RecordProcessorFacade;
 import org.apache.camel.component.kafka.consumer.support.classic.ClassicRebalanceListener;
 import org.apache.camel.component.kafka.consumer.support.resume.ResumeRebalanceListener;
 import org.apache.camel.support.BridgeExceptionHandlerToErrorHandler;
@@ -90,6 +95,9 @@ public class KafkaFetchRecords implements Runnable {
 
     private volatile State state = State.RUNNING;
 
+    // the facade of the current polling, which is only used by the polling thread (also for rebalancing)
+    private RecordProcessorFacade recordProcessorFacade;
+
     KafkaFetchRecords(KafkaConsumer kafkaConsumer,
                       BridgeExceptionHandlerToErrorHandler bridge, String topicName, Pattern topicPattern, String id,
                       Properties kafkaProps, KafkaConsumerListener consumerListener) {
@@ -289,6 +297,7 @@ public class KafkaFetchRecords implements Runnable {
             LOG.info("Subscribing {} to {}", threadId, getPrintableTopic());
         }
 
+        listener = new RecordProcessorRebalanceListener(listener);
         if (topicPattern != null) {
             consumer.subscribe(topicPattern, listener);
         } else {
@@ -312,8 +321,7 @@ public class KafkaFetchRecords implements Runnable {
                 LOG.trace("Polling {} from {} with timeout: {}", threadId, getPrintableTopic(), pollTimeoutMs);
             }
 
-            KafkaRecordProcessorFacade recordProcessorFacade = new KafkaRecordProcessorFacade(
-                    kafkaConsumer, threadId, commitManager, consumerListener);
+            recordProcessorFacade = createRecordProcessorFacade();
 
             Duration pollDuration = Duration.ofMillis(pollTimeoutMs);
             ProcessingResult lastResult = null;
@@ -338,6 +346,9 @@ public class KafkaFetchRecords implements Runnable {
 
             }
 
+            // finish processing the records before committing and unsubscribing
+            closeRecordProcessorFacade();
+
             if (!isConnected()) {
                 LOG.debug("Not reconnecting, check whether to auto-commit or not ...");
                 commitManager.commit();
@@ -369,6 +380,8 @@ public class KafkaFetchRecords implements Runnable {
 
             pollExceptionStrategy.handle(partitionLastOffset, e);
         } finally {
+            closeRecordProcessorFacade();
+
             // only close if not retry
             if (!pollExceptionStrategy.canContinue()) {
                 safeUnsubscribe();
@@ -378,6 +391,28 @@ public class KafkaFetchRecords implements Runnable {
         }
     }
 
+    private void closeRecordProcessorFacade() {
+        if (recordProcessorFacade != null) {
+            try {
+                recordProcessorFacade.close();
+            } finally {
+                recordProcessorFacade = null;
+            }
+        }
+    }
+
+    private RecordProcessorFacade createRecordProcessorFacade() {
+        KafkaConfiguration configuration = kafkaConsumer.getEndpoint().getConfiguration();
+        if (configuration.getKeyOrderedProcessingThreads() > 0) {
+            return new KeyOrderedRecordProcessorFacade(kafkaConsumer, threadId, (KeyOrderedCommitManager) commitManager);
+        }
+        if (configuration.isBatching()) {
+            return new KafkaBatchRecordProcessorFacade(kafkaConsumer, threadId, commitManager);
+        }
+
+        return new KafkaRecordProcessorFacade(kafkaConsumer, threadId, commitManager, consumerListener);
+    }
+
     private void updateTaskState() {
         switch (state) {
             case PAUSE_REQUESTED:
@@ -590,4 +625,38 @@ public class KafkaFetchRecords implements Runnable {
     private synchronized void setLastError(Exception lastError) {
         this.lastError = lastError;
     }
+
+    /**
+     * Lets the record processor facade release the records of the revoked partitions, before the offsets of the revoked
+     * partitions are committed.
+     */
+    private final class RecordProcessorRebalanceListener implements ConsumerRebalanceListener {
+
+        private final ConsumerRebalanceListener delegate;
+
+        private RecordProcessorRebalanceListener(ConsumerRebalanceListener delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+            if (recordProcessorFacade != null) {
+                recordProcessorFacade.onPartitionsRevoked(partitions);
+            }
+            delegate.onPartitionsRevoked(partitions);
+        }
+
+        @Override
+        public void onPartitionsAssigned(Collection<TopicPartition> partitions) {
+            delegate.onPartitionsAssigned(partitions);
+        }
+
+        @Override
+        public void onPartitionsLost(Collection<TopicPartition> partitions) {
+            if (recordProcessorFacade != null) {
+                recordProcessorFacade.onPartitionsRevoked(partitions);
+            }
+            delegate.onPartitionsLost(partitions);
+        }
+    }
 }
@@ -33,6 +33,11 @@ public final class CommitManagers {
             Consumer<?, ?> consumer, KafkaConsumer kafkaConsumer, String threadId, String printableTopic) {
         KafkaConfiguration configuration = kafkaConsumer.getEndpoint().getConfiguration();
 
+        if (configuration.getKeyOrderedProcessingThreads() > 0) {
+            LOG.debug("Using a key-ordered commit manager for commit management of records processed in parallel");
+            return new KeyOrderedCommitManager(consumer, kafkaConsumer, threadId, printableTopic);
+        }
+
         if (configuration.isAllowManualCommit()) {
             LOG.debug("Allowing manual commit management");
             KafkaManualCommitFactory manualCommitFactory = kafkaConsumer.getEndpoint().getKafkaManualCommitFactory();
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Tracks the offsets of the records of a partition which are processed out of order, to find the last offset which has
+ * been processed together with all the offsets before it.
+ * <p/>
+ * The offsets must be dispatched in increasing order, but may be completed in any order.
+ */
+final class ContiguousOffsetTracker {
+    private final Deque<Long> dispatched = new ArrayDeque<>();
+    private final Set<Long> completed = new HashSet<>();
+    private long watermark = AbstractCommitManager.START_OFFSET;
+    private long committed = AbstractCommitManager.START_OFFSET;
+    private int inFlight;
+
+    public synchronized void dispatched(long offset) {
+        dispatched.addLast(offset);
+        inFlight++;
+    }
+
+    /**
+     * Marks the record with the given offset as processed, so it can be committed
+     */
+    public synchronized void completed(long offset) {
+        completed.add(offset);
+        finished();
+    }
+
+    /**
+     * Marks the record with the given offset as not processed (e.g. it failed), so neither it nor the offsets after it
+     * can be committed
+     */
+    public synchronized void abandoned(long offset) {
+        finished();
+    }
+
+    private void finished() {
+        inFlight--;
+        if (inFlight == 0) {
+            notifyAll();
+        }
+    }
+
+    /**
+     * Gets the last offset which has been processed together with all the offsets before it.
+     *
+     * @return the offset, or {@link AbstractCommitManager#START_OFFSET} if no offset has been processed yet
+     */
+    public synchronized long getWatermark() {
+        Long head = dispatched.peekFirst();
+        while (head != null && completed.remove(head)) {
+            watermark = dispatched.pollFirst();
+            head = dispatched.peekFirst();
+        }
+        return watermark;
+    }
+
+    /**
+     * Gets the watermark if it has moved since it was last committed.
+     *
+     * @return the offset, or <tt>null</tt> if there is nothing new to commit
+     */
+    public synchronized Long getUncommittedWatermark() {
+        long offset = getWatermark();
+        return offset != committed ? offset : null;
+    }
+
+    public synchronized void committed(long offset) {
+        committed = Math.max(committed, offset);
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    /**
+     * Waits for the records being processed to be completed or abandoned.
+     *
+     * @return <tt>true</tt> if no records are being processed, or <tt>false</tt> if the timeout elapsed
+     */
+    public synchronized boolean awaitCompletion(long timeoutMs) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + timeoutMs;
+        while (inFlight > 0) {
+            long remaining = deadline - System.currentTimeMillis();
+            if (remaining <= 0) {
+                return false;
+            }
+            wait(remaining);
+        }
+        return true;
+    }
+}
@@ -0,0 +1,176 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.spi.StateRepository;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A commit manager for records processed out of order by multiple threads, which commits the offset of each partition
+ * up to the last record which has been processed together with all the records before it.
+ * <p/>
+ * The offsets are recorded by the processing threads, but the commits are done by the consumer thread, as the Kafka
+ * consumer is not thread safe.
+ */
+public class KeyOrderedCommitManager extends AbstractCommitManager {
+    private static final Logger LOG = LoggerFactory.getLogger(KeyOrderedCommitManager.class);
+
+    private final Map<TopicPartition, ContiguousOffsetTracker> trackers = new ConcurrentHashMap<>();
+    private final Consumer<?, ?> consumer;
+    private final StateRepository<String, String> offsetRepository;
+
+    public KeyOrderedCommitManager(Consumer<?, ?> consumer, KafkaConsumer kafkaConsumer, String threadId,
+                                   String printableTopic) {
+        super(consumer, kafkaConsumer, threadId, printableTopic);
+
+        this.consumer = consumer;
+
+        offsetRepository = configuration.getOffsetRepository();
+    }
+
+    /**
+     * Records that the record with the given offset has been handed over to a processing thread. The records of a
+     * partition must be dispatched in the order of their offsets.
+     */
+    public void recordDispatched(TopicPartition partition, long offset) {
+        trackers.computeIfAbsent(partition, p -> new ContiguousOffsetTracker()).dispatched(offset);
+    }
+
+    /**
+     * Records that the record with the given offset has been processed, and can be committed once all the records
+     * before it have been processed.
+     */
+    @Override
+    public void recordOffset(TopicPartition partition, long partitionLastOffset) {
+        ContiguousOffsetTracker tracker = trackers.get(partition);
+        if (tracker != null) {
+            tracker.completed(partitionLastOffset);
+        }
+    }
+
+    /**
+     * Records that the record with the given offset has not been processed, so neither it nor the records after it
+     * are committed, and they are consumed again when the consumer reconnects.
+     */
+    public void recordAbandoned(TopicPartition partition, long offset) {
+        ContiguousOffsetTracker tracker = trackers.get(partition);
+        if (tracker != null) {
+            tracker.abandoned(offset);
+        }
+    }
+
+    @Override
+    public void forceCommit(TopicPartition partition, long partitionLastOffset) {
+        // this is called by the processing threads when breaking on the first error, and the offsets committed by the
+        // consumer thread stop before the failed record anyway
+        LOG.debug("Not forcing commit {} [topic: {} partition: {} offset: {}] as the records are processed out of order",
+                threadId, partition.topic(), partition.partition(), partitionLastOffset);
+    }
+
+    /**
+     * Commits the offsets of the records which have been processed so far, without waiting for the records being
+     * processed.
+     */
+    public void commitCompleted() {
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        trackers.forEach((partition, tracker) -> addUncommitted(offsets, partition, tracker));
+        commitOffsets(offsets);
+    }
+
+    @Override
+    public void commit() {
+        LOG.info("Waiting for the records being processed to commit {} from {}", threadId, printableTopic);
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        trackers.forEach((partition, tracker) -> {
+            awaitCompletion(partition, tracker);
+            addUncommitted(offsets, partition, tracker);
+        });
+        commitOffsets(offsets);
+    }
+
+    @Override
+    public void commit(TopicPartition partition) {
+        ContiguousOffsetTracker tracker = trackers.get(partition);
+        if (tracker == null) {
+            return;
+        }
+
+        awaitCompletion(partition, tracker);
+
+        Map<TopicPartition, OffsetAndMetadata> offsets = new HashMap<>();
+        addUncommitted(offsets, partition, tracker);
+        commitOffsets(offsets);
+
+        // this is called when the partition is revoked so its offsets are no longer tracked afterwards
+        trackers.remove(partition);
+    }
+
+    private void awaitCompletion(TopicPartition partition, ContiguousOffsetTracker tracker) {
+        long timeout = configuration.getShutdownTimeout();
+        try {
+            if (!tracker.awaitCompletion(timeout)) {
+                LOG.warn("The processing of {} records from {} did not finish within {} millis and they will be consumed again",
+                        tracker.getInFlight(), partition, timeout);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void addUncommitted(
+            Map<TopicPartition, OffsetAndMetadata> offsets, TopicPartition partition, ContiguousOffsetTracker tracker) {
+        Long offset = tracker.getUncommittedWatermark();
+        if (offset != null) {
+            offsets.put(partition, new OffsetAndMetadata(offset + 1));
+        }
+    }
+
+    private void commitOffsets(Map<TopicPartition, OffsetAndMetadata> offsets) {
+        if (offsets.isEmpty()) {
+            return;
+        }
+
+        if (offsetRepository != null) {
+            offsets.forEach((partition, offset) -> saveStateToOffsetRepository(partition, offset.offset() - 1,
+                    offsetRepository));
+        } else {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Auto commitSync {} from {}: {}", threadId, printableTopic, offsets);
+            }
+            long timeout = configuration.getCommitTimeoutMs();
+            consumer.commitSync(offsets, Duration.ofMillis(timeout));
+        }
+
+        offsets.forEach((partition, offset) -> {
+            ContiguousOffsetTracker tracker = trackers.get(partition);
+            if (tracker != null) {
+                tracker.committed(offset.offset() - 1);
+            }
+        });
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the polled records in batches, where each batch is a single exchange with the list of the exchanges of its
+ * records as the message body.
+ * <p/>
+ * A batch is completed when it reaches the maximum number of records or bytes, or when the batching interval has
+ * elapsed since its first record, and the offsets of its records are committed after the batch exchange has been
+ * processed. The records of a partition which is revoked before its batch is completed are dropped, so they are
+ * consumed again by the new owner of the partition.
+ */
+public class KafkaBatchRecordProcessorFacade implements RecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KafkaBatchRecordProcessorFacade.class);
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final String threadId;
+    private final CommitManager commitManager;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final KafkaConfiguration configuration;
+    private final List<ConsumerRecord<Object, Object>> batch = new ArrayList<>();
+    private long batchBytes;
+    private long batchStarted;
+
+    public KafkaBatchRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, String threadId,
+                                           CommitManager commitManager) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+
+        configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        kafkaRecordProcessor = new KafkaRecordProcessor(configuration, camelKafkaConsumer.getProcessor(), commitManager);
+    }
+
+    private boolean isStopping() {
+        return camelKafkaConsumer.isStopping();
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(
+            ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Last poll on thread {} resulted on {} records to process", threadId, allRecords.count());
+        }
+
+        ProcessingResult lastResult
+                = resultFromPreviousPoll == null ? ProcessingResult.newUnprocessed() : resultFromPreviousPoll;
+
+        for (ConsumerRecord<Object, Object> record : allRecords) {
+            if (isStopping()) {
+                return lastResult;
+            }
+
+            addRecord(record);
+            if (isBatchFull()) {
+                lastResult = processBatch();
+                if (lastResult.isBreakOnErrorHit()) {
+                    return lastResult;
+                }
+            }
+        }
+
+        if (!batch.isEmpty() && !isStopping() && isBatchExpired()) {
+            lastResult = processBatch();
+        }
+
+        return lastResult;
+    }
+
+    @Override
+    public void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // the offsets of the revoked partitions can no longer be committed by this consumer
+        int size = batch.size();
+        batch.removeIf(record -> partitions.contains(new TopicPartition(record.topic(), record.partition())));
+        if (batch.size() < size) {
+            LOG.debug("Dropping {} records of revoked partitions {} from incomplete batch on thread {}",
+                    size - batch.size(), partitions, threadId);
+            batchBytes = 0;
+            for (ConsumerRecord<Object, Object> record : batch) {
+                batchBytes += recordBytes(record);
+            }
+        }
+    }
+
+    private void addRecord(ConsumerRecord<Object, Object> record) {
+        if (batch.isEmpty()) {
+            batchStarted = System.currentTimeMillis();
+        }
+        batch.add(record);
+        batchBytes += recordBytes(record);
+    }
+
+    private static long recordBytes(ConsumerRecord<Object, Object> record) {
+        return Math.max(0, record.serializedKeySize()) + Math.max(0, record.serializedValueSize());
+    }
+
+    private boolean isBatchFull() {
+        int maxBytes = configuration.getBatchingMaxBytes();
+        return batch.size() >= configuration.getBatchingMaxRecords() || maxBytes > 0 && batchBytes >= maxBytes;
+    }
+
+    private boolean isBatchExpired() {
+        return System.currentTimeMillis() - batchStarted >= configuration.getBatchingIntervalMs();
+    }
+
+    private ProcessingResult processBatch() {
+        List<ConsumerRecord<Object, Object>> records = new ArrayList<>(batch);
+        batch.clear();
+        batchBytes = 0;
+
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Processing batch of {} records on thread {}", records.size(), threadId);
+        }
+
+        // the last offset of each partition in the batch, which are committed when the batch is done
+        Map<TopicPartition, Long> lastOffsets = new LinkedHashMap<>();
+        List<Exchange> exchanges = new ArrayList<>(records.size());
+        for (int i = 0; i < records.size(); i++) {
+            ConsumerRecord<Object, Object> record = records.get(i);
+            TopicPartition partition = new TopicPartition(record.topic(), record.partition());
+            lastOffsets.put(partition, record.offset());
+
+            boolean last = i == records.size() - 1;
+            Exchange recordExchange = camelKafkaConsumer.getEndpoint().createExchange();
+            kafkaRecordProcessor.setupExchange(recordExchange, partition, false, !last, record);
+            recordExchange.setProperty(ExchangePropertyKey.BATCH_INDEX, i);
+            recordExchange.setProperty(ExchangePropertyKey.BATCH_SIZE, records.size());
+            recordExchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, last);
+            exchanges.add(recordExchange);
+        }
+
+        boolean failed;
+        Exchange exchange = camelKafkaConsumer.createExchange(false);
+        try {
+            exchange.getMessage().setBody(exchanges);
+            try {
+                camelKafkaConsumer.getProcessor().process(exchange);
+            } catch (Exception e) {
+                exchange.setException(e);
+            }
+
+            failed = exchange.getException() != null;
+            if (failed) {
+                if (configuration.isBreakOnFirstError()) {
+                    // do not commit so the batch is consumed again when the consumer reconnects
+                    LOG.warn("Error during processing {} from topic: {}. Will consume the batch of {} records again.",
+                            exchange, records.get(0).topic(), records.size(), exchange.getException());
+                    return new ProcessingResult(true, AbstractCommitManager.START_OFFSET, true);
+                }
+
+                camelKafkaConsumer.getExceptionHandler().handleException("Error during processing", exchange,
+                        exchange.getException());
+            }
+        } finally {
+            camelKafkaConsumer.releaseExchange(exchange, false);
+        }
+
+        LOG.debug("Committing offsets on completed batch");
+        lastOffsets.forEach(commitManager::recordOffset);
+        lastOffsets.keySet().forEach(commitManager::commit);
+
+        return new ProcessingResult(false, records.get(records.size() - 1).offset(), failed);
+    }
+
+    @Override
+    public void close() {
+        if (!batch.isEmpty()) {
+            // the records are consumed again when the consumer reconnects or starts again
+            LOG.debug("Discarding incomplete batch of {} records on thread {}", batch.size(), threadId);
+            batch.clear();
+            batchBytes = 0;
+        }
+    }
+}
@@ -86,6 +86,29 @@ public class KafkaRecordProcessor {
             boolean recordHasNext, ConsumerRecord<Object, Object> record, ProcessingResult lastResult,
             ExceptionHandler exceptionHandler) {
 
+        setupExchange(exchange, partition, partitionHasNext, recordHasNext, record);
+
+        try {
+            processor.process(exchange);
+        } catch (Exception e) {
+            exchange.setException(e);
+        }
+        if (exchange.getException() != null) {
+            boolean breakOnErrorExit = processException(exchange, partition, lastResult.getPartitionLastOffset(),
+                    exceptionHandler);
+            return new ProcessingResult(breakOnErrorExit, lastResult.getPartitionLastOffset(), true);
+        } else {
+            return new ProcessingResult(false, record.offset(), exchange.getException() != null);
+        }
+    }
+
+    /**
+     * Sets the body and headers of the exchange from the record.
+     */
+    void setupExchange(
+            Exchange exchange, TopicPartition partition, boolean partitionHasNext,
+            boolean recordHasNext, ConsumerRecord<Object, Object> record) {
+
         Message message = exchange.getMessage();
 
         setupExchangeMessage(message, record);
@@ -105,19 +128,6 @@ public class KafkaRecordProcessor {
             message.setHeader(KafkaConstants.MANUAL_COMMIT, manual);
             message.setHeader(KafkaConstants.LAST_POLL_RECORD, !recordHasNext && !partitionHasNext);
         }
-
-        try {
-            processor.process(exchange);
-        } catch (Exception e) {
-            exchange.setException(e);
-        }
-        if (exchange.getException() != null) {
-            boolean breakOnErrorExit = processException(exchange, partition, lastResult.getPartitionLastOffset(),
-                    exceptionHandler);
-            return new ProcessingResult(breakOnErrorExit, lastResult.getPartitionLastOffset(), true);
-        } else {
-            return new ProcessingResult(false, record.offset(), exchange.getException() != null);
-        }
     }
 
     private boolean processException(
@@ -31,7 +31,7 @@ import org.apache.kafka.common.TopicPartition;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-public class KafkaRecordProcessorFacade {
+public class KafkaRecordProcessorFacade implements RecordProcessorFacade {
     private static final Logger LOG = LoggerFactory.getLogger(KafkaRecordProcessorFacade.class);
 
     private final KafkaConsumer camelKafkaConsumer;
@@ -54,6 +54,7 @@ public class KafkaRecordProcessorFacade {
         return camelKafkaConsumer.isStopping();
     }
 
+    @Override
     public ProcessingResult processPolledRecords(
             ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll) {
         logRecords(allRecords);
@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.consumer.AbstractCommitManager;
+import org.apache.camel.component.kafka.consumer.KeyOrderedCommitManager;
+import org.apache.camel.spi.ExecutorServiceManager;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Processes the polled records in parallel by a number of processing threads, while the records with the same key are
+ * processed by the same thread in the order of their partition.
+ * <p/>
+ * The consumer thread hands over the records to the processing threads, up to a maximum number of pending records, and
+ * commits the offsets of each partition up to the last record which has been processed together with all the records
+ * before it.
+ */
+public class KeyOrderedRecordProcessorFacade implements RecordProcessorFacade {
+    private static final Logger LOG = LoggerFactory.getLogger(KeyOrderedRecordProcessorFacade.class);
+
+    private static final ProcessingResult BREAK_ON_ERROR_RESULT
+            = new ProcessingResult(true, AbstractCommitManager.START_OFFSET, true);
+    private static final long PENDING_WAIT_MS = 100;
+
+    private final KafkaConsumer camelKafkaConsumer;
+    private final String threadId;
+    private final KeyOrderedCommitManager commitManager;
+    private final KafkaRecordProcessor kafkaRecordProcessor;
+    private final ExecutorService[] lanes;
+    private final Semaphore pending;
+    private volatile boolean breakOnErrorHit;
+    private boolean closed;
+
+    public KeyOrderedRecordProcessorFacade(KafkaConsumer camelKafkaConsumer, String threadId,
+                                           KeyOrderedCommitManager commitManager) {
+        this.camelKafkaConsumer = camelKafkaConsumer;
+        this.threadId = threadId;
+        this.commitManager = commitManager;
+
+        KafkaConfiguration configuration = camelKafkaConsumer.getEndpoint().getConfiguration();
+        kafkaRecordProcessor = new KafkaRecordProcessor(configuration, camelKafkaConsumer.getProcessor(), commitManager);
+        pending = new Semaphore(configuration.getKeyOrderedMaxPendingRecords());
+
+        ExecutorServiceManager manager = camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        lanes = new ExecutorService[configuration.getKeyOrderedProcessingThreads()];
+        for (int i = 0; i < lanes.length; i++) {
+            lanes[i] = manager.newSingleThreadExecutor(this, "KafkaKeyOrderedConsumer[" + threadId + "]-" + i);
+        }
+    }
+
+    private boolean isStopping() {
+        return camelKafkaConsumer.isStopping();
+    }
+
+    @Override
+    public ProcessingResult processPolledRecords(
+            ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll) {
+        if (LOG.isDebugEnabled()) {
+            LOG.debug("Last poll on thread {} resulted on {} records to process", threadId, allRecords.count());
+        }
+
+        Iterator<TopicPartition> partitionIterator = allRecords.partitions().iterator();
+        while (partitionIterator.hasNext() && !breakOnErrorHit && !isStopping()) {
+            TopicPartition partition = partitionIterator.next();
+
+            List<ConsumerRecord<Object, Object>> partitionRecords = allRecords.records(partition);
+            Iterator<ConsumerRecord<Object, Object>> recordIterator = partitionRecords.iterator();
+            while (recordIterator.hasNext() && acquirePending()) {
+                ConsumerRecord<Object, Object> record = recordIterator.next();
+                dispatch(partition, partitionIterator.hasNext(), recordIterator.hasNext(), record);
+            }
+        }
+
+        // commit the records processed so far, which may include records of previous polls
+        commitManager.commitCompleted();
+
+        return breakOnErrorHit ? BREAK_ON_ERROR_RESULT : ProcessingResult.newUnprocessed();
+    }
+
+    /**
+     * Waits until the number of pending records is below the maximum, while committing the records being processed.
+     *
+     * @return <tt>true</tt> if a record can be handed over, or <tt>false</tt> if the consumer should stop processing
+     *         the polled records
+     */
+    private boolean acquirePending() {
+        try {
+            while (!pending.tryAcquire(PENDING_WAIT_MS, TimeUnit.MILLISECONDS)) {
+                if (breakOnErrorHit || isStopping()) {
+                    return false;
+                }
+                commitManager.commitCompleted();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+
+        if (breakOnErrorHit || isStopping()) {
+            pending.release();
+            return false;
+        }
+        return true;
+    }
+
+    private void dispatch(
+            TopicPartition partition, boolean partitionHasNext, boolean recordHasNext,
+            ConsumerRecord<Object, Object> record) {
+        commitManager.recordDispatched(partition, record.offset());
+        try {
+            lanes[laneOf(record)].execute(() -> processRecord(partition, partitionHasNext, recordHasNext, record));
+        } catch (RejectedExecutionException e) {
+            commitManager.recordAbandoned(partition, record.offset());
+            pending.release();
+            throw e;
+        }
+    }
+
+    private int laneOf(ConsumerRecord<Object, Object> record) {
+        Object key = record.key();
+        int hash;
+        if (key == null) {
+            // records without a key have no order to preserve so spread them over the processing threads
+            hash = Long.hashCode(record.offset());
+        } else if (key instanceof byte[]) {
+            hash = Arrays.hashCode((byte[]) key);
+        } else {
+            hash = key.hashCode();
+        }
+        return Math.floorMod(hash ^ (hash >>> 16), lanes.length);
+    }
+
+    private void processRecord(
+            TopicPartition partition, boolean partitionHasNext, boolean recordHasNext,
+            ConsumerRecord<Object, Object> record) {
+        boolean completed = false;
+        try {
+            if (breakOnErrorHit || isStopping()) {
+                // the record is consumed again when the consumer reconnects or starts again
+                return;
+            }
+
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Partition = {}, offset = {}, key = {}, value = {}", record.partition(),
+                        record.offset(), record.key(), record.value());
+            }
+
+            Exchange exchange = camelKafkaConsumer.createExchange(false);
+            try {
+                ProcessingResult result = kafkaRecordProcessor.processExchange(exchange, partition, partitionHasNext,
+                        recordHasNext, record, ProcessingResult.newUnprocessed(), camelKafkaConsumer.getExceptionHandler());
+                if (result.isBreakOnErrorHit()) {
+                    LOG.debug("Breaking on error at offset {} of partition {}", record.offset(), partition);
+                    breakOnErrorHit = true;
+                } else {
+                    completed = true;
+                }
+            } finally {
+                camelKafkaConsumer.releaseExchange(exchange, false);
+            }
+        } catch (Exception e) {
+            // the record could not be set up for processing so handle the error, and skip the record
+            camelKafkaConsumer.getExceptionHandler().handleException(
+                    "Error processing record at offset " + record.offset() + " of partition " + partition, e);
+            completed = true;
+        } finally {
+            if (completed) {
+                commitManager.recordOffset(partition, record.offset());
+            } else {
+                commitManager.recordAbandoned(partition, record.offset());
+            }
+            pending.release();
+        }
+    }
+
+    @Override
+    public void close() {
+        if (closed) {
+            return;
+        }
+        closed = true;
+
+        try {
+            // commit the records being processed before discarding the processing threads
+            commitManager.commit();
+        } catch (Exception e) {
+            LOG.warn("Error committing the processed records on thread {}: {}", threadId, e.getMessage(), e);
+        }
+
+        ExecutorServiceManager manager = camelKafkaConsumer.getEndpoint().getCamelContext().getExecutorServiceManager();
+        for (ExecutorService lane : lanes) {
+            manager.shutdownNow(lane);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.Collection;
+
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+
+/**
+ * Processes the records returned by each poll of a Kafka consumer.
+ */
+public interface RecordProcessorFacade {
+
+    /**
+     * Processes the records of a poll.
+     *
+     * @param  allRecords             the polled records
+     * @param  resultFromPreviousPoll the result of the previous poll, or <tt>null</tt> for the first poll
+     * @return                        the result of processing the records
+     */
+    ProcessingResult processPolledRecords(
+            ConsumerRecords<Object, Object> allRecords, ProcessingResult resultFromPreviousPoll);
+
+    /**
+     * Called when partitions are revoked from the consumer, before the offsets of the partitions are committed, to
+     * release the records of the partitions which have not been processed yet.
+     *
+     * @param partitions the revoked partitions
+     */
+    default void onPartitionsRevoked(Collection<TopicPartition> partitions) {
+        // noop
+    }
+
+    /**
+     * Called when the consumer stops polling, to finish processing the records and release any resources.
+     */
+    default void close() {
+        // noop
+    }
+}
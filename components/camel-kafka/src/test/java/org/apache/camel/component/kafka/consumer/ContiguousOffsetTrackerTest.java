@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContiguousOffsetTrackerTest {
+
+    @Test
+    @DisplayName("Tests whether the watermark only moves over contiguous completed offsets")
+    void watermarkOutOfOrder() {
+        ContiguousOffsetTracker tracker = new ContiguousOffsetTracker();
+        for (long offset = 10; offset < 15; offset++) {
+            tracker.dispatched(offset);
+        }
+
+        assertEquals(AbstractCommitManager.START_OFFSET, tracker.getWatermark());
+        assertNull(tracker.getUncommittedWatermark());
+
+        tracker.completed(12);
+        tracker.completed(11);
+        assertEquals(AbstractCommitManager.START_OFFSET, tracker.getWatermark());
+
+        tracker.completed(10);
+        assertEquals(12, tracker.getWatermark());
+
+        tracker.completed(14);
+        assertEquals(12, tracker.getWatermark());
+        assertEquals(1, tracker.getInFlight());
+
+        tracker.completed(13);
+        assertEquals(14, tracker.getWatermark());
+        assertEquals(0, tracker.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Tests whether the watermark skips the gaps between the dispatched offsets")
+    void watermarkWithGaps() {
+        ContiguousOffsetTracker tracker = new ContiguousOffsetTracker();
+        tracker.dispatched(5);
+        tracker.dispatched(8);
+        tracker.dispatched(20);
+
+        tracker.completed(20);
+        tracker.completed(8);
+        assertEquals(AbstractCommitManager.START_OFFSET, tracker.getWatermark());
+
+        tracker.completed(5);
+        assertEquals(20, tracker.getWatermark());
+    }
+
+    @Test
+    @DisplayName("Tests whether an abandoned offset stops the watermark")
+    void abandonedOffset() {
+        ContiguousOffsetTracker tracker = new ContiguousOffsetTracker();
+        tracker.dispatched(1);
+        tracker.dispatched(2);
+        tracker.dispatched(3);
+
+        tracker.completed(1);
+        tracker.abandoned(2);
+        tracker.completed(3);
+
+        assertEquals(1, tracker.getWatermark());
+        assertEquals(0, tracker.getInFlight());
+    }
+
+    @Test
+    @DisplayName("Tests whether the uncommitted watermark is only returned once committed")
+    void uncommittedWatermark() {
+        ContiguousOffsetTracker tracker = new ContiguousOffsetTracker();
+        tracker.dispatched(1);
+        tracker.dispatched(2);
+        tracker.completed(1);
+
+        assertEquals(1, tracker.getUncommittedWatermark());
+        assertEquals(1, tracker.getUncommittedWatermark(), "Not committed yet so it should be returned again");
+
+        tracker.committed(1);
+        assertNull(tracker.getUncommittedWatermark());
+
+        tracker.completed(2);
+        assertEquals(2, tracker.getUncommittedWatermark());
+    }
+
+    @Test
+    @DisplayName("Tests whether waiting for completion returns once the offsets being processed are done")
+    void awaitCompletion() throws Exception {
+        ContiguousOffsetTracker tracker = new ContiguousOffsetTracker();
+        tracker.dispatched(1);
+        tracker.dispatched(2);
+
+        assertFalse(tracker.awaitCompletion(10));
+
+        CountDownLatch latch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            executor.execute(() -> {
+                try {
+                    latch.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                tracker.completed(2);
+                tracker.abandoned(1);
+            });
+            latch.countDown();
+
+            assertTrue(tracker.awaitCompletion(TimeUnit.SECONDS.toMillis(10)));
+            assertEquals(AbstractCommitManager.START_OFFSET, tracker.getWatermark());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
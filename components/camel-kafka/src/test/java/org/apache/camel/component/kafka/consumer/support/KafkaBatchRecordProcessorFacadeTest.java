@@ -0,0 +1,194 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.CommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaBatchRecordProcessorFacadeTest {
+
+    private static final TopicPartition PARTITION_0 = new TopicPartition("test", 0);
+    private static final TopicPartition PARTITION_1 = new TopicPartition("test", 1);
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaConsumer consumer = mock(KafkaConsumer.class);
+    private final CommitManager commitManager = mock(CommitManager.class);
+    private final List<List<Long>> batches = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        configuration.setBatching(true);
+        configuration.setAutoCommitEnable(false);
+
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(endpoint.createExchange()).thenAnswer(invocation -> new DefaultExchange(context));
+        when(consumer.getEndpoint()).thenReturn(endpoint);
+        when(consumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(context));
+        when(consumer.getProcessor()).thenReturn(exchange -> {
+            List<Long> offsets = new ArrayList<>();
+            for (Object record : exchange.getMessage().getBody(List.class)) {
+                offsets.add(((Exchange) record).getMessage().getHeader(KafkaConstants.OFFSET, Long.class));
+            }
+            batches.add(offsets);
+        });
+    }
+
+    @Test
+    @DisplayName("Tests whether a batch is completed when it reaches the maximum number of records")
+    void completedByRecords() {
+        configuration.setBatchingMaxRecords(3);
+        configuration.setBatchingIntervalMs(60000);
+        KafkaBatchRecordProcessorFacade facade = new KafkaBatchRecordProcessorFacade(consumer, "test", commitManager);
+
+        facade.processPolledRecords(records(PARTITION_0, 0, 1, 5), null);
+        assertTrue(batches.isEmpty(), "The records should be carried over to the next poll");
+
+        ProcessingResult result = facade.processPolledRecords(records(PARTITION_0, 2, 4, 5), null);
+        assertEquals(Collections.singletonList(Arrays.asList(0L, 1L, 2L)), batches);
+        assertEquals(2, result.getPartitionLastOffset());
+    }
+
+    @Test
+    @DisplayName("Tests whether a batch is completed when it reaches the maximum number of bytes")
+    void completedByBytes() {
+        configuration.setBatchingMaxBytes(10);
+        configuration.setBatchingIntervalMs(60000);
+        KafkaBatchRecordProcessorFacade facade = new KafkaBatchRecordProcessorFacade(consumer, "test", commitManager);
+
+        facade.processPolledRecords(records(PARTITION_0, 0, 5, 4), null);
+        assertEquals(Arrays.asList(Arrays.asList(0L, 1L, 2L), Arrays.asList(3L, 4L, 5L)), batches);
+    }
+
+    @Test
+    @DisplayName("Tests whether a batch is completed when the batching interval has elapsed since its first record")
+    void completedByInterval() throws Exception {
+        configuration.setBatchingIntervalMs(200);
+        KafkaBatchRecordProcessorFacade facade = new KafkaBatchRecordProcessorFacade(consumer, "test", commitManager);
+
+        facade.processPolledRecords(records(PARTITION_0, 0, 1, 5), null);
+        facade.processPolledRecords(ConsumerRecords.empty(), null);
+        assertTrue(batches.isEmpty());
+
+        Thread.sleep(250);
+        facade.processPolledRecords(ConsumerRecords.empty(), null);
+        assertEquals(Collections.singletonList(Arrays.asList(0L, 1L)), batches);
+    }
+
+    @Test
+    @DisplayName("Tests whether the last offset of each partition is committed when the batch is done")
+    void commitOffsets() {
+        configuration.setBatchingMaxRecords(4);
+        configuration.setBatchingIntervalMs(60000);
+        KafkaBatchRecordProcessorFacade facade = new KafkaBatchRecordProcessorFacade(consumer, "test", commitManager);
+
+        facade.processPolledRecords(records(PARTITION_0, 10, 11, 5, PARTITION_1, 20, 21, 5), null);
+
+        verify(commitManager).recordOffset(PARTITION_0, 11L);
+        verify(commitManager).recordOffset(PARTITION_1, 21L);
+        verify(commitManager).commit(PARTITION_0);
+        verify(commitManager).commit(PARTITION_1);
+    }
+
+    @Test
+    @DisplayName("Tests whether the offsets are not committed when the batch fails and breakOnFirstError is enabled")
+    void noCommitOnBreakOnFirstError() {
+        configuration.setBatchingMaxRecords(2);
+        configuration.setBreakOnFirstError(true);
+        when(consumer.getProcessor()).thenReturn(exchange -> {
+            throw new IllegalStateException("Forced");
+        });
+        KafkaBatchRecordProcessorFacade facade = new KafkaBatchRecordProcessorFacade(consumer, "test", commitManager);
+
+        ProcessingResult result = facade.processPolledRecords(records(PARTITION_0, 0, 1, 5), null);
+
+        assertTrue(result.isBreakOnErrorHit());
+        verify(commitManager, never()).recordOffset(any(), anyLong());
+        verify(commitManager, never()).commit(any(TopicPartition.class));
+    }
+
+    @Test
+    @DisplayName("Tests whether the records of revoked partitions are dropped from the batch and not committed")
+    void revokedPartition() {
+        configuration.setBatchingMaxRecords(4);
+        configuration.setBatchingIntervalMs(60000);
+        KafkaBatchRecordProcessorFacade facade = new KafkaBatchRecordProcessorFacade(consumer, "test", commitManager);
+
+        facade.processPolledRecords(records(PARTITION_0, 0, 1, 5, PARTITION_1, 10, 10, 5), null);
+        assertTrue(batches.isEmpty());
+
+        facade.onPartitionsRevoked(Collections.singletonList(PARTITION_1));
+
+        facade.processPolledRecords(records(PARTITION_0, 2, 3, 5), null);
+        assertEquals(Collections.singletonList(Arrays.asList(0L, 1L, 2L, 3L)), batches);
+        verify(commitManager).recordOffset(PARTITION_0, 3L);
+        verify(commitManager).commit(PARTITION_0);
+        verify(commitManager, never()).commit(PARTITION_1);
+    }
+
+    /**
+     * Creates the records of each given partition, first offset, last offset (inclusive) and value size.
+     */
+    private static ConsumerRecords<Object, Object> records(Object... partitionOffsets) {
+        Map<TopicPartition, List<ConsumerRecord<Object, Object>>> records = new LinkedHashMap<>();
+        for (int i = 0; i < partitionOffsets.length; i += 4) {
+            TopicPartition partition = (TopicPartition) partitionOffsets[i];
+            int size = (Integer) partitionOffsets[i + 3];
+            List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+            for (int offset = (Integer) partitionOffsets[i + 1]; offset <= (Integer) partitionOffsets[i + 2]; offset++) {
+                list.add(new ConsumerRecord<>(
+                        partition.topic(), partition.partition(), offset, 0L, TimestampType.NO_TIMESTAMP_TYPE, -1, size, null,
+                        "value" + offset, new RecordHeaders(), Optional.empty()));
+            }
+            records.put(partition, list);
+        }
+        return new ConsumerRecords<>(records);
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.kafka.consumer.support;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Processor;
+import org.apache.camel.component.kafka.KafkaConfiguration;
+import org.apache.camel.component.kafka.KafkaConstants;
+import org.apache.camel.component.kafka.KafkaConsumer;
+import org.apache.camel.component.kafka.KafkaEndpoint;
+import org.apache.camel.component.kafka.consumer.KeyOrderedCommitManager;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.kafka.clients.consumer.Consumer;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.apache.kafka.clients.consumer.ConsumerRecords;
+import org.apache.kafka.clients.consumer.OffsetAndMetadata;
+import org.apache.kafka.common.TopicPartition;
+import org.apache.kafka.common.header.internals.RecordHeaders;
+import org.apache.kafka.common.record.TimestampType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KeyOrderedRecordProcessorFacadeTest {
+
+    private static final TopicPartition PARTITION = new TopicPartition("test", 0);
+
+    private final CamelContext context = new DefaultCamelContext();
+    private final KafkaConfiguration configuration = new KafkaConfiguration();
+    private final KafkaConsumer camelKafkaConsumer = mock(KafkaConsumer.class);
+    @SuppressWarnings("unchecked")
+    private final Consumer<Object, Object> consumer = mock(Consumer.class);
+    private final Map<TopicPartition, OffsetAndMetadata> committed = new ConcurrentHashMap<>();
+    private KeyOrderedCommitManager commitManager;
+    private KeyOrderedRecordProcessorFacade facade;
+
+    @BeforeEach
+    void setUp() {
+        configuration.setAutoCommitEnable(false);
+        configuration.setKeyOrderedProcessingThreads(4);
+
+        KafkaEndpoint endpoint = mock(KafkaEndpoint.class);
+        when(endpoint.getConfiguration()).thenReturn(configuration);
+        when(endpoint.getCamelContext()).thenReturn(context);
+        when(camelKafkaConsumer.getEndpoint()).thenReturn(endpoint);
+        when(camelKafkaConsumer.createExchange(false)).thenAnswer(invocation -> new DefaultExchange(context));
+
+        // remember the last committed offsets
+        doAnswer(invocation -> {
+            committed.putAll(invocation.getArgument(0));
+            return null;
+        }).when(consumer).commitSync(any(Map.class), any(Duration.class));
+
+        commitManager = new KeyOrderedCommitManager(consumer, camelKafkaConsumer, "test", "test");
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (facade != null) {
+            facade.close();
+        }
+        context.stop();
+    }
+
+    private KeyOrderedRecordProcessorFacade createFacade(Processor processor) {
+        when(camelKafkaConsumer.getProcessor()).thenReturn(processor);
+        facade = new KeyOrderedRecordProcessorFacade(camelKafkaConsumer, "test", commitManager);
+        return facade;
+    }
+
+    @Test
+    @DisplayName("Tests whether the records with the same key are processed in order by the same thread")
+    void perKeyOrdering() {
+        Map<Object, List<Long>> offsetsByKey = new ConcurrentHashMap<>();
+        Map<Object, List<String>> threadsByKey = new ConcurrentHashMap<>();
+        createFacade(exchange -> {
+            Object key = exchange.getMessage().getHeader(KafkaConstants.KEY);
+            offsetsByKey.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class));
+            threadsByKey.computeIfAbsent(key, k -> Collections.synchronizedList(new ArrayList<>()))
+                    .add(Thread.currentThread().getName());
+        });
+
+        facade.processPolledRecords(records(0, 200, 10), null);
+        facade.close();
+
+        assertEquals(10, offsetsByKey.size());
+        offsetsByKey.forEach((key, offsets) -> {
+            assertEquals(20, offsets.size());
+            for (int i = 1; i < offsets.size(); i++) {
+                assertTrue(offsets.get(i - 1) < offsets.get(i), "The records of key " + key + " are out of order");
+            }
+        });
+        threadsByKey.forEach((key, threads) -> assertEquals(1, threads.stream().distinct().count(),
+                "The records of key " + key + " are processed by more than one thread"));
+
+        // all the records have been processed, so the offset after the last record is committed
+        assertEquals(200, committed.get(PARTITION).offset());
+    }
+
+    @Test
+    @DisplayName("Tests whether only the offset up to the first record still being processed is committed")
+    void contiguousOffsetCommit() throws Exception {
+        CountDownLatch blocked = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        createFacade(exchange -> {
+            if (exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class) == 2) {
+                blocked.countDown();
+                release.await(10, TimeUnit.SECONDS);
+            }
+        });
+
+        // each record has its own key, so the records after the blocked record are processed by other threads
+        facade.processPolledRecords(records(0, 8, 8), null);
+        assertTrue(blocked.await(10, TimeUnit.SECONDS));
+
+        // offsets 0 and 1 are done, so the next offset to consume is 2
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty(), null);
+            assertEquals(2, committed.get(PARTITION).offset());
+        });
+
+        release.countDown();
+        await().atMost(10, TimeUnit.SECONDS).untilAsserted(() -> {
+            facade.processPolledRecords(ConsumerRecords.empty(), null);
+            assertEquals(8, committed.get(PARTITION).offset());
+        });
+    }
+
+    @Test
+    @DisplayName("Tests whether nothing is committed while the first record is still being processed")
+    void noCommitBeforeFirstRecord() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        createFacade(exchange -> {
+            if (exchange.getMessage().getHeader(KafkaConstants.OFFSET, Long.class) == 0) {
+                release.await(10, TimeUnit.SECONDS);
+            }
+        });
+
+        facade.processPolledRecords(records(0, 4, 4), null);
+        facade.processPolledRecords(ConsumerRecords.empty(), null);
+        verify(consumer, never()).commitSync(any(Map.class), any(Duration.class));
+
+        release.countDown();
+        facade.close();
+        assertEquals(4, committed.get(PARTITION).offset());
+    }
+
+    /**
+     * Creates the records of the partition from the first offset, where the keys cycle through the given number of
+     * keys.
+     */
+    private static ConsumerRecords<Object, Object> records(int first, int count, int keys) {
+        List<ConsumerRecord<Object, Object>> list = new ArrayList<>();
+        for (int offset = first; offset < first + count; offset++) {
+            list.add(new ConsumerRecord<>(
+                    PARTITION.topic(), PARTITION.partition(), offset, 0L, TimestampType.NO_TIMESTAMP_TYPE, -1, -1,
+                    "key" + offset % keys, "value" + offset, new RecordHeaders(), Optional.empty()));
+        }
+        return new ConsumerRecords<>(Collections.singletonMap(PARTITION, list));
+    }
+}
@@ -101,6 +101,10 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "MaxHeaderSize": target.setMaxHeaderSize(property(camelContext, int.class, value)); return true;
         case "maxinitiallinelength":
         case "MaxInitialLineLength": target.setMaxInitialLineLength(property(camelContext, int.class, value)); return true;
+        case "multiplexedchannels":
+        case "MultiplexedChannels": target.setMultiplexedChannels(property(camelContext, int.class, value)); return true;
+        case "multiplexedmaxpendingwrites":
+        case "MultiplexedMaxPendingWrites": target.setMultiplexedMaxPendingWrites(property(camelContext, int.class, value)); return true;
         case "muteexception":
         case "MuteException": target.setMuteException(property(camelContext, boolean.class, value)); return true;
         case "nativetransport":
@@ -296,6 +300,10 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "MaxHeaderSize": return int.class;
         case "maxinitiallinelength":
         case "MaxInitialLineLength": return int.class;
+        case "multiplexedchannels":
+        case "MultiplexedChannels": return int.class;
+        case "multiplexedmaxpendingwrites":
+        case "MultiplexedMaxPendingWrites": return int.class;
         case "muteexception":
         case "MuteException": return boolean.class;
         case "nativetransport":
@@ -492,6 +500,10 @@ public class NettyHttpConfigurationConfigurer extends org.apache.camel.support.c
         case "MaxHeaderSize": return target.getMaxHeaderSize();
         case "maxinitiallinelength":
         case "MaxInitialLineLength": return target.getMaxInitialLineLength();
+        case "multiplexedchannels":
+        case "MultiplexedChannels": return target.getMultiplexedChannels();
+        case "multiplexedmaxpendingwrites":
+        case "MultiplexedMaxPendingWrites": return target.getMultiplexedMaxPendingWrites();
         case "muteexception":
         case "MuteException": return target.isMuteException();
         case "nativetransport":
@@ -67,6 +67,12 @@ public class NettyHttpProducer extends NettyProducer {
         }
     }
 
+    @Override
+    public boolean isMultiplexed() {
+        // the http replies are correlated by the connection they are received on, so the connections cannot be shared
+        return false;
+    }
+
     @Override
     public NettyHttpEndpoint getEndpoint() {
         return (NettyHttpEndpoint) super.getEndpoint();
@@ -84,6 +84,10 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
         case "maximumpoolsize":
         case "maximumPoolSize": target.setMaximumPoolSize(property(camelContext, int.class, value)); return true;
+        case "multiplexedchannels":
+        case "multiplexedChannels": getOrCreateConfiguration(target).setMultiplexedChannels(property(camelContext, int.class, value)); return true;
+        case "multiplexedmaxpendingwrites":
+        case "multiplexedMaxPendingWrites": getOrCreateConfiguration(target).setMultiplexedMaxPendingWrites(property(camelContext, int.class, value)); return true;
         case "nativetransport":
         case "nativeTransport": getOrCreateConfiguration(target).setNativeTransport(property(camelContext, boolean.class, value)); return true;
         case "needclientauth":
@@ -227,6 +231,10 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyStartProducer": return boolean.class;
         case "maximumpoolsize":
         case "maximumPoolSize": return int.class;
+        case "multiplexedchannels":
+        case "multiplexedChannels": return int.class;
+        case "multiplexedmaxpendingwrites":
+        case "multiplexedMaxPendingWrites": return int.class;
         case "nativetransport":
         case "nativeTransport": return boolean.class;
         case "needclientauth":
@@ -371,6 +379,10 @@ public class NettyComponentConfigurer extends PropertyConfigurerSupport implemen
         case "lazyStartProducer": return target.isLazyStartProducer();
         case "maximumpoolsize":
         case "maximumPoolSize": return target.getMaximumPoolSize();
+        case "multiplexedchannels":
+        case "multiplexedChannels": return getOrCreateConfiguration(target).getMultiplexedChannels();
+        case "multiplexedmaxpendingwrites":
+        case "multiplexedMaxPendingWrites": return getOrCreateConfiguration(target).getMultiplexedMaxPendingWrites();
         case "nativetransport":
         case "nativeTransport": return getOrCreateConfiguration(target).isNativeTransport();
         case "needclientauth":
@@ -81,6 +81,10 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "KeyStoreResource": target.setKeyStoreResource(property(camelContext, java.lang.String.class, value)); return true;
         case "lazychannelcreation":
         case "LazyChannelCreation": target.setLazyChannelCreation(property(camelContext, boolean.class, value)); return true;
+        case "multiplexedchannels":
+        case "MultiplexedChannels": target.setMultiplexedChannels(property(camelContext, int.class, value)); return true;
+        case "multiplexedmaxpendingwrites":
+        case "MultiplexedMaxPendingWrites": target.setMultiplexedMaxPendingWrites(property(camelContext, int.class, value)); return true;
         case "nativetransport":
         case "NativeTransport": target.setNativeTransport(property(camelContext, boolean.class, value)); return true;
         case "needclientauth":
@@ -238,6 +242,10 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "KeyStoreResource": return java.lang.String.class;
         case "lazychannelcreation":
         case "LazyChannelCreation": return boolean.class;
+        case "multiplexedchannels":
+        case "MultiplexedChannels": return int.class;
+        case "multiplexedmaxpendingwrites":
+        case "MultiplexedMaxPendingWrites": return int.class;
         case "nativetransport":
         case "NativeTransport": return boolean.class;
         case "needclientauth":
@@ -396,6 +404,10 @@ public class NettyConfigurationConfigurer extends org.apache.camel.support.compo
         case "KeyStoreResource": return target.getKeyStoreResource();
         case "lazychannelcreation":
         case "LazyChannelCreation": return target.isLazyChannelCreation();
+        case "multiplexedchannels":
+        case "MultiplexedChannels": return target.getMultiplexedChannels();
+        case "multiplexedmaxpendingwrites":
+        case "MultiplexedMaxPendingWrites": return target.getMultiplexedMaxPendingWrites();
         case "nativetransport":
         case "NativeTransport": return target.isNativeTransport();
         case "needclientauth":
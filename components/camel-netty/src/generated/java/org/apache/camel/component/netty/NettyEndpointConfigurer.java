@@ -74,6 +74,10 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyChannelCreation": target.getConfiguration().setLazyChannelCreation(property(camelContext, boolean.class, value)); return true;
         case "lazystartproducer":
         case "lazyStartProducer": target.setLazyStartProducer(property(camelContext, boolean.class, value)); return true;
+        case "multiplexedchannels":
+        case "multiplexedChannels": target.getConfiguration().setMultiplexedChannels(property(camelContext, int.class, value)); return true;
+        case "multiplexedmaxpendingwrites":
+        case "multiplexedMaxPendingWrites": target.getConfiguration().setMultiplexedMaxPendingWrites(property(camelContext, int.class, value)); return true;
         case "nativetransport":
         case "nativeTransport": target.getConfiguration().setNativeTransport(property(camelContext, boolean.class, value)); return true;
         case "needclientauth":
@@ -213,6 +217,10 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyChannelCreation": return boolean.class;
         case "lazystartproducer":
         case "lazyStartProducer": return boolean.class;
+        case "multiplexedchannels":
+        case "multiplexedChannels": return int.class;
+        case "multiplexedmaxpendingwrites":
+        case "multiplexedMaxPendingWrites": return int.class;
         case "nativetransport":
         case "nativeTransport": return boolean.class;
         case "needclientauth":
@@ -353,6 +361,10 @@ public class NettyEndpointConfigurer extends PropertyConfigurerSupport implement
         case "lazyChannelCreation": return target.getConfiguration().isLazyChannelCreation();
         case "lazystartproducer":
         case "lazyStartProducer": return target.isLazyStartProducer();
+        case "multiplexedchannels":
+        case "multiplexedChannels": return target.getConfiguration().getMultiplexedChannels();
+        case "multiplexedmaxpendingwrites":
+        case "multiplexedMaxPendingWrites": return target.getConfiguration().getMultiplexedMaxPendingWrites();
         case "nativetransport":
         case "nativeTransport": return target.getConfiguration().isNativeTransport();
         case "needclientauth":
@@ -21,7 +21,7 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
     private static final Set<String> SECRET_PROPERTY_NAMES;
     private static final Set<String> MULTI_VALUE_PREFIXES;
     static {
-        Set<String> props = new HashSet<>(76);
+        Set<String> props = new HashSet<>(78);
         props.add("allowDefaultCodec");
         props.add("allowSerializedHeaders");
         props.add("autoAppendDelimiter");
@@ -53,6 +53,8 @@ public class NettyEndpointUriFactory extends org.apache.camel.support.component.
         props.add("keyStoreResource");
         props.add("lazyChannelCreation");
         props.add("lazyStartProducer");
+        props.add("multiplexedChannels");
+        props.add("multiplexedMaxPendingWrites");
         props.add("nativeTransport");
         props.add("needClientAuth");
         props.add("nettyServerBootstrapFactory");
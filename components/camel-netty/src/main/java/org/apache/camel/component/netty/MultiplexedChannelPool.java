@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.NoSuchElementException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+import io.netty.channel.ChannelFuture;
+import org.apache.commons.pool2.ObjectPool;
+import org.apache.commons.pool2.PooledObject;
+import org.apache.commons.pool2.PooledObjectFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.commons.pool2.ObjectPool} that shares a fixed number of channels between all the requests, so
+ * many requests can be in flight on the same channel (multiplexing).
+ * <p/>
+ * The channels are borrowed in round-robin order, where channels which are not writable are skipped if another channel
+ * is writable. A channel is created again when it has become invalid.
+ * <p/>
+ * This implementation will return the number of created channels in {@link #getNumActive()} and return <tt>0</tt> in
+ * {@link #getNumIdle()}.
+ */
+public class MultiplexedChannelPool implements ObjectPool<ChannelFuture> {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MultiplexedChannelPool.class);
+    private final PooledObjectFactory<ChannelFuture> factory;
+    private final AtomicReferenceArray<PooledObject<ChannelFuture>> channels;
+    private final AtomicInteger next = new AtomicInteger();
+
+    public MultiplexedChannelPool(PooledObjectFactory<ChannelFuture> factory, int size) {
+        if (size <= 0) {
+            throw new IllegalArgumentException("Size must be positive, was: " + size);
+        }
+        this.factory = factory;
+        this.channels = new AtomicReferenceArray<>(size);
+    }
+
+    @Override
+    public void addObject() throws Exception, IllegalStateException, UnsupportedOperationException {
+        // noop
+    }
+
+    @Override
+    public ChannelFuture borrowObject() throws Exception, NoSuchElementException, IllegalStateException {
+        int size = channels.length();
+        int start = Math.floorMod(next.getAndIncrement(), size);
+        ChannelFuture answer = null;
+        for (int i = 0; i < size; i++) {
+            ChannelFuture channelFuture = getChannel((start + i) % size);
+            // a connecting channel is expected to be writable when connected
+            if (!channelFuture.isDone() || channelFuture.channel().isWritable()) {
+                return channelFuture;
+            }
+            if (answer == null) {
+                answer = channelFuture;
+            }
+        }
+        // none of the channels are writable, so the writes must wait for the channel
+        LOG.trace("None of the channels are writable, using channel: {}", answer);
+        return answer;
+    }
+
+    private ChannelFuture getChannel(int index) throws Exception {
+        PooledObject<ChannelFuture> p = channels.get(index);
+        if (p != null && factory.validateObject(p)) {
+            return p.getObject();
+        }
+        synchronized (this) {
+            p = channels.get(index);
+            // ensure the object is validate before we borrow it
+            if (p != null && !factory.validateObject(p)) {
+                LOG.info("Recreating new connection as current connection is invalid: {}", p);
+                destroy(p);
+                p = null;
+            }
+            if (p == null) {
+                p = factory.makeObject();
+                channels.set(index, p);
+            }
+            return p.getObject();
+        }
+    }
+
+    @Override
+    public synchronized void clear() throws Exception, UnsupportedOperationException {
+        for (int i = 0; i < channels.length(); i++) {
+            channels.set(i, null);
+        }
+    }
+
+    @Override
+    public void close() {
+        try {
+            clear();
+        } catch (Exception e) {
+            // ignore
+        }
+    }
+
+    @Override
+    public int getNumActive() {
+        int answer = 0;
+        for (int i = 0; i < channels.length(); i++) {
+            if (channels.get(i) != null) {
+                answer++;
+            }
+        }
+        return answer;
+    }
+
+    @Override
+    public int getNumIdle() {
+        return 0;
+    }
+
+    @Override
+    public synchronized void invalidateObject(ChannelFuture obj) throws Exception {
+        for (int i = 0; i < channels.length(); i++) {
+            PooledObject<ChannelFuture> p = channels.get(i);
+            if (p != null && p.getObject() == obj) {
+                channels.set(i, null);
+                destroy(p);
+            }
+        }
+    }
+
+    @Override
+    public void returnObject(ChannelFuture obj) throws Exception {
+        // noop
+    }
+
+    private void destroy(PooledObject<ChannelFuture> p) {
+        try {
+            factory.destroyObject(p);
+        } catch (Exception e) {
+            LOG.debug("Error destroying channel: {}. This exception will be ignored.", p, e);
+        }
+    }
+
+}
@@ -110,6 +110,10 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
     @UriParam(label = "producer,advanced", defaultValue = "true")
     private boolean producerPoolEnabled = true;
     @UriParam(label = "producer,advanced")
+    private int multiplexedChannels;
+    @UriParam(label = "producer,advanced", defaultValue = "1000")
+    private int multiplexedMaxPendingWrites = 1000;
+    @UriParam(label = "producer,advanced")
     private boolean udpConnectionlessSending;
     @UriParam(label = "consumer")
     private boolean clientMode;
@@ -711,6 +715,44 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
         this.producerPoolEnabled = producerPoolEnabled;
     }
 
+    public int getMultiplexedChannels() {
+        return multiplexedChannels;
+    }
+
+    /**
+     * Number of channels the producer shares between all the requests, so many requests can be in flight on the same
+     * channel (multiplexing), instead of using a channel from the producer pool for each request until its reply has
+     * been received. The requests are sent on the next writable channel, and the writes are flushed in batches. When
+     * none of the channels are writable, as too much data is waiting to be sent, then the requests wait for the channel
+     * to become writable again, up to <tt>multiplexedMaxPendingWrites</tt> requests per channel. This is disabled by
+     * default (0).
+     * <p>
+     * Important: The replies can come back out-of-order, so for request/reply you must configure a correlation manager
+     * which correlates the replies by a correlation id in the request and reply messages, such as by extending
+     * {@link TimeoutCorrelationManagerSupport}. The timeout of the correlation manager must be used instead of the
+     * <tt>requestTimeout</tt> option, which applies to the shared channel. As the channels are shared, the
+     * <tt>disconnect</tt>, <tt>reuseChannel</tt> and <tt>requestTimeout</tt> options cannot be used, and the
+     * <tt>CamelNettyCloseChannelWhenComplete</tt> and <tt>CamelNettyRequestTimeout</tt> headers are ignored.
+     * <p/>
+     * See also the <tt>correlationManager</tt> option for more details.
+     */
+    public void setMultiplexedChannels(int multiplexedChannels) {
+        this.multiplexedChannels = multiplexedChannels;
+    }
+
+    public int getMultiplexedMaxPendingWrites() {
+        return multiplexedMaxPendingWrites;
+    }
+
+    /**
+     * The maximum number of requests which can wait for a multiplexed channel to become writable again. When the limit
+     * is reached, as the remote peer does not keep up, then further requests on that channel fail with a
+     * {@link org.apache.camel.CamelExchangeException} instead of being held in memory. The default is 1000.
+     */
+    public void setMultiplexedMaxPendingWrites(int multiplexedMaxPendingWrites) {
+        this.multiplexedMaxPendingWrites = multiplexedMaxPendingWrites;
+    }
+
     public boolean isUdpConnectionlessSending() {
         return udpConnectionlessSending;
     }
@@ -788,7 +830,7 @@ public class NettyConfiguration extends NettyServerBootstrapConfiguration implem
      * We recommend extending the {@link TimeoutCorrelationManagerSupport} when you build custom correlation managers.
      * This provides support for timeout and other complexities you otherwise would need to implement as well.
      * <p/>
-     * See also the <tt>producerPoolEnabled</tt> option for more details.
+     * See also the <tt>producerPoolEnabled</tt> and <tt>multiplexedChannels</tt> options for more details.
      */
     public void setCorrelationManager(NettyCamelStateCorrelationManager correlationManager) {
         this.correlationManager = correlationManager;
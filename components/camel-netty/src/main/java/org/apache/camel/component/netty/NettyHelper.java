@@ -16,19 +16,30 @@
  */
 package org.apache.camel.component.netty;
 
+import java.io.File;
 import java.net.InetSocketAddress;
 import java.net.SocketAddress;
+import java.util.Map;
 import java.util.concurrent.ThreadFactory;
 
 import io.netty.channel.Channel;
 import io.netty.channel.ChannelFuture;
 import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandler;
+import io.netty.channel.ChannelOutboundHandler;
+import io.netty.channel.ChannelPipeline;
 import io.netty.channel.DefaultAddressedEnvelope;
+import io.netty.channel.DefaultFileRegion;
+import io.netty.channel.FileRegion;
+import io.netty.handler.codec.MessageToByteEncoder;
+import io.netty.handler.codec.MessageToMessageEncoder;
+import io.netty.handler.timeout.IdleStateHandler;
 import io.netty.util.concurrent.DefaultEventExecutorGroup;
 import io.netty.util.concurrent.EventExecutorGroup;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.NoTypeConversionAvailableException;
+import org.apache.camel.WrappedFile;
 import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -113,6 +124,52 @@ public final class NettyHelper {
         }
     }
 
+    /**
+     * Gets a file based body as a {@link FileRegion}, which the channel transfers from the file system to the socket
+     * without copying the content into the heap.
+     * <p/>
+     * The file region is only used if the handlers of the pipeline pass it through as is, so it is not used if an
+     * encoder accepts the file (such as a custom encoder), or if the pipeline uses SSL which must encrypt the content.
+     *
+     * @param  pipeline the pipeline of the channel to write the body to
+     * @param  body     the body
+     * @return          the file region, or <tt>null</tt> if the body is not file based, or cannot be written as a file
+     *                  region
+     */
+    public static FileRegion getFileRegionBody(ChannelPipeline pipeline, Object body) {
+        Object file = body instanceof WrappedFile ? ((WrappedFile<?>) body).getFile() : body;
+        if (!(file instanceof File) || !((File) file).isFile()) {
+            return null;
+        }
+
+        FileRegion region = new DefaultFileRegion((File) file, 0, ((File) file).length());
+        for (Map.Entry<String, ChannelHandler> entry : pipeline) {
+            ChannelHandler handler = entry.getValue();
+            if (handler instanceof ChannelOutboundHandler
+                    && !(isPassThrough(handler, file) && isPassThrough(handler, region))) {
+                LOG.trace("Cannot write file: {} as file region due to handler: {}", file, entry.getKey());
+                // the file is only opened when the region is transferred
+                region.release();
+                return null;
+            }
+        }
+        return region;
+    }
+
+    private static boolean isPassThrough(ChannelHandler handler, Object msg) {
+        try {
+            if (handler instanceof MessageToMessageEncoder) {
+                return !((MessageToMessageEncoder<?>) handler).acceptOutboundMessage(msg);
+            } else if (handler instanceof MessageToByteEncoder) {
+                return !((MessageToByteEncoder<?>) handler).acceptOutboundMessage(msg);
+            }
+        } catch (Exception e) {
+            return false;
+        }
+        // idle state handlers only track the writes
+        return handler instanceof IdleStateHandler;
+    }
+
     /**
      * Closes the given channel asynchronously
      *
@@ -22,6 +22,7 @@ import java.time.Duration;
 import java.util.Optional;
 import java.util.concurrent.RejectedExecutionException;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
 
 import io.netty.bootstrap.Bootstrap;
 import io.netty.channel.Channel;
@@ -30,6 +31,7 @@ import io.netty.channel.ChannelFutureListener;
 import io.netty.channel.ChannelHandler;
 import io.netty.channel.ChannelOption;
 import io.netty.channel.EventLoopGroup;
+import io.netty.channel.FileRegion;
 import io.netty.channel.epoll.EpollDatagramChannel;
 import io.netty.channel.epoll.EpollSocketChannel;
 import io.netty.channel.group.ChannelGroup;
@@ -37,6 +39,7 @@ import io.netty.channel.group.ChannelGroupFuture;
 import io.netty.channel.group.DefaultChannelGroup;
 import io.netty.channel.socket.nio.NioDatagramChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
+import io.netty.handler.flush.FlushConsolidationHandler;
 import io.netty.handler.timeout.ReadTimeoutHandler;
 import io.netty.util.AttributeKey;
 import io.netty.util.ReferenceCountUtil;
@@ -48,6 +51,9 @@ import org.apache.camel.CamelExchangeException;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.component.netty.handlers.ClientWritabilityHandler;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultAsyncProducer;
 import org.apache.camel.support.ExchangeHelper;
@@ -63,6 +69,7 @@ import org.apache.commons.pool2.impl.GenericObjectPoolConfig;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+@ManagedResource(description = "Managed NettyProducer")
 public class NettyProducer extends DefaultAsyncProducer {
 
     private static final Logger LOG = LoggerFactory.getLogger(NettyProducer.class);
@@ -78,6 +85,7 @@ public class NettyProducer extends DefaultAsyncProducer {
     private EventLoopGroup workerGroup;
     private volatile ObjectPool<ChannelFuture> pool;
     private NettyCamelStateCorrelationManager correlationManager;
+    private final LongAdder zeroCopyTransferredBytes = new LongAdder();
 
     public NettyProducer(NettyEndpoint nettyEndpoint, NettyConfiguration configuration) {
         super(nettyEndpoint);
@@ -99,13 +107,51 @@ public class NettyProducer extends DefaultAsyncProducer {
         return correlationManager;
     }
 
+    /**
+     * Number of bytes of file based message bodies which have been transferred to the socket without copying the
+     * content into the heap.
+     */
+    @ManagedAttribute(description = "Number of bytes of file based message bodies transferred without copying them into the heap")
+    public long getZeroCopyTransferredBytes() {
+        return zeroCopyTransferredBytes.sum();
+    }
+
     protected boolean isTcp() {
         return configuration.getProtocol().equalsIgnoreCase("tcp");
     }
 
+    public boolean isMultiplexed() {
+        return configuration.getMultiplexedChannels() > 0;
+    }
+
     @Override
     protected void doStart() throws Exception {
-        if (configuration.isProducerPoolEnabled()) {
+        if (isMultiplexed()) {
+            // the replies must be correlated by the messages as many requests are in flight on the same channel
+            if (configuration.isSync() && configuration.getCorrelationManager() == null) {
+                throw new IllegalArgumentException(
+                        "A correlationManager must be configured when using multiplexedChannels with request/reply");
+            }
+            // the channels are shared, so they must not be closed or have a read timeout for a single request
+            if (configuration.isDisconnect() || configuration.isReuseChannel()) {
+                throw new IllegalArgumentException(
+                        "The disconnect and reuseChannel options cannot be used with multiplexedChannels");
+            }
+            if (configuration.getRequestTimeout() > 0) {
+                throw new IllegalArgumentException(
+                        "The requestTimeout option cannot be used with multiplexedChannels,"
+                                                   + " use the timeout of the correlationManager instead");
+            }
+            if (configuration.getMultiplexedMaxPendingWrites() <= 0) {
+                throw new IllegalArgumentException(
+                        "MultiplexedMaxPendingWrites must be positive, was: " + configuration.getMultiplexedMaxPendingWrites());
+            }
+            pool = new MultiplexedChannelPool(new NettyProducerPoolableObjectFactory(this), configuration.getMultiplexedChannels());
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Created NettyProducer multiplexed pool[channels={}] -> {}", configuration.getMultiplexedChannels(),
+                        pool);
+            }
+        } else if (configuration.isProducerPoolEnabled()) {
             // setup pool where we want an unbounded pool, which allows the pool to shrink on no demand
             GenericObjectPoolConfig config = new GenericObjectPoolConfig();
             config.setMaxTotal(configuration.getProducerPoolMaxTotal());
@@ -324,7 +370,8 @@ public class NettyProducer extends DefaultAsyncProducer {
         final NettyCamelStateCorrelationManager channelCorrelationManager
                 = Optional.ofNullable(channel.attr(CORRELATION_MANAGER_ATTR).get()).orElse(correlationManager);
 
-        if (exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
+        // a multiplexed channel is shared, so its read timeout must not be changed for a single request
+        if (!isMultiplexed() && exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT) != null) {
             long timeoutInMs = exchange.getIn().getHeader(NettyConstants.NETTY_REQUEST_TIMEOUT, Long.class);
             ChannelHandler oldHandler = channel.pipeline().get("timeout");
             ReadTimeoutHandler newHandler = new ReadTimeoutHandler(timeoutInMs, TimeUnit.MILLISECONDS);
@@ -350,13 +397,15 @@ public class NettyProducer extends DefaultAsyncProducer {
         final NettyCamelState state = new NettyCamelState(producerCallback, exchange);
         channelCorrelationManager.putState(channel, state);
         // here we need to setup the remote address information here
-        InetSocketAddress remoteAddress = null;
-        if (!isTcp()) {
-            remoteAddress = new InetSocketAddress(configuration.getHost(), configuration.getPort());
-        }
+        final InetSocketAddress remoteAddress
+                = isTcp() ? null : new InetSocketAddress(configuration.getHost(), configuration.getPort());
+
+        // file based bodies are written as file regions if possible, which are transferred without copying into the heap
+        FileRegion region = isTcp() ? NettyHelper.getFileRegionBody(channel.pipeline(), body) : null;
+        final Object message = region != null ? region : body;
 
         // write body
-        NettyHelper.writeBodyAsync(LOG, channel, remoteAddress, body, new ChannelFutureListener() {
+        final ChannelFutureListener listener = new ChannelFutureListener() {
             public void operationComplete(ChannelFuture channelFuture) throws Exception {
                 LOG.trace("Operation complete {}", channelFuture);
                 if (!channelFuture.isSuccess()) {
@@ -377,8 +426,17 @@ public class NettyProducer extends DefaultAsyncProducer {
                     return;
                 }
 
+                if (message instanceof FileRegion) {
+                    zeroCopyTransferredBytes.add(((FileRegion) message).count());
+                }
+
                 // if we do not expect any reply then signal callback to continue routing
                 if (!configuration.isSync()) {
+                    if (isMultiplexed()) {
+                        // a multiplexed channel is shared, so it is never closed when a single request is complete
+                        producerCallback.done(false);
+                        return;
+                    }
                     try {
                         // should channel be closed after complete?
                         Boolean close;
@@ -409,8 +467,27 @@ public class NettyProducer extends DefaultAsyncProducer {
                     }
                 }
             }
-        });
-
+        };
+
+        ClientWritabilityHandler writabilityHandler = channel.pipeline().get(ClientWritabilityHandler.class);
+        if (writabilityHandler != null) {
+            // the channel is shared so the write must wait while the channel is not writable
+            channel.eventLoop().execute(() -> {
+                boolean accepted = writabilityHandler.write(channel,
+                        () -> NettyHelper.writeBodyAsync(LOG, channel, remoteAddress, message, listener));
+                if (!accepted) {
+                    ReferenceCountUtil.release(message);
+                    exchange.setException(new CamelExchangeException(
+                            "Cannot write to channel: " + channel + " as the maximum of "
+                                                                     + configuration.getMultiplexedMaxPendingWrites()
+                                                                     + " pending writes has been reached",
+                            exchange));
+                    state.onExceptionCaughtOnce(false);
+                }
+            });
+        } else {
+            NettyHelper.writeBodyAsync(LOG, channel, remoteAddress, message, listener);
+        }
     }
 
     /**
@@ -537,6 +614,15 @@ public class NettyProducer extends DefaultAsyncProducer {
             // to keep track of all channels in use
             allChannels.add(answer);
 
+            if (isMultiplexed()) {
+                // the channel is shared by many requests, so batch the flushes of the writes, and hold back the writes
+                // while the channel is not writable
+                answer.pipeline().addFirst("writability",
+                        new ClientWritabilityHandler(configuration.getMultiplexedMaxPendingWrites()));
+                answer.pipeline().addFirst("flushConsolidation", new FlushConsolidationHandler(
+                        FlushConsolidationHandler.DEFAULT_EXPLICIT_FLUSH_AFTER_FLUSHES, true));
+            }
+
             if (LOG.isDebugEnabled()) {
                 LOG.debug("Creating connector to address: {}", configuration.getAddress());
             }
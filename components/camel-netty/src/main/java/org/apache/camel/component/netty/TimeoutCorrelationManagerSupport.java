@@ -31,6 +31,7 @@ import org.apache.camel.TimeoutMap;
 import org.apache.camel.TimeoutMap.Listener.Type;
 import org.apache.camel.spi.CamelLogger;
 import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.support.TimingWheelTimeoutMap;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.ObjectHelper;
@@ -55,6 +56,7 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
     private CamelContext camelContext;
     private long timeout = 30000;
     private long timeoutChecker = 1000;
+    private boolean timingWheel;
     private LoggingLevel timeoutLoggingLevel = LoggingLevel.DEBUG;
 
     @Override
@@ -90,6 +92,19 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
         this.timeoutChecker = timeoutChecker;
     }
 
+    public boolean isTimingWheel() {
+        return timingWheel;
+    }
+
+    /**
+     * Whether to use a timing wheel to keep track of the timeouts. The timeout checker then only visits the requests
+     * that are due, instead of all the pending requests, which is faster when there are many pending requests. Each
+     * tick of the timing wheel is the timeout checker interval.
+     */
+    public void setTimingWheel(boolean timingWheel) {
+        this.timingWheel = timingWheel;
+    }
+
     public LoggingLevel getTimeoutLoggingLevel() {
         return timeoutLoggingLevel;
     }
@@ -186,7 +201,11 @@ public abstract class TimeoutCorrelationManagerSupport extends ServiceSupport
             stopWorkerPool = true;
         }
 
-        map = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        if (timingWheel) {
+            map = new TimingWheelTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        } else {
+            map = new DefaultTimeoutMap<>(scheduledExecutorService, timeoutChecker);
+        }
         map.addListener(this::onEviction);
 
         ServiceHelper.startService(map);
@@ -212,8 +212,8 @@ public class ClientChannelHandler extends SimpleChannelInboundHandler<Object> {
             if (close != null) {
                 disconnect = close;
             }
-            // we should not close if we are reusing the channel
-            if (!producer.getConfiguration().isReuseChannel() && disconnect) {
+            // we should not close if we are reusing the channel or it is shared by multiplexed requests
+            if (!producer.getConfiguration().isReuseChannel() && !producer.isMultiplexed() && disconnect) {
                 if (LOG.isTraceEnabled()) {
                     LOG.trace("Closing channel when complete at address: {}", producer.getConfiguration().getAddress());
                 }
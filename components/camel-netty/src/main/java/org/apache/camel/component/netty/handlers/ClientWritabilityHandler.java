@@ -0,0 +1,94 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty.handlers;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import org.apache.camel.component.netty.NettyProducer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Client handler which holds back the writes of a multiplexed producer while the channel is not writable, and writes
+ * them in order when the channel becomes writable again. At most the given number of writes are held back, so a remote
+ * peer which does not keep up cannot make the writes pile up in memory.
+ * <p/>
+ * The handler is not shareable, and must only be used from the event loop of the channel.
+ */
+public class ClientWritabilityHandler extends ChannelInboundHandlerAdapter {
+    // use NettyProducer as logger to make it easier to read the logs as this is part of the producer
+    private static final Logger LOG = LoggerFactory.getLogger(NettyProducer.class);
+    private final Deque<Runnable> pendingWrites = new ArrayDeque<>();
+    private final int maxPendingWrites;
+
+    public ClientWritabilityHandler(int maxPendingWrites) {
+        this.maxPendingWrites = maxPendingWrites;
+    }
+
+    /**
+     * Performs the write now if the channel is writable, otherwise when the channel becomes writable.
+     *
+     * @param  channel the channel
+     * @param  write   the write to perform
+     * @return         <tt>false</tt> if the write is rejected, as the maximum number of pending writes has been reached
+     */
+    public boolean write(Channel channel, Runnable write) {
+        if (pendingWrites.isEmpty() && channel.isWritable()) {
+            write.run();
+        } else if (pendingWrites.size() >= maxPendingWrites) {
+            LOG.debug("Channel: {} is not writable, rejecting write as the maximum of {} pending writes has been reached",
+                    channel, maxPendingWrites);
+            return false;
+        } else {
+            pendingWrites.add(write);
+            if (LOG.isTraceEnabled()) {
+                LOG.trace("Channel: {} is not writable, pending writes: {}", channel, pendingWrites.size());
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Number of writes waiting for the channel to become writable.
+     */
+    public int getPendingWrites() {
+        return pendingWrites.size();
+    }
+
+    @Override
+    public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception {
+        Channel channel = ctx.channel();
+        while (!pendingWrites.isEmpty() && channel.isWritable()) {
+            pendingWrites.poll().run();
+        }
+        super.channelWritabilityChanged(ctx);
+    }
+
+    @Override
+    public void channelInactive(ChannelHandlerContext ctx) throws Exception {
+        // the writes fail as the channel is closed, which completes the exchanges with the cause
+        while (!pendingWrites.isEmpty()) {
+            pendingWrites.poll().run();
+        }
+        super.channelInactive(ctx);
+    }
+
+}
@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.io.File;
+import java.util.Set;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NettyFileRegionManagedTest extends BaseNettyTest {
+
+    @Override
+    protected boolean useJmx() {
+        return true;
+    }
+
+    @Test
+    public void testZeroCopyTransferredBytes() throws Exception {
+        getMockEndpoint("mock:results").expectedBodiesReceived("Hello World");
+
+        File file = new File("src/test/data/message1.txt");
+        template.sendBody("direct:start", file);
+
+        MockEndpoint.assertIsSatisfied(context);
+
+        MBeanServer mbeanServer = context.getManagementStrategy().getManagementAgent().getMBeanServer();
+        Set<ObjectName> names = mbeanServer.queryNames(new ObjectName("org.apache.camel:type=producers,*"), null);
+        ObjectName on = null;
+        for (ObjectName name : names) {
+            if (name.toString().contains("NettyProducer")) {
+                on = name;
+            }
+        }
+        assertEquals(file.length(), mbeanServer.getAttribute(on, "ZeroCopyTransferredBytes"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("netty:tcp://localhost:{{port}}?sync=false")
+                        .to("mock:results");
+
+                from("direct:start")
+                        .to("netty:tcp://localhost:{{port}}?sync=false");
+            }
+        };
+    }
+}
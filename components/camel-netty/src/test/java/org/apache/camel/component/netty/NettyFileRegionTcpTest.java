@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.io.File;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.service.ServiceHelper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class NettyFileRegionTcpTest extends BaseNettyTest {
+
+    @Test
+    public void testFileRegion() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:results");
+        mock.expectedBodiesReceived("Hello World");
+
+        File file = new File("src/test/data/message1.txt");
+        NettyProducer producer = (NettyProducer) context.getEndpoint("netty:tcp://localhost:{{port}}?sync=false")
+                .createProducer();
+        ServiceHelper.startService(producer);
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(file);
+            producer.process(exchange);
+
+            MockEndpoint.assertIsSatisfied(context);
+            assertEquals(file.length(), producer.getZeroCopyTransferredBytes());
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+    }
+
+    @Test
+    public void testNoFileRegionWithTextline() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:results");
+        mock.expectedMessageCount(1);
+        // the textline delimiter is appended
+        mock.message(0).body().startsWith("Hello World");
+
+        NettyProducer producer = (NettyProducer) context
+                .getEndpoint("netty:tcp://localhost:{{port}}?sync=false&textline=true").createProducer();
+        ServiceHelper.startService(producer);
+        try {
+            Exchange exchange = new DefaultExchange(context);
+            exchange.getIn().setBody(new File("src/test/data/message1.txt"));
+            producer.process(exchange);
+
+            MockEndpoint.assertIsSatisfied(context);
+            assertEquals(0, producer.getZeroCopyTransferredBytes());
+        } finally {
+            ServiceHelper.stopService(producer);
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            public void configure() {
+                from("netty:tcp://localhost:{{port}}?sync=false")
+                        .to("mock:results");
+            }
+        };
+    }
+}
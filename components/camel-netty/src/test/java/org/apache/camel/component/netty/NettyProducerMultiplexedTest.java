@@ -0,0 +1,188 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.netty;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import io.netty.buffer.Unpooled;
+import io.netty.channel.Channel;
+import io.netty.channel.WriteBufferWaterMark;
+import io.netty.channel.embedded.EmbeddedChannel;
+import org.apache.camel.BindToRegistry;
+import org.apache.camel.Producer;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.netty.handlers.ClientWritabilityHandler;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class NettyProducerMultiplexedTest extends BaseNettyTest {
+
+    @BindToRegistry("myManager")
+    private final MyCorrelationManager myManager = new MyCorrelationManager();
+
+    @Test
+    public void testMultiplexed() throws Exception {
+        List<Future<String>> replies = new ArrayList<>();
+        for (int i = 0; i < 100; i++) {
+            replies.add(template.asyncRequestBody("direct:start", i + ":Hello", String.class));
+        }
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i + ":Bye", replies.get(i).get(20, TimeUnit.SECONDS));
+        }
+
+        // the requests are shared by the channels
+        assertEquals(2, myManager.channels.size());
+    }
+
+    @Test
+    public void testMultiplexedRequiresCorrelationManager() throws Exception {
+        NettyEndpoint endpoint = context.getEndpoint(
+                "netty:tcp://localhost:{{port}}?textline=true&sync=true&multiplexedChannels=2", NettyEndpoint.class);
+        Producer producer = endpoint.createProducer();
+        assertThrows(IllegalArgumentException.class, producer::start);
+    }
+
+    @Test
+    public void testMultiplexedRejectsChannelOptions() throws Exception {
+        for (String option : new String[] {
+                "disconnect=true", "reuseChannel=true", "requestTimeout=1000", "multiplexedMaxPendingWrites=0" }) {
+            NettyEndpoint endpoint = context.getEndpoint(
+                    "netty:tcp://localhost:{{port}}?textline=true&sync=true&multiplexedChannels=2&correlationManager=#myManager&"
+                                                         + option,
+                    NettyEndpoint.class);
+            Producer producer = endpoint.createProducer();
+            assertThrows(IllegalArgumentException.class, producer::start, option);
+        }
+    }
+
+    @Test
+    public void testMultiplexedIgnoresChannelHeaders() throws Exception {
+        Map<String, Object> headers = new HashMap<>();
+        headers.put(NettyConstants.NETTY_CLOSE_CHANNEL_WHEN_COMPLETE, true);
+        headers.put(NettyConstants.NETTY_REQUEST_TIMEOUT, 1L);
+
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i + ":Bye", template.requestBodyAndHeaders("direct:start", i + ":Hello", headers, String.class));
+        }
+
+        // the shared channels are neither closed nor timed out
+        Thread.sleep(100);
+        assertEquals(2, myManager.channels.size());
+        for (Channel channel : myManager.channels) {
+            assertTrue(channel.isActive());
+        }
+    }
+
+    @Test
+    public void testWritesWaitForWritableChannel() {
+        ClientWritabilityHandler handler = new ClientWritabilityHandler(10);
+        EmbeddedChannel channel = new EmbeddedChannel(handler);
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+        AtomicInteger writes = new AtomicInteger();
+
+        // the pending data makes the channel not writable
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertFalse(channel.isWritable());
+
+        handler.write(channel, writes::incrementAndGet);
+        handler.write(channel, writes::incrementAndGet);
+        assertEquals(0, writes.get());
+
+        // the writes are done when the channel becomes writable
+        channel.flush();
+        assertEquals(2, writes.get());
+
+        handler.write(channel, writes::incrementAndGet);
+        assertEquals(3, writes.get());
+        channel.finishAndReleaseAll();
+    }
+
+    @Test
+    public void testMaxPendingWrites() {
+        ClientWritabilityHandler handler = new ClientWritabilityHandler(2);
+        EmbeddedChannel channel = new EmbeddedChannel(handler);
+        channel.config().setWriteBufferWaterMark(new WriteBufferWaterMark(8, 16));
+        AtomicInteger writes = new AtomicInteger();
+
+        // fill the outbound buffer so the channel is not writable
+        channel.write(Unpooled.wrappedBuffer(new byte[32]));
+        assertFalse(channel.isWritable());
+
+        assertTrue(handler.write(channel, writes::incrementAndGet));
+        assertTrue(handler.write(channel, writes::incrementAndGet));
+        // the limit is reached so further writes are rejected instead of held in memory
+        assertFalse(handler.write(channel, writes::incrementAndGet));
+        assertFalse(handler.write(channel, writes::incrementAndGet));
+        assertEquals(2, handler.getPendingWrites());
+        assertEquals(0, writes.get());
+
+        // the pending writes are done when the channel becomes writable, and new writes are accepted again
+        channel.flush();
+        assertEquals(2, writes.get());
+        assertEquals(0, handler.getPendingWrites());
+        assertTrue(handler.write(channel, writes::incrementAndGet));
+        assertEquals(3, writes.get());
+        channel.finishAndReleaseAll();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() {
+        return new RouteBuilder() {
+            @Override
+            public void configure() {
+                from("direct:start")
+                        .to("netty:tcp://localhost:{{port}}?textline=true&sync=true&multiplexedChannels=2&correlationManager=#myManager");
+
+                from("netty:tcp://localhost:{{port}}?textline=true&sync=true")
+                        .transform(body().regexReplaceAll("Hello", "Bye"));
+            }
+        };
+    }
+
+    private static final class MyCorrelationManager extends TimeoutCorrelationManagerSupport {
+
+        private final Set<Channel> channels = ConcurrentHashMap.newKeySet();
+
+        @Override
+        public void putState(Channel channel, NettyCamelState state) {
+            channels.add(channel);
+            super.putState(channel, state);
+        }
+
+        @Override
+        public String getRequestCorrelationId(Object request) {
+            return request.toString().split(":")[0];
+        }
+
+        @Override
+        public String getResponseCorrelationId(Object response) {
+            return response.toString().split(":")[0];
+        }
+    }
+}
@@ -0,0 +1,427 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.AbstractQueue;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * A bounded lock-free {@link BlockingQueue} backed by a ring buffer, which supports multiple producers and multiple
+ * consumers (MPMC), or multiple producers and a single consumer (MPSC).
+ * <p/>
+ * Producers and consumers claim slots in the ring buffer with a compare-and-set on the producer and consumer index,
+ * and each slot has a sequence number that tells whether the slot is ready to be written or read. In single consumer
+ * mode the consumer index is updated without compare-and-set, which is only safe when no more than one thread at a
+ * time takes elements from the queue.
+ * <p/>
+ * There are no locks, and therefore no conditions to signal, so the blocking operations wait using a
+ * {@link WaitStrategy} until the queue is no longer empty (or full).
+ * <p/>
+ * The capacity is rounded up to the next power of two. Removing an arbitrary element with {@link #remove(Object)}
+ * leaves an empty slot behind, which is skipped by the consumers, but is counted by {@link #size()} until the consumers
+ * have passed it. The iterator is weakly consistent, and does not support removal.
+ *
+ * @param <E> element type, usually {@link org.apache.camel.Exchange}
+ */
+public class RingBufferBlockingQueue<E> extends AbstractQueue<E> implements BlockingQueue<E> {
+
+    /**
+     * Strategy for how to wait when the queue is empty (when taking) or full (when putting).
+     */
+    public interface WaitStrategy {
+
+        /**
+         * Waits a little while before trying again.
+         *
+         * @param  idleCounter number of times the caller has waited so far, starting from zero
+         * @return             the idle counter to pass in the next time
+         */
+        int idle(int idleCounter);
+    }
+
+    /**
+     * The standard wait strategies.
+     */
+    public enum WaitStrategies implements WaitStrategy {
+
+        /**
+         * Busy spins, which has the lowest latency, but keeps a CPU core busy while waiting.
+         */
+        SPIN {
+            @Override
+            public int idle(int idleCounter) {
+                Thread.onSpinWait();
+                return idleCounter + 1;
+            }
+        },
+
+        /**
+         * Spins a little while, and then yields the thread.
+         */
+        YIELD {
+            @Override
+            public int idle(int idleCounter) {
+                if (idleCounter < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+                return idleCounter + 1;
+            }
+        },
+
+        /**
+         * Spins a little while, then yields the thread a little while, and then parks the thread, where the park time
+         * is doubled each time from 1 microsecond up till 1 millisecond. This uses the least CPU while waiting, at the
+         * cost of latency when the queue has been idle for a while.
+         */
+        PARK {
+            @Override
+            public int idle(int idleCounter) {
+                if (idleCounter < SPIN_TRIES) {
+                    Thread.onSpinWait();
+                } else if (idleCounter < SPIN_TRIES + YIELD_TRIES) {
+                    Thread.yield();
+                } else {
+                    int shift = Math.min(idleCounter - SPIN_TRIES - YIELD_TRIES, MAX_PARK_SHIFT);
+                    LockSupport.parkNanos(MIN_PARK_NANOS << shift);
+                    if (shift == MAX_PARK_SHIFT) {
+                        // do not keep counting as we park for the longest time already
+                        return idleCounter;
+                    }
+                }
+                return idleCounter + 1;
+            }
+        };
+
+        private static final int SPIN_TRIES = 100;
+        private static final int YIELD_TRIES = 100;
+        private static final long MIN_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(1);
+        // 1 microsecond << 10 is about 1 millisecond
+        private static final int MAX_PARK_SHIFT = 10;
+    }
+
+    // the producer and consumer index are kept apart in the array to avoid false sharing
+    private static final int PRODUCER = 16;
+    private static final int CONSUMER = 32;
+
+    private final int capacity;
+    private final int mask;
+    private final boolean singleConsumer;
+    private final WaitStrategy waitStrategy;
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLongArray indexes = new AtomicLongArray(CONSUMER + 16);
+
+    public RingBufferBlockingQueue(int capacity) {
+        this(capacity, false, WaitStrategies.PARK);
+    }
+
+    public RingBufferBlockingQueue(int capacity, boolean singleConsumer, WaitStrategy waitStrategy) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be positive, was: " + capacity);
+        }
+        if (capacity > 1 << 30) {
+            throw new IllegalArgumentException("Capacity must be at most 2^30, was: " + capacity);
+        }
+        this.capacity = capacity == 1 ? 1 : Integer.highestOneBit(capacity - 1) << 1;
+        this.mask = this.capacity - 1;
+        this.singleConsumer = singleConsumer;
+        this.waitStrategy = Objects.requireNonNull(waitStrategy, "waitStrategy");
+        this.buffer = new AtomicReferenceArray<>(this.capacity);
+        this.sequences = new AtomicLongArray(this.capacity);
+        for (int i = 0; i < this.capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isSingleConsumer() {
+        return singleConsumer;
+    }
+
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    @Override
+    public boolean offer(E e) {
+        Objects.requireNonNull(e);
+        long pos = indexes.get(PRODUCER);
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - pos;
+            if (diff == 0) {
+                // the slot is free so try to claim it
+                if (indexes.compareAndSet(PRODUCER, pos, pos + 1)) {
+                    buffer.lazySet(index, e);
+                    // publish the element to the consumers
+                    sequences.lazySet(index, pos + 1);
+                    return true;
+                }
+                pos = indexes.get(PRODUCER);
+            } else if (diff < 0) {
+                // the slot has not been taken yet since the previous lap, so we are full
+                return false;
+            } else {
+                // another producer claimed the slot
+                pos = indexes.get(PRODUCER);
+            }
+        }
+    }
+
+    @Override
+    public E poll() {
+        if (singleConsumer) {
+            while (true) {
+                long pos = indexes.get(CONSUMER);
+                int index = (int) pos & mask;
+                if (sequences.get(index) != pos + 1) {
+                    return null;
+                }
+                E e = take(index, pos);
+                if (e != null) {
+                    return e;
+                }
+                // the element was removed so take the next
+            }
+        }
+
+        long pos = indexes.get(CONSUMER);
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff == 0) {
+                // the slot has been published so try to claim it
+                if (indexes.compareAndSet(CONSUMER, pos, pos + 1)) {
+                    E e = take(index, pos);
+                    if (e != null) {
+                        return e;
+                    }
+                    // the element was removed so take the next
+                }
+                pos = indexes.get(CONSUMER);
+            } else if (diff < 0) {
+                // the slot has not been published, so we are empty
+                return null;
+            } else {
+                // another consumer claimed the slot
+                pos = indexes.get(CONSUMER);
+            }
+        }
+    }
+
+    private E take(int index, long pos) {
+        // the element may be removed concurrently, so it must be taken atomically
+        E e = buffer.getAndSet(index, null);
+        if (singleConsumer) {
+            indexes.lazySet(CONSUMER, pos + 1);
+        }
+        // free the slot for the producers in the next lap
+        sequences.lazySet(index, pos + capacity);
+        return e;
+    }
+
+    @Override
+    public E peek() {
+        long pos = indexes.get(CONSUMER);
+        while (true) {
+            int index = (int) pos & mask;
+            long diff = sequences.get(index) - (pos + 1);
+            if (diff < 0) {
+                // the slot has not been published, so we are empty
+                return null;
+            } else if (diff == 0) {
+                E e = buffer.get(index);
+                if (e != null) {
+                    return e;
+                }
+                // the element was removed or taken meanwhile so look at the next
+                pos++;
+            } else {
+                // the element was taken meanwhile so look at the current consumer index
+                pos = Math.max(pos + 1, indexes.get(CONSUMER));
+            }
+        }
+    }
+
+    @Override
+    public void put(E e) throws InterruptedException {
+        int idle = 0;
+        while (!offer(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            idle = waitStrategy.idle(idle);
+        }
+    }
+
+    @Override
+    public boolean offer(E e, long timeout, TimeUnit unit) throws InterruptedException {
+        if (offer(e)) {
+            return true;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idle = 0;
+        while (!offer(e)) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return false;
+            }
+            idle = waitStrategy.idle(idle);
+        }
+        return true;
+    }
+
+    @Override
+    public E take() throws InterruptedException {
+        int idle = 0;
+        E e;
+        while ((e = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            idle = waitStrategy.idle(idle);
+        }
+        return e;
+    }
+
+    @Override
+    public E poll(long timeout, TimeUnit unit) throws InterruptedException {
+        E e = poll();
+        if (e != null) {
+            return e;
+        }
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        int idle = 0;
+        while ((e = poll()) == null) {
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            if (deadline - System.nanoTime() <= 0) {
+                return null;
+            }
+            idle = waitStrategy.idle(idle);
+        }
+        return e;
+    }
+
+    @Override
+    public int remainingCapacity() {
+        return capacity - size();
+    }
+
+    @Override
+    public int size() {
+        // read the consumer index first so the size is never negative
+        long consumer = indexes.get(CONSUMER);
+        long producer = indexes.get(PRODUCER);
+        long size = producer - consumer;
+        return (int) Math.max(0, Math.min(size, capacity));
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return indexes.get(PRODUCER) == indexes.get(CONSUMER);
+    }
+
+    /**
+     * Removes a single instance of the given element from the queue, if present.
+     * <p/>
+     * The element is cleared from its slot in the ring buffer, and the slot is skipped by the consumers. The slot is
+     * counted by {@link #size()} until the consumers have passed it.
+     */
+    @Override
+    public boolean remove(Object o) {
+        if (o == null) {
+            return false;
+        }
+        long consumer = indexes.get(CONSUMER);
+        long producer = indexes.get(PRODUCER);
+        for (long pos = consumer; pos < producer && pos < consumer + capacity; pos++) {
+            int index = (int) pos & mask;
+            E e = buffer.get(index);
+            // the element must still be published in this lap, and not be taken by a consumer meanwhile
+            if (e != null && sequences.get(index) == pos + 1 && o.equals(e) && buffer.compareAndSet(index, e, null)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c) {
+        return drainTo(c, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public int drainTo(Collection<? super E> c, int maxElements) {
+        Objects.requireNonNull(c);
+        if (c == this) {
+            throw new IllegalArgumentException("Cannot drain to itself");
+        }
+        int n = 0;
+        E e;
+        while (n < maxElements && (e = poll()) != null) {
+            c.add(e);
+            n++;
+        }
+        return n;
+    }
+
+    /**
+     * Returns a weakly consistent iterator over a snapshot of the elements in the queue, which does not support
+     * removal.
+     */
+    @Override
+    public Iterator<E> iterator() {
+        List<E> answer = new ArrayList<>();
+        long consumer = indexes.get(CONSUMER);
+        long producer = indexes.get(PRODUCER);
+        for (long pos = consumer; pos < producer && pos < consumer + capacity; pos++) {
+            int index = (int) pos & mask;
+            if (sequences.get(index) == pos + 1) {
+                E e = buffer.get(index);
+                if (e != null) {
+                    answer.add(e);
+                }
+            }
+        }
+        return Collections.unmodifiableList(answer).iterator();
+    }
+
+    @Override
+    public String toString() {
+        return "RingBufferBlockingQueue[capacity=" + capacity + ", size=" + size() + ", singleConsumer=" + singleConsumer
+               + "]";
+    }
+}
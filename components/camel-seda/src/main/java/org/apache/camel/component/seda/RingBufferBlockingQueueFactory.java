@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.Locale;
+
+import org.apache.camel.component.seda.RingBufferBlockingQueue.WaitStrategies;
+import org.apache.camel.component.seda.RingBufferBlockingQueue.WaitStrategy;
+
+/**
+ * Implementation of {@link BlockingQueueFactory} producing the lock-free {@link RingBufferBlockingQueue}
+ */
+public class RingBufferBlockingQueueFactory<E> implements BlockingQueueFactory<E> {
+
+    /**
+     * Capacity used when none provided
+     */
+    private int defaultCapacity = SedaConstants.QUEUE_SIZE;
+
+    /**
+     * Whether only a single consumer takes from the queue (MPSC)
+     */
+    private boolean singleConsumer;
+
+    /**
+     * How to wait when the queue is empty or full
+     */
+    private WaitStrategy waitStrategy = WaitStrategies.PARK;
+
+    /**
+     * @return Default capacity
+     */
+    public int getDefaultCapacity() {
+        return defaultCapacity;
+    }
+
+    /**
+     * @param defaultCapacity Default capacity (is rounded up to the next power of two)
+     */
+    public void setDefaultCapacity(int defaultCapacity) {
+        this.defaultCapacity = defaultCapacity;
+    }
+
+    /**
+     * @return Whether only a single consumer takes from the queue
+     */
+    public boolean isSingleConsumer() {
+        return singleConsumer;
+    }
+
+    /**
+     * @param singleConsumer Whether only a single consumer takes from the queue (MPSC). This is only safe to use when
+     *                       the SEDA endpoint has a single consumer (concurrentConsumers=1), and the queue is not
+     *                       purged or polled by other threads.
+     */
+    public void setSingleConsumer(boolean singleConsumer) {
+        this.singleConsumer = singleConsumer;
+    }
+
+    /**
+     * @return Wait strategy
+     */
+    public WaitStrategy getWaitStrategy() {
+        return waitStrategy;
+    }
+
+    /**
+     * @param waitStrategy How to wait when the queue is empty or full, such as spin, yield or park (default)
+     */
+    public void setWaitStrategy(WaitStrategy waitStrategy) {
+        this.waitStrategy = waitStrategy;
+    }
+
+    /**
+     * @param waitStrategy Name of the standard wait strategy to use: spin, yield or park (default)
+     */
+    public void setWaitStrategyName(String waitStrategy) {
+        this.waitStrategy = WaitStrategies.valueOf(waitStrategy.toUpperCase(Locale.ENGLISH));
+    }
+
+    @Override
+    public RingBufferBlockingQueue<E> create() {
+        return create(defaultCapacity);
+    }
+
+    @Override
+    public RingBufferBlockingQueue<E> create(int capacity) {
+        return new RingBufferBlockingQueue<>(capacity, singleConsumer, waitStrategy);
+    }
+}
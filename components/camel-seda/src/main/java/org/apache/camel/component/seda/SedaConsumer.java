@@ -16,6 +16,7 @@
  */
 package org.apache.camel.component.seda;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.BlockingQueue;
 import java.util.concurrent.CountDownLatch;
@@ -23,8 +24,10 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 
+import org.apache.camel.AsyncCallback;
 import org.apache.camel.AsyncProcessor;
 import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.Processor;
 import org.apache.camel.ShutdownRunningTask;
@@ -50,15 +53,23 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
     private static final Logger LOG = LoggerFactory.getLogger(SedaConsumer.class);
 
     private final AtomicInteger taskCount = new AtomicInteger();
+    // the exchanges that have been taken from the queue in a batch, but are not yet done
+    private final AtomicInteger pendingBatchExchanges = new AtomicInteger();
     private volatile CountDownLatch latch;
     private volatile boolean shutdownPending;
     private volatile boolean forceShutdown;
     private ExecutorService executor;
     private final int pollTimeout;
+    private final int batchSize;
+    private final int batchTimeout;
+    private final boolean batchGrouped;
 
     public SedaConsumer(SedaEndpoint endpoint, Processor processor) {
         super(endpoint, processor);
         this.pollTimeout = endpoint.getPollTimeout();
+        this.batchSize = endpoint.getBatchSize();
+        this.batchTimeout = endpoint.getBatchTimeout();
+        this.batchGrouped = endpoint.isBatchGrouped();
     }
 
     @Override
@@ -80,7 +91,7 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         if (getEndpoint().isPurgeWhenStopping()) {
             getEndpoint().purgeQueue();
         }
-        return getEndpoint().getQueue().size();
+        return getEndpoint().getQueue().size() + pendingBatchExchanges.get();
     }
 
     @Override
@@ -180,20 +191,12 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
                             exchange);
                 }
                 if (exchange != null) {
-                    try {
-                        // prepare the exchange before sending to consumer
-                        Exchange newExchange = prepareExchange(exchange);
-                        // process the exchange
-                        sendToConsumers(newExchange);
-                        // copy result back
-                        ExchangeHelper.copyResults(exchange, newExchange);
-                        // log exception if an exception occurred and was not handled
-                        if (exchange.getException() != null) {
-                            getExceptionHandler().handleException("Error processing exchange", exchange,
-                                    exchange.getException());
-                        }
-                    } catch (Exception e) {
-                        getExceptionHandler().handleException("Error processing exchange", exchange, e);
+                    if (batchSize > 1) {
+                        // take more exchanges from the queue while we are awake
+                        List<Exchange> batch = pollBatch(queue, exchange);
+                        processBatch(batch);
+                    } else {
+                        processExchange(exchange);
                     }
                 } else if (shutdownPending && queue.isEmpty()) {
                     LOG.trace("Shutdown is pending, so this consumer thread is breaking out because the task queue is empty.");
@@ -213,6 +216,139 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
         }
     }
 
+    /**
+     * Takes more exchanges from the queue to fill up a batch with the given first exchange.
+     * <p/>
+     * The exchanges that are on the queue are drained in one go. If the batch is not full then the consumer waits up
+     * till the batch timeout for more exchanges to arrive.
+     *
+     * @param  queue the queue
+     * @param  first the first exchange that was polled from the queue
+     * @return       the batch of exchanges (at least one exchange)
+     */
+    protected List<Exchange> pollBatch(BlockingQueue<Exchange> queue, Exchange first) {
+        List<Exchange> batch = new ArrayList<>(batchSize);
+        batch.add(first);
+        queue.drainTo(batch, batchSize - 1);
+
+        if (batch.size() < batchSize && batchTimeout > 0) {
+            long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(batchTimeout);
+            long remaining = deadline - System.nanoTime();
+            // do not keep waiting for a partial batch if we are stopping
+            while (batch.size() < batchSize && remaining > 0 && !shutdownPending && isRunAllowed()) {
+                try {
+                    Exchange next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                } catch (InterruptedException e) {
+                    LOG.debug("Sleep interrupted, are we stopping? {}", isStopping() || isStopped());
+                    break;
+                }
+                remaining = deadline - System.nanoTime();
+            }
+        }
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Polled batch of {} exchanges from queue {}", batch.size(), ObjectHelper.getIdentityHashCode(queue));
+        }
+        return batch;
+    }
+
+    /**
+     * Processes the batch of exchanges, either one by one or as a single grouped exchange.
+     *
+     * @param batch the batch of exchanges
+     */
+    protected void processBatch(List<Exchange> batch) {
+        if (batchGrouped) {
+            processGroupedExchange(batch);
+        } else {
+            int total = batch.size();
+            pendingBatchExchanges.addAndGet(total);
+            for (int index = 0; index < total; index++) {
+                Exchange exchange = batch.get(index);
+                exchange.setProperty(ExchangePropertyKey.BATCH_INDEX, index);
+                exchange.setProperty(ExchangePropertyKey.BATCH_SIZE, total);
+                exchange.setProperty(ExchangePropertyKey.BATCH_COMPLETE, index == total - 1);
+                try {
+                    processExchange(exchange);
+                } finally {
+                    pendingBatchExchanges.decrementAndGet();
+                }
+            }
+        }
+    }
+
+    /**
+     * Processes the given exchange that was taken from the queue.
+     *
+     * @param exchange the exchange
+     */
+    protected void processExchange(Exchange exchange) {
+        try {
+            // prepare the exchange before sending to consumer
+            Exchange newExchange = prepareExchange(exchange);
+            // process the exchange
+            sendToConsumers(newExchange);
+            // copy result back
+            ExchangeHelper.copyResults(exchange, newExchange);
+            // log exception if an exception occurred and was not handled
+            if (exchange.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", exchange,
+                        exchange.getException());
+            }
+        } catch (Exception e) {
+            getExceptionHandler().handleException("Error processing exchange", exchange, e);
+        }
+    }
+
+    /**
+     * Processes the batch of exchanges as a single exchange, where the message body is the list of the exchanges.
+     * <p/>
+     * The exchanges from the batch are not routed, so their on completions are done when the grouped exchange is done,
+     * and if the grouped exchange failed then the exception is set on each of the exchanges. As the grouped exchange
+     * may continue to be routed asynchronously, this happens in the callback of the grouped exchange.
+     *
+     * @param batch the batch of exchanges
+     */
+    protected void processGroupedExchange(List<Exchange> batch) {
+        Exchange grouped = createExchange(false);
+        grouped.getMessage().setBody(batch);
+        grouped.setProperty(ExchangePropertyKey.BATCH_SIZE, batch.size());
+        pendingBatchExchanges.addAndGet(batch.size());
+        try {
+            // prepare the exchange before sending to consumer
+            prepareExchange(grouped);
+            // process the exchange
+            sendToConsumers(grouped, doneSync -> onGroupedExchangeDone(grouped, batch));
+        } catch (Exception e) {
+            grouped.setException(e);
+            onGroupedExchangeDone(grouped, batch);
+        }
+    }
+
+    private void onGroupedExchangeDone(Exchange grouped, List<Exchange> batch) {
+        try {
+            // log exception if an exception occurred and was not handled
+            if (grouped.getException() != null) {
+                getExceptionHandler().handleException("Error processing exchange", grouped, grouped.getException());
+            }
+            for (Exchange exchange : batch) {
+                if (grouped.getException() != null && exchange.getException() == null) {
+                    exchange.setException(grouped.getException());
+                }
+                List<Synchronization> completions = exchange.adapt(ExtendedExchange.class).handoverCompletions();
+                UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+            }
+        } finally {
+            pendingBatchExchanges.addAndGet(-batch.size());
+            releaseExchange(grouped, false);
+        }
+    }
+
     /**
      * Strategy to prepare exchange for being processed by this consumer
      *
@@ -239,6 +375,18 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
      * @throws Exception can be thrown if processing of the exchange failed
      */
     protected void sendToConsumers(final Exchange exchange) throws Exception {
+        sendToConsumers(exchange, EmptyAsyncCallback.get());
+    }
+
+    /**
+     * Send the given {@link Exchange} to the consumer(s), and calls the callback when the exchange is done.
+     *
+     * @param  exchange  the exchange
+     * @param  callback  the callback that is called when the exchange is done
+     * @throws Exception can be thrown if processing of the exchange failed
+     * @see              #sendToConsumers(Exchange)
+     */
+    protected void sendToConsumers(final Exchange exchange, final AsyncCallback callback) throws Exception {
         // validate multiple consumers has been enabled
         int size = getEndpoint().getConsumers().size();
         if (size > 1 && !getEndpoint().isMultipleConsumersSupported()) {
@@ -263,10 +411,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
             mp.process(exchange, doneSync -> {
                 // done the uow on the completions
                 UnitOfWorkHelper.doneSynchronizations(exchange, completions, LOG);
+                callback.done(doneSync);
             });
         } else {
             // use the regular processor and use the asynchronous routing engine to support it
-            getAsyncProcessor().process(exchange, EmptyAsyncCallback.get());
+            getAsyncProcessor().process(exchange, callback);
         }
     }
 
@@ -331,7 +480,11 @@ public class SedaConsumer extends DefaultConsumer implements Runnable, ShutdownA
 
         // submit needed number of tasks
         int tasks = poolSize - taskCount.get();
-        LOG.debug("Creating {} consumer tasks with poll timeout {} ms.", tasks, pollTimeout);
+        if (batchSize > 1) {
+            LOG.debug("Creating {} consumer tasks with poll timeout {} ms and batch size {}.", tasks, pollTimeout, batchSize);
+        } else {
+            LOG.debug("Creating {} consumer tasks with poll timeout {} ms.", tasks, pollTimeout);
+        }
         for (int i = 0; i < tasks; i++) {
             executor.execute(this);
         }
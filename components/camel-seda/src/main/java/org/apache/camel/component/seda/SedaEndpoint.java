@@ -84,6 +84,12 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
     private boolean purgeWhenStopping;
     @UriParam(label = "consumer,advanced", defaultValue = "1000")
     private int pollTimeout = 1000;
+    @UriParam(label = "consumer,advanced")
+    private int batchSize;
+    @UriParam(label = "consumer,advanced")
+    private int batchTimeout;
+    @UriParam(label = "consumer,advanced")
+    private boolean batchGrouped;
 
     @UriParam(label = "producer", defaultValue = "IfReplyExpected")
     private WaitForTaskToComplete waitForTaskToComplete = WaitForTaskToComplete.IfReplyExpected;
@@ -158,6 +164,15 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
             }
         }
 
+        // a single consumer ring buffer must only be taken from by one thread
+        BlockingQueue<Exchange> consumerQueue = getQueue();
+        if ((concurrentConsumers > 1 || isMultipleConsumers()) && consumerQueue instanceof RingBufferBlockingQueue
+                && ((RingBufferBlockingQueue<Exchange>) consumerQueue).isSingleConsumer()) {
+            throw new IllegalArgumentException(
+                    "Cannot use a single consumer RingBufferBlockingQueue with concurrentConsumers=" + concurrentConsumers
+                                               + " and multipleConsumers=" + isMultipleConsumers());
+        }
+
         Consumer answer = createNewConsumer(processor);
         configureConsumer(answer);
         return answer;
@@ -453,6 +468,49 @@ public class SedaEndpoint extends DefaultEndpoint implements AsyncEndpoint, Brow
         this.purgeWhenStopping = purgeWhenStopping;
     }
 
+    @ManagedAttribute
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    /**
+     * To let the consumer take up to this number of exchanges from the queue in one go, instead of one exchange at a
+     * time. This reduces the number of handovers from the queue (and thereby context switches) when the queue holds
+     * many messages. The exchanges are routed one by one, unless batchGrouped is enabled. Exchanges are only taken in
+     * batches when the value is greater than 1.
+     */
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    @ManagedAttribute
+    public int getBatchTimeout() {
+        return batchTimeout;
+    }
+
+    /**
+     * The maximum time (in milliseconds) the consumer waits for more exchanges to arrive on the queue to fill up a
+     * partial batch. By default, the consumer does not wait, and processes the exchanges that were on the queue. This
+     * option is only in use when batchSize is greater than 1.
+     */
+    public void setBatchTimeout(int batchTimeout) {
+        this.batchTimeout = batchTimeout;
+    }
+
+    @ManagedAttribute
+    public boolean isBatchGrouped() {
+        return batchGrouped;
+    }
+
+    /**
+     * Whether to route a batch of exchanges as a single grouped exchange, where the message body is a java.util.List
+     * with the exchanges taken from the queue. Otherwise, the exchanges in the batch are routed one by one. This option
+     * is only in use when batchSize is greater than 1.
+     */
+    public void setBatchGrouped(boolean batchGrouped) {
+        this.batchGrouped = batchGrouped;
+    }
+
     /**
      * Returns the current pending exchanges
      */
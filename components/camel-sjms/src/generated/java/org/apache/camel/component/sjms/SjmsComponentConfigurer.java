@@ -45,6 +45,8 @@ public class SjmsComponentConfigurer extends PropertyConfigurerSupport implement
         case "replyToOnTimeoutMaxConcurrentConsumers": target.setReplyToOnTimeoutMaxConcurrentConsumers(property(camelContext, int.class, value)); return true;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": target.setRequestTimeoutCheckerInterval(property(camelContext, java.time.Duration.class, value).toMillis()); return true;
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": target.setRequestTimeoutTimingWheel(property(camelContext, boolean.class, value)); return true;
         default: return false;
         }
     }
@@ -81,6 +83,8 @@ public class SjmsComponentConfigurer extends PropertyConfigurerSupport implement
         case "replyToOnTimeoutMaxConcurrentConsumers": return int.class;
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return long.class;
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": return boolean.class;
         default: return null;
         }
     }
@@ -113,6 +117,8 @@ public class SjmsComponentConfigurer extends PropertyConfigurerSupport implement
         case "replyToOnTimeoutMaxConcurrentConsumers": return target.getReplyToOnTimeoutMaxConcurrentConsumers();
         case "requesttimeoutcheckerinterval":
         case "requestTimeoutCheckerInterval": return target.getRequestTimeoutCheckerInterval();
+        case "requesttimeouttimingwheel":
+        case "requestTimeoutTimingWheel": return target.isRequestTimeoutTimingWheel();
         default: return null;
         }
     }
@@ -68,6 +68,12 @@ public class SjmsComponent extends HeaderFilterStrategyComponent {
                             + " By default Camel checks once per second. But if you must react faster when a timeout occurs,"
                             + " then you can lower this interval, to check more frequently. The timeout is determined by the option requestTimeout.")
     private long requestTimeoutCheckerInterval = 1000L;
+    @Metadata(label = "advanced",
+              description = "Whether to use a timing wheel to keep track of timed out Exchanges when doing request/reply over JMS."
+                            + " The timeout checker then only visits the Exchanges that are due, instead of all the pending Exchanges,"
+                            + " which is faster when there are many pending replies."
+                            + " Each tick of the timing wheel is the requestTimeoutCheckerInterval.")
+    private boolean requestTimeoutTimingWheel;
     @Metadata(label = "advanced", defaultValue = "1",
               description = "Specifies the maximum number of concurrent consumers for continue routing when timeout occurred when using request/reply over JMS.")
     private int replyToOnTimeoutMaxConcurrentConsumers = 1;
@@ -208,6 +214,14 @@ public class SjmsComponent extends HeaderFilterStrategyComponent {
         this.requestTimeoutCheckerInterval = requestTimeoutCheckerInterval;
     }
 
+    public boolean isRequestTimeoutTimingWheel() {
+        return requestTimeoutTimingWheel;
+    }
+
+    public void setRequestTimeoutTimingWheel(boolean requestTimeoutTimingWheel) {
+        this.requestTimeoutTimingWheel = requestTimeoutTimingWheel;
+    }
+
     public int getReplyToOnTimeoutMaxConcurrentConsumers() {
         return replyToOnTimeoutMaxConcurrentConsumers;
     }
@@ -20,7 +20,13 @@ import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.BiConsumer;
 
+import org.apache.camel.TimeoutMap;
 import org.apache.camel.support.DefaultTimeoutMap;
+import org.apache.camel.support.TimingWheelTimeoutMap;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 import static org.apache.camel.TimeoutMap.Listener.Type.*;
 
@@ -28,18 +34,30 @@ import static org.apache.camel.TimeoutMap.Listener.Type.*;
  * A {@link org.apache.camel.TimeoutMap} which is used to track reply messages which has been timed out, and thus should
  * trigger the waiting {@link org.apache.camel.Exchange} to timeout as well. Zero (or negative) timeout means infinite
  * but is actually encoded as {@link Integer#MAX_VALUE} which is 24 days.
+ * <p/>
+ * The timeouts are kept in either a {@link DefaultTimeoutMap} or a {@link TimingWheelTimeoutMap}.
  */
-class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
+class CorrelationTimeoutMap extends ServiceSupport implements TimeoutMap<String, ReplyHandler> {
 
+    private static final Logger LOG = LoggerFactory.getLogger(CorrelationTimeoutMap.class);
+
+    private final TimeoutMap<String, ReplyHandler> delegate;
     private final BiConsumer<ReplyHandler, String> evictionTask;
 
     CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService) {
-        super(executor, requestMapPollTimeMillis);
+        this(executor, requestMapPollTimeMillis, executorService, false);
+    }
+
+    CorrelationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, ExecutorService executorService,
+                          boolean timingWheel) {
+        delegate = timingWheel
+                ? new TimingWheelTimeoutMap<>(executor, requestMapPollTimeMillis)
+                : new DefaultTimeoutMap<>(executor, requestMapPollTimeMillis);
         // Support synchronous or asynchronous handling of evictions
         evictionTask = executorService == null
                 ? ReplyHandler::onTimeout
                 : (handler, key) -> executorService.submit(() -> handler.onTimeout(key));
-        addListener(this::listener);
+        delegate.addListener(this::listener);
     }
 
     private static long encode(long timeoutMillis) {
@@ -48,23 +66,53 @@ class CorrelationTimeoutMap extends DefaultTimeoutMap<String, ReplyHandler> {
 
     private void listener(Listener.Type type, String key, ReplyHandler handler) {
         if (type == Put) {
-            log.trace("Added correlationID: {}", key);
+            LOG.trace("Added correlationID: {}", key);
         } else if (type == Remove) {
-            log.trace("Removed correlationID: {}", key);
+            LOG.trace("Removed correlationID: {}", key);
         } else if (type == Evict) {
             evictionTask.accept(handler, key);
-            log.trace("Evicted correlationID: {}", key);
+            LOG.trace("Evicted correlationID: {}", key);
         }
     }
 
+    @Override
+    public ReplyHandler get(String key) {
+        return delegate.get(key);
+    }
+
+    @Override
+    public int size() {
+        return delegate.size();
+    }
+
     @Override
     public ReplyHandler put(String key, ReplyHandler value, long timeoutMillis) {
-        return super.put(key, value, encode(timeoutMillis));
+        return delegate.put(key, value, encode(timeoutMillis));
     }
 
     @Override
     public ReplyHandler putIfAbsent(String key, ReplyHandler value, long timeoutMillis) {
-        return super.putIfAbsent(key, value, encode(timeoutMillis));
+        return delegate.putIfAbsent(key, value, encode(timeoutMillis));
+    }
+
+    @Override
+    public ReplyHandler remove(String key) {
+        return delegate.remove(key);
+    }
+
+    @Override
+    public void addListener(Listener<String, ReplyHandler> listener) {
+        delegate.addListener(listener);
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ServiceHelper.startService(delegate);
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(delegate);
     }
 
 }
@@ -209,7 +209,8 @@ public abstract class ReplyManagerSupport extends ServiceSupport implements Repl
         // when doing request/reply over JMS
         log.trace("Using timeout checker interval with {} millis", endpoint.getComponent().getRequestTimeoutCheckerInterval());
         correlation = new CorrelationTimeoutMap(
-                scheduledExecutorService, endpoint.getComponent().getRequestTimeoutCheckerInterval(), executorService);
+                scheduledExecutorService, endpoint.getComponent().getRequestTimeoutCheckerInterval(), executorService,
+                endpoint.getComponent().isRequestTimeoutTimingWheel());
         ServiceHelper.startService(correlation);
 
         // create JMS listener and start it
@@ -231,6 +231,7 @@ public interface Exchange {
     String SCHEDULER_POLLED_MESSAGES = "CamelSchedulerPolledMessages";
     @Deprecated
     String SOAP_ACTION = "CamelSoapAction";
+    String SIMPLE_COMPILE_THRESHOLD = "CamelSimpleCompileThreshold";
     String SKIP_GZIP_ENCODING = "CamelSkipGzipEncoding";
     String SKIP_WWW_FORM_URLENCODED = "CamelSkipWwwFormUrlEncoding";
     String SLIP_ENDPOINT = "CamelSlipEndpoint";
@@ -30,6 +30,7 @@ import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
 import org.apache.camel.spi.BootstrapCloseable;
+import org.apache.camel.spi.ByteArrayPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelDependencyInjectionAnnotationFactory;
 import org.apache.camel.spi.CliConnectorFactory;
@@ -676,6 +677,16 @@ public interface ExtendedCamelContext extends CamelContext {
      */
     void setReactiveExecutor(ReactiveExecutor reactiveExecutor);
 
+    /**
+     * Gets the {@link ByteArrayPool} to use.
+     */
+    ByteArrayPool getByteArrayPool();
+
+    /**
+     * Sets a custom {@link ByteArrayPool} to be used.
+     */
+    void setByteArrayPool(ByteArrayPool byteArrayPool);
+
     /**
      * Whether exchange event notification is applicable (possible). This API is used internally in Camel as
      * optimization.
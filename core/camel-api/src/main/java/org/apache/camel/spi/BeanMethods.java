@@ -0,0 +1,47 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+import java.lang.reflect.Method;
+
+/**
+ * The methods of a bean class which are candidates for bean invocation, so the bean component does not have to
+ * introspect the class and its super types using reflection.
+ * <p>
+ * Camel provides source code generated implementations via the camel maven tooling, for beans using the Camel bean
+ * parameter binding annotations such as {@link org.apache.camel.Handler} and {@link org.apache.camel.Body}. They are
+ * only generated when no method name is declared by more than one type of the class hierarchy, so the methods do not
+ * override each other and their parameter annotations are all declared on the methods themselves.
+ */
+public interface BeanMethods {
+
+    /**
+     * Service factory base path for the source code generated bean methods, where the key is the name of the bean
+     * class.
+     */
+    String FACTORY = "bean-methods";
+
+    /**
+     * The methods declared by the bean class and its super types (apart from {@link Object}), excluding bridge and
+     * private methods.
+     *
+     * @return                       the methods in the order they should be introspected
+     * @throws NoSuchMethodException is thrown if a method no longer exists, such as the bean class has been changed
+     *                               since the methods were generated
+     */
+    Method[] getMethods() throws NoSuchMethodException;
+}
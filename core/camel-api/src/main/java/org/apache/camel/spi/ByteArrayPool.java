@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.spi;
+
+/**
+ * SPI for a pool of byte arrays, which are used as transient buffers when copying streams, such as by stream caching
+ * and the type converters.
+ * <p/>
+ * Buffers acquired from the pool must be released back to the pool when no longer in use, and must not be used
+ * afterwards, nor escape to message bodies or stream caches.
+ */
+public interface ByteArrayPool {
+
+    /**
+     * Service factory key.
+     */
+    String FACTORY = "byte-array-pool";
+
+    /**
+     * Utilization statistics of the pool.
+     */
+    interface Statistics {
+
+        /**
+         * Number of buffers acquired from the pool (reused).
+         */
+        long getHitCounter();
+
+        /**
+         * Number of buffers created as the pool had no buffer of the requested size.
+         */
+        long getMissCounter();
+
+        /**
+         * Number of buffers released back to the pool.
+         */
+        long getReleasedCounter();
+
+        /**
+         * Number of buffers discarded (thrown away) such as if no space in the pool, or the buffer is too big.
+         */
+        long getDiscardedCounter();
+
+        /**
+         * Reset the counters
+         */
+        void reset();
+
+    }
+
+    /**
+     * Acquires a buffer from the pool, or creates a new buffer if the pool has no buffer of the requested size.
+     *
+     * @param  minSize the minimum size of the buffer
+     * @return         the buffer, which may be bigger than the requested size
+     */
+    byte[] acquire(int minSize);
+
+    /**
+     * Releases the buffer back to the pool.
+     *
+     * @param buffer the buffer (<tt>null</tt> is ignored)
+     */
+    void release(byte[] buffer);
+
+    /**
+     * The maximum size of the buffers kept in the pool. Bigger buffers are created on demand and discarded on release.
+     */
+    int getMaxBufferSize();
+
+    /**
+     * Purges the buffers kept in the pool.
+     */
+    void purge();
+
+    /**
+     * Gets the usage statistics
+     */
+    Statistics getStatistics();
+
+}
@@ -73,4 +73,34 @@ public interface ReactiveExecutor {
      */
     boolean isStatisticsEnabled();
 
+    /**
+     * Number of workers which are currently running tasks (if supported by the reactive executor implementation)
+     */
+    default int getRunningWorkers() {
+        return 0;
+    }
+
+    /**
+     * Number of tasks which are pending to be executed (if supported by the reactive executor implementation)
+     */
+    default int getPendingTasks() {
+        return 0;
+    }
+
+    /**
+     * Number of tasks which are in the run queues of the workers (if supported by the reactive executor
+     * implementation)
+     */
+    default long getQueuedTasks() {
+        return 0;
+    }
+
+    /**
+     * Number of tasks which have been stolen from the run queue of another worker (if supported by the reactive
+     * executor implementation)
+     */
+    default long getStealCount() {
+        return 0;
+    }
+
 }
@@ -17,6 +17,7 @@
 package org.apache.camel.spi;
 
 import java.io.File;
+import java.nio.ByteBuffer;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StaticService;
@@ -105,6 +106,54 @@ public interface StreamCachingStrategy extends StaticService {
 
     }
 
+    /**
+     * A pool of direct (off-heap) buffers which stream caches are spooled to, before spooling to disk.
+     */
+    interface SpoolBufferPool {
+
+        /**
+         * Gets the size in bytes of each buffer.
+         */
+        int getBufferSize();
+
+        /**
+         * Gets the maximum size in bytes of all the buffers.
+         */
+        long getMaxSize();
+
+        /**
+         * Acquires a buffer from the pool.
+         *
+         * @return the buffer, or <tt>null</tt> if the maximum size of all the buffers has been reached
+         */
+        ByteBuffer acquire();
+
+        /**
+         * Releases the buffer back to the pool.
+         */
+        void release(ByteBuffer buffer);
+
+        /**
+         * Gets the size in bytes of the buffers which are acquired and not yet released.
+         */
+        long getUsedSize();
+
+        /**
+         * Gets the size in bytes of the buffers which are free in the pool.
+         */
+        long getPooledSize();
+
+        /**
+         * Gets the number of buffers acquired.
+         */
+        long getAcquiredCounter();
+
+        /**
+         * Gets the number of times a buffer could not be acquired because the maximum size was reached.
+         */
+        long getExhaustedCounter();
+    }
+
     /**
      * Sets whether the stream caching is enabled.
      * <p/>
@@ -150,6 +199,24 @@ public interface StreamCachingStrategy extends StaticService {
 
     long getSpoolThreshold();
 
+    /**
+     * Sets the maximum size in bytes of direct (off-heap) memory to use for spooling, before spooling to disk. Stream
+     * caches which should be spooled are kept in pooled direct buffers as long as the maximum size is not reached,
+     * which avoids the disk I/O for medium sized streams.
+     * <p/>
+     * The default is <tt>0</tt> which means spooling goes directly to disk.
+     */
+    void setSpoolOffHeapMaxSize(long maxSize);
+
+    long getSpoolOffHeapMaxSize();
+
+    /**
+     * Gets the pool of direct buffers used for spooling off-heap.
+     *
+     * @return the pool, or <tt>null</tt> if spooling off-heap is not in use
+     */
+    SpoolBufferPool getSpoolBufferPool();
+
     /**
      * Sets a percentage (1-99) of used heap memory threshold to activate spooling to disk.
      *
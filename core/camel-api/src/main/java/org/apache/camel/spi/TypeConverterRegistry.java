@@ -60,6 +60,17 @@ public interface TypeConverterRegistry extends StaticService, CamelContextAware
          */
         long getFailedCounter();
 
+        /**
+         * Number of lookups of type converters by super types and interfaces, which have been resolved from the results
+         * of previous lookups
+         */
+        long getLookupCacheHitCounter();
+
+        /**
+         * Number of lookups of type converters by super types and interfaces, which have searched the type converters
+         */
+        long getLookupCacheMissCounter();
+
         /**
          * Reset the counters
          */
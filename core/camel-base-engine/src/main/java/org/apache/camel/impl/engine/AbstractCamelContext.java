@@ -92,6 +92,7 @@ import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
 import org.apache.camel.spi.BootstrapCloseable;
+import org.apache.camel.spi.ByteArrayPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.CamelContextTracker;
@@ -299,6 +300,7 @@ public abstract class AbstractCamelContext extends BaseService
     private volatile ExchangeFactory exchangeFactory;
     private volatile ProcessorExchangeFactory processorExchangeFactory;
     private volatile ReactiveExecutor reactiveExecutor;
+    private volatile ByteArrayPool byteArrayPool;
     private volatile ManagementNameStrategy managementNameStrategy;
     private volatile Registry registry;
     private volatile TypeConverter typeConverter;
@@ -5222,6 +5224,23 @@ public abstract class AbstractCamelContext extends BaseService
         this.reactiveExecutor = doAddService(reactiveExecutor, false);
     }
 
+    @Override
+    public ByteArrayPool getByteArrayPool() {
+        if (byteArrayPool == null) {
+            synchronized (lock) {
+                if (byteArrayPool == null) {
+                    setByteArrayPool(createByteArrayPool());
+                }
+            }
+        }
+        return byteArrayPool;
+    }
+
+    @Override
+    public void setByteArrayPool(ByteArrayPool byteArrayPool) {
+        this.byteArrayPool = doAddService(byteArrayPool);
+    }
+
     @Override
     public DeferServiceFactory getDeferServiceFactory() {
         if (deferServiceFactory == null) {
@@ -5332,6 +5351,8 @@ public abstract class AbstractCamelContext extends BaseService
 
     protected abstract ReactiveExecutor createReactiveExecutor();
 
+    protected abstract ByteArrayPool createByteArrayPool();
+
     protected abstract StreamCachingStrategy createStreamCachingStrategy();
 
     protected abstract TypeConverter createTypeConverter();
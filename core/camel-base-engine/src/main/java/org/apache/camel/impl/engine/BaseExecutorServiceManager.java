@@ -52,6 +52,7 @@ import org.apache.camel.util.concurrent.CamelThreadFactory;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadHelper;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -194,7 +195,12 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         ThreadPoolProfile defaultProfile = getDefaultThreadPoolProfile();
         profile.addDefaults(defaultProfile);
 
-        ThreadFactory threadFactory = createThreadFactory(sanitizedName, true);
+        ThreadFactory threadFactory;
+        if (Boolean.TRUE.equals(profile.getVirtualThreads()) && VirtualThreadHelper.isVirtualThreadsSupported()) {
+            threadFactory = createVirtualThreadFactory(sanitizedName);
+        } else {
+            threadFactory = createThreadFactory(sanitizedName, true);
+        }
         ExecutorService executorService = threadPoolFactory.newThreadPool(profile, threadFactory);
         onThreadPoolCreated(executorService, source, profile.getId());
         if (LOG.isDebugEnabled()) {
@@ -587,4 +593,8 @@ public class BaseExecutorServiceManager extends ServiceSupport implements Execut
         return new CamelThreadFactory(threadNamePattern, name, isDaemon);
     }
 
+    protected ThreadFactory createVirtualThreadFactory(String name) {
+        return new CamelThreadFactory(threadNamePattern, name, true, true);
+    }
+
 }
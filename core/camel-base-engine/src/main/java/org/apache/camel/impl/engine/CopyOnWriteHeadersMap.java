@@ -0,0 +1,342 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.AbstractCollection;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.camel.util.CaseInsensitiveMap;
+
+/**
+ * A case insensitive map for headers, where a {@link #copy()} shares the storage with the map it is copied from. The
+ * storage is copied when either map is changed while the storage is shared, so the maps do not affect each other.
+ * <p/>
+ * The storage is a {@link CaseInsensitiveMap}. The maps are not thread safe, as with the {@link CaseInsensitiveMap},
+ * however maps which share the storage can be used by different threads as the shared storage is never changed.
+ */
+public class CopyOnWriteHeadersMap extends AbstractMap<String, Object> {
+
+    private Map<String, Object> map;
+    // whether the storage may be shared with other maps (not reset when the other maps stop sharing it)
+    private boolean shared;
+    private EntrySet entrySet;
+    private KeySet keySet;
+    private Values values;
+
+    public CopyOnWriteHeadersMap() {
+        this.map = new CaseInsensitiveMap();
+    }
+
+    public CopyOnWriteHeadersMap(Map<? extends String, ?> map) {
+        this.map = new CaseInsensitiveMap(map);
+    }
+
+    private CopyOnWriteHeadersMap(Map<String, Object> map, boolean shared) {
+        this.map = map;
+        this.shared = shared;
+    }
+
+    /**
+     * Creates a copy of this map, which shares the storage with this map until either map is changed.
+     */
+    public CopyOnWriteHeadersMap copy() {
+        if (map.isEmpty()) {
+            return new CopyOnWriteHeadersMap();
+        }
+        shared = true;
+        return new CopyOnWriteHeadersMap(map, true);
+    }
+
+    /**
+     * Whether the storage may be shared with other maps, and is therefore copied on the next change.
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    private Map<String, Object> writable() {
+        if (shared) {
+            map = new CaseInsensitiveMap(map);
+            shared = false;
+        }
+        return map;
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return map.isEmpty();
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return map.containsKey(key);
+    }
+
+    @Override
+    public boolean containsValue(Object value) {
+        return map.containsValue(value);
+    }
+
+    @Override
+    public Object get(Object key) {
+        return map.get(key);
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        return map.getOrDefault(key, defaultValue);
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        return writable().put(key, value);
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> m) {
+        if (!m.isEmpty()) {
+            writable().putAll(m);
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        if (shared && !map.containsKey(key)) {
+            return null;
+        }
+        return writable().remove(key);
+    }
+
+    @Override
+    public void clear() {
+        if (shared) {
+            // no need to copy the storage when it is cleared
+            map = new CaseInsensitiveMap();
+            shared = false;
+        } else {
+            map.clear();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    @Override
+    public Set<String> keySet() {
+        if (keySet == null) {
+            keySet = new KeySet();
+        }
+        return keySet;
+    }
+
+    @Override
+    public Collection<Object> values() {
+        if (values == null) {
+            values = new Values();
+        }
+        return values;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (o == this) {
+            return true;
+        }
+        return map.equals(o instanceof CopyOnWriteHeadersMap ? ((CopyOnWriteHeadersMap) o).map : o);
+    }
+
+    @Override
+    public int hashCode() {
+        return map.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return map.toString();
+    }
+
+    /**
+     * Iterates the storage, and changes made by the iterator are copied to the storage of this map first, when the
+     * storage is shared (the iteration continues on the shared storage which is not changed).
+     */
+    private class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private final Map<String, Object> source = map;
+        private final Iterator<Entry<String, Object>> iterator = source.entrySet().iterator();
+        private Entry<String, Object> current;
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            current = iterator.next();
+            return new WriteThroughEntry(current, this);
+        }
+
+        @Override
+        public void remove() {
+            if (isWritable()) {
+                iterator.remove();
+            } else {
+                writable().remove(current.getKey());
+            }
+        }
+
+        boolean isWritable() {
+            return source == map && !shared;
+        }
+    }
+
+    private final class WriteThroughEntry extends SimpleEntry<String, Object> {
+
+        private static final long serialVersionUID = 1L;
+
+        private final transient Entry<String, Object> entry;
+        private final transient EntryIterator iterator;
+
+        WriteThroughEntry(Entry<String, Object> entry, EntryIterator iterator) {
+            super(entry);
+            this.entry = entry;
+            this.iterator = iterator;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            super.setValue(value);
+            if (iterator.isWritable()) {
+                return entry.setValue(value);
+            }
+            return writable().put(getKey(), value);
+        }
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteHeadersMap.this.clear();
+        }
+    }
+
+    private final class KeySet extends AbstractSet<String> {
+
+        @Override
+        public Iterator<String> iterator() {
+            EntryIterator it = new EntryIterator();
+            return new Iterator<String>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public String next() {
+                    return it.next().getKey();
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public boolean contains(Object o) {
+            return map.containsKey(o);
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            boolean answer = map.containsKey(o);
+            CopyOnWriteHeadersMap.this.remove(o);
+            return answer;
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteHeadersMap.this.clear();
+        }
+    }
+
+    private final class Values extends AbstractCollection<Object> {
+
+        @Override
+        public Iterator<Object> iterator() {
+            EntryIterator it = new EntryIterator();
+            return new Iterator<Object>() {
+                @Override
+                public boolean hasNext() {
+                    return it.hasNext();
+                }
+
+                @Override
+                public Object next() {
+                    return it.next().getValue();
+                }
+
+                @Override
+                public void remove() {
+                    it.remove();
+                }
+            };
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        @Override
+        public void clear() {
+            CopyOnWriteHeadersMap.this.clear();
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Map;
+
+import org.apache.camel.spi.HeadersMapFactory;
+
+/**
+ * Copy on write {@link HeadersMapFactory} which uses the {@link CopyOnWriteHeadersMap}, where a copy of the headers
+ * shares the storage with the headers it is copied from, until either of them is changed.
+ * <p/>
+ * This avoids copying the headers when messages are copied but not changed, such as by the multicast, recipient list
+ * and wire tap EIPs. The headers are case insensitive as with the {@link DefaultHeadersMapFactory}.
+ */
+public class CopyOnWriteHeadersMapFactory implements HeadersMapFactory {
+
+    @Override
+    public Map<String, Object> newMap() {
+        return new CopyOnWriteHeadersMap();
+    }
+
+    @Override
+    public Map<String, Object> newMap(Map<String, Object> map) {
+        if (map instanceof CopyOnWriteHeadersMap) {
+            return ((CopyOnWriteHeadersMap) map).copy();
+        }
+        return new CopyOnWriteHeadersMap(map);
+    }
+
+    @Override
+    public boolean isInstanceOf(Map<String, Object> map) {
+        return map instanceof CopyOnWriteHeadersMap;
+    }
+
+    @Override
+    public boolean isCaseInsensitive() {
+        return true;
+    }
+}
@@ -0,0 +1,242 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.Arrays;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.spi.ByteArrayPool;
+import org.apache.camel.support.service.ServiceSupport;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Default {@link ByteArrayPool} which keeps the buffers in size classes of powers of two, from 4kb up to 256kb (the
+ * upper cap of the buffers used by {@link org.apache.camel.util.IOHelper#copy(java.io.InputStream, java.io.OutputStream)
+ * IOHelper.copy}).
+ * <p/>
+ * Each thread caches one buffer of each of the small size classes (up to 16kb), so a thread which copies streams
+ * repeatedly reuses the same buffers without contention, while keeping at most 28kb per thread. The bigger buffers, and
+ * the buffers released when the thread cache is full, are kept in a bounded queue per size class, which is shared by all
+ * threads.
+ */
+public class DefaultByteArrayPool extends ServiceSupport implements ByteArrayPool {
+
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultByteArrayPool.class);
+
+    private static final int MIN_SHIFT = 12;
+    private static final int MAX_SHIFT = 18;
+    private static final int SIZE_CLASSES = MAX_SHIFT - MIN_SHIFT + 1;
+    // only the small size classes are cached per thread, to bound the memory kept by each thread
+    private static final int MAX_THREAD_CACHE_SHIFT = 14;
+    private static final int THREAD_CACHE_CLASSES = MAX_THREAD_CACHE_SHIFT - MIN_SHIFT + 1;
+
+    private final UtilizationStatistics statistics = new UtilizationStatistics();
+    private final Queue<byte[]>[] queues;
+    private final AtomicInteger[] queueSizes;
+    // incremented when purged, so the thread caches are cleared the next time they are used
+    private final AtomicInteger generation = new AtomicInteger();
+    private final ThreadLocal<ThreadCache> threadCache = ThreadLocal.withInitial(() -> new ThreadCache(generation.get()));
+    private int capacity = 16;
+
+    @SuppressWarnings("unchecked")
+    public DefaultByteArrayPool() {
+        queues = new Queue[SIZE_CLASSES];
+        queueSizes = new AtomicInteger[SIZE_CLASSES];
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            queues[i] = new ConcurrentLinkedQueue<>();
+            queueSizes[i] = new AtomicInteger();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * The number of buffers per size class kept in the queues shared by all threads. The default capacity is 16.
+     */
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    @Override
+    public int getMaxBufferSize() {
+        return 1 << MAX_SHIFT;
+    }
+
+    @Override
+    public byte[] acquire(int minSize) {
+        int index = sizeClassOf(minSize);
+        if (index < 0) {
+            statistics.missed.increment();
+            return new byte[minSize];
+        }
+
+        byte[] answer;
+        if (index < THREAD_CACHE_CLASSES) {
+            byte[][] cache = threadCache();
+            answer = cache[index];
+            if (answer != null) {
+                cache[index] = null;
+                statistics.hit.increment();
+                return answer;
+            }
+        }
+        answer = queues[index].poll();
+        if (answer != null) {
+            queueSizes[index].decrementAndGet();
+            statistics.hit.increment();
+            return answer;
+        }
+        statistics.missed.increment();
+        return new byte[1 << (index + MIN_SHIFT)];
+    }
+
+    @Override
+    public void release(byte[] buffer) {
+        if (buffer == null) {
+            return;
+        }
+        int index = sizeClassOf(buffer.length);
+        if (index < 0 || buffer.length != 1 << (index + MIN_SHIFT)) {
+            // not a buffer of any of the size classes
+            statistics.discarded.increment();
+            return;
+        }
+
+        byte[][] cache = index < THREAD_CACHE_CLASSES ? threadCache() : null;
+        if (cache != null && cache[index] == null) {
+            cache[index] = buffer;
+            statistics.released.increment();
+        } else if (queueSizes[index].incrementAndGet() <= capacity) {
+            queues[index].offer(buffer);
+            statistics.released.increment();
+        } else {
+            queueSizes[index].decrementAndGet();
+            statistics.discarded.increment();
+        }
+    }
+
+    @Override
+    public void purge() {
+        // the buffers cached by the other threads are discarded the next time these threads use the pool
+        generation.incrementAndGet();
+        threadCache.remove();
+        for (int i = 0; i < SIZE_CLASSES; i++) {
+            queues[i].clear();
+            queueSizes[i].set(0);
+        }
+    }
+
+    @Override
+    public Statistics getStatistics() {
+        return statistics;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        long hit = statistics.getHitCounter();
+        long missed = statistics.getMissCounter();
+        if (hit > 0 || missed > 0) {
+            LOG.debug("ByteArrayPool usage [hit: {}, missed: {}, released: {}, discarded: {}]",
+                    hit, missed, statistics.getReleasedCounter(), statistics.getDiscardedCounter());
+        }
+        purge();
+    }
+
+    /**
+     * The index of the smallest size class with buffers of at least the given size, or -1 if the buffers are too big
+     * to be pooled.
+     */
+    private static int sizeClassOf(int size) {
+        if (size <= 1 << MIN_SHIFT) {
+            return 0;
+        } else if (size > 1 << MAX_SHIFT) {
+            return -1;
+        }
+        return 32 - Integer.numberOfLeadingZeros(size - 1) - MIN_SHIFT;
+    }
+
+    /**
+     * The buffers cached by the current thread, which are cleared first if the pool has been purged since they were
+     * cached.
+     */
+    private byte[][] threadCache() {
+        ThreadCache cache = threadCache.get();
+        int current = generation.get();
+        if (cache.generation != current) {
+            Arrays.fill(cache.buffers, null);
+            cache.generation = current;
+        }
+        return cache.buffers;
+    }
+
+    @Override
+    public String toString() {
+        return "DefaultByteArrayPool[capacity: " + capacity + "]";
+    }
+
+    private static final class ThreadCache {
+
+        private final byte[][] buffers = new byte[THREAD_CACHE_CLASSES][];
+        private int generation;
+
+        private ThreadCache(int generation) {
+            this.generation = generation;
+        }
+    }
+
+    private static final class UtilizationStatistics implements Statistics {
+
+        private final LongAdder hit = new LongAdder();
+        private final LongAdder missed = new LongAdder();
+        private final LongAdder released = new LongAdder();
+        private final LongAdder discarded = new LongAdder();
+
+        @Override
+        public long getHitCounter() {
+            return hit.longValue();
+        }
+
+        @Override
+        public long getMissCounter() {
+            return missed.longValue();
+        }
+
+        @Override
+        public long getReleasedCounter() {
+            return released.longValue();
+        }
+
+        @Override
+        public long getDiscardedCounter() {
+            return discarded.longValue();
+        }
+
+        @Override
+        public void reset() {
+            hit.reset();
+            missed.reset();
+            released.reset();
+            discarded.reset();
+        }
+    }
+}
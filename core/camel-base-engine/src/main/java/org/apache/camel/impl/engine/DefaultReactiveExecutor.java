@@ -93,11 +93,13 @@ public class DefaultReactiveExecutor extends ServiceSupport implements ReactiveE
         return createdWorkers.get();
     }
 
+    @Override
     @ManagedAttribute(description = "Number of running workers")
     public int getRunningWorkers() {
         return runningWorkers.intValue();
     }
 
+    @Override
     @ManagedAttribute(description = "Number of pending tasks")
     public int getPendingTasks() {
         return pendingTasks.intValue();
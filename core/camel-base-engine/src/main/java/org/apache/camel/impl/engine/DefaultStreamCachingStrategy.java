@@ -19,8 +19,13 @@ package org.apache.camel.impl.engine;
 import java.io.File;
 import java.lang.management.ManagementFactory;
 import java.lang.management.MemoryMXBean;
+import java.nio.ByteBuffer;
 import java.util.LinkedHashSet;
+import java.util.Queue;
 import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 
 import org.apache.camel.CamelContext;
 import org.apache.camel.CamelContextAware;
@@ -41,6 +46,7 @@ import org.slf4j.LoggerFactory;
 public class DefaultStreamCachingStrategy extends ServiceSupport implements CamelContextAware, StreamCachingStrategy {
 
     private static final Logger LOG = LoggerFactory.getLogger(DefaultStreamCachingStrategy.class);
+    private static final int SPOOL_OFF_HEAP_BUFFER_SIZE = 64 * 1024;
 
     private CamelContext camelContext;
     private boolean enabled;
@@ -50,6 +56,8 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
     private long spoolThreshold = StreamCache.DEFAULT_SPOOL_THRESHOLD;
     private int spoolUsedHeapMemoryThreshold;
     private SpoolUsedHeapMemoryLimit spoolUsedHeapMemoryLimit;
+    private long spoolOffHeapMaxSize;
+    private volatile DirectSpoolBufferPool spoolBufferPool;
     private String spoolCipher;
     private int bufferSize = IOHelper.DEFAULT_BUFFER_SIZE;
     private boolean removeSpoolDirectoryWhenStopping = true;
@@ -127,6 +135,21 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         this.spoolUsedHeapMemoryLimit = spoolUsedHeapMemoryLimit;
     }
 
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public void setSpoolOffHeapMaxSize(long spoolOffHeapMaxSize) {
+        this.spoolOffHeapMaxSize = spoolOffHeapMaxSize;
+    }
+
+    @Override
+    public SpoolBufferPool getSpoolBufferPool() {
+        return spoolBufferPool;
+    }
+
     @Override
     public void setSpoolThreshold(long spoolThreshold) {
         this.spoolThreshold = spoolThreshold;
@@ -331,6 +354,11 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                 }
                 spoolRules.add(new UsedHeapMemorySpoolRule(spoolUsedHeapMemoryLimit));
             }
+            if (spoolOffHeapMaxSize > 0) {
+                int size = (int) Math.min(SPOOL_OFF_HEAP_BUFFER_SIZE, spoolOffHeapMaxSize);
+                spoolBufferPool = new DirectSpoolBufferPool(size, spoolOffHeapMaxSize);
+                LOG.debug("Spooling off-heap up to {} bytes using buffers of {} bytes", spoolOffHeapMaxSize, size);
+            }
         }
 
         LOG.debug("StreamCaching configuration {}", this);
@@ -352,6 +380,12 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
             FileUtil.removeDir(spoolDirectory);
         }
 
+        if (spoolBufferPool != null) {
+            LOG.debug("Stopping StreamCachingStrategy with off-heap spool: {}", spoolBufferPool);
+            spoolBufferPool.stop();
+            spoolBufferPool = null;
+        }
+
         if (LOG.isDebugEnabled() && statistics.isStatisticsEnabled()) {
             LOG.debug("Stopping StreamCachingStrategy with statistics: {}", statistics);
         }
@@ -371,6 +405,7 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
                + ", spoolCipher=" + spoolCipher
                + ", spoolThreshold=" + spoolThreshold
                + ", spoolUsedHeapMemoryThreshold=" + spoolUsedHeapMemoryThreshold
+               + ", spoolOffHeapMaxSize=" + spoolOffHeapMaxSize
                + ", bufferSize=" + bufferSize
                + ", anySpoolRules=" + anySpoolRules + "]";
     }
@@ -438,6 +473,113 @@ public class DefaultStreamCachingStrategy extends ServiceSupport implements Came
         }
     }
 
+    /**
+     * Pool of direct buffers, which allocates new buffers until the maximum size is reached, and keeps the released
+     * buffers for reuse.
+     * <p/>
+     * When stopped, the pooled buffers are freed, and so are the buffers which are released afterwards. Buffers are
+     * only released when no stream cache is reading them, so they can be freed safely.
+     */
+    private static final class DirectSpoolBufferPool implements SpoolBufferPool {
+
+        private final int bufferSize;
+        private final long maxSize;
+        private final Queue<ByteBuffer> pool = new ConcurrentLinkedQueue<>();
+        private final AtomicLong allocatedSize = new AtomicLong();
+        private final AtomicLong usedSize = new AtomicLong();
+        private final LongAdder acquiredCounter = new LongAdder();
+        private final LongAdder exhaustedCounter = new LongAdder();
+        private volatile boolean stopped;
+
+        private DirectSpoolBufferPool(int bufferSize, long maxSize) {
+            this.bufferSize = bufferSize;
+            this.maxSize = maxSize;
+        }
+
+        @Override
+        public int getBufferSize() {
+            return bufferSize;
+        }
+
+        @Override
+        public long getMaxSize() {
+            return maxSize;
+        }
+
+        @Override
+        public ByteBuffer acquire() {
+            if (stopped) {
+                exhaustedCounter.increment();
+                return null;
+            }
+            ByteBuffer answer = pool.poll();
+            if (answer == null) {
+                long allocated;
+                do {
+                    allocated = allocatedSize.get();
+                    if (allocated + bufferSize > maxSize) {
+                        exhaustedCounter.increment();
+                        return null;
+                    }
+                } while (!allocatedSize.compareAndSet(allocated, allocated + bufferSize));
+                answer = ByteBuffer.allocateDirect(bufferSize);
+            }
+            usedSize.addAndGet(bufferSize);
+            acquiredCounter.increment();
+            return answer;
+        }
+
+        @Override
+        public void release(ByteBuffer buffer) {
+            buffer.clear();
+            usedSize.addAndGet(-bufferSize);
+            pool.offer(buffer);
+            // if we were stopped meanwhile then free the buffer, unless stop has freed it already
+            if (stopped && pool.remove(buffer)) {
+                free(buffer);
+            }
+        }
+
+        void stop() {
+            stopped = true;
+            ByteBuffer buffer;
+            while ((buffer = pool.poll()) != null) {
+                free(buffer);
+            }
+        }
+
+        private void free(ByteBuffer buffer) {
+            allocatedSize.addAndGet(-bufferSize);
+            IOHelper.freeDirectBuffer(buffer);
+        }
+
+        @Override
+        public long getUsedSize() {
+            return usedSize.get();
+        }
+
+        @Override
+        public long getPooledSize() {
+            return allocatedSize.get() - usedSize.get();
+        }
+
+        @Override
+        public long getAcquiredCounter() {
+            return acquiredCounter.longValue();
+        }
+
+        @Override
+        public long getExhaustedCounter() {
+            return exhaustedCounter.longValue();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("[maxSize=%s, usedSize=%s, pooledSize=%s, acquiredCounter=%s, exhaustedCounter=%s]",
+                    maxSize, getUsedSize(), getPooledSize(), getAcquiredCounter(), getExhaustedCounter());
+        }
+    }
+
     /**
      * Represents utilization statistics.
      */
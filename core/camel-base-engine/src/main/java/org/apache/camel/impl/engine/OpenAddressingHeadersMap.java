@@ -0,0 +1,448 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+import org.apache.camel.Exchange;
+
+/**
+ * A case insensitive map for headers, which stores the entries in flat arrays in insertion order, and looks them up by
+ * an open addressing (linear probing) index of their positions. The keys are compared as by
+ * {@link String#equalsIgnoreCase(String)}, as with the {@link org.apache.camel.util.CaseInsensitiveMap}, and the first
+ * key which is put is kept when putting a key which differs only in case.
+ * <p/>
+ * The case insensitive hashes of the well known Camel header names (the constants of {@link Exchange}) are computed
+ * once, and are looked up by the identity of the key, so using the constants as keys avoids computing the hash on every
+ * access. Other keys are hashed by folding the case of their characters.
+ * <p/>
+ * This implementation is not thread safe, and does not allow <tt>null</tt> keys.
+ */
+public class OpenAddressingHeadersMap extends AbstractMap<String, Object> {
+
+    private static final int DEFAULT_CAPACITY = 8;
+    private static final String[] KNOWN_NAMES;
+    private static final int[] KNOWN_HASHES;
+
+    static {
+        Set<String> names = new LinkedHashSet<>();
+        for (Field field : Exchange.class.getFields()) {
+            if (field.getType() == String.class && Modifier.isStatic(field.getModifiers())) {
+                try {
+                    names.add((String) field.get(null));
+                } catch (IllegalAccessException e) {
+                    // ignore as its only used to avoid computing the hashes
+                }
+            }
+        }
+        int capacity = Integer.highestOneBit(Math.max(names.size(), 1) * 4 - 1);
+        KNOWN_NAMES = new String[capacity];
+        KNOWN_HASHES = new int[capacity];
+        for (String name : names) {
+            int i = name.hashCode() & (capacity - 1);
+            while (KNOWN_NAMES[i] != null) {
+                i = (i + 1) & (capacity - 1);
+            }
+            KNOWN_NAMES[i] = name;
+            KNOWN_HASHES[i] = foldHash(name);
+        }
+    }
+
+    // the entries in insertion order, where removed entries have a null key until the arrays are compacted
+    private String[] keys;
+    private Object[] values;
+    private int[] hashes;
+    // the positions of the entries + 1 (0 is an empty slot), which is twice the length of the entry arrays
+    private int[] index;
+    // the number of used positions in the entry arrays (including removed entries)
+    private int count;
+    private int size;
+    private int modCount;
+    private EntrySet entrySet;
+
+    public OpenAddressingHeadersMap() {
+    }
+
+    public OpenAddressingHeadersMap(Map<? extends String, ?> map) {
+        if (map instanceof OpenAddressingHeadersMap) {
+            OpenAddressingHeadersMap other = (OpenAddressingHeadersMap) map;
+            if (other.size > 0 && other.size == other.count) {
+                // no removed entries so the arrays can be copied as-is
+                keys = other.keys.clone();
+                values = other.values.clone();
+                hashes = other.hashes.clone();
+                index = other.index.clone();
+                count = other.count;
+                size = other.size;
+                return;
+            }
+        }
+        putAll(map);
+    }
+
+    /**
+     * Computes the case insensitive hash of the key.
+     */
+    static int hash(String key) {
+        int mask = KNOWN_NAMES.length - 1;
+        for (int i = key.hashCode() & mask;; i = (i + 1) & mask) {
+            String name = KNOWN_NAMES[i];
+            if (name == key) {
+                return KNOWN_HASHES[i];
+            } else if (name == null) {
+                return foldHash(key);
+            }
+        }
+    }
+
+    private static int foldHash(String key) {
+        int h = 0;
+        for (int i = 0; i < key.length(); i++) {
+            char c = key.charAt(i);
+            if (c >= 'A' && c <= 'Z') {
+                c += 'a' - 'A';
+            } else if (c >= 0x80) {
+                // same folding as String.equalsIgnoreCase
+                c = Character.toLowerCase(Character.toUpperCase(c));
+            }
+            h = 31 * h + c;
+        }
+        return h ^ (h >>> 16);
+    }
+
+    private int positionOf(Object key) {
+        if (size == 0 || !(key instanceof String)) {
+            return -1;
+        }
+        String k = (String) key;
+        int h = hash(k);
+        int mask = index.length - 1;
+        for (int i = h & mask;; i = (i + 1) & mask) {
+            int slot = index[i];
+            if (slot == 0) {
+                return -1;
+            }
+            int pos = slot - 1;
+            if (hashes[pos] == h) {
+                String other = keys[pos];
+                if (other == k || other.equalsIgnoreCase(k)) {
+                    return pos;
+                }
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    @Override
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        return positionOf(key) >= 0;
+    }
+
+    @Override
+    public Object get(Object key) {
+        int pos = positionOf(key);
+        return pos >= 0 ? values[pos] : null;
+    }
+
+    @Override
+    public Object getOrDefault(Object key, Object defaultValue) {
+        int pos = positionOf(key);
+        return pos >= 0 ? values[pos] : defaultValue;
+    }
+
+    @Override
+    public Object put(String key, Object value) {
+        int h = hash(key);
+        if (keys == null) {
+            allocate(DEFAULT_CAPACITY);
+        } else if (count == keys.length) {
+            // compact the removed entries, or grow if more than half the entries are in use
+            rebuild(size >= keys.length / 2 ? keys.length * 2 : keys.length);
+        }
+
+        int mask = index.length - 1;
+        int i = h & mask;
+        for (int slot = index[i]; slot != 0; slot = index[i]) {
+            int pos = slot - 1;
+            if (hashes[pos] == h) {
+                String other = keys[pos];
+                if (other == key || other.equalsIgnoreCase(key)) {
+                    Object answer = values[pos];
+                    values[pos] = value;
+                    return answer;
+                }
+            }
+            i = (i + 1) & mask;
+        }
+
+        keys[count] = key;
+        values[count] = value;
+        hashes[count] = h;
+        index[i] = ++count;
+        size++;
+        modCount++;
+        return null;
+    }
+
+    @Override
+    public void putAll(Map<? extends String, ?> map) {
+        if (keys == null && !map.isEmpty()) {
+            allocate(Math.max(DEFAULT_CAPACITY, Integer.highestOneBit(map.size() * 2 - 1)));
+        }
+        for (Entry<? extends String, ?> entry : map.entrySet()) {
+            put(entry.getKey(), entry.getValue());
+        }
+    }
+
+    @Override
+    public Object remove(Object key) {
+        int pos = positionOf(key);
+        if (pos < 0) {
+            return null;
+        }
+        Object answer = values[pos];
+        removeAt(pos);
+        return answer;
+    }
+
+    @Override
+    public void clear() {
+        if (count > 0) {
+            Arrays.fill(keys, 0, count, null);
+            Arrays.fill(values, 0, count, null);
+            Arrays.fill(index, 0);
+            count = 0;
+            size = 0;
+            modCount++;
+        }
+    }
+
+    @Override
+    public void forEach(BiConsumer<? super String, ? super Object> action) {
+        int expected = modCount;
+        for (int pos = 0; pos < count; pos++) {
+            String key = keys[pos];
+            if (key != null) {
+                action.accept(key, values[pos]);
+            }
+        }
+        if (modCount != expected) {
+            throw new ConcurrentModificationException();
+        }
+    }
+
+    @Override
+    public Set<Entry<String, Object>> entrySet() {
+        if (entrySet == null) {
+            entrySet = new EntrySet();
+        }
+        return entrySet;
+    }
+
+    private void allocate(int capacity) {
+        keys = new String[capacity];
+        values = new Object[capacity];
+        hashes = new int[capacity];
+        index = new int[capacity * 2];
+    }
+
+    private void rebuild(int capacity) {
+        String[] oldKeys = keys;
+        Object[] oldValues = values;
+        int[] oldHashes = hashes;
+        int oldCount = count;
+        allocate(capacity);
+        count = 0;
+        int mask = index.length - 1;
+        for (int pos = 0; pos < oldCount; pos++) {
+            if (oldKeys[pos] != null) {
+                int h = oldHashes[pos];
+                keys[count] = oldKeys[pos];
+                values[count] = oldValues[pos];
+                hashes[count] = h;
+                int i = h & mask;
+                while (index[i] != 0) {
+                    i = (i + 1) & mask;
+                }
+                index[i] = ++count;
+            }
+        }
+    }
+
+    private void removeAt(int pos) {
+        int mask = index.length - 1;
+        int i = hashes[pos] & mask;
+        while (index[i] != pos + 1) {
+            i = (i + 1) & mask;
+        }
+        keys[pos] = null;
+        values[pos] = null;
+        size--;
+        modCount++;
+
+        if (size == 0) {
+            Arrays.fill(index, 0);
+            count = 0;
+            return;
+        }
+
+        // shift the following slots back to keep the probe sequences without gaps
+        for (int j = (i + 1) & mask; index[j] != 0; j = (j + 1) & mask) {
+            int home = hashes[index[j] - 1] & mask;
+            boolean move = i <= j ? home <= i || home > j : home <= i && home > j;
+            if (move) {
+                index[i] = index[j];
+                i = j;
+            }
+        }
+        index[i] = 0;
+    }
+
+    private final class EntrySet extends AbstractSet<Entry<String, Object>> {
+
+        @Override
+        public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+        }
+
+        @Override
+        public int size() {
+            return size;
+        }
+
+        @Override
+        public void clear() {
+            OpenAddressingHeadersMap.this.clear();
+        }
+    }
+
+    private final class EntryIterator implements Iterator<Entry<String, Object>> {
+
+        private int next = advance(0);
+        private int last = -1;
+        private int expectedModCount = modCount;
+
+        private int advance(int pos) {
+            while (pos < count && keys[pos] == null) {
+                pos++;
+            }
+            return pos;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < count;
+        }
+
+        @Override
+        public Entry<String, Object> next() {
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            if (next >= count) {
+                throw new NoSuchElementException();
+            }
+            last = next;
+            next = advance(next + 1);
+            return new HeaderEntry(last);
+        }
+
+        @Override
+        public void remove() {
+            if (last < 0) {
+                throw new IllegalStateException();
+            }
+            if (modCount != expectedModCount) {
+                throw new ConcurrentModificationException();
+            }
+            removeAt(last);
+            last = -1;
+            expectedModCount = modCount;
+        }
+    }
+
+    private final class HeaderEntry implements Entry<String, Object> {
+
+        private final int pos;
+        private final String key;
+
+        HeaderEntry(int pos) {
+            this.pos = pos;
+            this.key = keys[pos];
+        }
+
+        @Override
+        public String getKey() {
+            return key;
+        }
+
+        @Override
+        public Object getValue() {
+            return keys[pos] == key ? values[pos] : null;
+        }
+
+        @Override
+        public Object setValue(Object value) {
+            if (keys[pos] != key) {
+                throw new IllegalStateException("Entry has been removed");
+            }
+            Object answer = values[pos];
+            values[pos] = value;
+            return answer;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (!(o instanceof Entry)) {
+                return false;
+            }
+            Entry<?, ?> e = (Entry<?, ?>) o;
+            return key.equals(e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return key.hashCode() ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return key + "=" + getValue();
+        }
+    }
+}
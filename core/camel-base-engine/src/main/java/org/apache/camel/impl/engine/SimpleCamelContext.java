@@ -36,6 +36,7 @@ import org.apache.camel.spi.AsyncProcessorAwaitManager;
 import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
+import org.apache.camel.spi.ByteArrayPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.CamelDependencyInjectionAnnotationFactory;
@@ -678,6 +679,17 @@ public class SimpleCamelContext extends AbstractCamelContext {
         return result.orElseGet(DefaultReactiveExecutor::new);
     }
 
+    @Override
+    protected ByteArrayPool createByteArrayPool() {
+        Optional<ByteArrayPool> result = ResolverHelper.resolveService(
+                getCamelContextReference(),
+                getBootstrapFactoryFinder(),
+                ByteArrayPool.FACTORY,
+                ByteArrayPool.class);
+
+        return result.orElseGet(DefaultByteArrayPool::new);
+    }
+
     @Override
     protected ValidatorRegistry<ValidatorKey> createValidatorRegistry() {
         return new DefaultValidatorRegistry(getCamelContextReference());
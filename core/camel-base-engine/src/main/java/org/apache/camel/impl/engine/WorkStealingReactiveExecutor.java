@@ -0,0 +1,305 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.StaticService;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.concurrent.NamedThreadLocal;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A {@link ReactiveExecutor} which runs the reactive work on a pool of worker threads that steal work from each other
+ * when idle.
+ * <p/>
+ * Each worker thread has its own run queue, and work which is scheduled from a worker thread is added to the run queue
+ * of the worker, and can be stolen by idle workers. Work which is scheduled from other threads (such as consumer
+ * threads) is submitted to the pool. The run queues and the stealing are provided by {@link ForkJoinPool}.
+ * <p/>
+ * The pool does not push back on the threads which submit work to it, so to keep the backpressure on consumers, the
+ * first task of an exchange ({@link #scheduleMain(Runnable)}) is run on the calling thread, as the
+ * {@link DefaultReactiveExecutor} does, and only the work scheduled from there on is submitted to the pool. When more
+ * than {@link #getMaxPendingTasks() maxPendingTasks} tasks are submitted but not yet running, then the work is run on
+ * the calling thread instead, which slows down the callers until the workers have caught up.
+ * <p/>
+ * Work which must stay on the current thread, such as synchronous and transacted work, is executed by a
+ * {@link DefaultReactiveExecutor}, and any work scheduled while such work is running also stays on the current thread.
+ */
+@ManagedResource(description = "Managed WorkStealingReactiveExecutor")
+public class WorkStealingReactiveExecutor extends ServiceSupport
+        implements ReactiveExecutor, StaticService, CamelContextAware {
+
+    public static final int DEFAULT_MAX_PENDING_TASKS = 1000;
+
+    private static final Logger LOG = LoggerFactory.getLogger(WorkStealingReactiveExecutor.class);
+
+    private final DefaultReactiveExecutor local = new DefaultReactiveExecutor();
+    private final NamedThreadLocal<int[]> depth = new NamedThreadLocal<>("CamelReactiveDepth", () -> new int[1]);
+    private final AtomicInteger createdWorkers = new AtomicInteger();
+    private final LongAdder pendingTasks = new LongAdder();
+    private CamelContext camelContext;
+    private int parallelism;
+    private int maxPendingTasks = DEFAULT_MAX_PENDING_TASKS;
+    private volatile ForkJoinPool pool;
+
+    public WorkStealingReactiveExecutor() {
+    }
+
+    public WorkStealingReactiveExecutor(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    @ManagedAttribute(description = "Number of worker threads (0 = number of processors)")
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    /**
+     * Number of worker threads, by default the number of processors.
+     */
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @ManagedAttribute(description = "Maximum number of tasks submitted from other threads which are not yet running")
+    public int getMaxPendingTasks() {
+        return maxPendingTasks;
+    }
+
+    /**
+     * Maximum number of tasks submitted from threads other than the workers, which are not yet running. When there are
+     * more pending tasks then the work is run on the calling thread. Use 0 or a negative value for no limit.
+     */
+    public void setMaxPendingTasks(int maxPendingTasks) {
+        this.maxPendingTasks = maxPendingTasks;
+    }
+
+    @Override
+    public void schedule(Runnable runnable) {
+        if (isConfined()) {
+            local.schedule(runnable);
+        } else {
+            submit(runnable);
+        }
+    }
+
+    @Override
+    public void scheduleMain(Runnable runnable) {
+        if (isConfined() || isWorker()) {
+            // run the work now on this worker, so waiting for the work cannot starve the pool
+            confined(() -> local.scheduleMain(runnable));
+        } else {
+            // run the first task on the calling thread (such as a consumer thread) so the caller is paced by the
+            // routing, and the work scheduled by the task is submitted to the pool
+            local.scheduleMain(runnable);
+        }
+    }
+
+    @Override
+    public void scheduleSync(Runnable runnable) {
+        confined(() -> local.scheduleSync(runnable));
+    }
+
+    @Override
+    public void scheduleQueue(Runnable runnable) {
+        local.scheduleQueue(runnable);
+    }
+
+    @Override
+    public boolean executeFromQueue() {
+        int[] count = depth.get();
+        count[0]++;
+        try {
+            return local.executeFromQueue();
+        } finally {
+            count[0]--;
+        }
+    }
+
+    @Override
+    @ManagedAttribute(description = "Whether statistics is enabled")
+    public boolean isStatisticsEnabled() {
+        return local.isStatisticsEnabled();
+    }
+
+    @Override
+    public void setStatisticsEnabled(boolean statisticsEnabled) {
+        local.setStatisticsEnabled(statisticsEnabled);
+    }
+
+    @ManagedAttribute(description = "Number of created workers")
+    public int getCreatedWorkers() {
+        return createdWorkers.get();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of running workers")
+    public int getRunningWorkers() {
+        ForkJoinPool p = pool;
+        return p != null ? p.getActiveThreadCount() : 0;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of pending tasks")
+    public int getPendingTasks() {
+        return pendingTasks.intValue() + local.getPendingTasks();
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of tasks in the run queues of the workers")
+    public long getQueuedTasks() {
+        ForkJoinPool p = pool;
+        return p != null ? p.getQueuedTaskCount() + p.getQueuedSubmissionCount() : 0;
+    }
+
+    @Override
+    @ManagedAttribute(description = "Number of tasks stolen from the run queue of another worker")
+    public long getStealCount() {
+        ForkJoinPool p = pool;
+        return p != null ? p.getStealCount() : 0;
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (pool == null) {
+            int size = parallelism > 0 ? parallelism : Runtime.getRuntime().availableProcessors();
+            // async mode so the run queues are FIFO as with the default reactive executor
+            pool = new ForkJoinPool(size, this::newWorker, null, true);
+            LOG.debug("Started WorkStealingReactiveExecutor with parallelism: {}", size);
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ForkJoinPool p = pool;
+        pool = null;
+        if (p != null) {
+            if (LOG.isDebugEnabled()) {
+                LOG.debug("Stopping WorkStealingReactiveExecutor [createdWorkers: {}, pendingTasks: {}, stealCount: {}]",
+                        getCreatedWorkers(), pendingTasks.intValue(), p.getStealCount());
+            }
+            p.shutdown();
+            if (!p.awaitTermination(5, TimeUnit.SECONDS)) {
+                LOG.debug("Forcing shutdown of WorkStealingReactiveExecutor");
+                p.shutdownNow();
+            }
+        }
+    }
+
+    @Override
+    protected void doShutdown() throws Exception {
+        local.shutdown();
+        depth.remove();
+    }
+
+    @Override
+    public String toString() {
+        return "WorkStealingReactiveExecutor[parallelism=" + parallelism + ", maxPendingTasks=" + maxPendingTasks + "]";
+    }
+
+    private void submit(Runnable runnable) {
+        ForkJoinPool p = pool;
+        if (p == null) {
+            // not started (or stopped) so run the work on the current thread
+            local.schedule(runnable);
+            return;
+        }
+        if (maxPendingTasks > 0 && pendingTasks.sum() >= maxPendingTasks && !isWorker()) {
+            // the workers are behind, so run the work on the calling thread which slows down the caller
+            LOG.trace("Too many pending tasks so running on the calling thread: {}", runnable);
+            confined(() -> local.schedule(runnable));
+            return;
+        }
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Submit: {}", runnable);
+        }
+        pendingTasks.increment();
+        p.execute(() -> {
+            pendingTasks.decrement();
+            try {
+                runnable.run();
+            } catch (Throwable t) {
+                LOG.warn("Error executing reactive work due to {}. This exception is ignored.", t.getMessage(), t);
+            }
+        });
+    }
+
+    private void confined(Runnable task) {
+        int[] count = depth.get();
+        count[0]++;
+        try {
+            task.run();
+        } finally {
+            count[0]--;
+        }
+    }
+
+    private boolean isConfined() {
+        return depth.get()[0] > 0;
+    }
+
+    private boolean isWorker() {
+        Thread thread = Thread.currentThread();
+        return thread instanceof ForkJoinWorkerThread && ((ForkJoinWorkerThread) thread).getPool() == pool;
+    }
+
+    private ForkJoinWorkerThread newWorker(ForkJoinPool pool) {
+        // the default worker factory of the JDK uses the system class loader as context class loader
+        ForkJoinWorkerThread thread = new ReactiveWorkerThread(pool);
+        int number = createdWorkers.incrementAndGet();
+        if (camelContext != null) {
+            thread.setName(camelContext.getExecutorServiceManager().resolveThreadName("ReactiveWorker"));
+            ClassLoader cl = camelContext.getApplicationContextClassLoader();
+            if (cl != null) {
+                thread.setContextClassLoader(cl);
+            }
+        } else {
+            thread.setName("ReactiveWorker #" + number);
+        }
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    private static final class ReactiveWorkerThread extends ForkJoinWorkerThread {
+
+        ReactiveWorkerThread(ForkJoinPool pool) {
+            super(pool);
+        }
+    }
+
+}
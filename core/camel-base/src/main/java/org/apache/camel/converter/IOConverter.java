@@ -45,6 +45,7 @@ import java.util.stream.Stream;
 
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
+import org.apache.camel.support.ByteArrayPoolHelper;
 import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.InputStreamIterator;
 import org.apache.camel.util.IOHelper;
@@ -248,10 +249,15 @@ public final class IOConverter {
         }
     }
 
-    @Converter(order = 29)
     public static byte[] toBytes(InputStream stream) throws IOException {
+        return toBytes(stream, null);
+    }
+
+    @Converter(order = 29)
+    public static byte[] toBytes(InputStream stream, Exchange exchange) throws IOException {
         ByteArrayOutputStream bos = new ByteArrayOutputStream();
-        IOHelper.copyAndCloseInput(IOHelper.buffered(stream), bos);
+        // no need to buffer the stream as it is copied in chunks using a buffer from the pool
+        ByteArrayPoolHelper.copyAndCloseInput(ByteArrayPoolHelper.getByteArrayPool(exchange), stream, bos);
 
         // no need to close the ByteArrayOutputStream as it's close()
         // implementation is noop
@@ -263,10 +269,14 @@ public final class IOConverter {
         return os.toByteArray();
     }
 
-    @Converter(order = 31)
     public static ByteBuffer covertToByteBuffer(InputStream is) throws IOException {
+        return covertToByteBuffer(is, null);
+    }
+
+    @Converter(order = 31)
+    public static ByteBuffer covertToByteBuffer(InputStream is, Exchange exchange) throws IOException {
         ByteArrayOutputStream os = new ByteArrayOutputStream();
-        IOHelper.copyAndCloseInput(is, os);
+        ByteArrayPoolHelper.copyAndCloseInput(ByteArrayPoolHelper.getByteArrayPool(exchange), is, os);
         return ByteBuffer.wrap(os.toByteArray());
     }
 
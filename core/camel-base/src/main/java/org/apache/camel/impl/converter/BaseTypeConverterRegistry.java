@@ -34,10 +34,12 @@ import org.apache.camel.CamelContextAware;
 import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.NoFactoryAvailableException;
 import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.StartupStep;
 import org.apache.camel.TypeConverter;
 import org.apache.camel.TypeConverterLoaderException;
 import org.apache.camel.spi.Injector;
 import org.apache.camel.spi.PackageScanClassResolver;
+import org.apache.camel.spi.StartupStepRecorder;
 import org.apache.camel.spi.TypeConverterLoader;
 import org.apache.camel.util.IOHelper;
 import org.apache.camel.util.ObjectHelper;
@@ -140,6 +142,8 @@ public abstract class BaseTypeConverterRegistry extends CoreTypeConverterRegistr
      */
     public void loadCoreAndFastTypeConverters() throws Exception {
         Collection<String> names = findTypeConverterLoaderClasses();
+        StartupStepRecorder recorder = camelContext != null
+                ? camelContext.adapt(ExtendedCamelContext.class).getStartupStepRecorder() : null;
 
         for (String name : names) {
             LOG.debug("Resolving TypeConverterLoader: {}", name);
@@ -163,7 +167,15 @@ public abstract class BaseTypeConverterRegistry extends CoreTypeConverterRegistr
                 TypeConverterLoader loader = (TypeConverterLoader) obj;
                 CamelContextAware.trySetCamelContext(loader, getCamelContext());
                 LOG.debug("TypeConverterLoader: {} loading converters", name);
-                loader.load(this);
+                StartupStep step = recorder != null
+                        ? recorder.beginStep(TypeConverterLoader.class, name, "Load TypeConverterLoader") : null;
+                try {
+                    loader.load(this);
+                } finally {
+                    if (step != null) {
+                        recorder.endStep(step);
+                    }
+                }
             }
         }
     }
@@ -55,6 +55,14 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
     };
 
+    // marks the lookups which found no type converter
+    private static final TypeConverter NO_CONVERTER = new TypeConverterSupport() {
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) throws TypeConversionException {
+            return (T) MISS_VALUE;
+        }
+    };
+
     private static final Logger LOG = LoggerFactory.getLogger(CoreTypeConverterRegistry.class);
 
     // built-in core type converters that are bulked together in a few classes for optimal performance
@@ -63,6 +71,9 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final DoubleMap<Class<?>, Class<?>, TypeConverter> typeMappings = new DoubleMap<>(16);
     // fallback converters
     protected final List<FallbackTypeConverter> fallbackConverters = new CopyOnWriteArrayList<>();
+    // results of the lookups of type converters (by super types and interfaces) which are discarded when type converters
+    // are added or removed
+    protected final DoubleMap<Class<?>, Class<?>, TypeConverter> resolvedMappings = new DoubleMap<>(16);
     // special enum converter for optional performance
     protected final TypeConverter enumTypeConverter = new EnumTypeConverter();
 
@@ -72,12 +83,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected final LongAdder missCounter = new LongAdder();
     protected final LongAdder hitCounter = new LongAdder();
     protected final LongAdder failedCounter = new LongAdder();
+    protected final LongAdder lookupCacheHitCounter = new LongAdder();
+    protected final LongAdder lookupCacheMissCounter = new LongAdder();
 
     protected TypeConverterExists typeConverterExists = TypeConverterExists.Ignore;
     protected LoggingLevel typeConverterExistsLoggingLevel = LoggingLevel.DEBUG;
 
     // to keep track of number of converters in the bulked classes
     private int sumBulkTypeConverters;
+    private long lookupVersion;
+    private volatile boolean missMappings;
 
     public CoreTypeConverterRegistry() {
     }
@@ -525,6 +540,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             // Could not find suitable conversion, so remember it
             // do not register misses for try conversions
             typeMappings.put(type, value.getClass(), MISS_CONVERTER);
+            missMappings = true;
         }
 
         // Could not find suitable conversion, so return Void to indicate not found
@@ -546,6 +562,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
                 this.bulkTypeConverters.add(bulkTypeConverters);
             }
             sumBulkTypeConverters += bulkTypeConverters.size();
+            invalidateLookups();
         }
     }
 
@@ -556,6 +573,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         if (converter == MISS_CONVERTER) {
             // we have previously attempted to convert but missed so add this converter
             typeMappings.put(toType, fromType, typeConverter);
+            invalidateLookups();
             return;
         }
 
@@ -583,13 +601,18 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
             if (add) {
                 typeMappings.put(toType, fromType, typeConverter);
+                invalidateLookups();
             }
         }
     }
 
     public boolean removeTypeConverter(Class<?> toType, Class<?> fromType) {
         LOG.trace("Removing type converter from: {} to: {}", fromType, toType);
-        return typeMappings.remove(toType, fromType);
+        boolean removed = typeMappings.remove(toType, fromType);
+        if (removed) {
+            invalidateLookups();
+        }
+        return removed;
     }
 
     @Override
@@ -603,6 +626,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         // add in top of fallback as the toString() fallback will nearly always be able to convert
         // the last one which is add to the FallbackTypeConverter will be called at the first place
         fallbackConverters.add(0, new FallbackTypeConverter(typeConverter, canPromote));
+        invalidateLookups();
     }
 
     public TypeConverter lookup(Class<?> toType, Class<?> fromType) {
@@ -612,15 +636,57 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
     protected TypeConverter getOrFindTypeConverter(Class<?> toType, Class<?> fromType) {
         TypeConverter converter = typeMappings.get(toType, fromType);
         if (converter == null) {
-            // converter not found, try to lookup then
-            converter = lookup(toType, fromType);
+            // converter not found, try the previous lookups and otherwise lookup then
+            boolean statisticsEnabled = statistics.isStatisticsEnabled();
+            converter = resolvedMappings.get(toType, fromType);
             if (converter != null) {
-                typeMappings.put(toType, fromType, converter);
+                if (statisticsEnabled) {
+                    lookupCacheHitCounter.increment();
+                }
+                return converter != NO_CONVERTER ? converter : null;
+            }
+
+            if (statisticsEnabled) {
+                lookupCacheMissCounter.increment();
+            }
+            long version;
+            synchronized (resolvedMappings) {
+                version = lookupVersion;
+            }
+            converter = lookup(toType, fromType);
+            synchronized (resolvedMappings) {
+                // only remember the lookup if no type converters have been added or removed in the meantime
+                if (version == lookupVersion) {
+                    resolvedMappings.put(toType, fromType, converter != null ? converter : NO_CONVERTER);
+                }
             }
         }
         return converter;
     }
 
+    /**
+     * Discards the results of the previous lookups, and the conversions which previously could not be converted, as
+     * adding or removing a type converter may change them.
+     */
+    protected void invalidateLookups() {
+        synchronized (resolvedMappings) {
+            lookupVersion++;
+            resolvedMappings.clear();
+        }
+        if (missMappings) {
+            missMappings = false;
+            List<Class<?>[]> misses = new ArrayList<>();
+            typeMappings.forEach((toType, fromType, converter) -> {
+                if (converter == MISS_CONVERTER) {
+                    misses.add(new Class<?>[] { toType, fromType });
+                }
+            });
+            for (Class<?>[] miss : misses) {
+                typeMappings.remove(miss[0], miss[1]);
+            }
+        }
+    }
+
     protected TypeConverter doLookup(Class<?> toType, Class<?> fromType, boolean isSuper) {
 
         if (fromType != null) {
@@ -742,6 +808,7 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
         }
 
         typeMappings.clear();
+        resolvedMappings.clear();
         statistics.reset();
     }
 
@@ -777,6 +844,16 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             return failedCounter.longValue();
         }
 
+        @Override
+        public long getLookupCacheHitCounter() {
+            return lookupCacheHitCounter.longValue();
+        }
+
+        @Override
+        public long getLookupCacheMissCounter() {
+            return lookupCacheMissCounter.longValue();
+        }
+
         @Override
         public void reset() {
             noopCounter.reset();
@@ -784,6 +861,8 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
             hitCounter.reset();
             missCounter.reset();
             failedCounter.reset();
+            lookupCacheHitCounter.reset();
+            lookupCacheMissCounter.reset();
         }
 
         @Override
@@ -798,8 +877,10 @@ public class CoreTypeConverterRegistry extends ServiceSupport implements TypeCon
 
         @Override
         public String toString() {
-            return String.format("TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s]",
-                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter());
+            return String.format(
+                    "TypeConverterRegistry utilization[noop=%s, attempts=%s, hits=%s, misses=%s, failures=%s, lookupCacheHits=%s, lookupCacheMisses=%s]",
+                    getNoopCounter(), getAttemptCounter(), getHitCounter(), getMissCounter(), getFailedCounter(),
+                    getLookupCacheHitCounter(), getLookupCacheMissCounter());
         }
     }
 
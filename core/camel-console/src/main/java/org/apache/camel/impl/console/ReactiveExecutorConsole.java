@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.console;
+
+import java.util.Map;
+
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.ReactiveExecutor;
+import org.apache.camel.spi.annotations.DevConsole;
+import org.apache.camel.support.console.AbstractDevConsole;
+import org.apache.camel.util.json.JsonObject;
+
+@DevConsole("reactive-executor")
+public class ReactiveExecutorConsole extends AbstractDevConsole {
+
+    public ReactiveExecutorConsole() {
+        super("camel", "reactive-executor", "Reactive Executor", "Camel Reactive Executor information");
+    }
+
+    @Override
+    protected String doCallText(Map<String, Object> options) {
+        StringBuilder sb = new StringBuilder();
+
+        ReactiveExecutor re = getCamelContext().adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        sb.append(String.format("\n    Executor: %s", re));
+        sb.append(String.format("\n    Statistics: %s", re.isStatisticsEnabled()));
+        sb.append(String.format("\n    Running Workers: %s", re.getRunningWorkers()));
+        sb.append(String.format("\n    Pending Tasks: %s", re.getPendingTasks()));
+        sb.append(String.format("\n    Queued Tasks: %s", re.getQueuedTasks()));
+        sb.append(String.format("\n    Steal Count: %s", re.getStealCount()));
+
+        return sb.toString();
+    }
+
+    @Override
+    protected JsonObject doCallJson(Map<String, Object> options) {
+        JsonObject root = new JsonObject();
+
+        ReactiveExecutor re = getCamelContext().adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        root.put("executor", re.toString());
+        root.put("statisticsEnabled", re.isStatisticsEnabled());
+        root.put("runningWorkers", re.getRunningWorkers());
+        root.put("pendingTasks", re.getPendingTasks());
+        root.put("queuedTasks", re.getQueuedTasks());
+        root.put("stealCount", re.getStealCount());
+
+        return root;
+    }
+}
@@ -44,6 +44,8 @@ public class TypeConverterConsole extends AbstractDevConsole {
             sb.append(String.format("\n    Miss: %s", reg.getStatistics().getMissCounter()));
             sb.append(String.format("\n    Failed: %s", reg.getStatistics().getFailedCounter()));
             sb.append(String.format("\n    Noop: %s", reg.getStatistics().getNoopCounter()));
+            sb.append(String.format("\n    Lookup Cache Hit: %s", reg.getStatistics().getLookupCacheHitCounter()));
+            sb.append(String.format("\n    Lookup Cache Miss: %s", reg.getStatistics().getLookupCacheMissCounter()));
         }
 
         return sb.toString();
@@ -65,6 +67,8 @@ public class TypeConverterConsole extends AbstractDevConsole {
             props.put("missCounter", reg.getStatistics().getAttemptCounter());
             props.put("failedCounter", reg.getStatistics().getFailedCounter());
             props.put("noopCounter", reg.getStatistics().getNoopCounter());
+            props.put("lookupCacheHitCounter", reg.getStatistics().getLookupCacheHitCounter());
+            props.put("lookupCacheMissCounter", reg.getStatistics().getLookupCacheMissCounter());
         }
 
         return root;
@@ -79,6 +79,7 @@ import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
 import org.apache.camel.spi.BeanRepository;
 import org.apache.camel.spi.BootstrapCloseable;
+import org.apache.camel.spi.ByteArrayPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.CamelDependencyInjectionAnnotationFactory;
@@ -1669,6 +1670,16 @@ public class LightweightCamelContext implements ExtendedCamelContext, CatalogCam
         getExtendedCamelContext().setReactiveExecutor(reactiveExecutor);
     }
 
+    @Override
+    public ByteArrayPool getByteArrayPool() {
+        return getExtendedCamelContext().getByteArrayPool();
+    }
+
+    @Override
+    public void setByteArrayPool(ByteArrayPool byteArrayPool) {
+        getExtendedCamelContext().setByteArrayPool(byteArrayPool);
+    }
+
     @Override
     public boolean isEventNotificationApplicable() {
         return getExtendedCamelContext().isEventNotificationApplicable();
@@ -74,6 +74,7 @@ import org.apache.camel.spi.BeanIntrospection;
 import org.apache.camel.spi.BeanProcessorFactory;
 import org.apache.camel.spi.BeanProxyFactory;
 import org.apache.camel.spi.BootstrapCloseable;
+import org.apache.camel.spi.ByteArrayPool;
 import org.apache.camel.spi.CamelBeanPostProcessor;
 import org.apache.camel.spi.CamelContextNameStrategy;
 import org.apache.camel.spi.CamelDependencyInjectionAnnotationFactory;
@@ -190,6 +191,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
     private final ProcessorExchangeFactory processorExchangeFactory;
     private final ModelineFactory modelineFactory;
     private final ReactiveExecutor reactiveExecutor;
+    private final ByteArrayPool byteArrayPool;
     private final AsyncProcessorAwaitManager asyncProcessorAwaitManager;
     private final ExecutorServiceManager executorServiceManager;
     private final ShutdownStrategy shutdownStrategy;
@@ -249,6 +251,7 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         modelineFactory = context.adapt(ExtendedCamelContext.class).getModelineFactory();
         processorExchangeFactory = context.adapt(ExtendedCamelContext.class).getProcessorExchangeFactory();
         reactiveExecutor = context.adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        byteArrayPool = context.adapt(ExtendedCamelContext.class).getByteArrayPool();
         asyncProcessorAwaitManager = context.adapt(ExtendedCamelContext.class).getAsyncProcessorAwaitManager();
         executorServiceManager = context.getExecutorServiceManager();
         shutdownStrategy = context.getShutdownStrategy();
@@ -1790,6 +1793,16 @@ public class LightweightRuntimeCamelContext implements ExtendedCamelContext, Cat
         throw new UnsupportedOperationException();
     }
 
+    @Override
+    public ByteArrayPool getByteArrayPool() {
+        return byteArrayPool;
+    }
+
+    @Override
+    public void setByteArrayPool(ByteArrayPool byteArrayPool) {
+        throw new UnsupportedOperationException();
+    }
+
     @Override
     public boolean isEventNotificationApplicable() {
         return eventNotificationApplicable;
@@ -17,11 +17,16 @@
 package org.apache.camel.language.simple;
 
 import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.regex.Pattern;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.Expression;
+import org.apache.camel.ExtendedCamelContext;
 import org.apache.camel.Predicate;
 import org.apache.camel.StaticService;
+import org.apache.camel.language.csimple.CSimpleCompiler;
 import org.apache.camel.spi.annotations.Language;
 import org.apache.camel.support.CamelContextHelper;
 import org.apache.camel.support.LRUCache;
@@ -48,12 +53,25 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
     // a special prefix to avoid cache clash
     private static final String CACHE_KEY_PREFIX = "@SIMPLE@";
 
+    // functions and operators which do not give the same result when evaluated again, or have side effects, and so
+    // cannot be verified by evaluating both the interpreted and the compiled expression
+    private static final String[] NOT_COMPILABLE = {
+            "bean:", "random(", "uuid", ":now", "messageHistory", "collate(", "skip(", "++", "--" };
+    // OGNL method calls, such as ${body.next()}, which may have side effects
+    private static final Pattern OGNL_METHOD_CALL = Pattern.compile("\\$\\{[^}]*\\.\\s*\\w+\\s*\\(");
+
     boolean allowEscape = true;
 
     // use caches to avoid re-parsing the same expressions over and over again
     private Map<String, Expression> cacheExpression;
     private Map<String, Predicate> cachePredicate;
 
+    // compile hot expressions using the compiled simple language (csimple)
+    private int compileThreshold = -1;
+    private boolean compilerAvailable;
+    private org.apache.camel.spi.Language compiledLanguage;
+    private ExecutorService compileExecutor;
+
     /**
      * Default constructor.
      */
@@ -73,6 +91,63 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
                 LOG.debug("Simple language disabled predicate/expression cache");
             }
         }
+        if (compileThreshold < 0 && getCamelContext() != null) {
+            compileThreshold = CamelContextHelper.getSimpleCompileThreshold(getCamelContext());
+            // expressions can only be compiled if camel-csimple-joor is on the classpath
+            compilerAvailable = getCamelContext().adapt(ExtendedCamelContext.class).getBootstrapFactoryFinder()
+                    .findClass(CSimpleCompiler.FACTORY).isPresent();
+            if (isCompileEnabled()) {
+                LOG.debug("Simple language compiles predicates/expressions after {} evaluations", compileThreshold);
+            }
+        }
+    }
+
+    public int getCompileThreshold() {
+        return compileThreshold;
+    }
+
+    /**
+     * The number of evaluations of a predicate or expression, after which it is compiled (in the background) using the
+     * compiled simple language (csimple), which requires camel-csimple-joor on the classpath. The compiled predicate or
+     * expression is only used once it has given the same results as the interpreted one, and predicates and expressions
+     * which cannot be compiled continue to be interpreted. Use 0 to never compile.
+     * <p/>
+     * The default is the global option {@link Exchange#SIMPLE_COMPILE_THRESHOLD}, or 0, as compiling is opt-in.
+     */
+    public void setCompileThreshold(int compileThreshold) {
+        this.compileThreshold = compileThreshold;
+    }
+
+    public org.apache.camel.spi.Language getCompiledLanguage() {
+        return compiledLanguage;
+    }
+
+    /**
+     * The language to use for compiling the predicates and expressions. By default the csimple language is used if
+     * camel-csimple-joor is on the classpath.
+     */
+    public void setCompiledLanguage(org.apache.camel.spi.Language compiledLanguage) {
+        this.compiledLanguage = compiledLanguage;
+    }
+
+    private boolean isCompileEnabled() {
+        return compileThreshold > 0 && (compilerAvailable || compiledLanguage != null);
+    }
+
+    /**
+     * Whether the predicate or expression should be compiled, which requires it to use functions, and none of the
+     * functions or OGNL method calls which cannot be verified.
+     */
+    static boolean isCompilable(String expression) {
+        if (!expression.contains("${")) {
+            return false;
+        }
+        for (String function : NOT_COMPILABLE) {
+            if (expression.contains(function)) {
+                return false;
+            }
+        }
+        return !OGNL_METHOD_CALL.matcher(expression).find();
     }
 
     @Override
@@ -100,6 +175,39 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             }
             cacheExpression.clear();
         }
+        synchronized (this) {
+            if (compileExecutor != null) {
+                getCamelContext().getExecutorServiceManager().shutdownNow(compileExecutor);
+                compileExecutor = null;
+            }
+        }
+    }
+
+    /**
+     * Schedules the predicate or expression to be compiled in the background.
+     */
+    void scheduleCompilation(TieredSimpleExpression expression) {
+        ExecutorService executor;
+        synchronized (this) {
+            if (compileExecutor == null) {
+                compileExecutor = getCamelContext().getExecutorServiceManager()
+                        .newSingleThreadExecutor(this, "SimpleLanguageCompiler");
+            }
+            executor = compileExecutor;
+        }
+        try {
+            executor.execute(() -> expression.compile(resolveCompiledLanguage()));
+        } catch (RejectedExecutionException e) {
+            // we are stopping so the expression is interpreted
+            LOG.trace("Cannot compile simple expression: {} as the compiler is stopped", expression);
+        }
+    }
+
+    private synchronized org.apache.camel.spi.Language resolveCompiledLanguage() {
+        if (compiledLanguage == null) {
+            compiledLanguage = getCamelContext().resolveLanguage("csimple");
+        }
+        return compiledLanguage;
     }
 
     @Override
@@ -140,6 +248,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             SimplePredicateParser parser
                     = new SimplePredicateParser(getCamelContext(), expression, allowEscape, cacheExpression);
             answer = parser.parsePredicate();
+            if (answer != null && isCompileEnabled() && isCompilable(expression)) {
+                answer = new TieredSimpleExpression(this, expression, answer, compileThreshold);
+            }
 
             if (cachePredicate != null && answer != null) {
                 cachePredicate.put(key, answer);
@@ -212,6 +323,9 @@ public class SimpleLanguage extends LanguageSupport implements StaticService {
             SimpleExpressionParser parser
                     = new SimpleExpressionParser(getCamelContext(), expression, allowEscape, cacheExpression);
             answer = parser.parseExpression();
+            if (answer != null && isCompileEnabled() && isCompilable(expression)) {
+                answer = new TieredSimpleExpression(this, expression, answer, compileThreshold);
+            }
 
             if (cacheExpression != null && answer != null) {
                 cacheExpression.put(key, answer);
@@ -0,0 +1,230 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.StreamCache;
+import org.apache.camel.spi.Language;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A simple {@link Expression} or {@link Predicate} which is interpreted until it has been evaluated a number of times,
+ * and then compiled in the background by the compiled language (csimple).
+ * <p/>
+ * The compiled language does not behave exactly the same as the simple language for every expression, so the compiled
+ * expression is verified before it is used: the next evaluations evaluate both the interpreted and the compiled
+ * expression, and only when they have given the same results for {@link #VERIFY_EVALUATIONS} evaluations, then the
+ * compiled expression is used. If the expression cannot be compiled, or the compiled expression gives a different
+ * result or fails, then it continues to be interpreted.
+ */
+final class TieredSimpleExpression implements Expression, Predicate {
+
+    /**
+     * The number of evaluations where the compiled expression must give the same result as the interpreted expression
+     */
+    static final int VERIFY_EVALUATIONS = 10;
+
+    private static final Logger LOG = LoggerFactory.getLogger(TieredSimpleExpression.class);
+
+    private final SimpleLanguage language;
+    private final String text;
+    private final Expression expression;
+    private final Predicate predicate;
+    private final int threshold;
+    private final AtomicBoolean compileScheduled = new AtomicBoolean();
+    private final AtomicInteger verifications = new AtomicInteger();
+    private CamelContext camelContext;
+    // not thread-safe as the number of evaluations only needs to be approximate
+    private int evaluations;
+    // the compiled expression being verified
+    private volatile Expression candidateExpression;
+    private volatile Predicate candidatePredicate;
+    private volatile Expression compiledExpression;
+    private volatile Predicate compiledPredicate;
+
+    TieredSimpleExpression(SimpleLanguage language, String text, Expression expression, int threshold) {
+        this.language = language;
+        this.text = text;
+        this.expression = expression;
+        this.predicate = null;
+        this.threshold = threshold;
+    }
+
+    TieredSimpleExpression(SimpleLanguage language, String text, Predicate predicate, int threshold) {
+        this.language = language;
+        this.text = text;
+        this.expression = null;
+        this.predicate = predicate;
+        this.threshold = threshold;
+    }
+
+    @Override
+    public void init(CamelContext context) {
+        this.camelContext = context;
+        if (predicate != null) {
+            predicate.initPredicate(context);
+        } else {
+            expression.init(context);
+        }
+    }
+
+    @Override
+    public boolean matches(Exchange exchange) {
+        Predicate compiled = compiledPredicate;
+        if (compiled != null) {
+            return compiled.matches(exchange);
+        }
+        boolean answer = predicate.matches(exchange);
+        Predicate candidate = candidatePredicate;
+        if (candidate != null) {
+            if (isRepeatable(exchange)) {
+                boolean verified;
+                try {
+                    verified = answer == candidate.matches(exchange);
+                } catch (Exception e) {
+                    reject("failed due to: " + e.getMessage());
+                    return answer;
+                }
+                if (!verified) {
+                    reject("returned " + !answer + " instead of " + answer);
+                } else if (verifications.incrementAndGet() == VERIFY_EVALUATIONS) {
+                    promote(candidate);
+                }
+            }
+        } else {
+            onEvaluation();
+        }
+        return answer;
+    }
+
+    @Override
+    public <T> T evaluate(Exchange exchange, Class<T> type) {
+        if (predicate != null) {
+            boolean matches = matches(exchange);
+            return exchange.getContext().getTypeConverter().convertTo(type, exchange, matches);
+        }
+        Expression compiled = compiledExpression;
+        if (compiled != null) {
+            return compiled.evaluate(exchange, type);
+        }
+        T answer = expression.evaluate(exchange, type);
+        Expression candidate = candidateExpression;
+        if (candidate != null) {
+            if (isRepeatable(exchange)) {
+                T result;
+                try {
+                    result = candidate.evaluate(exchange, type);
+                } catch (Exception e) {
+                    reject("failed due to: " + e.getMessage());
+                    return answer;
+                }
+                if (!ObjectHelper.equal(answer, result)) {
+                    reject("returned " + result + " instead of " + answer);
+                } else if (verifications.incrementAndGet() == VERIFY_EVALUATIONS) {
+                    promote(candidate);
+                }
+            }
+        } else {
+            onEvaluation();
+        }
+        return answer;
+    }
+
+    /**
+     * Whether the expression has been compiled and verified, and so the compiled expression is used
+     */
+    boolean isCompiled() {
+        return compiledPredicate != null || compiledExpression != null;
+    }
+
+    private void onEvaluation() {
+        if (++evaluations >= threshold && compileScheduled.compareAndSet(false, true)) {
+            language.scheduleCompilation(this);
+        }
+    }
+
+    /**
+     * Whether the expression can be evaluated again for the exchange, which is not the case when the message body is a
+     * stream as the first evaluation may have read it.
+     */
+    private static boolean isRepeatable(Exchange exchange) {
+        Object body = exchange.getMessage().getBody();
+        return !(body instanceof InputStream || body instanceof Reader || body instanceof StreamCache);
+    }
+
+    /**
+     * Uses the compiled expression which has been verified, unless it has been rejected concurrently.
+     */
+    private synchronized void promote(Object candidate) {
+        if (predicate != null && candidatePredicate == candidate) {
+            compiledPredicate = candidatePredicate;
+            LOG.debug("Using compiled simple predicate: {}", text);
+        } else if (predicate == null && candidateExpression == candidate) {
+            compiledExpression = candidateExpression;
+            LOG.debug("Using compiled simple expression: {}", text);
+        }
+    }
+
+    private synchronized void reject(String reason) {
+        String kind = predicate != null ? "predicate" : "expression";
+        // the expression may have been verified concurrently, so make sure the compiled expression is not used
+        verifications.set(Integer.MIN_VALUE);
+        candidatePredicate = null;
+        candidateExpression = null;
+        compiledPredicate = null;
+        compiledExpression = null;
+        LOG.debug("Compiled simple {}: {} {}. The {} is interpreted instead.", kind, text, reason, kind);
+    }
+
+    /**
+     * Compiles the expression using the given language, after which the compiled expression is verified.
+     */
+    void compile(Language compiledLanguage) {
+        CamelContext context = camelContext != null ? camelContext : language.getCamelContext();
+        String kind = predicate != null ? "predicate" : "expression";
+        try {
+            if (predicate != null) {
+                Predicate answer = compiledLanguage.createPredicate(text);
+                answer.initPredicate(context);
+                candidatePredicate = answer;
+            } else {
+                Expression answer = compiledLanguage.createExpression(text);
+                answer.init(context);
+                candidateExpression = answer;
+            }
+            LOG.debug("Compiled simple {} after {} evaluations: {}", kind, evaluations, text);
+        } catch (Exception e) {
+            LOG.debug("Cannot compile simple {}: {} due to: {}. The {} is interpreted instead.", kind, text, e.getMessage(),
+                    kind);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return predicate != null ? predicate.toString() : expression.toString();
+    }
+}
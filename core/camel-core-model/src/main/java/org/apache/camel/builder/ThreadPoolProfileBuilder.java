@@ -97,6 +97,13 @@ public class ThreadPoolProfileBuilder {
         return this;
     }
 
+    public ThreadPoolProfileBuilder virtualThreads(Boolean virtualThreads) {
+        if (virtualThreads != null) {
+            profile.setVirtualThreads(virtualThreads);
+        }
+        return this;
+    }
+
     /**
      * Builds the thread pool profile
      *
@@ -90,6 +90,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     @Metadata(javaType = "java.lang.Boolean")
     private String optimisticLocking;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer")
+    private String lockStripeSize;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -124,6 +127,9 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
     private String completionTimeoutCheckerInterval = "1000";
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
+    private String completionTimeoutTimingWheel;
+    @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Boolean")
     private String completionFromBatchConsumer;
     @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.lang.Boolean")
@@ -386,6 +392,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public String getCompletionTimeoutTimingWheel() {
+        return completionTimeoutTimingWheel;
+    }
+
+    public void setCompletionTimeoutTimingWheel(String completionTimeoutTimingWheel) {
+        this.completionTimeoutTimingWheel = completionTimeoutTimingWheel;
+    }
+
     public ExpressionSubElementDefinition getCompletionPredicate() {
         return completionPredicate;
     }
@@ -455,6 +469,14 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         this.optimisticLocking = optimisticLocking;
     }
 
+    public String getLockStripeSize() {
+        return lockStripeSize;
+    }
+
+    public void setLockStripeSize(String lockStripeSize) {
+        this.lockStripeSize = lockStripeSize;
+    }
+
     public String getParallelProcessing() {
         return parallelProcessing;
     }
@@ -781,6 +803,17 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Whether to use a timing wheel to keep track of the completion timeouts. The background task that checks for
+     * timeouts then only visits the correlation groups that are due, instead of all the correlation groups, which is
+     * faster when there are many correlation groups. Each tick of the timing wheel is the completion timeout checker
+     * interval.
+     */
+    public AggregateDefinition completionTimeoutTimingWheel() {
+        setCompletionTimeoutTimingWheel(Boolean.toString(true));
+        return this;
+    }
+
     /**
      * Sets the AggregationStrategy to use with a fluent builder.
      */
@@ -954,6 +987,17 @@ public class AggregateDefinition extends OutputDefinition<AggregateDefinition>
         return this;
     }
 
+    /**
+     * Turns on lock striping, where the correlation groups are guarded by the given number of locks, instead of a
+     * single lock shared by all the correlation groups. This allows aggregating different correlation groups
+     * concurrently, such as when the aggregator is fed by multiple concurrent consumers. Lock striping cannot be used
+     * together with optimistic locking, completionFromBatchConsumer or completionOnNewCorrelationGroup.
+     */
+    public AggregateDefinition lockStripeSize(int lockStripeSize) {
+        setLockStripeSize(Integer.toString(lockStripeSize));
+        return this;
+    }
+
     /**
      * Allows to configure retry settings when using optimistic locking.
      */
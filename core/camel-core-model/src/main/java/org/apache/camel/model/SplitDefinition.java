@@ -73,6 +73,9 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
     @Metadata(label = "advanced", javaType = "java.time.Duration", defaultValue = "0")
     private String timeout;
     @XmlAttribute
+    @Metadata(label = "advanced", javaType = "java.lang.Integer", defaultValue = "0")
+    private String maxInFlight;
+    @XmlAttribute
     @Metadata(label = "advanced", javaType = "java.util.concurrent.ExecutorService")
     private String executorService;
     @XmlAttribute
@@ -442,6 +445,35 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         return this;
     }
 
+    /**
+     * Sets the maximum number of split messages which are in flight at the same time, when using parallel processing.
+     * A split message is in flight from when it is sent until it has been aggregated. When the maximum is reached, the
+     * Splitter does not split the next message until a split message has been aggregated. This limits the number of
+     * split messages, and not their size, so splitting large messages in streaming mode only runs in constant memory
+     * when each split message has a bounded size. The default is 0 which is unbounded.
+     *
+     * @param  maxInFlight the maximum number of split messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInFlight(int maxInFlight) {
+        return maxInFlight(Integer.toString(maxInFlight));
+    }
+
+    /**
+     * Sets the maximum number of split messages which are in flight at the same time, when using parallel processing.
+     * A split message is in flight from when it is sent until it has been aggregated. When the maximum is reached, the
+     * Splitter does not split the next message until a split message has been aggregated. This limits the number of
+     * split messages, and not their size, so splitting large messages in streaming mode only runs in constant memory
+     * when each split message has a bounded size. The default is 0 which is unbounded.
+     *
+     * @param  maxInFlight the maximum number of split messages in flight
+     * @return             the builder
+     */
+    public SplitDefinition maxInFlight(String maxInFlight) {
+        setMaxInFlight(maxInFlight);
+        return this;
+    }
+
     /**
      * Shares the {@link org.apache.camel.spi.UnitOfWork} with the parent and each of the sub messages. Splitter will by
      * default not share unit of work between the parent exchange and each split exchange. This means each split
@@ -600,6 +632,14 @@ public class SplitDefinition extends OutputExpressionNode implements ExecutorSer
         this.timeout = timeout;
     }
 
+    public String getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    public void setMaxInFlight(String maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     public String getOnPrepare() {
         return onPrepare;
     }
@@ -22,7 +22,9 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.concurrent.ConcurrentMap;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ExecutorService;
@@ -31,6 +33,7 @@ import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
 
@@ -139,6 +142,106 @@ public class MulticastProcessor extends AsyncProcessorSupport
 
     }
 
+    /**
+     * The sub exchanges which are in flight, when the number of sub exchanges in flight is bounded. A sub exchange is in
+     * flight from when it is sent until it has been aggregated.
+     * <p/>
+     * The completed sub exchanges are aggregated by one thread at a time without locking, and the sender is parked when
+     * the window is full, and resumed when a sub exchange has been aggregated.
+     */
+    static final class InFlightWindow {
+        private final int capacity;
+        private final AtomicReferenceArray<Exchange> slots;
+        private final Queue<Exchange> queue;
+        private final AtomicInteger inFlight = new AtomicInteger();
+        private final AtomicInteger wip = new AtomicInteger();
+        private final AtomicBoolean parked = new AtomicBoolean();
+        // only accessed by the thread which is aggregating
+        private int next;
+
+        InFlightWindow(int capacity, boolean ordered) {
+            this.capacity = capacity;
+            // in ordered mode the sub exchanges in flight have consecutive indexes so they cannot share a slot
+            this.slots = ordered ? new AtomicReferenceArray<>(capacity) : null;
+            this.queue = ordered ? null : new ConcurrentLinkedQueue<>();
+        }
+
+        void send() {
+            inFlight.incrementAndGet();
+        }
+
+        void complete(int index, Exchange exchange) {
+            if (slots != null) {
+                slots.set(index % capacity, exchange);
+            } else {
+                queue.add(exchange);
+            }
+        }
+
+        /**
+         * Polls the next completed sub exchange to aggregate (in order if ordered)
+         */
+        Exchange poll() {
+            if (slots == null) {
+                return queue.poll();
+            }
+            Exchange answer = slots.getAndSet(next % capacity, null);
+            if (answer != null) {
+                next++;
+            }
+            return answer;
+        }
+
+        /**
+         * Polls the completed sub exchange with the lowest index, skipping the sub exchanges which are not completed
+         */
+        Exchange pollAny() {
+            if (slots == null) {
+                return queue.poll();
+            }
+            for (int i = 0; i < capacity; i++) {
+                Exchange answer = slots.getAndSet((next + i) % capacity, null);
+                if (answer != null) {
+                    next += i + 1;
+                    return answer;
+                }
+            }
+            return null;
+        }
+
+        void aggregated() {
+            inFlight.decrementAndGet();
+        }
+
+        /**
+         * Whether the sender can send the next sub exchange, otherwise the sender is parked until
+         * {@link #tryResume()} returns true.
+         */
+        boolean tryAdvance() {
+            parked.set(true);
+            return inFlight.get() < capacity && parked.compareAndSet(true, false);
+        }
+
+        /**
+         * Whether the parked sender should be resumed
+         */
+        boolean tryResume() {
+            return parked.get() && inFlight.get() < capacity && parked.compareAndSet(true, false);
+        }
+
+        boolean enterDrain() {
+            return wip.getAndIncrement() == 0;
+        }
+
+        int leaveDrain(int missed) {
+            return wip.addAndGet(-missed);
+        }
+
+        boolean isOrdered() {
+            return slots != null;
+        }
+    }
+
     private final class Scheduler implements Executor {
 
         @Override
@@ -170,6 +273,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
     private final long timeout;
     private final ConcurrentMap<Processor, Processor> errorHandlers = new ConcurrentHashMap<>();
     private final boolean shareUnitOfWork;
+    private int maxInFlight;
 
     public MulticastProcessor(CamelContext camelContext, Route route, Collection<Processor> processors) {
         this(camelContext, route, processors, null);
@@ -383,6 +487,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
         final AtomicInteger nbAggregated = new AtomicInteger();
         final AtomicBoolean allSent = new AtomicBoolean();
         final AtomicBoolean done = new AtomicBoolean();
+        final AtomicBoolean timedOut = new AtomicBoolean();
+        final InFlightWindow window;
         final Map<String, String> mdc;
 
         private MulticastTask() {
@@ -393,6 +499,7 @@ public class MulticastProcessor extends AsyncProcessorSupport
             this.iterator = null;
             this.mdc = null;
             this.completion = null;
+            this.window = null;
         }
 
         MulticastTask(Exchange original, Iterable<ProcessorExchangePair> pairs, AsyncCallback callback, int capacity) {
@@ -416,6 +523,12 @@ public class MulticastProcessor extends AsyncProcessorSupport
             } else {
                 this.completion = new AsyncCompletionService<>(scheduler, !isStreaming(), lock);
             }
+            // bound the number of sub exchanges in flight so large (streaming) input does not pile up in memory
+            if (maxInFlight > 0 && isParallelProcessing()) {
+                this.window = new InFlightWindow(maxInFlight, !isStreaming());
+            } else {
+                this.window = null;
+            }
         }
 
         @Override
@@ -431,6 +544,10 @@ public class MulticastProcessor extends AsyncProcessorSupport
         }
 
         protected void aggregate() {
+            if (window != null) {
+                drain();
+                return;
+            }
             Lock lock = this.lock;
             if (lock.tryLock()) {
                 try {
@@ -451,7 +568,78 @@ public class MulticastProcessor extends AsyncProcessorSupport
             }
         }
 
+        /**
+         * Aggregates the completed sub exchanges in the window. Only one thread aggregates at a time, and any sub
+         * exchange completed while aggregating is aggregated by the same thread before it leaves.
+         */
+        protected void drain() {
+            if (!window.enterDrain()) {
+                return;
+            }
+            int missed = 1;
+            try {
+                for (;;) {
+                    if (timedOut.get()) {
+                        drainTimeout();
+                    }
+                    Exchange exchange;
+                    while (!done.get() && (exchange = window.poll()) != null) {
+                        doAggregate(result, exchange, original);
+                        window.aggregated();
+                        if (nbAggregated.incrementAndGet() >= nbExchangeSent.get() && allSent.get()) {
+                            doDone(result.get(), true);
+                        }
+                    }
+                    missed = window.leaveDrain(missed);
+                    if (missed == 0) {
+                        break;
+                    }
+                }
+            } catch (Throwable e) {
+                original.setException(e);
+                // and do the done work
+                doDone(null, false);
+                return;
+            }
+            if (!done.get() && window.tryResume()) {
+                // continue sending the next sub exchanges
+                schedule(this);
+            }
+        }
+
+        private void drainTimeout() {
+            if (done.get()) {
+                return;
+            }
+            while (nbAggregated.get() < nbExchangeSent.get()) {
+                Exchange exchange = window.pollAny();
+                int index;
+                if (exchange == null) {
+                    index = nbExchangeSent.get();
+                } else if (window.isOrdered()) {
+                    index = getExchangeIndex(exchange);
+                } else {
+                    index = nbAggregated.get();
+                }
+                while (nbAggregated.get() < index) {
+                    AggregationStrategy strategy = getAggregationStrategy(null);
+                    strategy.timeout(result.get() != null ? result.get() : original,
+                            nbAggregated.getAndIncrement(), nbExchangeSent.get(), timeout);
+                }
+                if (exchange != null) {
+                    doAggregate(result, exchange, original);
+                    nbAggregated.incrementAndGet();
+                }
+            }
+            doDone(result.get(), true);
+        }
+
         protected void timeout() {
+            if (window != null) {
+                timedOut.set(true);
+                drain();
+                return;
+            }
             Lock lock = this.lock;
             if (lock.tryLock()) {
                 try {
@@ -532,6 +720,9 @@ public class MulticastProcessor extends AsyncProcessorSupport
                 if (!hasNext) {
                     allSent.set(true);
                 }
+                if (window != null) {
+                    window.send();
+                }
 
                 completion.submit(exchangeResult -> {
                     // compute time taken if sending to another endpoint
@@ -564,7 +755,11 @@ public class MulticastProcessor extends AsyncProcessorSupport
                             return;
                         }
 
-                        exchangeResult.accept(exchange);
+                        if (window != null) {
+                            window.complete(index, exchange);
+                        } else {
+                            exchangeResult.accept(exchange);
+                        }
 
                         // aggregate exchanges if any
                         aggregate();
@@ -576,7 +771,8 @@ public class MulticastProcessor extends AsyncProcessorSupport
                     });
                 });
                 // after submitting this pair then move on to the next pair (if in parallel mode)
-                if (hasNext && isParallelProcessing()) {
+                // unless too many sub exchanges are in flight, then the next pair is sent when one has been aggregated
+                if (hasNext && isParallelProcessing() && (window == null || window.tryAdvance())) {
                     schedule(this);
                 }
             } catch (Exception e) {
@@ -1256,6 +1452,25 @@ public class MulticastProcessor extends AsyncProcessorSupport
         return shareUnitOfWork;
     }
 
+    /**
+     * The maximum number of sub exchanges which are in flight at the same time when using parallel processing (0 =
+     * unbounded)
+     */
+    public int getMaxInFlight() {
+        return maxInFlight;
+    }
+
+    /**
+     * Sets the maximum number of sub exchanges which are in flight at the same time when using parallel processing,
+     * where a sub exchange is in flight from when it is sent until it has been aggregated. The next sub exchange is not
+     * created (e.g. split from the input) until a sub exchange has been aggregated. Only the number of sub exchanges is
+     * limited, and not their size, so a large input is processed in constant memory only when each sub exchange has a
+     * bounded size. Is 0 (unbounded) by default.
+     */
+    public void setMaxInFlight(int maxInFlight) {
+        this.maxInFlight = maxInFlight;
+    }
+
     public ExecutorService getAggregateExecutorService() {
         return aggregateExecutorService;
     }
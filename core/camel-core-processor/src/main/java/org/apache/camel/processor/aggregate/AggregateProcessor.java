@@ -67,6 +67,7 @@ import org.apache.camel.support.ExchangeHelper;
 import org.apache.camel.support.LRUCacheFactory;
 import org.apache.camel.support.LoggingExceptionHandler;
 import org.apache.camel.support.NoLock;
+import org.apache.camel.support.TimingWheelTimeoutMap;
 import org.apache.camel.support.service.ServiceHelper;
 import org.apache.camel.util.ObjectHelper;
 import org.apache.camel.util.StopWatch;
@@ -100,6 +101,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
     private static final Logger LOG = LoggerFactory.getLogger(AggregateProcessor.class);
     private volatile Lock lock;
+    private volatile Lock[] lockStripes;
+    private final AtomicBoolean forceCompletionOfAllGroupsRequested = new AtomicBoolean();
     private final AtomicBoolean aggregateRepositoryWarned = new AtomicBoolean();
     private final CamelContext camelContext;
     private final ReactiveExecutor reactiveExecutor;
@@ -118,8 +121,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private ScheduledExecutorService optimisticLockingExecutorService;
     private boolean shutdownOptimisticLockingExecutorService;
     private ScheduledExecutorService recoverService;
-    // store correlation key -> exchange id in timeout map
-    private TimeoutMap<String, String> timeoutMap;
+    // store correlation key -> exchange id in timeout map (with lock striping there is a timeout map per stripe)
+    private TimeoutMap<String, String>[] timeoutMaps;
+    // the id of the exchange which last (re)armed the completion timeout of each correlation key (only lock striping)
+    private Map<String, String> timeoutExchangeIds;
     private ExceptionHandler exceptionHandler;
     private AggregationRepository aggregationRepository;
     private Map<String, String> closedCorrelationKeys;
@@ -230,6 +235,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private Integer closeCorrelationKeyOnCompletion;
     private boolean parallelProcessing;
     private boolean optimisticLocking;
+    private int lockStripeSize;
 
     // different ways to have completion triggered
     private boolean eagerCheckCompletion;
@@ -247,6 +253,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private boolean forceCompletionOnStop;
     private boolean completeAllOnStop;
     private long completionTimeoutCheckerInterval = 1000;
+    private boolean completionTimeoutTimingWheel;
 
     private ProducerTemplate deadLetterProducerTemplate;
     private boolean isRecoverableRepository;
@@ -403,13 +410,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
         removeFlagCompleteAllGroupsInclusive(copy);
 
         List<Exchange> aggregated = null;
-        lock.lock();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
             aggregated = doAggregation(key, copy);
         } catch (CamelExchangeException e) {
             exchange.setException(e);
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
 
         // we are completed so do that work outside the lock
@@ -418,6 +426,11 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregated.forEach(agg -> onSubmitCompletion(key, agg));
         }
 
+        // force completion of all groups that was requested during aggregation (when using lock striping)
+        if (forceCompletionOfAllGroupsRequested.compareAndSet(true, false)) {
+            forceCompletionOfAllGroups();
+        }
+
         // check for the special header to force completion of all groups (inclusive of the message)
         if (isCompleteAllGroupsInclusive(exchange)) {
             removeFlagCompleteAllGroupsInclusive(exchange);
@@ -463,7 +476,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
     /**
      * Aggregates the exchange with the given correlation key
      * <p/>
-     * This method <b>must</b> be run synchronized as we cannot aggregate the same correlation key in parallel.
+     * This method <b>must</b> be run synchronized as we cannot aggregate the same correlation key in parallel. When
+     * lock striping is in use then only the lock for the given correlation key is held.
      * <p/>
      * The returned {@link Exchange} should be send downstream using the
      * {@link #onSubmitCompletion(String, org.apache.camel.Exchange)} method which sends out the aggregated and
@@ -575,7 +589,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // check for the special exchange property to force completion of all groups
         if (isCompleteAllGroups(answer)) {
             removeFlagCompleteAllGroups(answer);
-            forceCompletionOfAllGroups();
+            if (isLockStriping()) {
+                // we only hold the lock for this correlation key, so force completion of all groups
+                // must be done after the lock has been released, to not deadlock with other keys
+                forceCompletionOfAllGroupsRequested.set(true);
+            } else {
+                forceCompletionOfAllGroups();
+            }
         } else if (isCompletionOnNewCorrelationGroup() && originalExchange == null) {
             // its a new group so force complete of all existing groups
             forceCompletionOfAllGroups();
@@ -782,10 +802,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
             aggregationRepository.remove(aggregated.getContext(), key, original);
         }
 
-        if (!fromTimeout && timeoutMap != null) {
+        if (!fromTimeout && timeoutMaps != null) {
             // cleanup timeout map if it was a incoming exchange which triggered the timeout (and not the timeout checker)
             LOG.trace("Removing correlation key {} from timeout", key);
-            timeoutMap.remove(key);
+            timeoutMapFor(key).remove(key);
+            if (timeoutExchangeIds != null) {
+                timeoutExchangeIds.remove(key);
+            }
         }
 
         // this key has been closed so add it to the closed map
@@ -929,7 +952,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
 
         // log duration of this task so end user can see how long it takes to pre-check this upon starting
         LOG.info("Restored {} CompletionTimeout conditions in the AggregationTimeoutChecker in {}",
-                timeoutMap.size(), TimeUtils.printDuration(watch.taken(), true));
+                getTimeoutMapSize(), TimeUtils.printDuration(watch.taken(), true));
     }
 
     /**
@@ -942,7 +965,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private void addExchangeToTimeoutMap(String key, Exchange exchange, long timeout) {
         // store the timeout value on the exchange as well, in case we need it later
         exchange.setProperty(ExchangePropertyKey.AGGREGATED_TIMEOUT, timeout);
-        timeoutMap.put(key, exchange.getExchangeId(), timeout);
+        timeoutMapFor(key).put(key, exchange.getExchangeId(), timeout);
+        if (timeoutExchangeIds != null) {
+            timeoutExchangeIds.put(key, exchange.getExchangeId());
+        }
+    }
+
+    private TimeoutMap<String, String> timeoutMapFor(String key) {
+        TimeoutMap<String, String>[] maps = timeoutMaps;
+        return maps.length == 1 ? maps[0] : maps[stripeIndex(key, maps.length)];
+    }
+
+    private int getTimeoutMapSize() {
+        int size = 0;
+        for (TimeoutMap<String, String> map : timeoutMaps) {
+            size += map.size();
+        }
+        return size;
     }
 
     /**
@@ -1073,6 +1112,19 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.completionTimeoutCheckerInterval = completionTimeoutCheckerInterval;
     }
 
+    public boolean isCompletionTimeoutTimingWheel() {
+        return completionTimeoutTimingWheel;
+    }
+
+    /**
+     * Whether to use a {@link TimingWheelTimeoutMap} to keep track of the completion timeouts. The timing wheel only
+     * visits the correlation groups that are due when checking for timeouts, instead of all the correlation groups,
+     * which is faster when there are many correlation groups.
+     */
+    public void setCompletionTimeoutTimingWheel(boolean completionTimeoutTimingWheel) {
+        this.completionTimeoutTimingWheel = completionTimeoutTimingWheel;
+    }
+
     public ExceptionHandler getExceptionHandler() {
         return exceptionHandler;
     }
@@ -1097,6 +1149,23 @@ public class AggregateProcessor extends AsyncProcessorSupport
         this.optimisticLocking = optimisticLocking;
     }
 
+    public int getLockStripeSize() {
+        return lockStripeSize;
+    }
+
+    /**
+     * Sets the number of locks to use for lock striping. When the size is greater than 1 then the correlation keys are
+     * spread among the locks, which allows different correlation groups to be aggregated concurrently, while still
+     * guarding each correlation group by one lock. By default a single lock is shared by all correlation groups.
+     */
+    public void setLockStripeSize(int lockStripeSize) {
+        this.lockStripeSize = lockStripeSize;
+    }
+
+    public boolean isLockStriping() {
+        return lockStripeSize > 1;
+    }
+
     public AggregationRepository getAggregationRepository() {
         return aggregationRepository;
     }
@@ -1255,39 +1324,83 @@ public class AggregateProcessor extends AsyncProcessorSupport
     private final class AggregationTimeoutMap extends DefaultTimeoutMap<String, String> {
 
         private AggregationTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
-            // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
-            super(executor, requestMapPollTimeMillis, optimisticLocking);
-            addListener(this::onEviction);
+            super(executor, requestMapPollTimeMillis, isTimeoutMapLocking());
+            addListener(AggregateProcessor.this::onTimeoutEviction);
         }
 
         @Override
         protected void purge() {
-            // wait for lock to be created
-            if (lock != null) {
-                // must acquire the shared aggregation lock to be able to purge
-                lock.lock();
-                try {
-                    super.purge();
-                } finally {
-                    lock.unlock();
-                }
-            }
+            purgeTimeoutMap(super::purge);
         }
+    }
 
-        private void onEviction(Listener.Type type, String key, String exchangeId) {
-            if (type != Listener.Type.Evict) {
-                return;
+    /**
+     * Background task that looks for aggregated exchanges which is triggered by completion timeouts, using a timing
+     * wheel to keep track of the timeouts.
+     */
+    private final class AggregationTimingWheelTimeoutMap extends TimingWheelTimeoutMap<String, String> {
+
+        private AggregationTimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+            super(executor, requestMapPollTimeMillis, isTimeoutMapLocking());
+            addListener(AggregateProcessor.this::onTimeoutEviction);
+        }
+
+        @Override
+        protected void purge() {
+            purgeTimeoutMap(super::purge);
+        }
+    }
+
+    private boolean isTimeoutMapLocking() {
+        // do NOT use locking on the timeout map as this aggregator has its own shared lock we will use instead
+        // (however with lock striping there is no shared lock, so each timeout map uses its own lock, which is
+        // only contended by the correlation keys of its stripe)
+        return optimisticLocking || isLockStriping();
+    }
+
+    /**
+     * Purges the timeout map, which is done by both timeout map implementations while holding the shared aggregation
+     * lock.
+     */
+    private void purgeTimeoutMap(Runnable purge) {
+        // wait for lock to be created
+        if (lock != null) {
+            // must acquire the shared aggregation lock to be able to purge
+            lock.lock();
+            try {
+                purge.run();
+            } finally {
+                lock.unlock();
             }
-            log.debug("Completion timeout triggered for correlation key: {}", key);
+        }
+    }
 
-            boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
-            if (inProgress) {
-                log.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
+    private void onTimeoutEviction(TimeoutMap.Listener.Type type, String key, String exchangeId) {
+        if (type != TimeoutMap.Listener.Type.Evict) {
+            return;
+        }
+        LOG.debug("Completion timeout triggered for correlation key: {}", key);
+
+        boolean inProgress = inProgressCompleteExchanges.contains(exchangeId);
+        if (inProgress) {
+            LOG.trace("Aggregated exchange with id: {} is already in progress.", exchangeId);
+            return;
+        }
+
+        // get the aggregated exchange
+        boolean evictionStolen = false;
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
+        try {
+            // with lock striping the timeout map is purged without holding the lock of the correlation key, so the
+            // group may have been aggregated, which re-arms its timeout, or completed before we got the lock, and
+            // then this eviction is stale and must not complete the group
+            if (timeoutExchangeIds != null && !timeoutExchangeIds.remove(key, exchangeId)) {
+                LOG.debug("Completion timeout for correlation key: {} is stale as the timeout was re-armed or the group completed",
+                        key);
                 return;
             }
 
-            // get the aggregated exchange
-            boolean evictionStolen = false;
             Exchange answer = aggregationRepository.get(camelContext, key);
             if (answer == null) {
                 evictionStolen = true;
@@ -1303,12 +1416,14 @@ public class AggregateProcessor extends AsyncProcessorSupport
                     evictionStolen = true;
                 }
             }
+        } finally {
+            keyLock.unlock();
+        }
 
-            if (optimisticLocking && evictionStolen) {
-                log.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
-                          + "for exchange with id: {} and correlation id: {}",
-                        exchangeId, key);
-            }
+        if (optimisticLocking && evictionStolen) {
+            LOG.debug("Another Camel instance has already successfully correlated or processed this timeout eviction "
+                      + "for exchange with id: {} and correlation id: {}",
+                    exchangeId, key);
         }
     }
 
@@ -1337,21 +1452,27 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 try {
                     for (String key : keys) {
                         boolean stolenInterval = false;
-                        Exchange exchange = aggregationRepository.get(camelContext, key);
-                        if (exchange == null) {
-                            stolenInterval = true;
-                        } else {
-                            LOG.trace("Completion interval triggered for correlation key: {}", key);
-                            // indicate it was completed by interval
-                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
-                            try {
-                                Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                                if (answer != null) {
-                                    onSubmitCompletion(key, answer);
-                                }
-                            } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                        Lock keyLock = lockFor(key);
+                        keyLock.lock();
+                        try {
+                            Exchange exchange = aggregationRepository.get(camelContext, key);
+                            if (exchange == null) {
                                 stolenInterval = true;
+                            } else {
+                                LOG.trace("Completion interval triggered for correlation key: {}", key);
+                                // indicate it was completed by interval
+                                exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_INTERVAL);
+                                try {
+                                    Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                                    if (answer != null) {
+                                        onSubmitCompletion(key, answer);
+                                    }
+                                } catch (OptimisticLockingAggregationRepository.OptimisticLockingException e) {
+                                    stolenInterval = true;
+                                }
                             }
+                        } finally {
+                            keyLock.unlock();
                         }
                         if (optimisticLocking && stolenInterval) {
                             LOG.debug(
@@ -1417,62 +1538,13 @@ public class AggregateProcessor extends AsyncProcessorSupport
                             if (exchange != null) {
                                 // get the correlation key
                                 String key = exchange.getProperty(ExchangePropertyKey.AGGREGATED_CORRELATION_KEY, String.class);
-                                // and mark it as redelivered
-                                exchange.getIn().setHeader(Exchange.REDELIVERED, Boolean.TRUE);
-
-                                // get the current redelivery data
-                                RedeliveryData data = redeliveryState.get(exchange.getExchangeId());
-
-                                // if we are exhausted, then move to dead letter channel
-                                if (data != null && recoverable.getMaximumRedeliveries() > 0
-                                        && data.redeliveryCounter >= recoverable.getMaximumRedeliveries()) {
-                                    LOG.warn("The recovered exchange is exhausted after {} attempts, will now be moved to "
-                                             + "dead letter channel: {}",
-                                            recoverable.getMaximumRedeliveries(), recoverable.getDeadLetterUri());
-
-                                    // send to DLC
-                                    try {
-                                        // set redelivery counter
-                                        exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
-                                        // and prepare for sending to DLC
-                                        exchange.adapt(ExtendedExchange.class).setRedeliveryExhausted(false);
-                                        exchange.adapt(ExtendedExchange.class).setRollbackOnly(false);
-                                        deadLetterProducerTemplate.send(recoverable.getDeadLetterUri(), exchange);
-                                    } catch (Throwable e) {
-                                        exchange.setException(e);
-                                    }
-
-                                    // handle if failed
-                                    if (exchange.getException() != null) {
-                                        getExceptionHandler()
-                                                .handleException("Failed to move recovered Exchange to dead letter channel: "
-                                                                 + recoverable.getDeadLetterUri(),
-                                                        exchange.getException());
-                                    } else {
-                                        // it was ok, so confirm after it has been moved to dead letter channel, so we wont recover it again
-                                        recoverable.confirm(camelContext, exchangeId);
-                                    }
-                                } else {
-                                    // update current redelivery state
-                                    if (data == null) {
-                                        // create new data
-                                        data = new RedeliveryData();
-                                        redeliveryState.put(exchange.getExchangeId(), data);
-                                    }
-                                    data.redeliveryCounter++;
-
-                                    // set redelivery counter
-                                    exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
-                                    if (recoverable.getMaximumRedeliveries() > 0) {
-                                        exchange.getIn().setHeader(Exchange.REDELIVERY_MAX_COUNTER,
-                                                recoverable.getMaximumRedeliveries());
-                                    }
-
-                                    LOG.debug("Delivery attempt: {} to recover aggregated exchange with id: {}",
-                                            data.redeliveryCounter, exchangeId);
-
-                                    // not exhaust so resubmit the recovered exchange
-                                    onSubmitCompletion(key, exchange);
+                                // with lock striping there is no shared lock, so lock the correlation key instead
+                                Lock keyLock = key != null ? lockFor(key) : lock;
+                                keyLock.lock();
+                                try {
+                                    recoverExchange(exchangeId, key, exchange);
+                                } finally {
+                                    keyLock.unlock();
                                 }
                             }
                         }
@@ -1487,6 +1559,66 @@ public class AggregateProcessor extends AsyncProcessorSupport
             LOG.trace("Recover check complete");
         }
 
+        private void recoverExchange(String exchangeId, String key, Exchange exchange) {
+            // and mark it as redelivered
+            exchange.getIn().setHeader(Exchange.REDELIVERED, Boolean.TRUE);
+
+            // get the current redelivery data
+            RedeliveryData data = redeliveryState.get(exchange.getExchangeId());
+
+            // if we are exhausted, then move to dead letter channel
+            if (data != null && recoverable.getMaximumRedeliveries() > 0
+                    && data.redeliveryCounter >= recoverable.getMaximumRedeliveries()) {
+                LOG.warn("The recovered exchange is exhausted after {} attempts, will now be moved to "
+                         + "dead letter channel: {}",
+                        recoverable.getMaximumRedeliveries(), recoverable.getDeadLetterUri());
+
+                // send to DLC
+                try {
+                    // set redelivery counter
+                    exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
+                    // and prepare for sending to DLC
+                    exchange.adapt(ExtendedExchange.class).setRedeliveryExhausted(false);
+                    exchange.adapt(ExtendedExchange.class).setRollbackOnly(false);
+                    deadLetterProducerTemplate.send(recoverable.getDeadLetterUri(), exchange);
+                } catch (Throwable e) {
+                    exchange.setException(e);
+                }
+
+                // handle if failed
+                if (exchange.getException() != null) {
+                    getExceptionHandler()
+                            .handleException("Failed to move recovered Exchange to dead letter channel: "
+                                             + recoverable.getDeadLetterUri(),
+                                    exchange.getException());
+                } else {
+                    // it was ok, so confirm after it has been moved to dead letter channel, so we wont recover it again
+                    recoverable.confirm(camelContext, exchangeId);
+                }
+            } else {
+                // update current redelivery state
+                if (data == null) {
+                    // create new data
+                    data = new RedeliveryData();
+                    redeliveryState.put(exchange.getExchangeId(), data);
+                }
+                data.redeliveryCounter++;
+
+                // set redelivery counter
+                exchange.getIn().setHeader(Exchange.REDELIVERY_COUNTER, data.redeliveryCounter);
+                if (recoverable.getMaximumRedeliveries() > 0) {
+                    exchange.getIn().setHeader(Exchange.REDELIVERY_MAX_COUNTER,
+                            recoverable.getMaximumRedeliveries());
+                }
+
+                LOG.debug("Delivery attempt: {} to recover aggregated exchange with id: {}",
+                        data.redeliveryCounter, exchangeId);
+
+                // not exhaust so resubmit the recovered exchange
+                onSubmitCompletion(key, exchange);
+            }
+        }
+
         private void retryConfirm(String exchangeId) {
             // Confirm that the exchange was processed
             if (recoverable.confirmWithResult(camelContext, exchangeId)) {
@@ -1586,6 +1718,16 @@ public class AggregateProcessor extends AsyncProcessorSupport
         if (getCompletionInterval() > 0 && getCompletionTimeout() > 0) {
             throw new IllegalArgumentException("Only one of completionInterval or completionTimeout can be used, not both.");
         }
+        if (isLockStriping()) {
+            if (optimisticLocking) {
+                throw new IllegalArgumentException("Only one of lockStripeSize or optimisticLocking can be used, not both.");
+            }
+            if (isCompletionFromBatchConsumer() || isCompletionOnNewCorrelationGroup()) {
+                throw new IllegalArgumentException(
+                        "Lock striping cannot be used together with completionFromBatchConsumer or completionOnNewCorrelationGroup"
+                                                   + " as these completions span multiple correlation groups.");
+            }
+        }
         if (getCompletionInterval() > 0) {
             LOG.info("Using CompletionInterval to run every {} millis.", getCompletionInterval());
             if (getTimeoutCheckerExecutorService() == null) {
@@ -1607,11 +1749,29 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 shutdownTimeoutCheckerExecutorService = true;
             }
             // check for timed out aggregated messages once every second
-            timeoutMap = new AggregationTimeoutMap(getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+            if (isCompletionTimeoutTimingWheel()) {
+                LOG.info("Using timing wheel to keep track of completion timeouts");
+            }
+            // with lock striping each stripe has its own timeout map, so aggregating does not contend on a shared lock
+            @SuppressWarnings("unchecked")
+            TimeoutMap<String, String>[] maps = new TimeoutMap[isLockStriping() ? lockStripeSize : 1];
+            for (int i = 0; i < maps.length; i++) {
+                if (isCompletionTimeoutTimingWheel()) {
+                    maps[i] = new AggregationTimingWheelTimeoutMap(
+                            getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+                } else {
+                    maps[i] = new AggregationTimeoutMap(
+                            getTimeoutCheckerExecutorService(), getCompletionTimeoutCheckerInterval());
+                }
+            }
+            timeoutMaps = maps;
+            if (isLockStriping()) {
+                timeoutExchangeIds = new ConcurrentHashMap<>();
+            }
             // fill in existing timeout values from the aggregation repository, for example if a restart occurred, then we
             // need to re-establish the timeout map so timeout can trigger
             restoreTimeoutMapFromAggregationRepository();
-            ServiceHelper.startService(timeoutMap);
+            ServiceHelper.startService((Object[]) timeoutMaps);
         }
 
         if (aggregateController == null) {
@@ -1626,11 +1786,41 @@ public class AggregateProcessor extends AsyncProcessorSupport
                         .newSingleThreadScheduledExecutor(this, AGGREGATE_OPTIMISTIC_LOCKING_EXECUTOR));
                 shutdownOptimisticLockingExecutorService = true;
             }
+        } else if (isLockStriping()) {
+            // there is no shared lock, instead each correlation key is guarded by the lock of its stripe
+            lock = NoLock.INSTANCE;
+            Lock[] stripes = new Lock[lockStripeSize];
+            for (int i = 0; i < stripes.length; i++) {
+                stripes[i] = new ReentrantLock();
+            }
+            lockStripes = stripes;
+            LOG.info("Lock striping is enabled using {} locks", lockStripeSize);
         } else {
             lock = new ReentrantLock();
         }
     }
 
+    /**
+     * Gets the lock that guards the given correlation key.
+     * <p/>
+     * Without lock striping then this is the shared aggregation lock, which is reentrant, so it can be acquired by
+     * tasks that already hold the shared lock while iterating all the correlation groups.
+     */
+    protected Lock lockFor(String key) {
+        Lock[] stripes = lockStripes;
+        if (stripes == null) {
+            return lock;
+        }
+        return stripes[stripeIndex(key, stripes.length)];
+    }
+
+    private static int stripeIndex(String key, int stripes) {
+        // spread the hash code to make better use of the stripes
+        int h = key.hashCode();
+        h ^= h >>> 16;
+        return (h & 0x7fffffff) % stripes;
+    }
+
     @Override
     protected void doStop() throws Exception {
         // note: we cannot do doForceCompletionOnStop from this doStop method
@@ -1651,7 +1841,10 @@ public class AggregateProcessor extends AsyncProcessorSupport
             shutdownTimeoutCheckerExecutorService = false;
         }
 
-        ServiceHelper.stopService(timeoutMap, processor, deadLetterProducerTemplate);
+        if (timeoutMaps != null) {
+            ServiceHelper.stopService((Object[]) timeoutMaps);
+        }
+        ServiceHelper.stopService(processor, deadLetterProducerTemplate);
 
         if (closedCorrelationKeys != null) {
             // it may be a service so stop it as well
@@ -1659,6 +1852,9 @@ public class AggregateProcessor extends AsyncProcessorSupport
             closedCorrelationKeys.clear();
         }
         batchConsumerCorrelationKeys.clear();
+        if (timeoutExchangeIds != null) {
+            timeoutExchangeIds.clear();
+        }
         redeliveryState.clear();
     }
 
@@ -1738,7 +1934,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1752,7 +1949,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 }
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force completion of group {}", key);
 
@@ -1784,15 +1981,21 @@ public class AggregateProcessor extends AsyncProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force completion triggered for correlation key: {}", key);
-                        // indicate it was completed by a force completion request
-                        exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
-                        Exchange answer = onCompletion(key, exchange, exchange, false, false);
-                        if (answer != null) {
-                            onSubmitCompletion(key, answer);
+                    Lock keyLock = lockFor(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force completion triggered for correlation key: {}", key);
+                            // indicate it was completed by a force completion request
+                            exchange.setProperty(ExchangePropertyKey.AGGREGATED_COMPLETED_BY, COMPLETED_BY_FORCE);
+                            Exchange answer = onCompletion(key, exchange, exchange, false, false);
+                            if (answer != null) {
+                                onSubmitCompletion(key, answer);
+                            }
                         }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
@@ -1811,7 +2014,8 @@ public class AggregateProcessor extends AsyncProcessorSupport
         // must acquire the shared aggregation lock to be able to trigger force completion
         int total = 0;
 
-        lock.lock();
+        Lock keyLock = lockFor(key);
+        keyLock.lock();
         try {
             Exchange exchange = aggregationRepository.get(camelContext, key);
             if (exchange != null) {
@@ -1821,7 +2025,7 @@ public class AggregateProcessor extends AsyncProcessorSupport
                 onCompletion(key, exchange, exchange, false, true);
             }
         } finally {
-            lock.unlock();
+            keyLock.unlock();
         }
         LOG.trace("Completed force discarded of group {}", key);
 
@@ -1853,11 +2057,17 @@ public class AggregateProcessor extends AsyncProcessorSupport
             total = keys.size();
             try {
                 for (String key : keys) {
-                    Exchange exchange = aggregationRepository.get(camelContext, key);
-                    if (exchange != null) {
-                        LOG.trace("Force discarded triggered for correlation key: {}", key);
-                        // force discarding by setting aggregate failed as true
-                        onCompletion(key, exchange, exchange, false, true);
+                    Lock keyLock = lockFor(key);
+                    keyLock.lock();
+                    try {
+                        Exchange exchange = aggregationRepository.get(camelContext, key);
+                        if (exchange != null) {
+                            LOG.trace("Force discarded triggered for correlation key: {}", key);
+                            // force discarding by setting aggregate failed as true
+                            onCompletion(key, exchange, exchange, false, true);
+                        }
+                    } finally {
+                        keyLock.unlock();
                     }
                 }
             } finally {
@@ -124,6 +124,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (optimisticLocking != null) {
             answer.setOptimisticLocking(optimisticLocking);
         }
+        Integer lockStripeSize = parseInt(definition.getLockStripeSize());
+        if (lockStripeSize != null) {
+            answer.setLockStripeSize(lockStripeSize);
+        }
         if (definition.getCompletionPredicate() != null) {
             Predicate predicate = createPredicate(definition.getCompletionPredicate());
             answer.setCompletionPredicate(predicate);
@@ -202,6 +206,10 @@ public class AggregateReifier extends ProcessorReifier<AggregateDefinition> {
         if (completionTimeoutCheckerInterval != null) {
             answer.setCompletionTimeoutCheckerInterval(completionTimeoutCheckerInterval);
         }
+        Boolean completionTimeoutTimingWheel = parseBoolean(definition.getCompletionTimeoutTimingWheel());
+        if (completionTimeoutTimingWheel != null) {
+            answer.setCompletionTimeoutTimingWheel(completionTimeoutTimingWheel);
+        }
         return answer;
     }
 
@@ -763,6 +763,10 @@ public abstract class AbstractCamelContextFactoryBean<T extends ModelCamelContex
         if (spoolThreshold != null) {
             getContext().getStreamCachingStrategy().setSpoolThreshold(spoolThreshold);
         }
+        Long spoolOffHeapMaxSize = CamelContextHelper.parseLong(getContext(), streamCaching.getSpoolOffHeapMaxSize());
+        if (spoolOffHeapMaxSize != null) {
+            getContext().getStreamCachingStrategy().setSpoolOffHeapMaxSize(spoolOffHeapMaxSize);
+        }
         Integer spoolUsedHeap = CamelContextHelper.parseInteger(getContext(), streamCaching.getSpoolUsedHeapMemoryThreshold());
         if (spoolUsedHeap != null) {
             getContext().getStreamCachingStrategy().setSpoolUsedHeapMemoryThreshold(spoolUsedHeap);
@@ -48,6 +48,8 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
     @Metadata(defaultValue = "" + StreamCache.DEFAULT_SPOOL_THRESHOLD)
     private String spoolThreshold;
     @XmlAttribute
+    private String spoolOffHeapMaxSize;
+    @XmlAttribute
     private String spoolUsedHeapMemoryThreshold;
     @XmlAttribute
     private String spoolUsedHeapMemoryLimit;
@@ -145,6 +147,19 @@ public class CamelStreamCachingStrategyDefinition extends IdentifiedType {
         this.spoolThreshold = spoolThreshold;
     }
 
+    public String getSpoolOffHeapMaxSize() {
+        return spoolOffHeapMaxSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of off-heap (direct) memory to use for spooling, before spooling to disk.
+     * <p/>
+     * The default is <tt>0</tt> which means spooling goes directly to disk.
+     */
+    public void setSpoolOffHeapMaxSize(String spoolOffHeapMaxSize) {
+        this.spoolOffHeapMaxSize = spoolOffHeapMaxSize;
+    }
+
     public String getSpoolUsedHeapMemoryThreshold() {
         return spoolUsedHeapMemoryThreshold;
     }
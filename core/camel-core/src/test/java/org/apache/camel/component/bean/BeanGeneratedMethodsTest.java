@@ -0,0 +1,137 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.lang.reflect.Method;
+
+import org.apache.camel.Body;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Handler;
+import org.apache.camel.Header;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.BeanMethods;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BeanGeneratedMethodsTest extends ContextTestSupport {
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myBean", new MyBean());
+        jndi.bind("myOtherBean", new MyOtherBean());
+        return jndi;
+    }
+
+    @Test
+    public void testGeneratedMethods() {
+        // the methods are generated by the camel-package-maven-plugin when building camel-core
+        BeanMethods generated = context.adapt(ExtendedCamelContext.class).getDefaultFactoryFinder()
+                .newInstance(BeanMethods.FACTORY + "/" + MyBean.class.getName(), BeanMethods.class).orElse(null);
+        assertNotNull(generated);
+
+        BeanInfo info = new BeanInfo(context, MyBean.class);
+        assertTrue(info.hasMethod("hello"));
+        assertTrue(info.hasMethod("bye"));
+        assertEquals(2, info.getMethods().size());
+        assertFalse(info.getMethods().get(0).hasHandlerAnnotation());
+        assertTrue(info.getMethods().get(1).hasHandlerAnnotation());
+    }
+
+    @Test
+    public void testNoGeneratedMethods() {
+        BeanComponent component = context.getComponent("bean", BeanComponent.class);
+        assertFalse(component.hasNoGeneratedMethods(MyPlainBean.class));
+
+        BeanInfo info = new BeanInfo(context, MyPlainBean.class);
+        assertTrue(info.hasMethod("hello"));
+        // the class is not looked up again
+        assertTrue(component.hasNoGeneratedMethods(MyPlainBean.class));
+    }
+
+    @Test
+    public void testGeneratedMethodsInvoke() {
+        assertEquals("Hello World 2", template.requestBodyAndHeader("direct:start", "World", "n", 2));
+    }
+
+    @Test
+    public void testGeneratedMethodsNotFound() {
+        // the generated methods are outdated so the class is introspected instead
+        BeanInfo info = new BeanInfo(context, MyOtherBean.class);
+        assertTrue(info.hasMethod("hello"));
+        assertTrue(info.hasMethod("bye"));
+
+        assertEquals("Bye World", template.requestBody("direct:other", "World"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to("bean:myBean");
+                from("direct:other").to("bean:myOtherBean?method=bye");
+            }
+        };
+    }
+
+    public static class MyBean {
+
+        @Handler
+        public String hello(@Body String body, @Header("n") int n) {
+            return "Hello " + body + " " + n;
+        }
+
+        public String bye(String body) {
+            return "Bye " + body;
+        }
+    }
+
+    public static class MyOtherBean {
+
+        public String hello(String body) {
+            return "Hello " + body;
+        }
+
+        public String bye(String body) {
+            return "Bye " + body;
+        }
+    }
+
+    public static class MyPlainBean {
+
+        public String hello(String body) {
+            return "Hello " + body;
+        }
+    }
+
+    public static class MyOtherBeanMethods implements BeanMethods {
+
+        @Override
+        public Method[] getMethods() throws NoSuchMethodException {
+            return new Method[] {
+                    MyOtherBean.class.getDeclaredMethod("hello", String.class),
+                    MyOtherBean.class.getDeclaredMethod("bye", String.class, String.class) };
+        }
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.bean;
+
+import java.io.IOException;
+import java.util.Map;
+
+import org.apache.camel.CamelExecutionException;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Header;
+import org.apache.camel.RuntimeExchangeException;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.spi.Registry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class BeanInvokeByMethodHandleTest extends ContextTestSupport {
+
+    @Override
+    protected Registry createRegistry() throws Exception {
+        Registry jndi = super.createRegistry();
+        jndi.bind("myBean", new MyBean());
+        return jndi;
+    }
+
+    @Test
+    public void testPrimitiveParameters() {
+        // the long parameter is converted from the integer header
+        Object out = template.requestBodyAndHeaders("direct:add", "Hello", Map.of("a", 2, "b", 3));
+        assertEquals(45L, out);
+    }
+
+    @Test
+    public void testNullPrimitiveParameter() {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBodyAndHeader("direct:add", "Hello", "a", 2));
+        RuntimeExchangeException cause = assertIsInstanceOf(RuntimeExchangeException.class, e.getCause());
+        assertIsInstanceOf(IllegalArgumentException.class, cause.getCause());
+    }
+
+    @Test
+    public void testStaticMethod() {
+        assertEquals("Hello World", template.requestBody("direct:hello", "World"));
+    }
+
+    @Test
+    public void testVoidMethod() {
+        assertEquals("World", template.requestBody("direct:void", "World"));
+    }
+
+    @Test
+    public void testException() {
+        CamelExecutionException e = assertThrows(CamelExecutionException.class,
+                () -> template.requestBody("direct:fail", "World"));
+        IOException cause = assertIsInstanceOf(IOException.class, e.getCause());
+        assertEquals("Forced World", cause.getMessage());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:add").to("bean:myBean?method=add");
+                from("direct:hello").to("bean:myBean?method=hello");
+                from("direct:void").to("bean:myBean?method=ignore");
+                from("direct:fail").to("bean:myBean?method=fail");
+            }
+        };
+    }
+
+    // not public so the method handle is created for a method which is not accessible
+    static class MyBean {
+
+        public long add(@Header("a") int a, @Header("b") long b) {
+            return a + b + 40;
+        }
+
+        public static String hello(String body) {
+            return "Hello " + body;
+        }
+
+        public void ignore(String body) {
+            // noop
+        }
+
+        public void fail(String body) throws IOException {
+            throw new IOException("Forced " + body);
+        }
+    }
+}
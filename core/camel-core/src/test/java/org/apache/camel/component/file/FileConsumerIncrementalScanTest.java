@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.file.consumer.FileScanIndex;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class FileConsumerIncrementalScanTest extends ContextTestSupport {
+
+    @Test
+    public void testIncrementalScan() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceivedInAnyOrder("a", "b", "c");
+
+        template.sendBodyAndHeader(fileUri(), "a", Exchange.FILE_NAME, "a.txt");
+        template.sendBodyAndHeader(fileUri("foo"), "b", Exchange.FILE_NAME, "b.txt");
+        template.sendBodyAndHeader(fileUri("foo/bar"), "c", Exchange.FILE_NAME, "c.txt");
+
+        context.getRouteController().startAllRoutes();
+        assertMockEndpointsSatisfied();
+
+        FileScanIndex index = ((FileConsumer) context.getRoute("incremental").getConsumer()).getScanIndex();
+        assertNotNull(index);
+
+        // the unchanged directories are not listed again
+        long listed = index.getListCounter();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> index.getHitCounter() > 10);
+        assertTrue(index.getListCounter() <= listed + 3, "Listed " + index.getListCounter() + " times");
+
+        // new files in existing and new directories are picked up
+        mock.reset();
+        mock.expectedBodiesReceivedInAnyOrder("d", "e", "f");
+
+        // write using hidden temp files as the consumer is running
+        template.sendBodyAndHeader(fileUri("foo/bar?tempPrefix=."), "d", Exchange.FILE_NAME, "d.txt");
+        template.sendBodyAndHeader(fileUri("?tempPrefix=."), "e", Exchange.FILE_NAME, "e.txt");
+        template.sendBodyAndHeader(fileUri("baz?tempPrefix=."), "f", Exchange.FILE_NAME, "f.txt");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("?initialDelay=0&delay=10&recursive=true&noop=true&incrementalScan=true"))
+                        .routeId("incremental").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
@@ -0,0 +1,77 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+public class FileConsumerParallelWalkTest extends ContextTestSupport {
+
+    @Test
+    public void testParallelWalk() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(100);
+
+        for (int i = 0; i < 20; i++) {
+            for (int j = 0; j < 5; j++) {
+                template.sendBodyAndHeader(fileUri("tree/dir" + i + "/sub" + j), "Hello " + i + "-" + j,
+                        Exchange.FILE_NAME, "hello.txt");
+            }
+        }
+
+        context.getRouteController().startRoute("tree");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testParallelWalkMaxMessagesPerPoll() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        // the files are polled in the same order as a sequential walk, and deeper files are not polled
+        mock.expectedBodiesReceived("a1", "a2", "b1", "b2", "c1", "c2");
+
+        template.sendBodyAndHeader(fileUri("limit/c"), "c2", Exchange.FILE_NAME, "2.txt");
+        template.sendBodyAndHeader(fileUri("limit/c"), "c1", Exchange.FILE_NAME, "1.txt");
+        template.sendBodyAndHeader(fileUri("limit/b"), "b2", Exchange.FILE_NAME, "2.txt");
+        template.sendBodyAndHeader(fileUri("limit/b"), "b1", Exchange.FILE_NAME, "1.txt");
+        template.sendBodyAndHeader(fileUri("limit/a"), "a2", Exchange.FILE_NAME, "2.txt");
+        template.sendBodyAndHeader(fileUri("limit/a"), "a1", Exchange.FILE_NAME, "1.txt");
+        template.sendBodyAndHeader(fileUri("limit/a/x"), "deep", Exchange.FILE_NAME, "deep.txt");
+
+        context.getRouteController().startRoute("limit");
+        assertMockEndpointsSatisfied();
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from(fileUri("tree?initialDelay=0&delay=10&recursive=true&noop=true&walkParallelism=4&walkMaxPending=10"))
+                        .routeId("tree").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+
+                from(fileUri("limit?initialDelay=0&delay=10&recursive=true&noop=true&maxDepth=2&preSort=true"
+                             + "&maxMessagesPerPoll=3&walkParallelism=2"))
+                        .routeId("limit").noAutoStartup()
+                        .convertBodyTo(String.class).to("mock:result");
+            }
+        };
+    }
+}
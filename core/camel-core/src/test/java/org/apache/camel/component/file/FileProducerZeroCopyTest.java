@@ -0,0 +1,59 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.file;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class FileProducerZeroCopyTest extends ContextTestSupport {
+
+    @Test
+    public void testWriteFileBody() throws Exception {
+        File source = testDirectory(true).resolve("source.txt").toFile();
+        Files.writeString(source.toPath(), "Hello World");
+
+        template.sendBodyAndHeader(fileUri("out"), source, Exchange.FILE_NAME, "hello.txt");
+        assertFileExists(testFile("out/hello.txt"), "Hello World");
+
+        // writing the file to itself does not truncate it
+        template.sendBodyAndHeader(fileUri("out"), testFile("out/hello.txt").toFile(), Exchange.FILE_NAME, "hello.txt");
+        assertFileExists(testFile("out/hello.txt"), "Hello World");
+
+        FileEndpoint endpoint = context.getEndpoint(fileUri("out"), FileEndpoint.class);
+        assertEquals(11, endpoint.getZeroCopyTransferredBytes());
+    }
+
+    @Test
+    public void testAppendFileBody() throws Exception {
+        File source = testDirectory(true).resolve("source.txt").toFile();
+        Files.writeString(source.toPath(), "World");
+
+        String uri = fileUri("out?fileExist=Append&appendChars=!");
+        template.sendBodyAndHeader(uri, "Hello ", Exchange.FILE_NAME, "hello.txt");
+        template.sendBodyAndHeader(uri, source, Exchange.FILE_NAME, "hello.txt");
+        assertFileExists(testFile("out/hello.txt"), "Hello !World!");
+
+        FileEndpoint endpoint = context.getEndpoint(uri, FileEndpoint.class);
+        assertEquals(5, endpoint.getZeroCopyTransferredBytes());
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.seda.RingBufferBlockingQueue.WaitStrategies;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RingBufferBlockingQueueTest {
+
+    @Test
+    public void testOfferAndPoll() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(3);
+        assertEquals(4, queue.getCapacity());
+        assertTrue(queue.isEmpty());
+
+        assertTrue(queue.offer("A"));
+        assertTrue(queue.offer("B"));
+        assertTrue(queue.offer("C"));
+        assertTrue(queue.offer("D"));
+        assertFalse(queue.offer("E"));
+        assertFalse(queue.offer("E", 10, TimeUnit.MILLISECONDS));
+        assertEquals(4, queue.size());
+        assertEquals(0, queue.remainingCapacity());
+        assertEquals("[A, B, C, D]", new ArrayList<>(queue).toString());
+
+        assertEquals("A", queue.peek());
+        assertEquals("A", queue.poll());
+        assertEquals("B", queue.take());
+        // the freed slots can be used again in the next lap
+        assertTrue(queue.offer("E"));
+        assertTrue(queue.offer("F"));
+
+        List<String> drained = new ArrayList<>();
+        assertEquals(3, queue.drainTo(drained, 3));
+        assertEquals("[C, D, E]", drained.toString());
+        assertEquals("F", queue.poll(10, TimeUnit.MILLISECONDS));
+        assertNull(queue.poll());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+        assertTrue(queue.isEmpty());
+    }
+
+    @Test
+    public void testRemove() throws Exception {
+        RingBufferBlockingQueue<String> queue = new RingBufferBlockingQueue<>(4);
+        queue.offer("A");
+        queue.offer("B");
+        queue.offer("C");
+        assertTrue(queue.remove("B"));
+        assertFalse(queue.remove("B"));
+        assertFalse(queue.remove("X"));
+        assertEquals("[A, C]", new ArrayList<>(queue).toString());
+
+        // the removed slots are skipped by peek and poll
+        assertTrue(queue.remove("A"));
+        assertEquals("C", queue.peek());
+        assertEquals("C", queue.poll());
+        assertNull(queue.peek());
+        assertNull(queue.poll());
+        assertTrue(queue.isEmpty());
+
+        // and the slots can be used again in the next lap
+        for (String s : new String[] { "D", "E", "F", "G" }) {
+            assertTrue(queue.offer(s));
+        }
+        assertTrue(queue.remove("G"));
+        assertEquals("D", queue.take());
+        queue.clear();
+        assertTrue(queue.isEmpty());
+        assertNull(queue.poll(10, TimeUnit.MILLISECONDS));
+    }
+
+    @Test
+    public void testMultipleProducersMultipleConsumers() throws Exception {
+        doTestConcurrent(new RingBufferBlockingQueue<>(64, false, WaitStrategies.YIELD), 4, 4);
+    }
+
+    @Test
+    public void testMultipleProducersSingleConsumer() throws Exception {
+        doTestConcurrent(new RingBufferBlockingQueue<>(64, true, WaitStrategies.PARK), 4, 1);
+    }
+
+    private void doTestConcurrent(RingBufferBlockingQueue<Integer> queue, int producers, int consumers) throws Exception {
+        final int perProducer = 20000;
+        final int total = producers * perProducer;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + consumers);
+        try {
+            List<Future<Long>> sums = new ArrayList<>();
+            for (int i = 0; i < consumers; i++) {
+                final int count = total / consumers + (i < total % consumers ? 1 : 0);
+                sums.add(executor.submit(() -> {
+                    long sum = 0;
+                    for (int n = 0; n < count; n++) {
+                        sum += queue.take();
+                    }
+                    return sum;
+                }));
+            }
+            for (int i = 0; i < producers; i++) {
+                final int offset = i * perProducer;
+                executor.submit(() -> {
+                    for (int n = 1; n <= perProducer; n++) {
+                        queue.put(offset + n);
+                    }
+                    return null;
+                });
+            }
+
+            long sum = 0;
+            for (Future<Long> f : sums) {
+                sum += f.get(30, TimeUnit.SECONDS);
+            }
+            // every element must be taken exactly once
+            assertEquals((long) total * (total + 1) / 2, sum);
+            assertTrue(queue.isEmpty());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,143 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.List;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExchangePattern;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class SedaBatchConsumerTest extends ContextTestSupport {
+
+    @Test
+    public void testBatch() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("A", "B", "C", "D", "E", "F", "G");
+        mock.message(0).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(0);
+        mock.message(0).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(5);
+        mock.message(0).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(false);
+        mock.message(4).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(4);
+        mock.message(4).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+        mock.message(6).exchangeProperty(Exchange.BATCH_INDEX).isEqualTo(1);
+        mock.message(6).exchangeProperty(Exchange.BATCH_SIZE).isEqualTo(2);
+        mock.message(6).exchangeProperty(Exchange.BATCH_COMPLETE).isEqualTo(true);
+
+        // add the messages before the consumer is started, so they are all on the queue
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F", "G" }) {
+            template.sendBody("seda:foo", body);
+        }
+        context.getRouteController().startRoute("foo");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testBatchGrouped() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(2);
+
+        for (String body : new String[] { "A", "B", "C", "D", "E", "F", "G" }) {
+            template.sendBody("seda:bar", body);
+        }
+        context.getRouteController().startRoute("bar");
+
+        assertMockEndpointsSatisfied();
+
+        List<?> first = mock.getReceivedExchanges().get(0).getMessage().getBody(List.class);
+        assertEquals(5, first.size());
+        assertEquals("A", ((Exchange) first.get(0)).getMessage().getBody());
+        assertEquals("E", ((Exchange) first.get(4)).getMessage().getBody());
+        List<?> second = mock.getReceivedExchanges().get(1).getMessage().getBody(List.class);
+        assertEquals(2, second.size());
+        assertEquals("G", ((Exchange) second.get(1)).getMessage().getBody());
+    }
+
+    @Test
+    public void testBatchGroupedRequestReply() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:grouped");
+        mock.expectedMessageCount(1);
+        context.getRouteController().startRoute("bar");
+
+        // the caller waits until the grouped exchange is done
+        Object out = template.requestBody("seda:bar", "Hello World");
+        assertEquals("Hello World", out);
+
+        // wait for the batch timeout to fill up a partial batch (which we do not fill up)
+        Object out2 = template.requestBody("seda:baz", "Bye World");
+        assertEquals("Bye World", out2);
+
+        assertMockEndpointsSatisfied();
+        assertEquals(1, getMockEndpoint("mock:timeout").getReceivedCounter());
+    }
+
+    @Test
+    public void testBatchGroupedAsyncRouting() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:async");
+        mock.expectedMessageCount(1);
+        context.getRouteController().startRoute("async");
+
+        Future<Exchange> future = template.asyncSend("seda:async", e -> {
+            e.setPattern(ExchangePattern.InOut);
+            e.getMessage().setBody("Hello World");
+        });
+
+        // the batch is no longer on the queue but must be pending until the grouped exchange is done
+        SedaConsumer consumer = (SedaConsumer) context.getRoute("async").getConsumer();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.getPendingExchangesSize() == 1);
+        assertEquals(0, context.getEndpoint("seda:async", SedaEndpoint.class).getQueue().size());
+
+        // the grouped exchange continues on another thread, so the caller must wait until it is done there
+        Exchange out = future.get(5, TimeUnit.SECONDS);
+        assertEquals(1, mock.getReceivedCounter());
+        assertIsInstanceOf(IllegalArgumentException.class, out.getException());
+        assertEquals("Forced", out.getException().getMessage());
+
+        assertMockEndpointsSatisfied();
+        await().atMost(5, TimeUnit.SECONDS).until(() -> consumer.getPendingExchangesSize() == 0);
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:foo?batchSize=5").routeId("foo").autoStartup(false)
+                        .to("mock:result");
+
+                from("seda:bar?batchSize=5&batchGrouped=true").routeId("bar").autoStartup(false)
+                        .to("mock:grouped");
+
+                from("seda:baz?batchSize=5&batchGrouped=true&batchTimeout=100")
+                        .to("mock:timeout");
+
+                from("seda:async?batchSize=5&batchGrouped=true").routeId("async").autoStartup(false)
+                        .threads(1).delay(200)
+                        .to("mock:async")
+                        .throwException(new IllegalArgumentException("Forced"));
+            }
+        };
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.component.seda;
+
+import java.util.concurrent.BlockingQueue;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.component.seda.RingBufferBlockingQueue.WaitStrategies;
+import org.apache.camel.component.vm.VmEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SedaRingBufferQueueFactoryTest extends ContextTestSupport {
+
+    private final RingBufferBlockingQueueFactory<Exchange> ringQueueFactory = new RingBufferBlockingQueueFactory<>();
+    private final RingBufferBlockingQueueFactory<Exchange> mpscQueueFactory = new RingBufferBlockingQueueFactory<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        mpscQueueFactory.setSingleConsumer(true);
+        mpscQueueFactory.setWaitStrategy(WaitStrategies.YIELD);
+        context.getRegistry().bind("ringQueueFactory", ringQueueFactory);
+        context.getRegistry().bind("mpscQueueFactory", mpscQueueFactory);
+        return context;
+    }
+
+    @Test
+    public void testRingBufferQueueFactory() throws Exception {
+        SedaEndpoint endpoint = resolveMandatoryEndpoint("seda:ring?queueFactory=#ringQueueFactory&size=100", SedaEndpoint.class);
+
+        BlockingQueue<Exchange> queue = endpoint.getQueue();
+        RingBufferBlockingQueue<Exchange> ring = assertIsInstanceOf(RingBufferBlockingQueue.class, queue);
+        assertEquals(128, ring.getCapacity());
+        assertFalse(ring.isSingleConsumer());
+        assertSame(WaitStrategies.PARK, ring.getWaitStrategy());
+    }
+
+    @Test
+    public void testRingBufferQueueFactoryVm() throws Exception {
+        VmEndpoint endpoint = resolveMandatoryEndpoint("vm:ring?queueFactory=#mpscQueueFactory", VmEndpoint.class);
+
+        RingBufferBlockingQueue<Exchange> ring = assertIsInstanceOf(RingBufferBlockingQueue.class, endpoint.getQueue());
+        assertEquals(1024, ring.getCapacity());
+        assertTrue(ring.isSingleConsumer());
+    }
+
+    @Test
+    public void testRoute() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(200);
+        MockEndpoint single = getMockEndpoint("mock:single");
+        single.expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("seda:start", "Message " + i);
+            template.sendBody("seda:single", "Message " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testRequestReply() throws Exception {
+        assertEquals("Bye World", template.requestBody("seda:reply", "World"));
+    }
+
+    @Test
+    public void testSingleConsumerWithConcurrentConsumers() throws Exception {
+        Exception e = assertThrows(Exception.class, () -> context.addRoutes(new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:concurrent?queueFactory=#mpscQueueFactory&concurrentConsumers=2")
+                        .to("mock:concurrent");
+            }
+        }));
+        assertIsInstanceOf(IllegalArgumentException.class, e.getCause());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("seda:start?queueFactory=#ringQueueFactory&concurrentConsumers=4")
+                        .to("mock:result");
+
+                from("seda:single?queueFactory=#mpscQueueFactory")
+                        .to("mock:single");
+
+                from("seda:reply?queueFactory=#ringQueueFactory")
+                        .transform(body().prepend("Bye "));
+            }
+        };
+    }
+}
@@ -0,0 +1,243 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.StreamCache;
+import org.apache.camel.impl.engine.DefaultUnitOfWork;
+import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CachedOutputStreamOffHeapTest extends ContextTestSupport {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private Exchange exchange;
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.setStreamCaching(true);
+        context.getStreamCachingStrategy().setSpoolDirectory(testDirectory(true).toFile());
+        context.getStreamCachingStrategy().setSpoolEnabled(true);
+        context.getStreamCachingStrategy().setSpoolThreshold(16);
+        context.getStreamCachingStrategy().setSpoolOffHeapMaxSize(2 * BUFFER_SIZE);
+        return context;
+    }
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        exchange = newExchange();
+    }
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private Exchange newExchange() {
+        Exchange answer = new DefaultExchange(context);
+        UnitOfWork uow = new DefaultUnitOfWork(answer);
+        answer.adapt(ExtendedExchange.class).setUnitOfWork(uow);
+        return answer;
+    }
+
+    private static byte[] data(int length) {
+        byte[] data = new byte[length];
+        for (int i = 0; i < length; i++) {
+            data[i] = (byte) i;
+        }
+        return data;
+    }
+
+    private static byte[] readAll(InputStream is) throws IOException {
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        byte[] buffer = new byte[1000];
+        int n;
+        while ((n = is.read(buffer)) != -1) {
+            bos.write(buffer, 0, n);
+        }
+        return bos.toByteArray();
+    }
+
+    private StreamCachingStrategy.SpoolBufferPool pool() {
+        return context.getStreamCachingStrategy().getSpoolBufferPool();
+    }
+
+    @Test
+    public void testSpoolOffHeap() throws Exception {
+        context.start();
+        assertNotNull(pool());
+
+        byte[] data = data(100000);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        // write in small chunks to cross the buffer boundary
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+        cos.write(42);
+
+        // nothing spooled to disk
+        File dir = testDirectory().toFile();
+        assertEquals(0, dir.list().length);
+        assertEquals(2 * BUFFER_SIZE, pool().getUsedSize());
+
+        byte[] expected = new byte[data.length + 1];
+        System.arraycopy(data, 0, expected, 0, data.length);
+        expected[data.length] = 42;
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(DirectBufferInputStreamCache.class, cache);
+        assertEquals(expected.length, cache.length());
+        assertArrayEquals(expected, readAll((InputStream) cache));
+
+        // re-read
+        cache.reset();
+        assertEquals(0, ((InputStream) cache).read());
+        assertEquals(1000, ((InputStream) cache).skip(1000));
+        assertEquals(expected[1001], (byte) ((InputStream) cache).read());
+
+        cache.reset();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertArrayEquals(expected, bos.toByteArray());
+
+        // the copy shares the buffers until both exchanges are done
+        Exchange other = newExchange();
+        StreamCache copy = cache.copy(other);
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(2 * BUFFER_SIZE, pool().getUsedSize());
+        assertArrayEquals(expected, readAll((InputStream) copy));
+
+        other.getUnitOfWork().done(other);
+        assertEquals(0, pool().getUsedSize());
+        assertEquals(2 * BUFFER_SIZE, pool().getPooledSize());
+
+        cache.reset();
+        assertThrows(IOException.class, () -> ((InputStream) cache).read());
+    }
+
+    @Test
+    public void testSpoolToDiskWhenPoolExhausted() throws Exception {
+        context.start();
+
+        byte[] data = data(3 * BUFFER_SIZE);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        for (int i = 0; i < data.length; i += 1000) {
+            cos.write(data, i, Math.min(1000, data.length - i));
+        }
+
+        // spooled to disk, and the buffers are released
+        File dir = testDirectory().toFile();
+        assertEquals(1, dir.list().length);
+        assertEquals(0, pool().getUsedSize());
+        assertTrue(pool().getExhaustedCounter() > 0);
+
+        StreamCache cache = cos.newStreamCache();
+        assertInstanceOf(FileInputStreamCache.class, cache);
+        assertArrayEquals(data, readAll((InputStream) cache));
+
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(0, dir.list().length);
+    }
+
+    @Test
+    public void testSpoolToDiskWhenPoolInUse() throws Exception {
+        context.start();
+
+        // the first stream uses all the buffers
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data(2 * BUFFER_SIZE));
+        assertInstanceOf(DirectBufferInputStreamCache.class, cos.newStreamCache());
+
+        // so the second stream is spooled to disk
+        Exchange other = newExchange();
+        CachedOutputStream cos2 = new CachedOutputStream(other);
+        cos2.write(data(100));
+        assertInstanceOf(FileInputStreamCache.class, cos2.newStreamCache());
+
+        exchange.getUnitOfWork().done(exchange);
+        other.getUnitOfWork().done(other);
+        assertEquals(0, pool().getUsedSize());
+    }
+
+    @Test
+    public void testReleaseWhileReading() throws Exception {
+        context.start();
+
+        byte[] data = data(2 * BUFFER_SIZE);
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data);
+        StreamCache cache = cos.newStreamCache();
+
+        // the exchange is done while the stream cache is written, so the buffers must be kept until the write is done
+        ByteArrayOutputStream bos = new ByteArrayOutputStream() {
+            @Override
+            public synchronized void write(byte[] b, int off, int len) {
+                if (size() == 0) {
+                    exchange.getUnitOfWork().done(exchange);
+                    assertEquals(2 * BUFFER_SIZE, pool().getUsedSize());
+                }
+                super.write(b, off, len);
+            }
+        };
+        cache.writeTo(bos);
+        assertArrayEquals(data, bos.toByteArray());
+        assertEquals(0, pool().getUsedSize());
+
+        // and then the stream cache can no longer be read
+        cache.reset();
+        assertThrows(IOException.class, () -> cache.writeTo(new ByteArrayOutputStream()));
+    }
+
+    @Test
+    public void testFreeBuffersOnStop() throws Exception {
+        context.start();
+        StreamCachingStrategy.SpoolBufferPool pool = pool();
+
+        CachedOutputStream cos = new CachedOutputStream(exchange);
+        cos.write(data(100));
+        cos.newStreamCache();
+        exchange.getUnitOfWork().done(exchange);
+        assertEquals(BUFFER_SIZE, pool.getPooledSize());
+
+        context.getStreamCachingStrategy().stop();
+        assertEquals(0, pool.getPooledSize());
+        assertEquals(0, pool.getUsedSize());
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.Iterator;
+import java.util.Map;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.impl.engine.CopyOnWriteHeadersMap;
+import org.apache.camel.impl.engine.CopyOnWriteHeadersMapFactory;
+import org.apache.camel.processor.aggregate.UseOriginalAggregationStrategy;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class CopyOnWriteHeadersMapFactoryRouteTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setHeadersMapFactory(new CopyOnWriteHeadersMapFactory());
+        return context;
+    }
+
+    @Test
+    public void testCopyOnWriteHeaders() throws Exception {
+        getMockEndpoint("mock:a").expectedHeaderReceived("foo", 123);
+        getMockEndpoint("mock:a").expectedHeaderReceived("bar", "a");
+        getMockEndpoint("mock:b").expectedHeaderReceived("foo", 123);
+        getMockEndpoint("mock:b").expectedHeaderReceived("bar", "b");
+        getMockEndpoint("mock:result").expectedHeaderReceived("FOO", 123);
+        getMockEndpoint("mock:result").expectedHeaderReceived("bar", "yes");
+
+        template.sendBodyAndHeaders("direct:start", "Hello World", Map.of("foo", 123, "Bar", "yes"));
+
+        assertMockEndpointsSatisfied();
+    }
+
+    @Test
+    public void testCopySharesHeaders() {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getMessage().setHeader("foo", 123);
+        exchange.getMessage().setHeader("bar", "yes");
+
+        Exchange copy = exchange.copy();
+        Map<String, Object> headers = exchange.getMessage().getHeaders();
+        Map<String, Object> copied = copy.getMessage().getHeaders();
+        assertInstanceOf(CopyOnWriteHeadersMap.class, copied);
+        assertTrue(((CopyOnWriteHeadersMap) headers).isShared());
+        assertTrue(((CopyOnWriteHeadersMap) copied).isShared());
+
+        copy.getMessage().setHeader("FOO", 456);
+        copy.getMessage().removeHeader("bar");
+        assertFalse(((CopyOnWriteHeadersMap) copied).isShared());
+        assertEquals(123, exchange.getMessage().getHeader("foo"));
+        assertEquals("yes", exchange.getMessage().getHeader("bar"));
+        assertEquals(456, copy.getMessage().getHeader("foo"));
+        assertNull(copy.getMessage().getHeader("bar"));
+    }
+
+    @Test
+    public void testCopyOnWriteViews() {
+        CopyOnWriteHeadersMap map = new CopyOnWriteHeadersMap(Map.of("foo", 123, "bar", "yes", "baz", true));
+        CopyOnWriteHeadersMap copy = map.copy();
+
+        for (Map.Entry<String, Object> entry : copy.entrySet()) {
+            if ("foo".equals(entry.getKey())) {
+                entry.setValue(456);
+            }
+        }
+        for (Iterator<String> it = copy.keySet().iterator(); it.hasNext();) {
+            if ("bar".equals(it.next())) {
+                it.remove();
+            }
+        }
+        copy.values().remove(true);
+
+        assertEquals(3, map.size());
+        assertEquals(123, map.get("FOO"));
+        assertEquals(Map.of("foo", 456), copy);
+
+        copy.clear();
+        assertTrue(copy.isEmpty());
+        assertEquals(3, map.size());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .multicast(new UseOriginalAggregationStrategy()).to("direct:a", "direct:b").end()
+                        .wireTap("direct:b")
+                        .to("mock:result");
+
+                from("direct:a").setHeader("bar", constant("a")).to("mock:a");
+                from("direct:b").setHeader("bar", constant("b")).to("mock:b");
+            }
+        };
+    }
+
+}
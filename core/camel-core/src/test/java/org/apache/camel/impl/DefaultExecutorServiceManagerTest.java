@@ -20,11 +20,13 @@ import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import org.apache.camel.ContextTestSupport;
 import org.apache.camel.spi.ThreadPoolProfile;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
 import org.apache.camel.util.concurrent.ThreadPoolRejectedPolicy;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
 import org.junit.jupiter.api.Disabled;
 import org.junit.jupiter.api.Test;
 
@@ -523,6 +525,51 @@ public class DefaultExecutorServiceManagerTest extends ContextTestSupport {
         assertTrue(thread.getName().contains("Cool"));
     }
 
+    @Test
+    public void testVirtualThreadsProfile() throws Exception {
+        ThreadPoolProfile profile = new ThreadPoolProfile("virtual");
+        profile.setVirtualThreads(true);
+        context.getExecutorServiceManager().registerThreadPoolProfile(profile);
+
+        ExecutorService pool = context.getExecutorServiceManager().newThreadPool(this, "Cool", "virtual");
+        assertNotNull(pool);
+
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        pool.submit(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+
+        if (VirtualThreadHelper.isVirtualThreadsSupported()) {
+            assertTrue(VirtualThreadHelper.isVirtual(thread.get()));
+            assertTrue(thread.get().getName().endsWith("Cool"));
+        } else {
+            // falls back to a regular thread pool with the settings from the default profile
+            ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, pool);
+            assertEquals(10, tp.getCorePoolSize());
+            assertFalse(VirtualThreadHelper.isVirtual(thread.get()));
+        }
+
+        context.getExecutorServiceManager().shutdown(pool);
+    }
+
+    @Test
+    public void testVirtualThreadsInheritedFromDefaultProfile() throws Exception {
+        context.getExecutorServiceManager().getDefaultThreadPoolProfile().setVirtualThreads(true);
+
+        ExecutorService pool = context.getExecutorServiceManager().newDefaultThreadPool(this, "Cool");
+        AtomicReference<Thread> thread = new AtomicReference<>();
+        pool.submit(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+        assertEquals(VirtualThreadHelper.isVirtualThreadsSupported(), VirtualThreadHelper.isVirtual(thread.get()));
+
+        // a single threaded pool keeps running its tasks in order
+        ExecutorService single = context.getExecutorServiceManager().newSingleThreadExecutor(this, "Single");
+        ThreadPoolExecutor tp = assertIsInstanceOf(ThreadPoolExecutor.class, single);
+        assertEquals(1, tp.getMaximumPoolSize());
+        single.submit(() -> thread.set(Thread.currentThread())).get(5, TimeUnit.SECONDS);
+        assertEquals(VirtualThreadHelper.isVirtualThreadsSupported(), VirtualThreadHelper.isVirtual(thread.get()));
+
+        context.getExecutorServiceManager().shutdown(pool);
+        context.getExecutorServiceManager().shutdown(single);
+    }
+
     @Disabled("This is a manual test, by looking at the logs")
     public void xxxtestLongShutdownOfThreadPool() throws Exception {
         final CountDownLatch latch = new CountDownLatch(1);
@@ -0,0 +1,56 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.StartupStep;
+import org.apache.camel.support.startup.DefaultStartupStepRecorder;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterLoaderStartupStepTest extends ContextTestSupport {
+
+    private final List<StartupStep> steps = new CopyOnWriteArrayList<>();
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = new DefaultCamelContext(false);
+        DefaultStartupStepRecorder recorder = new DefaultStartupStepRecorder() {
+            @Override
+            protected void onEndStep(StartupStep step) {
+                steps.add(step);
+            }
+        };
+        recorder.setEnabled(true);
+        context.adapt(ExtendedCamelContext.class).setStartupStepRecorder(recorder);
+        return context;
+    }
+
+    @Test
+    public void testLoadTypeConverterLoaderSteps() throws Exception {
+        assertTrue(steps.stream()
+                .filter(s -> "TypeConverterLoader".equals(s.getType()))
+                .anyMatch(s -> s.getName().endsWith("CamelBaseBulkConverterLoader")));
+    }
+
+}
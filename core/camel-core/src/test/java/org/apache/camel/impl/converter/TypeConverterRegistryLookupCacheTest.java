@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.converter;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.spi.TypeConverterRegistry;
+import org.apache.camel.support.TypeConverterSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TypeConverterRegistryLookupCacheTest extends ContextTestSupport {
+
+    private TypeConverterRegistry registry;
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        super.setUp();
+
+        registry = context.getTypeConverterRegistry();
+        registry.getStatistics().setStatisticsEnabled(true);
+        registry.getStatistics().reset();
+    }
+
+    @Test
+    public void testLookupBySuperType() throws Exception {
+        registry.addTypeConverter(Country.class, CharSequence.class, new CountryConverter());
+
+        // the converter is looked up by the interface of the value
+        Country country = context.getTypeConverter().convertTo(Country.class, new StringBuilder("en"));
+        assertNotNull(country);
+        assertEquals("en", country.getIso());
+        long misses = registry.getStatistics().getLookupCacheMissCounter();
+        assertEquals(1, misses);
+
+        // and then resolved from the previous lookup
+        country = context.getTypeConverter().convertTo(Country.class, new StringBuilder("da"));
+        assertEquals("da", country.getIso());
+        assertEquals(misses, registry.getStatistics().getLookupCacheMissCounter());
+        assertEquals(1, registry.getStatistics().getLookupCacheHitCounter());
+    }
+
+    @Test
+    public void testLookupWithoutConverter() throws Exception {
+        assertNull(context.getTypeConverter().tryConvertTo(Country.class, 123));
+        long misses = registry.getStatistics().getLookupCacheMissCounter();
+
+        // the converter is not looked up again
+        assertNull(context.getTypeConverter().tryConvertTo(Country.class, 456));
+        assertEquals(misses, registry.getStatistics().getLookupCacheMissCounter());
+        long hits = registry.getStatistics().getLookupCacheHitCounter();
+        assertTrue(hits > 0);
+
+        // until a converter is added
+        registry.addTypeConverter(Country.class, Number.class, new CountryConverter());
+        Country country = context.getTypeConverter().tryConvertTo(Country.class, 789);
+        assertNotNull(country);
+        assertEquals("789", country.getIso());
+        assertEquals(misses + 1, registry.getStatistics().getLookupCacheMissCounter());
+
+        registry.getStatistics().reset();
+        assertEquals(0, registry.getStatistics().getLookupCacheHitCounter());
+        assertEquals(0, registry.getStatistics().getLookupCacheMissCounter());
+    }
+
+    @Test
+    public void testMissRemovedWhenConverterAdded() throws Exception {
+        assertNull(context.getTypeConverter().convertTo(Country.class, 123L));
+
+        registry.addTypeConverter(Country.class, Number.class, new CountryConverter());
+        Country country = context.getTypeConverter().convertTo(Country.class, 123L);
+        assertNotNull(country);
+        assertEquals("123", country.getIso());
+    }
+
+    private static class CountryConverter extends TypeConverterSupport {
+
+        @Override
+        public <T> T convertTo(Class<T> type, Exchange exchange, Object value) {
+            Country country = new Country();
+            country.setIso(value.toString());
+            return type.cast(country);
+        }
+    }
+}
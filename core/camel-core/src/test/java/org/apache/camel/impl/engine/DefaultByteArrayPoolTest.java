@@ -0,0 +1,213 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.StreamCache;
+import org.apache.camel.spi.ByteArrayPool;
+import org.apache.camel.support.ByteArrayPoolHelper;
+import org.apache.camel.support.DefaultExchange;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class DefaultByteArrayPoolTest extends ContextTestSupport {
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    @Test
+    public void testSizeClasses() {
+        DefaultByteArrayPool pool = new DefaultByteArrayPool();
+
+        assertEquals(4096, pool.acquire(0).length);
+        assertEquals(4096, pool.acquire(4096).length);
+        assertEquals(8192, pool.acquire(4097).length);
+        assertEquals(262144, pool.acquire(200000).length);
+        // too big to be pooled
+        assertEquals(300000, pool.acquire(300000).length);
+        assertEquals(5, pool.getStatistics().getMissCounter());
+        assertEquals(0, pool.getStatistics().getHitCounter());
+    }
+
+    @Test
+    public void testReuse() {
+        DefaultByteArrayPool pool = new DefaultByteArrayPool();
+
+        byte[] a = pool.acquire(5000);
+        byte[] b = pool.acquire(5000);
+        assertNotSame(a, b);
+        pool.release(a);
+        pool.release(b);
+        // arrays which are not of any size class are discarded
+        pool.release(new byte[5000]);
+        pool.release(new byte[1 << 20]);
+        assertEquals(2, pool.getStatistics().getReleasedCounter());
+        assertEquals(2, pool.getStatistics().getDiscardedCounter());
+
+        // the thread cache first, then the shared queue
+        assertSame(a, pool.acquire(8000));
+        assertSame(b, pool.acquire(6000));
+        assertEquals(2, pool.getStatistics().getHitCounter());
+        assertEquals(2, pool.getStatistics().getMissCounter());
+
+        pool.release(a);
+        pool.purge();
+        assertNotSame(a, pool.acquire(8000));
+
+        pool.getStatistics().reset();
+        assertEquals(0, pool.getStatistics().getHitCounter());
+    }
+
+    @Test
+    public void testCapacity() {
+        DefaultByteArrayPool pool = new DefaultByteArrayPool();
+        pool.setCapacity(2);
+
+        for (int i = 0; i < 5; i++) {
+            pool.release(new byte[4096]);
+        }
+        // one in the thread cache and two in the shared queue
+        assertEquals(3, pool.getStatistics().getReleasedCounter());
+        assertEquals(2, pool.getStatistics().getDiscardedCounter());
+    }
+
+    @Test
+    public void testOnlySmallBuffersCachedPerThread() {
+        DefaultByteArrayPool pool = new DefaultByteArrayPool();
+        pool.setCapacity(0);
+
+        // the small buffers are kept in the thread cache, the big ones would go in the (empty) shared queue
+        pool.release(new byte[16384]);
+        pool.release(new byte[32768]);
+        assertEquals(1, pool.getStatistics().getReleasedCounter());
+        assertEquals(1, pool.getStatistics().getDiscardedCounter());
+    }
+
+    @Test
+    public void testPurgeClearsOtherThreadCaches() throws Exception {
+        DefaultByteArrayPool pool = new DefaultByteArrayPool();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            byte[] buffer = executor.submit(() -> {
+                byte[] answer = pool.acquire(4096);
+                pool.release(answer);
+                return answer;
+            }).get();
+            pool.purge();
+            // the buffer cached by the other thread is no longer used
+            assertNotSame(buffer, executor.submit(() -> pool.acquire(4096)).get());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testSharedBetweenThreads() throws Exception {
+        DefaultByteArrayPool pool = new DefaultByteArrayPool();
+        pool.release(new byte[4096]);
+        pool.release(new byte[4096]);
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            Future<byte[]> future = executor.submit(() -> pool.acquire(100));
+            future.get();
+        } finally {
+            executor.shutdownNow();
+        }
+        // the other thread got the buffer from the shared queue
+        assertEquals(1, pool.getStatistics().getHitCounter());
+    }
+
+    @Test
+    public void testConvertersUsePool() throws Exception {
+        ByteArrayPool pool = context.adapt(ExtendedCamelContext.class).getByteArrayPool();
+        assertTrue(pool instanceof DefaultByteArrayPool);
+        pool.getStatistics().reset();
+
+        byte[] data = new byte[100000];
+        Arrays.fill(data, (byte) 'x');
+
+        for (int i = 0; i < 3; i++) {
+            InputStream is = new NonBufferedInputStream(data);
+            byte[] out = context.getTypeConverter().convertTo(byte[].class, new DefaultExchange(context), is);
+            assertArrayEquals(data, out);
+        }
+        assertEquals(1, pool.getStatistics().getMissCounter());
+        assertEquals(2, pool.getStatistics().getHitCounter());
+        assertEquals(3, pool.getStatistics().getReleasedCounter());
+
+        context.setStreamCaching(true);
+        StreamCache cache = context.getTypeConverter().convertTo(StreamCache.class, new DefaultExchange(context),
+                new NonBufferedInputStream(data));
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        cache.writeTo(bos);
+        assertArrayEquals(data, bos.toByteArray());
+        assertEquals(3, pool.getStatistics().getHitCounter());
+    }
+
+    @Test
+    public void testCopyWithoutPool() throws Exception {
+        byte[] data = "Hello World".getBytes();
+        ByteArrayOutputStream bos = new ByteArrayOutputStream();
+        assertEquals(data.length, ByteArrayPoolHelper.copy(null, new ByteArrayInputStream(data), bos));
+        assertArrayEquals(data, bos.toByteArray());
+    }
+
+    /**
+     * An input stream which is not a {@link ByteArrayInputStream} so it is not optimized by the converters.
+     */
+    private static final class NonBufferedInputStream extends InputStream {
+
+        private final ByteArrayInputStream delegate;
+
+        NonBufferedInputStream(byte[] data) {
+            this.delegate = new ByteArrayInputStream(data);
+        }
+
+        @Override
+        public int read() {
+            return delegate.read();
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            return delegate.read(b, off, len);
+        }
+
+        @Override
+        public int available() {
+            return delegate.available();
+        }
+    }
+}
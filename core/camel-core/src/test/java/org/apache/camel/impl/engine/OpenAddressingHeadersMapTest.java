@@ -0,0 +1,126 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.util.CaseInsensitiveMap;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class OpenAddressingHeadersMapTest {
+
+    @Test
+    public void testLookupCaseAgnostic() {
+        Map<String, Object> map = new OpenAddressingHeadersMapFactory().newMap();
+        assertNull(map.get("foo"));
+
+        map.put("foo", "cheese");
+        map.put(Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals("cheese", map.get("foo"));
+        assertEquals("cheese", map.get("Foo"));
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals("hello.txt", map.get(Exchange.FILE_NAME));
+        assertEquals("hello.txt", map.get("camelfilename"));
+        assertEquals("hello.txt", map.get(new String("CamelFileName")));
+
+        // the first key is kept
+        map.put("CAMELFILENAME", "bye.txt");
+        assertEquals(2, map.size());
+        assertEquals(List.of("foo", Exchange.FILE_NAME), new ArrayList<>(map.keySet()));
+        assertEquals("bye.txt", map.get(Exchange.FILE_NAME));
+
+        assertThrows(NullPointerException.class, () -> map.put(null, "bar"));
+    }
+
+    @Test
+    public void testConstructFromOther() {
+        Map<String, Object> other = new OpenAddressingHeadersMap();
+        other.put("Foo", "cheese");
+        other.put("bar", 123);
+
+        Map<String, Object> map = new OpenAddressingHeadersMapFactory().newMap(other);
+        other.put("foo", "changed");
+        assertEquals("cheese", map.get("FOO"));
+        assertEquals(123, map.get("BaR"));
+
+        map = new OpenAddressingHeadersMap(new CaseInsensitiveMap(other));
+        assertEquals("changed", map.get("foo"));
+        assertEquals(123, map.get("BAR"));
+        assertTrue(new OpenAddressingHeadersMapFactory().isInstanceOf(map));
+        assertFalse(new OpenAddressingHeadersMapFactory().isInstanceOf(new CaseInsensitiveMap()));
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        Map<String, Object> map = new OpenAddressingHeadersMap();
+        for (int i = 0; i < 20; i++) {
+            map.put("key" + i, i);
+        }
+        for (Iterator<Map.Entry<String, Object>> it = map.entrySet().iterator(); it.hasNext();) {
+            Map.Entry<String, Object> entry = it.next();
+            if ((Integer) entry.getValue() % 2 == 0) {
+                it.remove();
+            } else {
+                entry.setValue(-(Integer) entry.getValue());
+            }
+        }
+        assertEquals(10, map.size());
+        for (int i = 0; i < 20; i++) {
+            assertEquals(i % 2 == 0 ? null : -i, map.get("KEY" + i));
+        }
+    }
+
+    @Test
+    public void testSameAsCaseInsensitiveMap() {
+        Random random = new Random(42);
+        Map<String, Object> expected = new CaseInsensitiveMap();
+        Map<String, Object> map = new OpenAddressingHeadersMap();
+        String[] keys = { "foo", "FOO", "Bar", "bAR", Exchange.FILE_NAME, "camelfilename", Exchange.HTTP_URI, "key1",
+                "key2", "key3", "key4", "key5", "key6", "key7", "key8", "key9", "straße", "STRASSE", "Straße" };
+
+        for (int i = 0; i < 10000; i++) {
+            String key = keys[random.nextInt(keys.length)];
+            int op = random.nextInt(10);
+            if (op < 5) {
+                assertEquals(expected.put(key, i), map.put(key, i));
+            } else if (op < 8) {
+                assertEquals(expected.remove(key), map.remove(key));
+            } else if (op < 9) {
+                assertEquals(expected.get(key), map.get(key));
+                assertEquals(expected.containsKey(key), map.containsKey(key));
+            } else if (random.nextInt(20) == 0) {
+                expected.clear();
+                map.clear();
+            }
+            assertEquals(expected.size(), map.size());
+        }
+        assertEquals(expected, map);
+        assertEquals(expected.hashCode(), map.hashCode());
+    }
+}
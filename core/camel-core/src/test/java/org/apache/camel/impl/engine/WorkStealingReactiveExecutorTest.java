@@ -0,0 +1,186 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.impl.engine;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.ExtendedExchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class WorkStealingReactiveExecutorTest extends ContextTestSupport {
+
+    @Override
+    protected CamelContext createCamelContext() throws Exception {
+        CamelContext context = super.createCamelContext();
+        context.adapt(ExtendedCamelContext.class).setReactiveExecutor(new WorkStealingReactiveExecutor(2));
+        return context;
+    }
+
+    @Test
+    public void testRouteOnWorkers() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived("Bye World");
+
+        Object out = template.requestBody("direct:start", "World");
+        assertEquals("Bye World", out);
+
+        assertMockEndpointsSatisfied();
+
+        String thread = mock.getReceivedExchanges().get(0).getMessage().getHeader("thread", String.class);
+        assertTrue(thread.contains("ReactiveWorker"), "Should route on a reactive worker: " + thread);
+    }
+
+    @Test
+    public void testManyMessages() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(200);
+
+        for (int i = 0; i < 200; i++) {
+            template.sendBody("seda:start", "Hello " + i);
+        }
+
+        assertMockEndpointsSatisfied();
+
+        WorkStealingReactiveExecutor executor = (WorkStealingReactiveExecutor) context
+                .adapt(ExtendedCamelContext.class).getReactiveExecutor();
+        assertTrue(executor.isStarted());
+        assertTrue(executor.getCreatedWorkers() > 0);
+        assertTrue(executor.getStealCount() >= 0);
+        assertEquals(0, executor.getQueuedTasks());
+    }
+
+    @Test
+    public void testTransacted() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:transacted");
+        mock.expectedMessageCount(1);
+
+        template.send("direct:transacted", e -> {
+            e.adapt(ExtendedExchange.class).setTransacted(true);
+            e.getMessage().setBody("Hello");
+        });
+
+        assertMockEndpointsSatisfied();
+
+        // transacted work stays on the current thread
+        String thread = mock.getReceivedExchanges().get(0).getMessage().getHeader("thread", String.class);
+        assertEquals(Thread.currentThread().getName(), thread);
+    }
+
+    @Test
+    public void testWorkerThreads() throws Exception {
+        ClassLoader cl = new ClassLoader(getClass().getClassLoader()) {
+        };
+        context.setApplicationContextClassLoader(cl);
+        context.getExecutorServiceManager().setThreadNamePattern("Cool #counter# - #name#");
+
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor(1);
+        executor.setCamelContext(context);
+        executor.start();
+        try {
+            AtomicReference<Thread> thread = new AtomicReference<>();
+            CountDownLatch latch = new CountDownLatch(1);
+            executor.schedule(() -> {
+                thread.set(Thread.currentThread());
+                latch.countDown();
+            });
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+
+            assertSame(cl, thread.get().getContextClassLoader());
+            assertTrue(thread.get().getName().matches("Cool \\d+ - ReactiveWorker"), thread.get().getName());
+        } finally {
+            executor.stop();
+        }
+    }
+
+    @Test
+    public void testBackpressure() throws Exception {
+        WorkStealingReactiveExecutor executor = new WorkStealingReactiveExecutor(1);
+        executor.setMaxPendingTasks(1);
+        executor.start();
+        try {
+            String caller = Thread.currentThread().getName();
+            AtomicReference<String> thread = new AtomicReference<>();
+
+            // the first task of an exchange runs on the calling thread
+            executor.scheduleMain(() -> thread.set(Thread.currentThread().getName()));
+            assertEquals(caller, thread.get());
+
+            // keep the only worker busy
+            CountDownLatch running = new CountDownLatch(1);
+            CountDownLatch block = new CountDownLatch(1);
+            executor.schedule(() -> {
+                running.countDown();
+                try {
+                    block.await(5, TimeUnit.SECONDS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            assertTrue(running.await(5, TimeUnit.SECONDS));
+
+            // one task can be pending
+            CountDownLatch pending = new CountDownLatch(1);
+            executor.schedule(pending::countDown);
+            assertEquals(1, executor.getPendingTasks());
+
+            // and then the work runs on the calling thread
+            thread.set(null);
+            executor.schedule(() -> thread.set(Thread.currentThread().getName()));
+            assertEquals(caller, thread.get());
+
+            block.countDown();
+            assertTrue(pending.await(5, TimeUnit.SECONDS));
+        } finally {
+            executor.stop();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start")
+                        .enrich("direct:bye")
+                        .setHeader("thread", method(Thread.class, "currentThread().getName()"))
+                        .to("mock:result");
+
+                from("direct:bye").transform(body().prepend("Bye "));
+
+                from("seda:start?concurrentConsumers=4")
+                        .to("log:foo?level=OFF")
+                        .to("mock:result");
+
+                from("direct:transacted")
+                        .to("log:foo?level=OFF")
+                        .setHeader("thread", method(Thread.class, "currentThread().getName()"))
+                        .to("mock:transacted");
+            }
+        };
+    }
+}
@@ -0,0 +1,241 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.language.simple;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.support.DefaultExchange;
+import org.apache.camel.support.LanguageSupport;
+import org.junit.jupiter.api.Test;
+
+import static org.awaitility.Awaitility.await;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class SimpleCompileThresholdTest extends ContextTestSupport {
+
+    private final AtomicInteger compiled = new AtomicInteger();
+    private final AtomicInteger compiledEvaluations = new AtomicInteger();
+    private volatile boolean wrongResults;
+
+    @Override
+    public boolean isUseRouteBuilder() {
+        return false;
+    }
+
+    private SimpleLanguage createLanguage(int threshold, boolean compilable) {
+        SimpleLanguage answer = createLanguage(compilable);
+        answer.setCompileThreshold(threshold);
+        answer.init();
+        answer.start();
+        return answer;
+    }
+
+    private SimpleLanguage createLanguage(boolean compilable) {
+        SimpleLanguage interpreter = new SimpleLanguage();
+        interpreter.setCamelContext(context);
+
+        SimpleLanguage answer = new SimpleLanguage();
+        answer.setCamelContext(context);
+        // a compiler which uses the interpreter and counts the evaluations
+        answer.setCompiledLanguage(new LanguageSupport() {
+            @Override
+            public Predicate createPredicate(String expression) {
+                if (!compilable) {
+                    throw new IllegalArgumentException("Cannot compile " + expression);
+                }
+                compiled.incrementAndGet();
+                Predicate predicate = interpreter.createPredicate(expression);
+                return exchange -> {
+                    compiledEvaluations.incrementAndGet();
+                    return wrongResults || predicate.matches(exchange);
+                };
+            }
+
+            @Override
+            public Expression createExpression(String expression) {
+                compiled.incrementAndGet();
+                Expression exp = interpreter.createExpression(expression);
+                return new Expression() {
+                    @Override
+                    public <T> T evaluate(Exchange exchange, Class<T> type) {
+                        compiledEvaluations.incrementAndGet();
+                        return exp.evaluate(exchange, type);
+                    }
+                };
+            }
+        });
+        return answer;
+    }
+
+    private Exchange exchange(String foo) {
+        Exchange exchange = new DefaultExchange(context);
+        exchange.getIn().setHeader("foo", foo);
+        return exchange;
+    }
+
+    @Test
+    public void testCompilePredicate() {
+        SimpleLanguage language = createLanguage(5, true);
+        try {
+            Predicate predicate = language.createPredicate("${header.foo} == 'bar'");
+            predicate.initPredicate(context);
+            TieredSimpleExpression tiered = assertInstanceOf(TieredSimpleExpression.class, predicate);
+
+            for (int i = 0; i < 5; i++) {
+                assertTrue(predicate.matches(exchange("bar")));
+            }
+            // the compiled predicate is verified before it is used
+            await().atMost(5, TimeUnit.SECONDS).until(() -> compiled.get() == 1);
+            for (int i = 0; i < TieredSimpleExpression.VERIFY_EVALUATIONS; i++) {
+                assertFalse(tiered.isCompiled());
+                assertEquals(i % 2 == 0, predicate.matches(exchange(i % 2 == 0 ? "bar" : "baz")));
+            }
+            assertTrue(tiered.isCompiled());
+            assertEquals(TieredSimpleExpression.VERIFY_EVALUATIONS, compiledEvaluations.get());
+
+            compiledEvaluations.set(0);
+            assertTrue(predicate.matches(exchange("bar")));
+            assertFalse(predicate.matches(exchange("baz")));
+            assertEquals(2, compiledEvaluations.get());
+
+            // the cached predicate is already compiled
+            assertTrue(language.createPredicate("${header.foo} == 'bar'").matches(exchange("bar")));
+            assertEquals(3, compiledEvaluations.get());
+            assertEquals(1, compiled.get());
+        } finally {
+            language.stop();
+        }
+    }
+
+    @Test
+    public void testCompileExpression() {
+        SimpleLanguage language = createLanguage(3, true);
+        try {
+            Expression expression = language.createExpression("Hello ${header.foo}");
+            expression.init(context);
+            TieredSimpleExpression tiered = assertInstanceOf(TieredSimpleExpression.class, expression);
+
+            await().atMost(5, TimeUnit.SECONDS).until(() -> {
+                assertEquals("Hello World", expression.evaluate(exchange("World"), String.class));
+                return tiered.isCompiled();
+            });
+
+            compiledEvaluations.set(0);
+            assertEquals("Hello Camel", expression.evaluate(exchange("Camel"), String.class));
+            assertEquals(1, compiledEvaluations.get());
+        } finally {
+            language.stop();
+        }
+    }
+
+    @Test
+    public void testCompiledResultsDiffer() throws Exception {
+        wrongResults = true;
+        SimpleLanguage language = createLanguage(2, true);
+        try {
+            Predicate predicate = language.createPredicate("${header.foo} == 'bar'");
+            predicate.initPredicate(context);
+            TieredSimpleExpression tiered = assertInstanceOf(TieredSimpleExpression.class, predicate);
+
+            for (int i = 0; i < 2; i++) {
+                assertTrue(predicate.matches(exchange("bar")));
+            }
+            await().atMost(5, TimeUnit.SECONDS).until(() -> compiled.get() == 1);
+
+            // the compiled predicate is not used as it matches when it should not
+            assertFalse(predicate.matches(exchange("baz")));
+            for (int i = 0; i < 20; i++) {
+                assertTrue(predicate.matches(exchange("bar")));
+                assertFalse(predicate.matches(exchange("baz")));
+            }
+            assertFalse(tiered.isCompiled());
+            assertEquals(1, compiledEvaluations.get());
+        } finally {
+            language.stop();
+        }
+    }
+
+    @Test
+    public void testCannotCompile() throws Exception {
+        SimpleLanguage language = createLanguage(2, false);
+        try {
+            Predicate predicate = language.createPredicate("${header.foo} == 'bar'");
+            predicate.initPredicate(context);
+            TieredSimpleExpression tiered = assertInstanceOf(TieredSimpleExpression.class, predicate);
+
+            for (int i = 0; i < 10; i++) {
+                assertTrue(predicate.matches(exchange("bar")));
+            }
+            // the predicate continues to be interpreted
+            Thread.sleep(100);
+            assertFalse(tiered.isCompiled());
+            assertFalse(predicate.matches(exchange("baz")));
+            assertEquals(0, compiledEvaluations.get());
+        } finally {
+            language.stop();
+        }
+    }
+
+    @Test
+    public void testNotCompiled() {
+        // off by default
+        SimpleLanguage language = createLanguage(true);
+        language.init();
+        language.start();
+        assertEquals(0, language.getCompileThreshold());
+        assertFalse(language.createPredicate("${header.foo} == 'bar'") instanceof TieredSimpleExpression);
+        language.stop();
+
+        // disabled
+        language = createLanguage(0, true);
+        assertFalse(language.createPredicate("${header.foo} == 'bar'") instanceof TieredSimpleExpression);
+        language.stop();
+
+        // no functions, or functions which cannot be verified
+        language = createLanguage(5, true);
+        assertFalse(language.createExpression("Hello World") instanceof TieredSimpleExpression);
+        assertFalse(language.createExpression("${random(10)}") instanceof TieredSimpleExpression);
+        assertFalse(SimpleLanguage.isCompilable("${bean:foo?method=bar}"));
+        assertFalse(language.createExpression("${date:now:yyyyMMdd}") instanceof TieredSimpleExpression);
+        assertFalse(language.createExpression("${header.counter}++") instanceof TieredSimpleExpression);
+        // OGNL method calls may have side effects
+        assertFalse(SimpleLanguage.isCompilable("${body.next()}"));
+        assertFalse(SimpleLanguage.isCompilable("${exchangeProperty.it.next()} == 'a'"));
+        assertFalse(SimpleLanguage.isCompilable("${body?.toString()}"));
+        assertFalse(SimpleLanguage.isCompilable("${bodyAs(String).trim()}"));
+        assertTrue(SimpleLanguage.isCompilable("${header.foo} == 'bar.baz()'"));
+        assertTrue(SimpleLanguage.isCompilable("${body.name}"));
+        assertTrue(SimpleLanguage.isCompilable("${bodyAs(String)}"));
+        language.stop();
+
+        // no csimple compiler on the classpath
+        context.getGlobalOptions().put(Exchange.SIMPLE_COMPILE_THRESHOLD, "5");
+        language = new SimpleLanguage();
+        language.setCamelContext(context);
+        language.init();
+        assertEquals(5, language.getCompileThreshold());
+        assertFalse(language.createPredicate("${header.foo} == 'bar'") instanceof TieredSimpleExpression);
+    }
+}
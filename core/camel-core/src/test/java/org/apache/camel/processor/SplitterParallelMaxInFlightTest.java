@@ -0,0 +1,151 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.parallel.Isolated;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@Isolated("Short timeouts cause problems with parallel text execution")
+public class SplitterParallelMaxInFlightTest extends ContextTestSupport {
+
+    private final AtomicInteger current = new AtomicInteger();
+    private final AtomicInteger max = new AtomicInteger();
+
+    @Override
+    @BeforeEach
+    public void setUp() throws Exception {
+        current.set(0);
+        max.set(0);
+        super.setUp();
+    }
+
+    @Test
+    public void testOrdered() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedBodiesReceived(createBody(50));
+
+        template.sendBody("direct:ordered", createBody(50));
+
+        assertMockEndpointsSatisfied();
+        assertTrue(max.get() <= 2, "Should not be more than 2 in flight: " + max.get());
+    }
+
+    @Test
+    public void testStreaming() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        mock.expectedMessageCount(1);
+
+        template.sendBody("direct:streaming", createBody(200));
+
+        assertMockEndpointsSatisfied();
+        assertTrue(max.get() <= 3, "Should not be more than 3 in flight: " + max.get());
+
+        // the split messages are aggregated in the order they complete
+        String[] parts = mock.getReceivedExchanges().get(0).getMessage().getBody(String.class).split(",");
+        assertEquals(200, parts.length);
+        List<String> sorted = new ArrayList<>(List.of(parts));
+        sorted.sort((a, b) -> Integer.compare(Integer.parseInt(a), Integer.parseInt(b)));
+        assertEquals(createBody(200), String.join(",", sorted));
+    }
+
+    @Test
+    public void testTimeout() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:result");
+        // A will timeout, and C is not split while A and B are in flight
+        mock.expectedBodiesReceived("B");
+
+        template.sendBody("direct:timeout", "A,B,C");
+
+        assertMockEndpointsSatisfied();
+    }
+
+    private static String createBody(int size) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            if (i > 0) {
+                sb.append(',');
+            }
+            sb.append(i);
+        }
+        return sb.toString();
+    }
+
+    private void track(Exchange exchange) throws Exception {
+        int count = current.incrementAndGet();
+        max.accumulateAndGet(count, Math::max);
+        try {
+            Thread.sleep(count % 3);
+        } finally {
+            current.decrementAndGet();
+        }
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:ordered")
+                        .split(body().tokenize(","), new MyAggregationStrategy()).parallelProcessing().maxInFlight(2)
+                        .process(SplitterParallelMaxInFlightTest.this::track)
+                        .end()
+                        .to("mock:result");
+
+                from("direct:streaming")
+                        .split(body().tokenize(","), new MyAggregationStrategy()).parallelProcessing().streaming()
+                        .maxInFlight(3)
+                        .process(SplitterParallelMaxInFlightTest.this::track)
+                        .end()
+                        .to("mock:result");
+
+                from("direct:timeout")
+                        .split(body().tokenize(","), new MyAggregationStrategy()).parallelProcessing().maxInFlight(2)
+                        .timeout(100)
+                        .choice().when(body().isEqualTo("A")).delay(500).end()
+                        .end()
+                        .to("mock:result");
+            }
+        };
+    }
+
+    private static class MyAggregationStrategy implements AggregationStrategy {
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if (oldExchange == null) {
+                return newExchange;
+            }
+            String body = oldExchange.getIn().getBody(String.class);
+            oldExchange.getIn().setBody(body + "," + newExchange.getIn().getBody(String.class));
+            return oldExchange;
+        }
+    }
+
+}
@@ -0,0 +1,132 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.processor.aggregator;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.apache.camel.AggregationStrategy;
+import org.apache.camel.ContextTestSupport;
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.apache.camel.component.mock.MockEndpoint;
+import org.apache.camel.processor.BodyInAggregatingStrategy;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class AggregateLockStripingTest extends ContextTestSupport {
+
+    @Test
+    public void testAggregateLockStripingBySize() throws Exception {
+        MockEndpoint mock = getMockEndpoint("mock:size");
+        mock.expectedMessageCount(20);
+
+        ExecutorService service = Executors.newFixedThreadPool(20);
+        List<Callable<Object>> tasks = new ArrayList<>();
+        for (int i = 0; i < 400; i++) {
+            final int id = i % 20;
+            tasks.add(() -> {
+                template.sendBodyAndHeader("direct:size", "" + id, "id", id);
+                return null;
+            });
+        }
+        service.invokeAll(tasks);
+        service.shutdownNow();
+
+        assertMockEndpointsSatisfied();
+
+        // each group must only contain the bodies of its own correlation key
+        for (Exchange exchange : mock.getReceivedExchanges()) {
+            String[] bodies = exchange.getMessage().getBody(String.class).split("\\+");
+            assertEquals(20, bodies.length);
+            for (String body : bodies) {
+                assertEquals(exchange.getMessage().getHeader("id", String.class), body);
+            }
+        }
+    }
+
+    @Test
+    public void testTimeoutRefreshedWhileEvicting() throws Exception {
+        doTestTimeoutRefreshedWhileEvicting("direct:timeout", "mock:timeout");
+    }
+
+    @Test
+    public void testTimingWheelTimeoutRefreshedWhileEvicting() throws Exception {
+        doTestTimeoutRefreshedWhileEvicting("direct:timingWheel", "mock:timingWheel");
+    }
+
+    private void doTestTimeoutRefreshedWhileEvicting(String uri, String mockUri) throws Exception {
+        MockEndpoint mock = getMockEndpoint(mockUri);
+        mock.expectedBodiesReceived("A+B+C");
+        mock.expectedPropertyReceived(Exchange.AGGREGATED_COMPLETED_BY, "timeout");
+
+        template.sendBodyAndHeader(uri, "A", "id", 1);
+        // aggregating B holds the lock of the correlation key until the completion timeout of A has been evicted,
+        // and as B re-arms the timeout then the eviction is stale and must not complete the group
+        template.sendBodyAndHeader(uri, "B", "id", 1);
+        // C arrives within the re-armed timeout so it belongs to the same group
+        template.sendBodyAndHeader(uri, "C", "id", 1);
+
+        assertMockEndpointsSatisfied();
+
+        // and no other group is completed by the stale timeout
+        Thread.sleep(500);
+        assertEquals(1, mock.getReceivedCounter());
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:size").aggregate(header("id"), new BodyInAggregatingStrategy()).lockStripeSize(8)
+                        .completionSize(20)
+                        .to("mock:size");
+
+                from("direct:timeout").aggregate(header("id"), new SlowAggregationStrategy()).lockStripeSize(8)
+                        .completionTimeout(200).completionTimeoutCheckerInterval(10)
+                        .to("mock:timeout");
+
+                from("direct:timingWheel").aggregate(header("id"), new SlowAggregationStrategy()).lockStripeSize(8)
+                        .completionTimeout(200).completionTimeoutCheckerInterval(10).completionTimeoutTimingWheel()
+                        .to("mock:timingWheel");
+            }
+        };
+    }
+
+    private static class SlowAggregationStrategy implements AggregationStrategy {
+
+        private final AggregationStrategy delegate = new BodyInAggregatingStrategy();
+
+        @Override
+        public Exchange aggregate(Exchange oldExchange, Exchange newExchange) {
+            if ("B".equals(newExchange.getMessage().getBody(String.class))) {
+                // hold the lock of the correlation key for longer than the completion timeout
+                try {
+                    Thread.sleep(600);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return delegate.aggregate(oldExchange, newExchange);
+        }
+    }
+}
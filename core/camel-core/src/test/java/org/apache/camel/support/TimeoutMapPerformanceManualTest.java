@@ -0,0 +1,101 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.util.StopWatch;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Disabled;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Compares {@link DefaultTimeoutMap} and {@link TimingWheelTimeoutMap} with many pending entries, where only a few
+ * entries are expired on each run of the purge task.
+ */
+@Disabled("Manual test")
+public class TimeoutMapPerformanceManualTest {
+
+    private static final Logger LOG = LoggerFactory.getLogger(TimeoutMapPerformanceManualTest.class);
+
+    // use a fake clock so the purge is not affected by how long it takes to add the entries
+    private static volatile long clock = 1000;
+
+    private final ScheduledExecutorService executor = new ScheduledThreadPoolExecutor(1);
+    private final int size = 500 * 1000;
+    private final int purges = 200;
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    public void testDefaultTimeoutMap() throws Exception {
+        run(new DefaultTimeoutMap<String, String>(executor, 10) {
+            @Override
+            protected long currentTime() {
+                return clock;
+            }
+        }, "DefaultTimeoutMap");
+    }
+
+    @Test
+    public void testTimingWheelTimeoutMap() throws Exception {
+        run(new TimingWheelTimeoutMap<String, String>(executor, 10) {
+            @Override
+            protected long currentTime() {
+                return clock;
+            }
+        }, "TimingWheelTimeoutMap");
+    }
+
+    private void run(TimeoutMap<String, String> map, String name) throws Exception {
+        clock = 1000;
+        StopWatch watch = new StopWatch();
+        for (int i = 0; i < size; i++) {
+            // spread the timeouts over the next 5000 millis
+            map.put("key" + i, "value" + i, 10 + (i % 5000));
+        }
+        LOG.info("{}: added {} entries in {} ms", name, size, watch.taken());
+
+        watch.restart();
+        for (int i = 0; i < purges; i++) {
+            clock += 10;
+            if (map instanceof DefaultTimeoutMap) {
+                ((DefaultTimeoutMap<String, String>) map).purge();
+            } else {
+                ((TimingWheelTimeoutMap<String, String>) map).purge();
+            }
+        }
+        LOG.info("{}: {} purges with {} remaining entries in {} ms", name, purges, map.size(), watch.taken());
+
+        watch.restart();
+        for (int i = 0; i < size; i++) {
+            map.remove("key" + i);
+        }
+        LOG.info("{}: removed {} entries in {} ms", name, size, watch.taken());
+        assertEquals(0, map.size());
+    }
+
+}
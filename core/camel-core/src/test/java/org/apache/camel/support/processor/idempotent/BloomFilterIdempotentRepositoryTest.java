@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class BloomFilterIdempotentRepositoryTest {
+
+    private final AtomicInteger lookups = new AtomicInteger();
+    private MemoryIdempotentRepository store;
+    private BloomFilterIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        store = new MemoryIdempotentRepository(new HashMap<>()) {
+            @Override
+            public boolean contains(String key) {
+                lookups.incrementAndGet();
+                return super.contains(key);
+            }
+        };
+        repository = new BloomFilterIdempotentRepository(store);
+        // the store is empty when started
+        repository.setWarmUp(Collections::emptyList);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        repository.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+        assertEquals(1, lookups.get());
+
+        // definitely not added so the store is not called
+        assertFalse(repository.contains("B"));
+        assertEquals(1, lookups.get());
+        assertEquals(1, repository.getFilterHits());
+
+        assertTrue(repository.remove("A"));
+        assertFalse(repository.remove("A"));
+        assertFalse(repository.contains("A"));
+        assertFalse(store.contains("A"));
+
+        repository.clear();
+        assertEquals(0, store.getCacheSize());
+    }
+
+    @Test
+    public void testRemoveAllowsAddAgain() {
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertTrue(repository.remove("A"));
+        assertTrue(repository.add("A"));
+        assertTrue(repository.contains("A"));
+    }
+
+    @Test
+    public void testAddDuplicateThenRemove() {
+        repository.setExpectedInsertions(2);
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertFalse(repository.add("A"));
+        assertFalse(repository.add("A"));
+        // the duplicates are not counted, so the filter has not grown
+        assertEquals(1, repository.getFilterCount());
+
+        assertTrue(repository.remove("A"));
+        // the filter no longer contains the key, so the store is not called
+        assertFalse(repository.contains("A"));
+        assertEquals(0, lookups.get());
+        assertEquals(1, repository.getFilterHits());
+    }
+
+    @Test
+    public void testNoFalseNegatives() {
+        repository.setExpectedInsertions(100);
+        repository.setFalsePositiveProbability(0.01);
+        repository.start();
+
+        for (int i = 0; i < 5000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        // the filter has grown beyond its expected insertions
+        assertTrue(repository.getFilterCount() > 1);
+
+        for (int i = 0; i < 2500; i++) {
+            assertTrue(repository.remove("key-" + i));
+        }
+        for (int i = 0; i < 5000; i++) {
+            assertEquals(i >= 2500, repository.contains("key-" + i), "key-" + i);
+        }
+    }
+
+    @Test
+    public void testConcurrentPut() throws Exception {
+        BloomFilterIdempotentRepository.ScalableCountingBloomFilter filter
+                = new BloomFilterIdempotentRepository.ScalableCountingBloomFilter(100, 0.01);
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 2000;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    filter.put("key-" + (offset + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // the filter has grown while being updated concurrently, and does not miss any key
+        assertTrue(filter.getFilterCount() > 1);
+        for (int i = 0; i < threads.length * 2000; i++) {
+            assertTrue(filter.mightContain("key-" + i), "key-" + i);
+        }
+    }
+
+    @Test
+    public void testFalsePositiveRate() {
+        repository.setExpectedInsertions(10000);
+        repository.setFalsePositiveProbability(0.01);
+        repository.start();
+
+        for (int i = 0; i < 10000; i++) {
+            repository.add("key-" + i);
+        }
+        lookups.set(0);
+        for (int i = 0; i < 10000; i++) {
+            assertFalse(repository.contains("other-" + i));
+        }
+        assertEquals(lookups.get(), repository.getFalsePositives());
+        assertTrue(lookups.get() < 200, "Too many false positives: " + lookups.get());
+    }
+
+    @Test
+    public void testWarmUp() {
+        store.add("A");
+        store.add("B");
+        repository.setWarmUp(() -> Arrays.asList("A", "B"));
+        repository.start();
+
+        assertTrue(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+        assertFalse(repository.add("A"));
+        assertEquals(2, lookups.get());
+        assertTrue(repository.isFilterComplete());
+    }
+
+    @Test
+    public void testNoWarmUp() {
+        // the key was added before the repository was started
+        store.add("A");
+        repository.setWarmUp(null);
+        repository.start();
+        assertFalse(repository.isFilterComplete());
+
+        // the filter does not know the keys in the store, so the store is called
+        assertTrue(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertEquals(2, lookups.get());
+        assertEquals(0, repository.getFilterHits());
+
+        // after clearing the store the filter knows all its keys
+        repository.clear();
+        assertTrue(repository.isFilterComplete());
+        assertFalse(repository.contains("A"));
+        assertEquals(2, lookups.get());
+        assertEquals(1, repository.getFilterHits());
+    }
+
+    @Test
+    public void testClearWhileAdding() throws Exception {
+        repository.start();
+
+        Thread[] threads = new Thread[4];
+        for (int t = 0; t < threads.length; t++) {
+            int offset = t * 2000;
+            threads[t] = new Thread(() -> {
+                for (int i = 0; i < 2000; i++) {
+                    repository.add("key-" + (offset + i));
+                }
+            });
+            threads[t].start();
+        }
+        for (int i = 0; i < 20; i++) {
+            repository.clear();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        // every key which is in the store after the clears is known by the filter
+        for (int i = 0; i < threads.length * 2000; i++) {
+            String key = "key-" + i;
+            assertEquals(store.contains(key), repository.contains(key), key);
+        }
+    }
+}
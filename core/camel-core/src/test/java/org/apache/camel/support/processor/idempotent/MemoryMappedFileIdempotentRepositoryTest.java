@@ -0,0 +1,238 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.File;
+import java.io.RandomAccessFile;
+
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.TestSupport;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class MemoryMappedFileIdempotentRepositoryTest extends TestSupport {
+
+    private File fileStore;
+    private MemoryMappedFileIdempotentRepository repository;
+
+    @BeforeEach
+    public void setup() {
+        fileStore = testDirectory(true).resolve("idempotent.dat").toFile();
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+    }
+
+    @AfterEach
+    public void cleanup() {
+        repository.stop();
+    }
+
+    @Test
+    public void testAddContainsRemove() {
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertTrue(repository.add("B"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+        assertFalse(repository.contains("C"));
+        assertEquals(2, repository.getSize());
+
+        assertTrue(repository.remove("A"));
+        assertFalse(repository.remove("A"));
+        assertFalse(repository.contains("A"));
+        assertEquals(1, repository.getSize());
+
+        // can be added again after it was removed
+        assertTrue(repository.add("A"));
+        assertTrue(repository.contains("A"));
+
+        repository.clear();
+        assertFalse(repository.contains("A"));
+        assertFalse(repository.contains("B"));
+        assertEquals(0, repository.getSize());
+        assertEquals(0, repository.getLogSize());
+    }
+
+    @Test
+    public void testRestart() {
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        repository.remove("key-50");
+        repository.stop();
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(99, repository.getSize());
+        assertTrue(repository.contains("key-0"));
+        assertTrue(repository.contains("key-99"));
+        assertFalse(repository.contains("key-50"));
+        assertFalse(repository.add("key-1"));
+    }
+
+    @Test
+    public void testRebuildIndex() {
+        repository.start();
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        repository.remove("key-50");
+        repository.stop();
+
+        // the index is rebuilt from the log
+        assertTrue(new File(fileStore.getPath() + ".idx").delete());
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(99, repository.getSize());
+        assertTrue(repository.contains("key-0"));
+        assertTrue(repository.contains("key-99"));
+        assertFalse(repository.contains("key-50"));
+    }
+
+    @Test
+    public void testIncompleteRecordDropped() throws Exception {
+        repository.start();
+        repository.add("A");
+        repository.add("B");
+        long length = repository.getLogSize();
+        repository.stop();
+
+        // simulate a crash while writing a record
+        try (RandomAccessFile raf = new RandomAccessFile(fileStore, "rw")) {
+            raf.seek(length);
+            raf.writeInt(100);
+            raf.write(new byte[] { 1, 2, 3 });
+        }
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(2, repository.getSize());
+        assertEquals(length, repository.getLogSize());
+        assertTrue(repository.contains("A"));
+        assertTrue(repository.contains("B"));
+        assertTrue(repository.add("C"));
+    }
+
+    @Test
+    public void testGrowIndex() {
+        repository.setInitialCapacity(10);
+        repository.start();
+        int before = repository.getIndexCapacity();
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.add("key-" + i));
+        }
+        assertTrue(repository.getIndexCapacity() > before);
+        assertEquals(1000, repository.getSize());
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(repository.contains("key-" + i));
+        }
+    }
+
+    @Test
+    public void testCompaction() {
+        repository.setCompactionMinSize(0);
+        repository.setCompactionThreshold(0.5);
+        repository.start();
+
+        for (int i = 0; i < 100; i++) {
+            repository.add("key-" + i);
+        }
+        long full = repository.getLogSize();
+        for (int i = 0; i < 80; i++) {
+            repository.remove("key-" + i);
+        }
+
+        // the log has been compacted (without a camel context it runs inline)
+        assertTrue(repository.getLogSize() < full);
+        assertEquals(20, repository.getSize());
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i >= 80, repository.contains("key-" + i));
+        }
+        repository.stop();
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(20, repository.getSize());
+        assertTrue(repository.contains("key-99"));
+        assertFalse(repository.contains("key-0"));
+    }
+
+    @Test
+    public void testCompactionFailureKeepsRepository() {
+        repository.start();
+        for (int i = 0; i < 10; i++) {
+            repository.add("key-" + i);
+        }
+        repository.remove("key-0");
+        long logSize = repository.getLogSize();
+
+        // a directory in place of the compacted log makes the compaction fail
+        File logTmp = new File(fileStore.getPath() + ".compact");
+        assertTrue(logTmp.mkdirs());
+        assertThrows(RuntimeCamelException.class, () -> repository.compact());
+
+        // the tmp files are deleted and the repository keeps using the old log and index
+        assertFalse(logTmp.exists());
+        assertFalse(new File(fileStore.getPath() + ".idx.compact").exists());
+        assertEquals(logSize, repository.getLogSize());
+        assertEquals(9, repository.getSize());
+        assertFalse(repository.contains("key-0"));
+        assertTrue(repository.contains("key-9"));
+        assertTrue(repository.add("key-10"));
+
+        // and it can be compacted afterwards
+        repository.compact();
+        assertEquals(0, repository.getDeadSize());
+        assertEquals(10, repository.getSize());
+        repository.stop();
+
+        repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.start();
+        assertEquals(10, repository.getSize());
+        assertTrue(repository.contains("key-10"));
+    }
+
+    @Test
+    public void testTimeToLive() throws Exception {
+        repository.setTimeToLive(100);
+        repository.start();
+
+        assertTrue(repository.add("A"));
+        assertFalse(repository.add("A"));
+        assertTrue(repository.contains("A"));
+
+        Thread.sleep(200);
+
+        assertFalse(repository.contains("A"));
+        assertTrue(repository.add("A"));
+        assertTrue(repository.contains("A"));
+
+        repository.compact();
+        assertEquals(1, repository.getSize());
+        assertEquals(0, repository.getDeadSize());
+    }
+}
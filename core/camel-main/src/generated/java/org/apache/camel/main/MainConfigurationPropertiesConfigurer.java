@@ -135,6 +135,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Name": target.setName(property(camelContext, java.lang.String.class, value)); return true;
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": target.setProducerTemplateCacheSize(property(camelContext, int.class, value)); return true;
+        case "reactiveexecutor":
+        case "ReactiveExecutor": target.setReactiveExecutor(property(camelContext, java.lang.String.class, value)); return true;
+        case "reactiveexecutorparallelism":
+        case "ReactiveExecutorParallelism": target.setReactiveExecutorParallelism(property(camelContext, int.class, value)); return true;
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": target.setRouteControllerBackOffDelay(property(camelContext, long.class, value)); return true;
         case "routecontrollerbackoffmaxattempts":
@@ -225,6 +229,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolDirectory": target.setStreamCachingSpoolDirectory(property(camelContext, java.lang.String.class, value)); return true;
         case "streamcachingspoolenabled":
         case "StreamCachingSpoolEnabled": target.setStreamCachingSpoolEnabled(property(camelContext, boolean.class, value)); return true;
+        case "streamcachingspooloffheapmaxsize":
+        case "StreamCachingSpoolOffHeapMaxSize": target.setStreamCachingSpoolOffHeapMaxSize(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": target.setStreamCachingSpoolThreshold(property(camelContext, long.class, value)); return true;
         case "streamcachingspoolusedheapmemorylimit":
@@ -374,6 +380,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Name": return java.lang.String.class;
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": return int.class;
+        case "reactiveexecutor":
+        case "ReactiveExecutor": return java.lang.String.class;
+        case "reactiveexecutorparallelism":
+        case "ReactiveExecutorParallelism": return int.class;
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": return long.class;
         case "routecontrollerbackoffmaxattempts":
@@ -464,6 +474,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolDirectory": return java.lang.String.class;
         case "streamcachingspoolenabled":
         case "StreamCachingSpoolEnabled": return boolean.class;
+        case "streamcachingspooloffheapmaxsize":
+        case "StreamCachingSpoolOffHeapMaxSize": return long.class;
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return long.class;
         case "streamcachingspoolusedheapmemorylimit":
@@ -614,6 +626,10 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "Name": return target.getName();
         case "producertemplatecachesize":
         case "ProducerTemplateCacheSize": return target.getProducerTemplateCacheSize();
+        case "reactiveexecutor":
+        case "ReactiveExecutor": return target.getReactiveExecutor();
+        case "reactiveexecutorparallelism":
+        case "ReactiveExecutorParallelism": return target.getReactiveExecutorParallelism();
         case "routecontrollerbackoffdelay":
         case "RouteControllerBackOffDelay": return target.getRouteControllerBackOffDelay();
         case "routecontrollerbackoffmaxattempts":
@@ -704,6 +720,8 @@ public class MainConfigurationPropertiesConfigurer extends org.apache.camel.supp
         case "StreamCachingSpoolDirectory": return target.getStreamCachingSpoolDirectory();
         case "streamcachingspoolenabled":
         case "StreamCachingSpoolEnabled": return target.isStreamCachingSpoolEnabled();
+        case "streamcachingspooloffheapmaxsize":
+        case "StreamCachingSpoolOffHeapMaxSize": return target.getStreamCachingSpoolOffHeapMaxSize();
         case "streamcachingspoolthreshold":
         case "StreamCachingSpoolThreshold": return target.getStreamCachingSpoolThreshold();
         case "streamcachingspoolusedheapmemorylimit":
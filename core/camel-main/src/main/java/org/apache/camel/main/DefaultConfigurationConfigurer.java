@@ -38,6 +38,7 @@ import org.apache.camel.impl.engine.PooledExchangeFactory;
 import org.apache.camel.impl.engine.PooledProcessorExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeExchangeFactory;
 import org.apache.camel.impl.engine.PrototypeProcessorExchangeFactory;
+import org.apache.camel.impl.engine.WorkStealingReactiveExecutor;
 import org.apache.camel.model.Model;
 import org.apache.camel.model.ModelCamelContext;
 import org.apache.camel.model.ModelLifecycleStrategy;
@@ -154,6 +155,10 @@ public final class DefaultConfigurationConfigurer {
         ecc.getExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
         ecc.getProcessorExchangeFactory().setStatisticsEnabled(config.isExchangeFactoryStatisticsEnabled());
 
+        if ("work-stealing".equals(config.getReactiveExecutor())) {
+            ecc.setReactiveExecutor(new WorkStealingReactiveExecutor(config.getReactiveExecutorParallelism()));
+        }
+
         if (!config.isJmxEnabled()) {
             camelContext.disableJMX();
         }
@@ -196,6 +201,9 @@ public final class DefaultConfigurationConfigurer {
         if (config.getStreamCachingSpoolThreshold() != 0) {
             camelContext.getStreamCachingStrategy().setSpoolThreshold(config.getStreamCachingSpoolThreshold());
         }
+        if (config.getStreamCachingSpoolOffHeapMaxSize() != 0) {
+            camelContext.getStreamCachingStrategy().setSpoolOffHeapMaxSize(config.getStreamCachingSpoolOffHeapMaxSize());
+        }
         if (config.getStreamCachingSpoolUsedHeapMemoryLimit() != null) {
             StreamCachingStrategy.SpoolUsedHeapMemoryLimit limit;
             if ("Committed".equalsIgnoreCase(config.getStreamCachingSpoolUsedHeapMemoryLimit())) {
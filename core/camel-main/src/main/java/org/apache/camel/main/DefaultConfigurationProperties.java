@@ -63,6 +63,7 @@ public abstract class DefaultConfigurationProperties<T> {
     private String streamCachingSpoolDirectory;
     private String streamCachingSpoolCipher;
     private long streamCachingSpoolThreshold;
+    private long streamCachingSpoolOffHeapMaxSize;
     private int streamCachingSpoolUsedHeapMemoryThreshold;
     private String streamCachingSpoolUsedHeapMemoryLimit;
     private boolean streamCachingAnySpoolRules;
@@ -124,6 +125,9 @@ public abstract class DefaultConfigurationProperties<T> {
     private String exchangeFactory = "default";
     private int exchangeFactoryCapacity = 100;
     private boolean exchangeFactoryStatisticsEnabled;
+    @Metadata(defaultValue = "default", enums = "default,work-stealing")
+    private String reactiveExecutor = "default";
+    private int reactiveExecutorParallelism;
     private boolean dumpRoutes;
     private Map<String, String> globalOptions;
     // route controller
@@ -513,6 +517,18 @@ public abstract class DefaultConfigurationProperties<T> {
         this.streamCachingSpoolThreshold = streamCachingSpoolThreshold;
     }
 
+    public long getStreamCachingSpoolOffHeapMaxSize() {
+        return streamCachingSpoolOffHeapMaxSize;
+    }
+
+    /**
+     * Sets the maximum size in bytes of off-heap (direct) memory to use for stream caching spooling, before spooling to
+     * disk. The default is 0 which means spooling goes directly to disk.
+     */
+    public void setStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+    }
+
     public int getStreamCachingSpoolUsedHeapMemoryThreshold() {
         return streamCachingSpoolUsedHeapMemoryThreshold;
     }
@@ -1300,6 +1316,32 @@ public abstract class DefaultConfigurationProperties<T> {
         this.exchangeFactoryStatisticsEnabled = exchangeFactoryStatisticsEnabled;
     }
 
+    public String getReactiveExecutor() {
+        return reactiveExecutor;
+    }
+
+    /**
+     * Controls which reactive engine routes the exchanges. The default engine routes the exchanges on the thread which
+     * received them. The work-stealing engine routes the exchanges on a pool of worker threads, which each have their
+     * own run queue, and idle workers steal work from the other workers. Synchronous and transacted work is still
+     * routed on the current thread. To keep the backpressure on the consumers, each exchange is started on the thread
+     * which received it, and when the workers fall behind then the receiving thread routes the exchange itself.
+     */
+    public void setReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+    }
+
+    public int getReactiveExecutorParallelism() {
+        return reactiveExecutorParallelism;
+    }
+
+    /**
+     * The number of worker threads of the work-stealing reactive engine. The default is the number of processors.
+     */
+    public void setReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+    }
+
     public boolean isDumpRoutes() {
         return dumpRoutes;
     }
@@ -1850,6 +1892,15 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Sets the maximum size in bytes of off-heap (direct) memory to use for stream caching spooling, before spooling to
+     * disk. The default is 0 which means spooling goes directly to disk.
+     */
+    public T withStreamCachingSpoolOffHeapMaxSize(long streamCachingSpoolOffHeapMaxSize) {
+        this.streamCachingSpoolOffHeapMaxSize = streamCachingSpoolOffHeapMaxSize;
+        return (T) this;
+    }
+
     /**
      * Sets a percentage (1-99) of used heap memory threshold to activate stream caching spooling to disk.
      */
@@ -2458,6 +2509,26 @@ public abstract class DefaultConfigurationProperties<T> {
         return (T) this;
     }
 
+    /**
+     * Controls which reactive engine routes the exchanges. The default engine routes the exchanges on the thread which
+     * received them. The work-stealing engine routes the exchanges on a pool of worker threads, which each have their
+     * own run queue, and idle workers steal work from the other workers. Synchronous and transacted work is still
+     * routed on the current thread. To keep the backpressure on the consumers, each exchange is started on the thread
+     * which received it, and when the workers fall behind then the receiving thread routes the exchange itself.
+     */
+    public T withReactiveExecutor(String reactiveExecutor) {
+        this.reactiveExecutor = reactiveExecutor;
+        return (T) this;
+    }
+
+    /**
+     * The number of worker threads of the work-stealing reactive engine. The default is the number of processors.
+     */
+    public T withReactiveExecutorParallelism(int reactiveExecutorParallelism) {
+        this.reactiveExecutorParallelism = reactiveExecutorParallelism;
+        return (T) this;
+    }
+
     /**
      * If enable then Camel will during startup dump all loaded routes (incl rests and route templates) represented as
      * XML DSL into the log. This is intended for trouble shooting or to assist during development.
@@ -131,7 +131,8 @@ public final class MainSupportModelConfigurer {
                     .keepAliveTime(config.getKeepAliveTime(), config.getTimeUnit())
                     .maxQueueSize(config.getMaxQueueSize())
                     .allowCoreThreadTimeOut(config.getAllowCoreThreadTimeOut())
-                    .rejectedPolicy(config.getRejectedPolicy()).build();
+                    .rejectedPolicy(config.getRejectedPolicy())
+                    .virtualThreads(config.getVirtualThreads()).build();
             if (!tpp.isEmpty()) {
                 camelContext.getExecutorServiceManager().registerThreadPoolProfile(tpp);
             }
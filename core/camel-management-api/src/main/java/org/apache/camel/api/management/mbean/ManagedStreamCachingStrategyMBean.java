@@ -59,6 +59,21 @@ public interface ManagedStreamCachingStrategyMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Whether used heap memory limit is committed or maximum")
     SpoolUsedHeapMemoryLimit getSpoolUsedHeapMemoryLimit();
 
+    @ManagedAttribute(description = "Maximum size in bytes of off-heap memory used for spooling before spooling to disk")
+    long getSpoolOffHeapMaxSize();
+
+    @ManagedAttribute(description = "Size in bytes of off-heap buffers in use by spooled StreamCache")
+    long getSpoolOffHeapUsedSize();
+
+    @ManagedAttribute(description = "Size in bytes of free off-heap buffers in the pool")
+    long getSpoolOffHeapPooledSize();
+
+    @ManagedAttribute(description = "Number of off-heap buffers acquired from the pool")
+    long getSpoolOffHeapAcquiredCounter();
+
+    @ManagedAttribute(description = "Number of times the off-heap pool was exhausted and spooling fell back to disk")
+    long getSpoolOffHeapExhaustedCounter();
+
     @ManagedAttribute(description = "Buffer size in bytes to use when coping between buffers")
     void setBufferSize(int bufferSize);
 
@@ -36,6 +36,12 @@ public interface ManagedTypeConverterRegistryMBean extends ManagedServiceMBean {
     @ManagedAttribute(description = "Number of type conversion failures (failed conversions)")
     long getFailedCounter();
 
+    @ManagedAttribute(description = "Number of type converter lookups resolved from the results of previous lookups")
+    long getLookupCacheHitCounter();
+
+    @ManagedAttribute(description = "Number of type converter lookups which searched the type converters")
+    long getLookupCacheMissCounter();
+
     @ManagedOperation(description = "Resets the type conversion counters")
     void resetTypeConversionCounters();
 
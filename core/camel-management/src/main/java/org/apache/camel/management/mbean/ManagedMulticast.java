@@ -60,4 +60,9 @@ public class ManagedMulticast extends ManagedProcessor implements ManagedMultica
     public Long getTimeout() {
         return processor.getTimeout();
     }
+
+    @Override
+    public Integer getMaxInFlight() {
+        return processor.getMaxInFlight();
+    }
 }
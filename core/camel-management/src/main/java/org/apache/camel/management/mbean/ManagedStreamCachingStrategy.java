@@ -122,6 +122,35 @@ public class ManagedStreamCachingStrategy extends ManagedService implements Mana
         }
     }
 
+    @Override
+    public long getSpoolOffHeapMaxSize() {
+        return streamCachingStrategy.getSpoolOffHeapMaxSize();
+    }
+
+    @Override
+    public long getSpoolOffHeapUsedSize() {
+        StreamCachingStrategy.SpoolBufferPool pool = streamCachingStrategy.getSpoolBufferPool();
+        return pool != null ? pool.getUsedSize() : 0;
+    }
+
+    @Override
+    public long getSpoolOffHeapPooledSize() {
+        StreamCachingStrategy.SpoolBufferPool pool = streamCachingStrategy.getSpoolBufferPool();
+        return pool != null ? pool.getPooledSize() : 0;
+    }
+
+    @Override
+    public long getSpoolOffHeapAcquiredCounter() {
+        StreamCachingStrategy.SpoolBufferPool pool = streamCachingStrategy.getSpoolBufferPool();
+        return pool != null ? pool.getAcquiredCounter() : 0;
+    }
+
+    @Override
+    public long getSpoolOffHeapExhaustedCounter() {
+        StreamCachingStrategy.SpoolBufferPool pool = streamCachingStrategy.getSpoolBufferPool();
+        return pool != null ? pool.getExhaustedCounter() : 0;
+    }
+
     @Override
     public void setBufferSize(int bufferSize) {
         streamCachingStrategy.setBufferSize(bufferSize);
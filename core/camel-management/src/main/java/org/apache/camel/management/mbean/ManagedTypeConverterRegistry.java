@@ -64,6 +64,16 @@ public class ManagedTypeConverterRegistry extends ManagedService implements Mana
         return registry.getStatistics().getFailedCounter();
     }
 
+    @Override
+    public long getLookupCacheHitCounter() {
+        return registry.getStatistics().getLookupCacheHitCounter();
+    }
+
+    @Override
+    public long getLookupCacheMissCounter() {
+        return registry.getStatistics().getLookupCacheMissCounter();
+    }
+
     @Override
     public void resetTypeConversionCounters() {
         registry.getStatistics().reset();
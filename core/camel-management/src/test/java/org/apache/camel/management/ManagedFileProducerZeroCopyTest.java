@@ -0,0 +1,61 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.management;
+
+import java.io.File;
+import java.nio.file.Files;
+
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.builder.RouteBuilder;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.DisabledOnOs;
+import org.junit.jupiter.api.condition.OS;
+
+import static org.apache.camel.management.DefaultManagementObjectNameStrategy.TYPE_ENDPOINT;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisabledOnOs(OS.AIX)
+public class ManagedFileProducerZeroCopyTest extends ManagementTestSupport {
+
+    @Test
+    public void testZeroCopyTransferredBytes() throws Exception {
+        File source = testDirectory("in", true).resolve("source.txt").toFile();
+        Files.write(source.toPath(), "Hello World".getBytes());
+
+        MBeanServer mbeanServer = getMBeanServer();
+        ObjectName name = getCamelObjectName(TYPE_ENDPOINT, "file://" + testDirectory("out"));
+        assertEquals(0L, mbeanServer.getAttribute(name, "ZeroCopyTransferredBytes"));
+
+        template.sendBodyAndHeader("direct:start", source, Exchange.FILE_NAME, "hello.txt");
+
+        assertEquals(source.length(), mbeanServer.getAttribute(name, "ZeroCopyTransferredBytes"));
+    }
+
+    @Override
+    protected RouteBuilder createRouteBuilder() throws Exception {
+        return new RouteBuilder() {
+            @Override
+            public void configure() throws Exception {
+                from("direct:start").to(fileUri("out"));
+            }
+        };
+    }
+
+}
@@ -88,6 +88,15 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
 
         Boolean remove = (Boolean) mbeanServer.getAttribute(name, "RemoveSpoolDirectoryWhenStopping");
         assertEquals(Boolean.TRUE, remove);
+
+        Long offHeap = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapMaxSize");
+        assertEquals(1024 * 1024, offHeap.longValue());
+
+        offHeap = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapUsedSize");
+        assertEquals(0, offHeap.longValue());
+
+        offHeap = (Long) mbeanServer.getAttribute(name, "SpoolOffHeapExhaustedCounter");
+        assertEquals(0, offHeap.longValue());
     }
 
     @Override
@@ -101,6 +110,7 @@ public class ManagedStreamCachingStrategyTest extends ManagementTestSupport {
                 context.setStreamCaching(true);
                 context.getStreamCachingStrategy().setSpoolEnabled(true);
                 context.getStreamCachingStrategy().setSpoolDirectory(testDirectory("#name#").toString());
+                context.getStreamCachingStrategy().setSpoolOffHeapMaxSize(1024 * 1024);
 
                 from("direct:start").routeId("foo")
                         .convertBodyTo(int.class)
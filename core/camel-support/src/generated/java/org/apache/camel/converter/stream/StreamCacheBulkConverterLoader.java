@@ -62,53 +62,77 @@ public final class StreamCacheBulkConverterLoader implements TypeConverterLoader
     }
 
     private Object doConvertTo(Class<?> from, Class<?> to, Exchange exchange, Object value) throws Exception {
-        if (to == byte[].class) {
-            if (value instanceof org.apache.camel.StreamCache) {
-                return org.apache.camel.converter.stream.StreamCacheConverter.convertToByteArray((org.apache.camel.StreamCache) value, exchange);
-            }
-        } else if (to == java.nio.ByteBuffer.class) {
-            if (value instanceof org.apache.camel.StreamCache) {
-                return org.apache.camel.converter.stream.StreamCacheConverter.convertToByteBuffer((org.apache.camel.StreamCache) value, exchange);
-            }
-        } else if (to == org.apache.camel.StreamCache.class) {
-            if (value instanceof java.io.ByteArrayInputStream) {
-                return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((java.io.ByteArrayInputStream) value, exchange);
-            }
-            if (value instanceof java.io.InputStream) {
-                return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((java.io.InputStream) value, exchange);
-            }
-            if (value instanceof org.apache.camel.converter.stream.CachedOutputStream) {
-                return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((org.apache.camel.converter.stream.CachedOutputStream) value, exchange);
-            }
-            if (value instanceof java.io.Reader) {
-                return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((java.io.Reader) value, exchange);
-            }
+        switch (to.getName()) {
+            case "[B":
+                if (to == byte[].class) {
+                    if (value instanceof org.apache.camel.StreamCache) {
+                        return org.apache.camel.converter.stream.StreamCacheConverter.convertToByteArray((org.apache.camel.StreamCache) value, exchange);
+                    }
+                }
+                break;
+            case "java.nio.ByteBuffer":
+                if (to == java.nio.ByteBuffer.class) {
+                    if (value instanceof org.apache.camel.StreamCache) {
+                        return org.apache.camel.converter.stream.StreamCacheConverter.convertToByteBuffer((org.apache.camel.StreamCache) value, exchange);
+                    }
+                }
+                break;
+            case "org.apache.camel.StreamCache":
+                if (to == org.apache.camel.StreamCache.class) {
+                    if (value instanceof java.io.ByteArrayInputStream) {
+                        return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((java.io.ByteArrayInputStream) value, exchange);
+                    }
+                    if (value instanceof java.io.InputStream) {
+                        return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((java.io.InputStream) value, exchange);
+                    }
+                    if (value instanceof org.apache.camel.converter.stream.CachedOutputStream) {
+                        return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((org.apache.camel.converter.stream.CachedOutputStream) value, exchange);
+                    }
+                    if (value instanceof java.io.Reader) {
+                        return org.apache.camel.converter.stream.StreamCacheConverter.convertToStreamCache((java.io.Reader) value, exchange);
+                    }
+                }
+                break;
+            default:
+                break;
         }
         return null;
     }
 
     public TypeConverter lookup(Class<?> to, Class<?> from) {
-        if (to == byte[].class) {
-            if (from == org.apache.camel.StreamCache.class) {
-                return this;
-            }
-        } else if (to == java.nio.ByteBuffer.class) {
-            if (from == org.apache.camel.StreamCache.class) {
-                return this;
-            }
-        } else if (to == org.apache.camel.StreamCache.class) {
-            if (from == java.io.ByteArrayInputStream.class) {
-                return this;
-            }
-            if (from == java.io.InputStream.class) {
-                return this;
-            }
-            if (from == org.apache.camel.converter.stream.CachedOutputStream.class) {
-                return this;
-            }
-            if (from == java.io.Reader.class) {
-                return this;
-            }
+        switch (to.getName()) {
+            case "[B":
+                if (to == byte[].class) {
+                    if (from == org.apache.camel.StreamCache.class) {
+                        return this;
+                    }
+                }
+                break;
+            case "java.nio.ByteBuffer":
+                if (to == java.nio.ByteBuffer.class) {
+                    if (from == org.apache.camel.StreamCache.class) {
+                        return this;
+                    }
+                }
+                break;
+            case "org.apache.camel.StreamCache":
+                if (to == org.apache.camel.StreamCache.class) {
+                    if (from == java.io.ByteArrayInputStream.class) {
+                        return this;
+                    }
+                    if (from == java.io.InputStream.class) {
+                        return this;
+                    }
+                    if (from == org.apache.camel.converter.stream.CachedOutputStream.class) {
+                        return this;
+                    }
+                    if (from == java.io.Reader.class) {
+                        return this;
+                    }
+                }
+                break;
+            default:
+                break;
         }
         return null;
     }
@@ -24,6 +24,7 @@ import java.io.OutputStream;
 
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
+import org.apache.camel.support.ByteArrayPoolHelper;
 import org.apache.camel.util.IOHelper;
 
 /**
@@ -57,7 +58,7 @@ public class ByteArrayInputStreamCache extends FilterInputStream implements Stre
     public StreamCache copy(Exchange exchange) throws IOException {
         if (byteArrayForCopy == null) {
             ByteArrayOutputStream baos = new ByteArrayOutputStream(in.available());
-            IOHelper.copy(in, baos);
+            ByteArrayPoolHelper.copy(ByteArrayPoolHelper.getByteArrayPool(exchange), in, baos);
             // reset so that the stream can be reused
             reset();
             // cache the byte array, in order not to copy the byte array in the next call again
@@ -0,0 +1,220 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.camel.spi.ByteArrayPool;
+import org.apache.camel.spi.StreamCachingStrategy.SpoolBufferPool;
+
+/**
+ * An {@link OutputStream} which writes to direct (off-heap) buffers acquired from a {@link SpoolBufferPool}, and is
+ * capable of returning {@link DirectBufferInputStreamCache} views of the buffers.
+ * <p/>
+ * The buffers are shared by the stream caches, and are released back to the pool by {@link #release()}, after which
+ * the stream caches can no longer be read. The stream caches hold a reference to the buffers while they are reading,
+ * and the buffers are only given back to the pool when there are no reads in progress, so the pool can reuse (or free)
+ * the buffers without a read seeing the content of another stream.
+ */
+public final class CachedDirectBufferOutputStream extends OutputStream {
+
+    private final SpoolBufferPool pool;
+    private final ByteArrayPool byteArrayPool;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private ByteBuffer current;
+    private long length;
+    private volatile boolean released;
+    // one reference is held by this stream until it is released, and one by each read in progress
+    private final AtomicInteger references = new AtomicInteger(1);
+
+    public CachedDirectBufferOutputStream(SpoolBufferPool pool) {
+        this(pool, null);
+    }
+
+    /**
+     * @param pool          the pool of off-heap buffers
+     * @param byteArrayPool the pool of buffers for copying the off-heap buffers to streams (optional)
+     */
+    public CachedDirectBufferOutputStream(SpoolBufferPool pool, ByteArrayPool byteArrayPool) {
+        this.pool = pool;
+        this.byteArrayPool = byteArrayPool;
+    }
+
+    /**
+     * Ensures there are buffers to write the given number of bytes, by acquiring buffers from the pool.
+     *
+     * @return <tt>true</tt> if the bytes can be written, or <tt>false</tt> if the pool has no more buffers
+     */
+    public boolean reserve(int len) {
+        long capacity = (long) buffers.size() * pool.getBufferSize() - length;
+        while (capacity < len) {
+            ByteBuffer buffer = pool.acquire();
+            if (buffer == null) {
+                return false;
+            }
+            buffers.add(buffer);
+            capacity += buffer.capacity();
+        }
+        return true;
+    }
+
+    @Override
+    public void write(int b) throws IOException {
+        nextBuffer(1).put((byte) b);
+        length++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) throws IOException {
+        int remaining = len;
+        int pos = off;
+        while (remaining > 0) {
+            ByteBuffer buffer = nextBuffer(remaining);
+            int n = Math.min(remaining, buffer.remaining());
+            buffer.put(b, pos, n);
+            pos += n;
+            remaining -= n;
+            length += n;
+        }
+    }
+
+    /**
+     * Writes the content of the buffers to the given stream.
+     */
+    public void writeTo(OutputStream os) throws IOException {
+        if (!tryAcquireReference()) {
+            throw new IOException("Cannot write stream cache as its off-heap buffers have been released");
+        }
+        byte[] chunk = acquireChunk((int) Math.min(length, pool.getBufferSize()));
+        try {
+            for (int i = 0; i < buffers.size(); i++) {
+                ByteBuffer view = getBuffer(i);
+                while (view.hasRemaining()) {
+                    int n = Math.min(chunk.length, view.remaining());
+                    view.get(chunk, 0, n);
+                    os.write(chunk, 0, n);
+                }
+            }
+        } finally {
+            releaseChunk(chunk);
+            releaseReference();
+        }
+    }
+
+    /**
+     * Acquires a buffer for copying the content of the buffers to a stream.
+     */
+    byte[] acquireChunk(int size) {
+        return byteArrayPool != null ? byteArrayPool.acquire(size) : new byte[size];
+    }
+
+    void releaseChunk(byte[] chunk) {
+        if (byteArrayPool != null) {
+            byteArrayPool.release(chunk);
+        }
+    }
+
+    /**
+     * Creates a new {@link DirectBufferInputStreamCache} view of the buffers
+     */
+    DirectBufferInputStreamCache newInputStreamCache(FileInputStreamCache.TempFileManager tempFileManager) {
+        return new DirectBufferInputStreamCache(this, tempFileManager);
+    }
+
+    /**
+     * Releases the buffers back to the pool, which happens when the reads which are in progress are done.
+     */
+    public synchronized void release() {
+        if (!released) {
+            released = true;
+            releaseReference();
+        }
+    }
+
+    public boolean isReleased() {
+        return released;
+    }
+
+    /**
+     * Acquires a reference to the buffers, which must be held while reading the buffers.
+     *
+     * @return <tt>true</tt> if acquired, or <tt>false</tt> if the buffers have been released back to the pool
+     */
+    boolean tryAcquireReference() {
+        int count;
+        do {
+            count = references.get();
+            if (count == 0) {
+                return false;
+            }
+        } while (!references.compareAndSet(count, count + 1));
+        return true;
+    }
+
+    /**
+     * Releases a reference to the buffers, and releases the buffers back to the pool when it was the last reference.
+     */
+    void releaseReference() {
+        if (references.decrementAndGet() == 0) {
+            for (ByteBuffer buffer : buffers) {
+                pool.release(buffer);
+            }
+            buffers.clear();
+            current = null;
+        }
+    }
+
+    public long length() {
+        return length;
+    }
+
+    int getBufferCount() {
+        return buffers.size();
+    }
+
+    /**
+     * Gets a read only view of the written content of the buffer with the given index.
+     */
+    ByteBuffer getBuffer(int index) {
+        ByteBuffer view = buffers.get(index).asReadOnlyBuffer();
+        long limit = Math.min(pool.getBufferSize(), length - (long) index * pool.getBufferSize());
+        view.position(0);
+        view.limit((int) Math.max(0, limit));
+        return view;
+    }
+
+    private ByteBuffer nextBuffer(int len) throws IOException {
+        if (current == null || !current.hasRemaining()) {
+            int index = (int) (length / pool.getBufferSize());
+            if (index >= buffers.size() && !reserve(len)) {
+                throw new IOException("Cannot acquire off-heap buffer as the spool buffer pool is exhausted");
+            }
+            current = buffers.get(index);
+        }
+        return current;
+    }
+
+    @Override
+    public String toString() {
+        return "CachedDirectBufferOutputStream[size: " + length + ", buffers: " + buffers.size() + "]";
+    }
+}
@@ -25,11 +25,15 @@ import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
 import org.apache.camel.converter.stream.FileInputStreamCache.TempFileManager;
 import org.apache.camel.spi.StreamCachingStrategy;
+import org.apache.camel.support.ByteArrayPoolHelper;
 
 /**
  * This output stream will store the content into a File if the stream context size is exceed the THRESHOLD value. The
  * default THRESHOLD value is {@link StreamCache#DEFAULT_SPOOL_THRESHOLD} bytes .
  * <p/>
+ * If the {@link StreamCachingStrategy} has a {@link StreamCachingStrategy.SpoolBufferPool}, then the content is first
+ * spooled to off-heap buffers from the pool, and only stored into a File when the pool has no more buffers.
+ * <p/>
  * The temp file will store in the temp directory, you can configure it by setting the TEMP_DIR property. If you don't
  * set the TEMP_DIR property, it will choose the directory which is set by the system property of "java.io.tmpdir".
  * <p/>
@@ -42,6 +46,7 @@ public class CachedOutputStream extends OutputStream {
     private final StreamCachingStrategy strategy;
     private OutputStream currentStream;
     private boolean inMemory = true;
+    private CachedDirectBufferOutputStream directBufferStream;
     private int totalLength;
     private final TempFileManager tempFileManager;
     private final boolean closedOnCompletion;
@@ -54,6 +59,7 @@ public class CachedOutputStream extends OutputStream {
         this.closedOnCompletion = closedOnCompletion;
         this.tempFileManager = new TempFileManager(closedOnCompletion);
         this.tempFileManager.addExchange(exchange);
+        this.tempFileManager.setByteArrayPool(ByteArrayPoolHelper.getByteArrayPool(exchange));
         this.strategy = exchange.getContext().getStreamCachingStrategy();
         this.currentStream = new CachedByteArrayOutputStream(strategy.getBufferSize());
     }
@@ -70,6 +76,7 @@ public class CachedOutputStream extends OutputStream {
         if (!closedOnCompletion) {
             tempFileManager.closeFileInputStreams();
             tempFileManager.cleanUpTempFile();
+            tempFileManager.releaseDirectBuffers();
         }
     }
 
@@ -96,7 +103,10 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b, int off, int len) throws IOException {
         this.totalLength += len;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpoolStream();
+        }
+        if (directBufferStream != null && !directBufferStream.reserve(len)) {
+            pageDirectBuffersToFileStream();
         }
         currentStream.write(b, off, len);
     }
@@ -105,7 +115,10 @@ public class CachedOutputStream extends OutputStream {
     public void write(byte[] b) throws IOException {
         this.totalLength += b.length;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpoolStream();
+        }
+        if (directBufferStream != null && !directBufferStream.reserve(b.length)) {
+            pageDirectBuffersToFileStream();
         }
         currentStream.write(b);
     }
@@ -114,7 +127,10 @@ public class CachedOutputStream extends OutputStream {
     public void write(int b) throws IOException {
         this.totalLength++;
         if (inMemory && currentStream instanceof ByteArrayOutputStream && strategy.shouldSpoolCache(totalLength)) {
-            pageToFileStream();
+            pageToSpoolStream();
+        }
+        if (directBufferStream != null && !directBufferStream.reserve(1)) {
+            pageDirectBuffersToFileStream();
         }
         currentStream.write(b);
     }
@@ -142,11 +158,43 @@ public class CachedOutputStream extends OutputStream {
                         "CurrentStream should be an instance of CachedByteArrayOutputStream but is: "
                                                 + currentStream.getClass().getName());
             }
+        } else if (directBufferStream != null) {
+            return directBufferStream.newInputStreamCache(tempFileManager);
         } else {
             return tempFileManager.newStreamCache();
         }
     }
 
+    private void pageToSpoolStream() throws IOException {
+        StreamCachingStrategy.SpoolBufferPool pool = strategy.getSpoolBufferPool();
+        if (pool != null) {
+            CachedDirectBufferOutputStream out = tempFileManager.createDirectBufferOutputStream(pool);
+            if (out != null) {
+                flush();
+                ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
+                if (out.reserve(bout.size())) {
+                    bout.writeTo(out);
+                    currentStream = out;
+                    directBufferStream = out;
+                    inMemory = false;
+                    return;
+                }
+                // not enough off-heap buffers
+                tempFileManager.releaseDirectBuffers();
+            }
+        }
+        pageToFileStream();
+    }
+
+    private void pageDirectBuffersToFileStream() throws IOException {
+        // creates a tmp file and a file output stream
+        OutputStream out = tempFileManager.createOutputStream(strategy);
+        directBufferStream.writeTo(out);
+        currentStream = out;
+        directBufferStream = null;
+        tempFileManager.releaseDirectBuffers();
+    }
+
     private void pageToFileStream() throws IOException {
         flush();
         ByteArrayOutputStream bout = (ByteArrayOutputStream) currentStream;
@@ -0,0 +1,187 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.converter.stream;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+
+import org.apache.camel.Exchange;
+import org.apache.camel.StreamCache;
+
+/**
+ * A {@link StreamCache} for streams spooled to direct (off-heap) buffers by a {@link CachedDirectBufferOutputStream}.
+ * <p/>
+ * The stream cache reads directly from the buffers, and copies of the stream cache share the same buffers, so re-reading
+ * and copying do not copy the content. Each read holds a reference to the buffers, so the buffers cannot be given back
+ * to the pool while reading.
+ */
+public final class DirectBufferInputStreamCache extends InputStream implements StreamCache {
+
+    private final CachedDirectBufferOutputStream source;
+    private final FileInputStreamCache.TempFileManager tempFileManager;
+    private final long length;
+    private int index;
+    private long position;
+    private ByteBuffer view;
+
+    DirectBufferInputStreamCache(CachedDirectBufferOutputStream source,
+                                 FileInputStreamCache.TempFileManager tempFileManager) {
+        this.source = source;
+        this.tempFileManager = tempFileManager;
+        this.length = source.length();
+    }
+
+    @Override
+    public synchronized void reset() {
+        index = 0;
+        position = 0;
+        view = null;
+    }
+
+    @Override
+    public void writeTo(OutputStream os) throws IOException {
+        acquireReference();
+        byte[] chunk = null;
+        long skip = position;
+        try {
+            for (int i = 0; i < source.getBufferCount(); i++) {
+                ByteBuffer buffer = source.getBuffer(i);
+                if (skip >= buffer.remaining()) {
+                    skip -= buffer.remaining();
+                    continue;
+                }
+                buffer.position(buffer.position() + (int) skip);
+                skip = 0;
+                if (chunk == null) {
+                    chunk = source.acquireChunk((int) Math.min(length - position, buffer.capacity()));
+                }
+                while (buffer.hasRemaining()) {
+                    int n = Math.min(chunk.length, buffer.remaining());
+                    buffer.get(chunk, 0, n);
+                    os.write(chunk, 0, n);
+                }
+            }
+        } finally {
+            if (chunk != null) {
+                source.releaseChunk(chunk);
+            }
+            source.releaseReference();
+        }
+    }
+
+    @Override
+    public StreamCache copy(Exchange exchange) throws IOException {
+        if (source.isReleased()) {
+            throw new IOException("Cannot copy stream cache as its off-heap buffers have been released");
+        }
+        tempFileManager.addExchange(exchange);
+        return new DirectBufferInputStreamCache(source, tempFileManager);
+    }
+
+    @Override
+    public boolean inMemory() {
+        return true;
+    }
+
+    @Override
+    public long length() {
+        return length;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(Integer.MAX_VALUE, length - position);
+    }
+
+    @Override
+    public int read() throws IOException {
+        acquireReference();
+        try {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            position++;
+            return buffer.get() & 0xff;
+        } finally {
+            source.releaseReference();
+        }
+    }
+
+    @Override
+    public int read(byte[] b, int off, int len) throws IOException {
+        if (len == 0) {
+            return 0;
+        }
+        acquireReference();
+        try {
+            ByteBuffer buffer = nextBuffer();
+            if (buffer == null) {
+                return -1;
+            }
+            int n = Math.min(len, buffer.remaining());
+            buffer.get(b, off, n);
+            position += n;
+            return n;
+        } finally {
+            source.releaseReference();
+        }
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        acquireReference();
+        try {
+            long skipped = Math.max(0, Math.min(n, length - position));
+            long remaining = skipped;
+            while (remaining > 0) {
+                ByteBuffer buffer = nextBuffer();
+                int step = (int) Math.min(remaining, buffer.remaining());
+                buffer.position(buffer.position() + step);
+                remaining -= step;
+            }
+            position += skipped;
+            return skipped;
+        } finally {
+            source.releaseReference();
+        }
+    }
+
+    private ByteBuffer nextBuffer() {
+        if (position >= length) {
+            return null;
+        }
+        while (view == null || !view.hasRemaining()) {
+            view = source.getBuffer(index++);
+        }
+        return view;
+    }
+
+    private void acquireReference() throws IOException {
+        // the buffers cannot be released back to the pool while we hold a reference
+        if (!source.tryAcquireReference()) {
+            throw new IOException("Cannot read stream cache as its off-heap buffers have been released");
+        }
+    }
+
+    @Override
+    public String toString() {
+        return "DirectBufferInputStreamCache[length: " + length + "]";
+    }
+}
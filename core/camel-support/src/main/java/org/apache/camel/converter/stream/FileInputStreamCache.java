@@ -38,9 +38,11 @@ import org.apache.camel.ExchangePropertyKey;
 import org.apache.camel.ExtendedExchange;
 import org.apache.camel.RuntimeCamelException;
 import org.apache.camel.StreamCache;
+import org.apache.camel.spi.ByteArrayPool;
 import org.apache.camel.spi.StreamCachingStrategy;
 import org.apache.camel.spi.Synchronization;
 import org.apache.camel.spi.UnitOfWork;
+import org.apache.camel.support.ByteArrayPoolHelper;
 import org.apache.camel.support.SynchronizationAdapter;
 import org.apache.camel.util.FileUtil;
 import org.apache.camel.util.IOHelper;
@@ -96,7 +98,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         if (stream == null && ciphers == null) {
             Files.copy(file.toPath(), os);
         } else {
-            IOHelper.copy(getInputStream(), os);
+            ByteArrayPoolHelper.copy(tempFileManager.getByteArrayPool(), getInputStream(), os);
         }
     }
 
@@ -205,7 +207,9 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
         private AtomicInteger exchangeCounter = new AtomicInteger();
         private File tempFile;
         private OutputStream outputStream; // file output stream
+        private CachedDirectBufferOutputStream directBufferOutputStream; // off-heap buffers
         private CipherPair ciphers;
+        private ByteArrayPool byteArrayPool; // copy buffers
 
         // there can be several input streams, for example in the multi-cast, or wiretap parallel processing
         private List<FileInputStreamCache> fileInputStreamCaches;
@@ -256,6 +260,7 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
                                 LOG.warn("Error deleting temporary cache file: {}. This exception will be ignored.",
                                         tempFile, e);
                             }
+                            releaseDirectBuffers();
                         }
                     }
 
@@ -329,6 +334,20 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return out;
         }
 
+        /**
+         * Creates the output stream to spool to off-heap buffers.
+         *
+         * @return the output stream, or <tt>null</tt> if the buffers could not be released when the exchanges are done
+         */
+        CachedDirectBufferOutputStream createDirectBufferOutputStream(StreamCachingStrategy.SpoolBufferPool pool) {
+            if (closedOnCompletion && exchangeCounter.get() == 0) {
+                // exchange was already stopped (see createOutputStream) so spool to disk instead
+                return null;
+            }
+            directBufferOutputStream = new CachedDirectBufferOutputStream(pool, byteArrayPool);
+            return directBufferOutputStream;
+        }
+
         FileInputStreamCache newStreamCache() throws IOException {
             try {
                 return new FileInputStreamCache(this);
@@ -358,6 +377,13 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             }
         }
 
+        void releaseDirectBuffers() {
+            if (directBufferOutputStream != null) {
+                directBufferOutputStream.release();
+                directBufferOutputStream = null;
+            }
+        }
+
         File getTempFile() {
             return tempFile;
         }
@@ -366,6 +392,14 @@ public final class FileInputStreamCache extends InputStream implements StreamCac
             return ciphers;
         }
 
+        ByteArrayPool getByteArrayPool() {
+            return byteArrayPool;
+        }
+
+        void setByteArrayPool(ByteArrayPool byteArrayPool) {
+            this.byteArrayPool = byteArrayPool;
+        }
+
     }
 
 }
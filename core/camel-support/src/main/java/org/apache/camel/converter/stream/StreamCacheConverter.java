@@ -26,7 +26,7 @@ import java.nio.ByteBuffer;
 import org.apache.camel.Converter;
 import org.apache.camel.Exchange;
 import org.apache.camel.StreamCache;
-import org.apache.camel.util.IOHelper;
+import org.apache.camel.support.ByteArrayPoolHelper;
 
 /**
  * A set of {@link Converter} methods for wrapping stream-based messages in a {@link StreamCache} implementation to
@@ -51,7 +51,7 @@ public final class StreamCacheConverter {
         // transfer the input stream to a cached output stream, and then creates a new stream cache view
         // of the data, which ensures the input stream is cached and re-readable.
         CachedOutputStream cos = new CachedOutputStream(exchange);
-        IOHelper.copyAndCloseInput(stream, cos);
+        ByteArrayPoolHelper.copyAndCloseInput(ByteArrayPoolHelper.getByteArrayPool(exchange), stream, cos);
         return cos.newStreamCache();
     }
 
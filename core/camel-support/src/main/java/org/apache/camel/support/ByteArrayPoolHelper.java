@@ -0,0 +1,95 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.spi.ByteArrayPool;
+import org.apache.camel.util.IOHelper;
+
+/**
+ * Helper class for copying streams using buffers from the {@link ByteArrayPool}.
+ */
+public final class ByteArrayPoolHelper {
+
+    private ByteArrayPoolHelper() {
+    }
+
+    /**
+     * Gets the {@link ByteArrayPool} of the exchange's {@link CamelContext}.
+     *
+     * @param  exchange the exchange (can be <tt>null</tt>)
+     * @return          the pool, or <tt>null</tt> if there is no exchange
+     */
+    public static ByteArrayPool getByteArrayPool(Exchange exchange) {
+        if (exchange == null) {
+            return null;
+        }
+        return getByteArrayPool(exchange.getContext());
+    }
+
+    /**
+     * Gets the {@link ByteArrayPool} of the {@link CamelContext}.
+     *
+     * @param  context the context (can be <tt>null</tt>)
+     * @return         the pool, or <tt>null</tt> if there is no context
+     */
+    public static ByteArrayPool getByteArrayPool(CamelContext context) {
+        if (context == null) {
+            return null;
+        }
+        return context.adapt(ExtendedCamelContext.class).getByteArrayPool();
+    }
+
+    /**
+     * Copies the input stream to the output stream, using a buffer from the pool.
+     *
+     * @param  pool   the pool, or <tt>null</tt> to use a new buffer
+     * @param  input  the input stream
+     * @param  output the output stream
+     * @return        the number of bytes copied
+     */
+    public static int copy(ByteArrayPool pool, InputStream input, OutputStream output) throws IOException {
+        if (pool == null) {
+            return IOHelper.copy(input, output);
+        }
+        byte[] buffer = pool.acquire(IOHelper.copyBufferSize(input, IOHelper.DEFAULT_BUFFER_SIZE));
+        try {
+            return IOHelper.copy(input, output, buffer, false, -1);
+        } finally {
+            pool.release(buffer);
+        }
+    }
+
+    /**
+     * Copies the input stream to the output stream, using a buffer from the pool, and closes the input stream.
+     *
+     * @param pool   the pool, or <tt>null</tt> to use a new buffer
+     * @param input  the input stream
+     * @param output the output stream
+     */
+    public static void copyAndCloseInput(ByteArrayPool pool, InputStream input, OutputStream output)
+            throws IOException {
+        copy(pool, input, output);
+        IOHelper.close(input);
+    }
+}
@@ -371,6 +371,38 @@ public final class CamelContextHelper {
         return 1000;
     }
 
+    /**
+     * Gets the number of evaluations of a simple expression, after which the expression is compiled.
+     * <p/>
+     * Will use the property set on CamelContext with the key {@link Exchange#SIMPLE_COMPILE_THRESHOLD}. If no property
+     * has been set, then it will fallback to return 0, as compiling simple expressions is opt-in.
+     *
+     * @param  camelContext             the camel context
+     * @return                          the number of evaluations, or 0 to never compile
+     * @throws IllegalArgumentException is thrown if the property is illegal
+     */
+    public static int getSimpleCompileThreshold(CamelContext camelContext) throws IllegalArgumentException {
+        if (camelContext != null) {
+            String s = camelContext.getGlobalOption(Exchange.SIMPLE_COMPILE_THRESHOLD);
+            if (s != null) {
+                // we cannot use Camel type converters as they may not be ready this early
+                try {
+                    int threshold = Integer.parseInt(s);
+                    if (threshold >= 0) {
+                        return threshold;
+                    }
+                } catch (NumberFormatException e) {
+                    // ignore as the exception is thrown below
+                }
+                throw new IllegalArgumentException(
+                        "Property " + Exchange.SIMPLE_COMPILE_THRESHOLD + " must be zero or a positive number, was: " + s);
+            }
+        }
+
+        // compiling is off by default
+        return 0;
+    }
+
     /**
      * Gets the maximum transformer cache size.
      * <p/>
@@ -25,6 +25,7 @@ import java.util.function.Supplier;
 import org.apache.camel.CamelContext;
 import org.apache.camel.Exchange;
 import org.apache.camel.ExtendedCamelContext;
+import org.apache.camel.Message;
 import org.apache.camel.spi.HeadersMapFactory;
 
 /**
@@ -298,6 +299,18 @@ public class DefaultMessage extends MessageSupport {
         }
     }
 
+    @Override
+    protected void copyHeadersFrom(Message that) {
+        HeadersMapFactory factory = camelContext != null ? camelContext.getHeadersMapFactory() : null;
+        if (factory != null && (headers == null || headers.isEmpty()) && that.hasHeaders()
+                && factory.isInstanceOf(that.getHeaders())) {
+            // let the factory copy the headers, which may share the storage (copy on write)
+            headers = factory.newMap(that.getHeaders());
+        } else {
+            super.copyHeadersFrom(that);
+        }
+    }
+
     @Override
     public boolean hasHeaders() {
         if (headers == null) {
@@ -37,13 +37,23 @@ import org.apache.camel.support.service.ServiceSupport;
 import org.apache.camel.util.concurrent.RejectableScheduledThreadPoolExecutor;
 import org.apache.camel.util.concurrent.RejectableThreadPoolExecutor;
 import org.apache.camel.util.concurrent.SizedScheduledExecutorService;
+import org.apache.camel.util.concurrent.VirtualThreadHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 
 /**
  * Factory for thread pools that uses the JDK {@link Executors} for creating the thread pools.
+ * <p/>
+ * Thread pools for profiles which use virtual threads start a new virtual thread for each task, when virtual threads
+ * are supported by the JVM. Fixed size thread pools keep their size and queue, and use the (virtual) thread factory
+ * for their workers, so a single threaded pool still runs its tasks in order.
  */
 public class DefaultThreadPoolFactory extends ServiceSupport implements CamelContextAware, ThreadPoolFactory, StaticService {
 
+    private static final Logger LOG = LoggerFactory.getLogger(DefaultThreadPoolFactory.class);
+
     private CamelContext camelContext;
+    private volatile boolean virtualThreadsWarned;
 
     @Override
     public CamelContext getCamelContext() {
@@ -62,6 +72,19 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
 
     @Override
     public ExecutorService newThreadPool(ThreadPoolProfile profile, ThreadFactory factory) {
+        if (Boolean.TRUE.equals(profile.getVirtualThreads())) {
+            if (VirtualThreadHelper.isVirtualThreadsSupported()) {
+                // a fixed size pool is created as usual, where the thread factory creates virtual threads as workers
+                if (!isFixedSize(profile)) {
+                    return VirtualThreadHelper.newThreadPerTaskExecutor(factory);
+                }
+            } else if (!virtualThreadsWarned) {
+                virtualThreadsWarned = true;
+                LOG.warn("Virtual threads are not supported by Java {}, so thread pool profile: {} uses platform threads",
+                        System.getProperty("java.version"), profile.getId());
+            }
+        }
+
         // allow core thread timeout is default true if not configured
         boolean allow = profile.getAllowCoreThreadTimeOut() != null ? profile.getAllowCoreThreadTimeOut() : true;
         return newThreadPool(profile.getPoolSize(),
@@ -74,6 +97,11 @@ public class DefaultThreadPoolFactory extends ServiceSupport implements CamelCon
                 factory);
     }
 
+    private static boolean isFixedSize(ThreadPoolProfile profile) {
+        return profile.getPoolSize() != null && profile.getPoolSize() > 0
+                && profile.getPoolSize().equals(profile.getMaxPoolSize());
+    }
+
     public ExecutorService newThreadPool(
             int corePoolSize, int maxPoolSize, long keepAliveTime, TimeUnit timeUnit, int maxQueueSize,
             boolean allowCoreThreadTimeOut,
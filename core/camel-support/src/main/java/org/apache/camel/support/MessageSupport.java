@@ -232,13 +232,22 @@ public abstract class MessageSupport implements Message, CamelContextAware, Data
         }
 
         if (!sameHeadersInstance) {
-            if (hasHeaders()) {
-                // okay its safe to clear the headers
-                getHeaders().clear();
-            }
-            if (that.hasHeaders()) {
-                getHeaders().putAll(that.getHeaders());
-            }
+            copyHeadersFrom(that);
+        }
+    }
+
+    /**
+     * Copies the headers from the given message, replacing the headers of this message.
+     *
+     * @param that the message to copy the headers from, which does not have the same headers instance
+     */
+    protected void copyHeadersFrom(Message that) {
+        if (hasHeaders()) {
+            // okay its safe to clear the headers
+            getHeaders().clear();
+        }
+        if (that.hasHeaders()) {
+            getHeaders().putAll(that.getHeaders());
         }
     }
 
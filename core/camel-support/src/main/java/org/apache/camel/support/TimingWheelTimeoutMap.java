@@ -0,0 +1,399 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.apache.camel.TimeoutMap;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static java.util.Comparator.comparing;
+import static org.apache.camel.TimeoutMap.Listener.Type.Evict;
+import static org.apache.camel.TimeoutMap.Listener.Type.Put;
+import static org.apache.camel.TimeoutMap.Listener.Type.Remove;
+
+/**
+ * A {@link TimeoutMap} implemented as a hashed timing wheel.
+ * <p/>
+ * The entries are kept in a wheel of buckets where each bucket represents one tick of the purge poll time. Adding,
+ * updating and removing an entry is done in constant time, and each run of the purge task only visits the buckets for
+ * the ticks that has elapsed since the previous run, instead of all the entries as {@link DefaultTimeoutMap} does.
+ * This makes this implementation a better choice when there are many entries, such as many thousands of pending
+ * replies or aggregation groups. Entries with a timeout that is longer than a full rotation of the wheel stay in their
+ * bucket and are visited once per rotation until they expire.
+ * <p/>
+ * This implementation supports thread safe and non thread safe, in the manner you can enable locking or not. By default
+ * locking is enabled and thus we are thread safe.
+ * <p/>
+ * You must provide a {@link java.util.concurrent.ScheduledExecutorService} in the constructor which is used to schedule
+ * a background task which check for old entries to purge. You must also invoke {@link #start()} to startup the timeout
+ * map, before its ready to be used. And you must invoke {@link #stop()} to stop the map when no longer in use.
+ */
+public class TimingWheelTimeoutMap<K, V> extends ServiceSupport implements TimeoutMap<K, V> {
+
+    public static final int DEFAULT_WHEEL_SIZE = 512;
+
+    protected final Logger log = LoggerFactory.getLogger(getClass());
+
+    private final ConcurrentMap<K, WheelEntry<K, V>> map = new ConcurrentHashMap<>();
+    private final WheelEntry<K, V>[] wheel;
+    private final int mask;
+    private final ScheduledExecutorService executor;
+    private volatile ScheduledFuture<?> future;
+    private final long purgePollTime;
+    private final long origin;
+    private long lastTick;
+    private final Lock lock;
+
+    private final List<Listener<K, V>> listeners = new ArrayList<>(2);
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor) {
+        this(executor, 1000);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis) {
+        this(executor, requestMapPollTimeMillis, true);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, boolean useLock) {
+        this(executor, requestMapPollTimeMillis, useLock ? new ReentrantLock() : NoLock.INSTANCE);
+    }
+
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, Lock lock) {
+        this(executor, requestMapPollTimeMillis, DEFAULT_WHEEL_SIZE, lock);
+    }
+
+    /**
+     * Creates the timeout map.
+     *
+     * @param executor                 the executor to run the purge task
+     * @param requestMapPollTimeMillis the purge poll time, which is also the duration of one tick of the wheel
+     * @param wheelSize                number of buckets in the wheel (is rounded up to a power of two)
+     * @param lock                     the lock to use
+     */
+    @SuppressWarnings("unchecked")
+    public TimingWheelTimeoutMap(ScheduledExecutorService executor, long requestMapPollTimeMillis, int wheelSize,
+                                 Lock lock) {
+        ObjectHelper.notNull(executor, "ScheduledExecutorService");
+        if (requestMapPollTimeMillis <= 0) {
+            throw new IllegalArgumentException("RequestMapPollTimeMillis must be a positive number, was: "
+                                               + requestMapPollTimeMillis);
+        }
+        if (wheelSize <= 0 || wheelSize > 1 << 30) {
+            throw new IllegalArgumentException("WheelSize must be a positive number, was: " + wheelSize);
+        }
+        this.executor = executor;
+        this.purgePollTime = requestMapPollTimeMillis;
+        this.lock = lock;
+        int size = Integer.highestOneBit(wheelSize);
+        if (size < wheelSize) {
+            size <<= 1;
+        }
+        this.wheel = new WheelEntry[size];
+        for (int i = 0; i < size; i++) {
+            this.wheel[i] = new WheelEntry<>(null, null, 0);
+        }
+        this.mask = size - 1;
+        this.origin = currentTime();
+    }
+
+    @Override
+    public V get(K key) {
+        WheelEntry<K, V> entry;
+        lock.lock();
+        try {
+            entry = map.get(key);
+            if (entry == null) {
+                return null;
+            }
+            entry.unlink();
+            schedule(entry);
+        } finally {
+            lock.unlock();
+        }
+        return entry.getValue();
+    }
+
+    @Override
+    public V put(K key, V value, long timeoutMillis) {
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
+        lock.lock();
+        try {
+            WheelEntry<K, V> result = map.put(key, entry);
+            if (result != null) {
+                result.unlink();
+            }
+            schedule(entry);
+            return unwrap(result);
+        } finally {
+            lock.unlock();
+            emitEvent(Put, key, value);
+        }
+    }
+
+    @Override
+    public V putIfAbsent(K key, V value, long timeoutMillis) {
+        WheelEntry<K, V> entry = new WheelEntry<>(key, value, timeoutMillis);
+        WheelEntry<K, V> result = null;
+        lock.lock();
+        try {
+            //Just make sure we don't override the old entry
+            result = map.putIfAbsent(key, entry);
+            if (result == null) {
+                schedule(entry);
+            }
+            return unwrap(result);
+        } finally {
+            lock.unlock();
+            if (result == null) {
+                emitEvent(Put, key, value); // conditional on map being changed
+            }
+        }
+    }
+
+    @Override
+    public V remove(K key) {
+        V value = null;
+        lock.lock();
+        try {
+            WheelEntry<K, V> entry = map.remove(key);
+            if (entry != null) {
+                entry.unlink();
+                value = entry.getValue();
+            }
+            return value;
+        } finally {
+            lock.unlock();
+            if (value != null) {
+                emitEvent(Remove, key, value); // conditional on map being changed
+            }
+        }
+    }
+
+    @Override
+    public int size() {
+        return map.size();
+    }
+
+    /**
+     * The timer task which purges old requests and schedules another poll
+     */
+    private void purgeTask() {
+        // only purge if allowed
+        if (!isRunAllowed()) {
+            log.trace("Purge task not allowed to run");
+            return;
+        }
+
+        log.trace("Running purge task to see if any entries have been timed out");
+        try {
+            purge();
+        } catch (Throwable t) {
+            // must catch and log exception otherwise the executor will now schedule next purgeTask
+            log.warn("Exception occurred during purge task. This exception will be ignored.", t);
+        }
+    }
+
+    protected void purge() {
+        log.trace("There are {} in the timeout map", map.size());
+
+        long now = currentTime();
+        long target = tickOf(now);
+
+        List<WheelEntry<K, V>> expired = new ArrayList<>();
+        lock.lock();
+        try {
+            if (target <= lastTick) {
+                return;
+            }
+            // only the buckets for the elapsed ticks need to be visited (and each bucket at most once)
+            long to = Math.min(target, lastTick + wheel.length);
+            for (long tick = lastTick + 1; tick <= to; tick++) {
+                WheelEntry<K, V> head = wheel[(int) (tick & mask)];
+                WheelEntry<K, V> entry = head.next;
+                while (entry != head) {
+                    WheelEntry<K, V> next = entry.next;
+                    if (entry.deadline <= target) {
+                        entry.unlink();
+                        if (isValidForEviction(entry)) {
+                            log.debug("Evicting inactive entry ID: {}", entry);
+                            map.remove(entry.getKey());
+                            expired.add(entry);
+                        } else {
+                            // not evicted so check again on the next tick
+                            link(entry, target + 1);
+                        }
+                    }
+                    entry = next;
+                }
+            }
+            lastTick = target;
+        } finally {
+            lock.unlock();
+            if (!expired.isEmpty()) {
+                // sort according to the expired time so we got the first expired first
+                expired.sort(comparing(TimeoutMapEntry::getExpireTime));
+                for (WheelEntry<K, V> entry : expired) {
+                    emitEvent(Evict, entry.getKey(), entry.getValue());
+                }
+            }
+        }
+    }
+
+    // Properties
+    // -------------------------------------------------------------------------
+
+    public long getPurgePollTime() {
+        return purgePollTime;
+    }
+
+    public ScheduledExecutorService getExecutor() {
+        return executor;
+    }
+
+    public int getWheelSize() {
+        return wheel.length;
+    }
+
+    // Implementation methods
+    // -------------------------------------------------------------------------
+
+    private static <K, V> V unwrap(TimeoutMapEntry<K, V> entry) {
+        return entry == null ? null : entry.getValue();
+    }
+
+    @Override
+    public void addListener(Listener<K, V> listener) {
+        this.listeners.add(listener);
+    }
+
+    private void emitEvent(Listener.Type type, K key, V value) {
+        for (Listener<K, V> listener : listeners) {
+            try {
+                listener.timeoutMapEvent(type, key, value);
+            } catch (Throwable t) {
+                // Ignore
+            }
+        }
+    }
+
+    private long tickOf(long time) {
+        return (time - origin) / purgePollTime;
+    }
+
+    /**
+     * Updates the expire time of the entry and links it into the bucket of the tick where it expires. Must be called
+     * while holding the lock.
+     */
+    private void schedule(WheelEntry<K, V> entry) {
+        updateExpireTime(entry);
+        // round up to the first tick at or after the expire time, but never a tick that has already been purged
+        long deadline = (entry.getExpireTime() - origin + purgePollTime - 1) / purgePollTime;
+        link(entry, Math.max(deadline, lastTick + 1));
+    }
+
+    private void link(WheelEntry<K, V> entry, long deadline) {
+        entry.deadline = deadline;
+        WheelEntry<K, V> head = wheel[(int) (deadline & mask)];
+        entry.prev = head.prev;
+        entry.next = head;
+        head.prev.next = entry;
+        head.prev = entry;
+    }
+
+    /**
+     * lets schedule each time to allow folks to change the time at runtime
+     */
+    protected void schedulePoll() {
+        future = executor.scheduleWithFixedDelay(this::purgeTask, 0, purgePollTime, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * A hook to allow derivations to avoid evicting the current entry
+     */
+    protected boolean isValidForEviction(TimeoutMapEntry<K, V> entry) {
+        return true;
+    }
+
+    protected void updateExpireTime(TimeoutMapEntry<K, V> entry) {
+        long now = currentTime();
+        entry.setExpireTime(entry.getTimeout() + now);
+    }
+
+    protected long currentTime() {
+        return System.currentTimeMillis();
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        if (executor.isShutdown()) {
+            throw new IllegalStateException("The ScheduledExecutorService is shutdown");
+        }
+        schedulePoll();
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (future != null) {
+            future.cancel(false);
+            future = null;
+        }
+        // clear map if we stop
+        lock.lock();
+        try {
+            map.clear();
+            for (WheelEntry<K, V> head : wheel) {
+                head.prev = head;
+                head.next = head;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * An entry in the timing wheel, which is linked in the bucket of the tick where it expires.
+     */
+    private static final class WheelEntry<K, V> extends TimeoutMapEntry<K, V> {
+        private long deadline;
+        private WheelEntry<K, V> prev = this;
+        private WheelEntry<K, V> next = this;
+
+        private WheelEntry(K key, V value, long timeout) {
+            super(key, value, timeout);
+        }
+
+        private void unlink() {
+            prev.next = next;
+            next.prev = prev;
+            prev = this;
+            next = this;
+        }
+    }
+
+}
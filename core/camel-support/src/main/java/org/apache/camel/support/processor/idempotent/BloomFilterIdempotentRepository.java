@@ -0,0 +1,604 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.Exchange;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceHelper;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * An {@link org.apache.camel.spi.IdempotentRepository} which decorates another (typically remote) repository with a
+ * local Bloom filter of the keys, so {@link #contains(String)} only needs to call the repository when the key may have
+ * been added before. Keys which have definitely not been added are answered from the Bloom filter alone.
+ * <p/>
+ * {@link #add(String)} always calls the repository, as the repository must store the key and decides whether it is a
+ * duplicate. Therefore this repository only saves calls to the repository when {@link #contains(String)} is used, such
+ * as by the idempotent consumer with <tt>eager=false</tt>, which checks the key before processing the exchange and
+ * only adds it afterwards. With the default <tt>eager=true</tt> the idempotent consumer only calls add, so the Bloom
+ * filter does not save any calls.
+ * <p/>
+ * The Bloom filter is a scalable counting Bloom filter: when more keys than the expected insertions have been added,
+ * another filter with twice the capacity and a tighter false positive probability is added, so the overall false
+ * positive probability stays within the configured rate. Removed keys are removed from the filter when this is safe.
+ * <p/>
+ * The Bloom filter only knows the keys added through this repository, and the keys given by the warm up when the
+ * repository is started. Therefore this repository should only be used when the keys are not added to the
+ * backing repository by others, such as other nodes in a cluster.
+ * <p/>
+ * Without a warm up the Bloom filter does not know the keys which were already in the repository when it was started
+ * (such as after a restart), so the filter cannot be trusted and keys that are not in the filter are checked with the
+ * repository as well. In this case the Bloom filter does not save any calls, until the repository is cleared.
+ */
+@ManagedResource(description = "Bloom filter based idempotent repository")
+public class BloomFilterIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(BloomFilterIdempotentRepository.class);
+
+    private final LongAdder filterHits = new LongAdder();
+    private final LongAdder falsePositives = new LongAdder();
+
+    private CamelContext camelContext;
+    private IdempotentRepository repository;
+    private int expectedInsertions = 100000;
+    private double falsePositiveProbability = 0.01;
+    private Supplier<? extends Iterable<String>> warmUp;
+    private volatile ScalableCountingBloomFilter filter;
+    // whether the filter knows all the keys of the repository, so keys not in the filter are not in the repository
+    private volatile boolean filterComplete;
+    // clearing must not interleave with the other operations, or a key added during the clear could be lost
+    private final ReadWriteLock clearLock = new ReentrantReadWriteLock();
+
+    public BloomFilterIdempotentRepository() {
+    }
+
+    public BloomFilterIdempotentRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    /**
+     * Creates a new Bloom filter based repository which decorates the given repository.
+     *
+     * @param repository the repository to decorate
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(IdempotentRepository repository) {
+        return new BloomFilterIdempotentRepository(repository);
+    }
+
+    /**
+     * Creates a new Bloom filter based repository which decorates the given repository.
+     *
+     * @param repository               the repository to decorate
+     * @param expectedInsertions       the number of keys the Bloom filter is initially sized for
+     * @param falsePositiveProbability the false positive probability of the Bloom filter
+     */
+    public static IdempotentRepository bloomFilterIdempotentRepository(
+            IdempotentRepository repository, int expectedInsertions, double falsePositiveProbability) {
+        BloomFilterIdempotentRepository answer = new BloomFilterIdempotentRepository(repository);
+        answer.setExpectedInsertions(expectedInsertions);
+        answer.setFalsePositiveProbability(falsePositiveProbability);
+        return answer;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public IdempotentRepository getRepository() {
+        return repository;
+    }
+
+    /**
+     * Sets the repository to decorate.
+     */
+    public void setRepository(IdempotentRepository repository) {
+        this.repository = repository;
+    }
+
+    @ManagedAttribute(description = "Number of keys the Bloom filter is initially sized for")
+    public int getExpectedInsertions() {
+        return expectedInsertions;
+    }
+
+    /**
+     * Sets the number of keys the Bloom filter is initially sized for. When more keys are added, then the Bloom filter
+     * grows.
+     * <p/>
+     * The default is 100000.
+     */
+    public void setExpectedInsertions(int expectedInsertions) {
+        this.expectedInsertions = expectedInsertions;
+    }
+
+    @ManagedAttribute(description = "False positive probability of the Bloom filter")
+    public double getFalsePositiveProbability() {
+        return falsePositiveProbability;
+    }
+
+    /**
+     * Sets the probability (between 0 and 1) that the Bloom filter reports a key which was not added, in which case
+     * the repository is called to check the key.
+     * <p/>
+     * The default is 0.01.
+     */
+    public void setFalsePositiveProbability(double falsePositiveProbability) {
+        this.falsePositiveProbability = falsePositiveProbability;
+    }
+
+    public Supplier<? extends Iterable<String>> getWarmUp() {
+        return warmUp;
+    }
+
+    /**
+     * Sets the supplier of the keys already in the repository, which are added to the Bloom filter when this repository
+     * is started. For example a query of the keys in a database table.
+     * <p/>
+     * Without a warm up the Bloom filter cannot tell that a key is not in the repository, as the key may have been added
+     * before this repository was started, so the repository is called for every key. Use a warm up that supplies no
+     * keys when the repository is known to be empty when started.
+     */
+    public void setWarmUp(Supplier<? extends Iterable<String>> warmUp) {
+        this.warmUp = warmUp;
+    }
+
+    @ManagedAttribute(description = "Number of lookups answered by the Bloom filter without calling the repository")
+    public long getFilterHits() {
+        return filterHits.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of lookups where the Bloom filter could contain the key but the repository did not")
+    public long getFalsePositives() {
+        return falsePositives.longValue();
+    }
+
+    @ManagedAttribute(description = "Number of filters in the scalable Bloom filter")
+    public int getFilterCount() {
+        return filter != null ? filter.getFilterCount() : 0;
+    }
+
+    @ManagedAttribute(description = "Whether the Bloom filter knows all the keys of the repository")
+    public boolean isFilterComplete() {
+        return filterComplete;
+    }
+
+    @ManagedAttribute(description = "Size of the Bloom filter in bytes")
+    public long getFilterSize() {
+        return filter != null ? filter.getSizeInBytes() : 0;
+    }
+
+    @ManagedOperation(description = "Reset the statistics")
+    public void resetStatistics() {
+        filterHits.reset();
+        falsePositives.reset();
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public boolean add(String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            // add to the filter first, so the filter never misses a key which is in the repository
+            ScalableCountingBloomFilter current = filter;
+            CountingBloomFilter added = current.put(key);
+            boolean answer = repository.add(key);
+            if (!answer) {
+                // the key is a duplicate which the filter already knows
+                current.undoPut(added, key);
+            }
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean add(Exchange exchange, String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            ScalableCountingBloomFilter current = filter;
+            CountingBloomFilter added = current.put(key);
+            boolean answer = repository.add(exchange, key);
+            if (!answer) {
+                current.undoPut(added, key);
+            }
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public boolean contains(String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            if (filter.mightContain(key)) {
+                boolean answer = repository.contains(key);
+                if (!answer) {
+                    falsePositives.increment();
+                }
+                return answer;
+            }
+            if (filterComplete) {
+                filterHits.increment();
+                return false;
+            }
+            return learn(key, repository.contains(key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean contains(Exchange exchange, String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            if (filter.mightContain(key)) {
+                boolean answer = repository.contains(exchange, key);
+                if (!answer) {
+                    falsePositives.increment();
+                }
+                return answer;
+            }
+            if (filterComplete) {
+                filterHits.increment();
+                return false;
+            }
+            return learn(key, repository.contains(exchange, key));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Adds a key which the repository contains, but the filter did not know, to the filter.
+     */
+    private boolean learn(String key, boolean contains) {
+        if (contains) {
+            filter.put(key);
+        }
+        return contains;
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public boolean remove(String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            boolean answer = repository.remove(key);
+            if (answer) {
+                filter.remove(key);
+            }
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean remove(Exchange exchange, String key) {
+        Lock lock = clearLock.readLock();
+        lock.lock();
+        try {
+            boolean answer = repository.remove(exchange, key);
+            if (answer) {
+                filter.remove(key);
+            }
+            return answer;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        return repository.confirm(key);
+    }
+
+    @Override
+    public boolean confirm(Exchange exchange, String key) {
+        return repository.confirm(exchange, key);
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store")
+    public void clear() {
+        Lock lock = clearLock.writeLock();
+        lock.lock();
+        try {
+            repository.clear();
+            filter = newFilter();
+            // the repository is empty so the filter knows all its keys from now on
+            filterComplete = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(repository, "repository", this);
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("ExpectedInsertions must be positive, was: " + expectedInsertions);
+        }
+        if (falsePositiveProbability <= 0 || falsePositiveProbability >= 1) {
+            throw new IllegalArgumentException(
+                    "FalsePositiveProbability must be between 0 and 1, was: " + falsePositiveProbability);
+        }
+
+        CamelContextAware.trySetCamelContext(repository, camelContext);
+        ServiceHelper.startService(repository);
+
+        ScalableCountingBloomFilter answer = newFilter();
+        if (warmUp != null) {
+            long count = 0;
+            for (String key : warmUp.get()) {
+                answer.put(key);
+                count++;
+            }
+            LOG.debug("Warmed up Bloom filter with {} keys", count);
+        } else {
+            LOG.info("No warm up is configured, so the Bloom filter does not know the keys already in the repository,"
+                     + " and the repository is called for every key");
+        }
+        filter = answer;
+        filterComplete = warmUp != null;
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        ServiceHelper.stopService(repository);
+    }
+
+    private ScalableCountingBloomFilter newFilter() {
+        return new ScalableCountingBloomFilter(expectedInsertions, falsePositiveProbability);
+    }
+
+    /**
+     * A scalable Bloom filter made of counting Bloom filters, which supports removing keys.
+     * <p/>
+     * Each new filter has twice the capacity and half the false positive probability of the previous filter, so the
+     * overall false positive probability is at most the given probability. A key is only removed from a filter when
+     * that is the only filter which may contain the key, and so must be the filter the key was added to; otherwise the
+     * key is kept, as removing it from the wrong filter could remove another key.
+     * <p/>
+     * The filters are updated using atomic operations, so only adding another filter takes a lock.
+     */
+    static final class ScalableCountingBloomFilter {
+
+        private volatile CountingBloomFilter[] filters;
+
+        ScalableCountingBloomFilter(int expectedInsertions, double falsePositiveProbability) {
+            // the first filter takes half the false positive probability, as the probabilities of the filters add up
+            filters = new CountingBloomFilter[] { new CountingBloomFilter(expectedInsertions, falsePositiveProbability / 2) };
+        }
+
+        /**
+         * Adds the key to the last filter.
+         *
+         * @return the filter the key was added to
+         */
+        CountingBloomFilter put(String key) {
+            long hash = hash(key);
+            CountingBloomFilter[] current = filters;
+            CountingBloomFilter last = current[current.length - 1];
+            if (last.isFull()) {
+                last = grow(last);
+            }
+            last.put(hash);
+            return last;
+        }
+
+        /**
+         * Undoes adding the key to the given filter, such as when the key turned out to be a duplicate, so repeated
+         * keys neither saturate the counters nor fill up the filter.
+         */
+        void undoPut(CountingBloomFilter filter, String key) {
+            filter.undoPut(hash(key));
+        }
+
+        boolean mightContain(String key) {
+            long hash = hash(key);
+            for (CountingBloomFilter f : filters) {
+                if (f.mightContain(hash)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        void remove(String key) {
+            long hash = hash(key);
+            CountingBloomFilter found = null;
+            for (CountingBloomFilter f : filters) {
+                if (f.mightContain(hash)) {
+                    if (found != null) {
+                        // more than one filter may contain the key, so it is not safe to remove it
+                        return;
+                    }
+                    found = f;
+                }
+            }
+            if (found != null) {
+                found.remove(hash);
+            }
+        }
+
+        int getFilterCount() {
+            return filters.length;
+        }
+
+        long getSizeInBytes() {
+            long answer = 0;
+            for (CountingBloomFilter f : filters) {
+                answer += f.getSizeInBytes();
+            }
+            return answer;
+        }
+
+        private synchronized CountingBloomFilter grow(CountingBloomFilter full) {
+            CountingBloomFilter[] current = filters;
+            CountingBloomFilter last = current[current.length - 1];
+            if (last != full) {
+                // another thread has already added a filter
+                return last;
+            }
+            int capacity = (int) Math.min((long) full.capacity * 2, Integer.MAX_VALUE);
+            last = new CountingBloomFilter(capacity, full.falsePositiveProbability / 2);
+            CountingBloomFilter[] answer = Arrays.copyOf(current, current.length + 1);
+            answer[current.length] = last;
+            filters = answer;
+            return last;
+        }
+
+        /**
+         * 64-bit FNV-1a hash of the key, with a final mix to spread the bits.
+         */
+        private static long hash(String key) {
+            long h = 0xcbf29ce484222325L;
+            for (byte b : key.getBytes(StandardCharsets.UTF_8)) {
+                h ^= b & 0xff;
+                h *= 0x100000001b3L;
+            }
+            h ^= h >>> 33;
+            h *= 0xff51afd7ed558ccdL;
+            h ^= h >>> 33;
+            h *= 0xc4ceb9fe1a85ec53L;
+            h ^= h >>> 33;
+            return h;
+        }
+    }
+
+    /**
+     * A counting Bloom filter with 4-bit counters, packed eight to an int and updated with compare and set. A counter
+     * which has reached its maximum is never decremented, so the filter never misses a key which was added.
+     */
+    static final class CountingBloomFilter {
+
+        private static final int MAX_COUNT = 15;
+        private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+
+        private final int capacity;
+        private final double falsePositiveProbability;
+        private final long size;
+        private final int hashes;
+        private final AtomicIntegerArray counters;
+        private final AtomicInteger count = new AtomicInteger();
+
+        CountingBloomFilter(int capacity, double falsePositiveProbability) {
+            this.capacity = capacity;
+            this.falsePositiveProbability = falsePositiveProbability;
+            // the optimal number of counters and hash functions for the capacity and false positive probability
+            long m = (long) Math.ceil(-capacity * Math.log(falsePositiveProbability) / (Math.log(2) * Math.log(2)));
+            this.size = Math.max(64, Math.min(m, (long) MAX_ARRAY_SIZE * 8));
+            this.hashes = Math.max(1, (int) Math.round((double) size / capacity * Math.log(2)));
+            this.counters = new AtomicIntegerArray((int) ((size + 7) / 8));
+        }
+
+        boolean isFull() {
+            return count.get() >= capacity;
+        }
+
+        long getSizeInBytes() {
+            return counters.length() * 4L;
+        }
+
+        void put(long hash) {
+            for (int i = 0; i < hashes; i++) {
+                update(index(hash, i), 1);
+            }
+            count.incrementAndGet();
+        }
+
+        boolean mightContain(long hash) {
+            for (int i = 0; i < hashes; i++) {
+                long index = index(hash, i);
+                if (((counters.get((int) (index >>> 3)) >>> shift(index)) & 0x0f) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        void remove(long hash) {
+            for (int i = 0; i < hashes; i++) {
+                update(index(hash, i), -1);
+            }
+        }
+
+        void undoPut(long hash) {
+            remove(hash);
+            count.decrementAndGet();
+        }
+
+        private long index(long hash, int i) {
+            // double hashing using the upper and lower half of the hash
+            long combined = (hash >>> 32) + i * (hash & 0xffffffffL);
+            return (combined & Long.MAX_VALUE) % size;
+        }
+
+        private static int shift(long index) {
+            return (int) (index & 7) * 4;
+        }
+
+        private void update(long index, int delta) {
+            int i = (int) (index >>> 3);
+            int shift = shift(index);
+            while (true) {
+                int word = counters.get(i);
+                int counter = (word >>> shift) & 0x0f;
+                // a counter at its maximum may have overflowed, so it is neither incremented nor decremented
+                if (counter == MAX_COUNT || counter + delta < 0) {
+                    return;
+                }
+                int updated = (word & ~(0x0f << shift)) | ((counter + delta) << shift);
+                if (counters.compareAndSet(i, word, updated)) {
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,797 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.support.processor.idempotent;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.CamelContextAware;
+import org.apache.camel.RuntimeCamelException;
+import org.apache.camel.api.management.ManagedAttribute;
+import org.apache.camel.api.management.ManagedOperation;
+import org.apache.camel.api.management.ManagedResource;
+import org.apache.camel.spi.IdempotentRepository;
+import org.apache.camel.support.service.ServiceSupport;
+import org.apache.camel.util.IOHelper;
+import org.apache.camel.util.ObjectHelper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A file based implementation of {@link org.apache.camel.spi.IdempotentRepository} which can hold a large number of
+ * keys, without keeping the keys in memory.
+ * <p/>
+ * The keys are stored in an append-only log file, and a hash index of the keys is kept in a memory mapped file (the
+ * file store name with the <tt>.idx</tt> suffix). The index holds the hash of each key and the position of the key in
+ * the log, so {@link #add(String)}, {@link #contains(String)} and {@link #remove(String)} are O(1), and only need to
+ * read the key from the log to verify a hash match. The index is rebuilt from the log if it is missing or out of date.
+ * <p/>
+ * Removed and expired keys leave dead records in the log. When the dead records take up more than the compaction
+ * threshold of the log, then the log is compacted by rewriting the live keys to a new log. The compaction runs in a
+ * background thread when the repository has been given a {@link CamelContext}; however it holds the lock on the
+ * repository while running.
+ * <p/>
+ * Keys can optionally expire after a time to live. Expired keys are no longer contained in the repository, and are
+ * dropped from the log when it is compacted.
+ * <p/>
+ * The index can hold up to about 47 million keys. When the index is grown, rehashed or compacted, the old index is
+ * unmapped before the new index file replaces it, as a file cannot be replaced while it is still mapped on some
+ * platforms, such as Windows.
+ */
+@ManagedResource(description = "Memory mapped file based idempotent repository")
+public class MemoryMappedFileIdempotentRepository extends ServiceSupport implements IdempotentRepository, CamelContextAware {
+
+    private static final Logger LOG = LoggerFactory.getLogger(MemoryMappedFileIdempotentRepository.class);
+
+    private static final String INDEX_SUFFIX = ".idx";
+    private static final int MAGIC = 0x43494458;
+    private static final int VERSION = 1;
+
+    // index header
+    private static final int HEADER_SIZE = 64;
+    private static final int HEADER_MAGIC = 0;
+    private static final int HEADER_VERSION = 4;
+    private static final int HEADER_SLOTS = 8;
+    private static final int HEADER_SIZE_COUNT = 12;
+    private static final int HEADER_TOMBSTONES = 16;
+    private static final int HEADER_LOG_LENGTH = 24;
+    private static final int HEADER_DEAD_BYTES = 32;
+
+    // each index slot holds the hash of the key, the position of the key in the log, and when it was added
+    private static final int SLOT_SIZE = 24;
+    private static final int MIN_SLOTS = 16;
+    private static final int MAX_SLOTS = 1 << 26;
+    private static final double MAX_LOAD = 0.7;
+    private static final long DELETED = -1;
+
+    // each log record is the key length (negative for a removed key), when it was added, and the key
+    private static final int RECORD_HEADER_SIZE = 12;
+
+    private final AtomicBoolean compactionScheduled = new AtomicBoolean();
+
+    private CamelContext camelContext;
+    private File fileStore;
+    private int initialCapacity = 65536;
+    private long timeToLive;
+    private double compactionThreshold = 0.5;
+    private long compactionMinSize = 1024 * 1024;
+
+    private File indexFile;
+    private FileChannel log;
+    private long logLength;
+    private long deadBytes;
+    private FileChannel indexChannel;
+    private MappedByteBuffer index;
+    private int slots;
+    private int size;
+    private int tombstones;
+    private ExecutorService compactionExecutor;
+
+    public MemoryMappedFileIdempotentRepository() {
+    }
+
+    public MemoryMappedFileIdempotentRepository(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    /**
+     * Creates a new memory mapped file based repository.
+     *
+     * @param fileStore the file store
+     */
+    public static IdempotentRepository memoryMappedFileIdempotentRepository(File fileStore) {
+        return new MemoryMappedFileIdempotentRepository(fileStore);
+    }
+
+    /**
+     * Creates a new memory mapped file based repository, where the keys expire after the given time to live.
+     *
+     * @param fileStore  the file store
+     * @param timeToLive the time to live in millis
+     */
+    public static IdempotentRepository memoryMappedFileIdempotentRepository(File fileStore, long timeToLive) {
+        MemoryMappedFileIdempotentRepository repository = new MemoryMappedFileIdempotentRepository(fileStore);
+        repository.setTimeToLive(timeToLive);
+        return repository;
+    }
+
+    @Override
+    public CamelContext getCamelContext() {
+        return camelContext;
+    }
+
+    @Override
+    public void setCamelContext(CamelContext camelContext) {
+        this.camelContext = camelContext;
+    }
+
+    public File getFileStore() {
+        return fileStore;
+    }
+
+    public void setFileStore(File fileStore) {
+        this.fileStore = fileStore;
+    }
+
+    @ManagedAttribute(description = "The file path for the store")
+    public String getFilePath() {
+        return fileStore.getPath();
+    }
+
+    public int getInitialCapacity() {
+        return initialCapacity;
+    }
+
+    /**
+     * Sets the number of keys the index is initially sized for. The index grows when needed, which requires rehashing
+     * the index.
+     * <p/>
+     * The default is 65536.
+     */
+    public void setInitialCapacity(int initialCapacity) {
+        this.initialCapacity = initialCapacity;
+    }
+
+    @ManagedAttribute(description = "Time to live in millis for the keys")
+    public long getTimeToLive() {
+        return timeToLive;
+    }
+
+    /**
+     * Sets the time to live in millis for the keys, after which a key is no longer contained in the repository. Use 0
+     * or negative to keep the keys until they are removed.
+     * <p/>
+     * The default is 0.
+     */
+    public void setTimeToLive(long timeToLive) {
+        this.timeToLive = timeToLive;
+    }
+
+    @ManagedAttribute(description = "Fraction of dead records in the log that triggers compaction")
+    public double getCompactionThreshold() {
+        return compactionThreshold;
+    }
+
+    /**
+     * Sets the fraction (between 0 and 1) of the log taken up by dead records (removed or expired keys), which triggers
+     * compaction of the log.
+     * <p/>
+     * The default is 0.5.
+     */
+    public void setCompactionThreshold(double compactionThreshold) {
+        this.compactionThreshold = compactionThreshold;
+    }
+
+    public long getCompactionMinSize() {
+        return compactionMinSize;
+    }
+
+    /**
+     * Sets the minimum size in bytes of the dead records in the log, before the log is compacted.
+     * <p/>
+     * The default is 1mb.
+     */
+    public void setCompactionMinSize(long compactionMinSize) {
+        this.compactionMinSize = compactionMinSize;
+    }
+
+    @ManagedAttribute(description = "Number of keys in the store (including expired keys not yet removed)")
+    public synchronized int getSize() {
+        return size;
+    }
+
+    @ManagedAttribute(description = "Size of the log file in bytes")
+    public synchronized long getLogSize() {
+        return logLength;
+    }
+
+    @ManagedAttribute(description = "Size of the dead records in the log file in bytes")
+    public synchronized long getDeadSize() {
+        return deadBytes;
+    }
+
+    @ManagedAttribute(description = "Number of keys the index can hold before it must grow")
+    public synchronized int getIndexCapacity() {
+        return (int) (slots * MAX_LOAD);
+    }
+
+    @Override
+    @ManagedOperation(description = "Adds the key to the store")
+    public synchronized boolean add(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        long hash = hash(bytes);
+        long now = System.currentTimeMillis();
+        int slot = findSlot(bytes, hash);
+        if (slot >= 0) {
+            if (!isExpired(slot, now)) {
+                return false;
+            }
+            // the key has expired so it can be added again
+            markDeleted(slot, bytes.length);
+        }
+
+        ensureCapacity();
+        long position = appendToLog(bytes, now, false);
+        if (insert(index, slots, hash, position, now)) {
+            tombstones--;
+        }
+        size++;
+        writeHeader();
+        compactIfNeeded();
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Does the store contain the given key")
+    public synchronized boolean contains(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(bytes, hash(bytes));
+        if (slot < 0) {
+            return false;
+        }
+        if (isExpired(slot, System.currentTimeMillis())) {
+            markDeleted(slot, bytes.length);
+            writeHeader();
+            return false;
+        }
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Remove the key from the store")
+    public synchronized boolean remove(String key) {
+        byte[] bytes = key.getBytes(StandardCharsets.UTF_8);
+        int slot = findSlot(bytes, hash(bytes));
+        if (slot < 0) {
+            return false;
+        }
+        boolean expired = isExpired(slot, System.currentTimeMillis());
+        // log the removal so the key is not restored when the index is rebuilt from the log
+        appendToLog(bytes, 0, true);
+        deadBytes += RECORD_HEADER_SIZE + bytes.length;
+        markDeleted(slot, bytes.length);
+        writeHeader();
+        compactIfNeeded();
+        return !expired;
+    }
+
+    @Override
+    public boolean confirm(String key) {
+        // noop
+        return true;
+    }
+
+    @Override
+    @ManagedOperation(description = "Clear the store (danger this removes all entries)")
+    public synchronized void clear() {
+        try {
+            log.truncate(0);
+            logLength = 0;
+            deadBytes = 0;
+            createIndex(slotsFor(initialCapacity));
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    /**
+     * Compacts the log by rewriting the live keys to a new log, and rebuilding the index.
+     */
+    @ManagedOperation(description = "Compacts the log by dropping removed and expired keys")
+    public synchronized void compact() {
+        if (log == null) {
+            return;
+        }
+        long start = System.currentTimeMillis();
+        long before = logLength;
+        File logTmp = new File(fileStore.getPath() + ".compact");
+        File indexTmp = new File(indexFile.getPath() + ".compact");
+        FileChannel newIndexChannel = null;
+        MappedByteBuffer newIndex = null;
+        FileChannel newLog = null;
+        boolean swapped = false;
+        try {
+            int newSlots = slotsFor(Math.max(initialCapacity, size));
+            newIndexChannel = FileChannel.open(indexTmp.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            newIndex = newIndexChannel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize(newSlots));
+            long now = System.currentTimeMillis();
+            long position = 0;
+            int count = 0;
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(logTmp.toPath())))) {
+                for (int i = 0; i < slots; i++) {
+                    int pos = slotPosition(i);
+                    long offset = index.getLong(pos + 8);
+                    if (index.getLong(pos) == 0 || offset < 0 || isExpired(i, now)) {
+                        continue;
+                    }
+                    long timestamp = index.getLong(pos + 16);
+                    byte[] key = readKey(offset);
+                    out.writeInt(key.length);
+                    out.writeLong(timestamp);
+                    out.write(key);
+                    insert(newIndex, newSlots, index.getLong(pos), position, timestamp);
+                    position += RECORD_HEADER_SIZE + key.length;
+                    count++;
+                }
+            }
+
+            // swap in the compacted log, which is opened before it is moved, so the old log is still in use if the
+            // move fails, and it is only closed once the compacted log has replaced it
+            newLog = FileChannel.open(logTmp.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+            Files.move(logTmp.toPath(), fileStore.toPath(), StandardCopyOption.REPLACE_EXISTING,
+                    StandardCopyOption.ATOMIC_MOVE);
+            FileChannel oldLog = log;
+            log = newLog;
+            logLength = position;
+            deadBytes = 0;
+            swapped = true;
+            IOHelper.close(oldLog);
+            // the index on disk no longer matches the log, so it is rebuilt on restart if swapping the index fails
+            swapIndex(indexTmp, newIndexChannel, newIndex, newSlots, count, 0);
+            LOG.debug("Compacted idempotent filestore: {} from {} to {} bytes with {} keys in {} millis", fileStore, before,
+                    logLength, count, System.currentTimeMillis() - start);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        } finally {
+            if (!swapped) {
+                // keep using the old log and index
+                IOHelper.close(newLog);
+                discardIndex(indexTmp, newIndexChannel, newIndex);
+                deleteFile(logTmp);
+            }
+        }
+    }
+
+    @Override
+    protected void doStart() throws Exception {
+        ObjectHelper.notNull(fileStore, "fileStore", this);
+        if (compactionThreshold <= 0 || compactionThreshold > 1) {
+            throw new IllegalArgumentException("CompactionThreshold must be between 0 and 1, was: " + compactionThreshold);
+        }
+
+        File parent = fileStore.getAbsoluteFile().getParentFile();
+        if (parent != null && !parent.exists()) {
+            LOG.debug("Creating filestore directory: {}", parent);
+            if (!parent.mkdirs()) {
+                LOG.warn("Cannot create the filestore directory at: {}", parent);
+            }
+        }
+        indexFile = new File(fileStore.getPath() + INDEX_SUFFIX);
+        log = openLog();
+        logLength = log.size();
+
+        if (!loadIndex()) {
+            rebuildIndex();
+        }
+        LOG.debug("Loaded idempotent filestore: {} with {} keys", fileStore, size);
+
+        if (camelContext != null && compactionExecutor == null) {
+            compactionExecutor = camelContext.getExecutorServiceManager().newSingleThreadExecutor(this,
+                    "MemoryMappedFileIdempotentRepositoryCompaction");
+        }
+    }
+
+    @Override
+    protected void doStop() throws Exception {
+        if (compactionExecutor != null) {
+            camelContext.getExecutorServiceManager().shutdownGraceful(compactionExecutor);
+            compactionExecutor = null;
+        }
+        synchronized (this) {
+            if (index != null) {
+                writeHeader();
+                index.force();
+                unmap(index);
+                index = null;
+            }
+            IOHelper.close(indexChannel);
+            indexChannel = null;
+            if (log != null) {
+                log.force(false);
+            }
+            IOHelper.close(log);
+            log = null;
+        }
+    }
+
+    private FileChannel openLog() throws IOException {
+        return FileChannel.open(fileStore.toPath(), StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+    }
+
+    /**
+     * Loads the existing index, if it is up-to-date with the log.
+     */
+    private boolean loadIndex() throws IOException {
+        if (!indexFile.exists() || indexFile.length() < HEADER_SIZE) {
+            return false;
+        }
+        FileChannel channel = FileChannel.open(indexFile.toPath(), StandardOpenOption.READ, StandardOpenOption.WRITE);
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        readFully(channel, header, 0);
+        int existingSlots = header.getInt(HEADER_SLOTS);
+        if (header.getInt(HEADER_MAGIC) != MAGIC || header.getInt(HEADER_VERSION) != VERSION
+                || header.getLong(HEADER_LOG_LENGTH) != logLength
+                || Integer.bitCount(existingSlots) != 1 || existingSlots > MAX_SLOTS
+                || channel.size() != indexSize(existingSlots)) {
+            LOG.debug("Index file: {} is not up-to-date with the filestore: {}", indexFile, fileStore);
+            IOHelper.close(channel);
+            return false;
+        }
+        indexChannel = channel;
+        index = channel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize(existingSlots));
+        slots = existingSlots;
+        size = index.getInt(HEADER_SIZE_COUNT);
+        tombstones = index.getInt(HEADER_TOMBSTONES);
+        deadBytes = index.getLong(HEADER_DEAD_BYTES);
+        return true;
+    }
+
+    /**
+     * Rebuilds the index by replaying the log.
+     */
+    private void rebuildIndex() throws IOException {
+        LOG.debug("Rebuilding index file: {} from idempotent filestore: {}", indexFile, fileStore);
+        createIndex(slotsFor(initialCapacity));
+        deadBytes = 0;
+        long position = 0;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(fileStore.toPath()), 64 * 1024))) {
+            while (position < logLength) {
+                int length;
+                long timestamp;
+                byte[] key;
+                try {
+                    length = in.readInt();
+                    timestamp = in.readLong();
+                    key = new byte[Math.abs(length)];
+                    in.readFully(key);
+                } catch (EOFException e) {
+                    // the last record was not fully written, so drop it
+                    LOG.warn("Dropping incomplete record at position {} of idempotent filestore: {}", position, fileStore);
+                    log.truncate(position);
+                    logLength = position;
+                    break;
+                }
+                long hash = hash(key);
+                int slot = findSlot(key, hash);
+                if (slot >= 0) {
+                    markDeleted(slot, key.length);
+                }
+                if (length >= 0) {
+                    ensureCapacity();
+                    if (insert(index, slots, hash, position, timestamp)) {
+                        tombstones--;
+                    }
+                    size++;
+                } else {
+                    deadBytes += RECORD_HEADER_SIZE + key.length;
+                }
+                position += RECORD_HEADER_SIZE + key.length;
+            }
+        }
+        writeHeader();
+    }
+
+    private void createIndex(int newSlots) throws IOException {
+        File tmp = new File(indexFile.getPath() + ".tmp");
+        FileChannel channel = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        MappedByteBuffer buffer = null;
+        try {
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize(newSlots));
+        } catch (IOException e) {
+            discardIndex(tmp, channel, null);
+            throw e;
+        }
+        swapIndex(tmp, channel, buffer, newSlots, 0, 0);
+    }
+
+    private void swapIndex(File tmp, FileChannel channel, MappedByteBuffer buffer, int newSlots, int newSize, int newTombstones)
+            throws IOException {
+        MappedByteBuffer oldIndex = index;
+        FileChannel oldChannel = indexChannel;
+        // the new index is in use from now on, even if it cannot replace the index file, as then the index file no
+        // longer matches the log and it is rebuilt on restart
+        indexChannel = channel;
+        index = buffer;
+        slots = newSlots;
+        size = newSize;
+        tombstones = newTombstones;
+        writeHeader();
+        // the old index must be unmapped before it can be replaced on some platforms, such as Windows
+        unmap(oldIndex);
+        IOHelper.close(oldChannel);
+        Files.move(tmp.toPath(), indexFile.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Discards a new index which is not going to be used, such as when building it failed.
+     */
+    private static void discardIndex(File tmp, FileChannel channel, MappedByteBuffer buffer) {
+        unmap(buffer);
+        IOHelper.close(channel);
+        deleteFile(tmp);
+    }
+
+    private static void deleteFile(File file) {
+        try {
+            Files.deleteIfExists(file.toPath());
+        } catch (IOException e) {
+            LOG.debug("Cannot delete file: {} due to: {}", file, e.getMessage());
+        }
+    }
+
+    /**
+     * Unmaps the index buffer, instead of waiting for it to be garbage collected, which keeps the index file open. The
+     * buffer must no longer be used afterwards.
+     */
+    private static void unmap(MappedByteBuffer buffer) {
+        if (buffer != null && !IOHelper.freeDirectBuffer(buffer)) {
+            LOG.debug("Cannot unmap index buffer, it is unmapped when garbage collected");
+        }
+    }
+
+    /**
+     * Grows the index, or rehashes it to drop the tombstones, when adding another key would exceed the maximum load.
+     */
+    private void ensureCapacity() {
+        if (size + tombstones + 1 <= slots * MAX_LOAD) {
+            return;
+        }
+        int newSlots = size + 1 > slots * MAX_LOAD / 2 ? slots * 2 : slots;
+        if (newSlots > MAX_SLOTS) {
+            throw new IllegalStateException(
+                    "The idempotent filestore: " + fileStore + " is full with " + size + " keys");
+        }
+        LOG.debug("Rehashing index file: {} from {} to {} slots", indexFile, slots, newSlots);
+        File tmp = new File(indexFile.getPath() + ".tmp");
+        FileChannel channel = null;
+        MappedByteBuffer buffer = null;
+        try {
+            channel = FileChannel.open(tmp.toPath(), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, indexSize(newSlots));
+            for (int i = 0; i < slots; i++) {
+                int pos = slotPosition(i);
+                long offset = index.getLong(pos + 8);
+                if (index.getLong(pos) != 0 && offset >= 0) {
+                    insert(buffer, newSlots, index.getLong(pos), offset, index.getLong(pos + 16));
+                }
+            }
+        } catch (IOException | RuntimeException e) {
+            discardIndex(tmp, channel, buffer);
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        try {
+            swapIndex(tmp, channel, buffer, newSlots, size, 0);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+    }
+
+    private void compactIfNeeded() {
+        if (deadBytes < compactionMinSize || deadBytes < logLength * compactionThreshold) {
+            return;
+        }
+        if (compactionExecutor == null) {
+            compact();
+        } else if (compactionScheduled.compareAndSet(false, true)) {
+            compactionExecutor.submit(() -> {
+                try {
+                    compact();
+                } catch (Exception e) {
+                    LOG.warn("Error compacting idempotent filestore: {} due to: {}", fileStore, e.getMessage(), e);
+                } finally {
+                    compactionScheduled.set(false);
+                }
+            });
+        }
+    }
+
+    private int findSlot(byte[] key, long hash) {
+        int mask = slots - 1;
+        int i = spread(hash) & mask;
+        for (int n = 0; n < slots; n++) {
+            int pos = slotPosition(i);
+            long slotHash = index.getLong(pos);
+            if (slotHash == 0) {
+                return -1;
+            }
+            if (slotHash == hash) {
+                long offset = index.getLong(pos + 8);
+                if (offset >= 0 && keyEquals(offset, key)) {
+                    return i;
+                }
+            }
+            i = (i + 1) & mask;
+        }
+        return -1;
+    }
+
+    /**
+     * Inserts the key in the first empty or deleted slot.
+     *
+     * @return <tt>true</tt> if a deleted slot (tombstone) was reused
+     */
+    private static boolean insert(MappedByteBuffer buffer, int bufferSlots, long hash, long offset, long timestamp) {
+        int mask = bufferSlots - 1;
+        int i = spread(hash) & mask;
+        while (true) {
+            int pos = slotPosition(i);
+            boolean empty = buffer.getLong(pos) == 0;
+            if (empty || buffer.getLong(pos + 8) == DELETED) {
+                buffer.putLong(pos, hash);
+                buffer.putLong(pos + 8, offset);
+                buffer.putLong(pos + 16, timestamp);
+                return !empty;
+            }
+            i = (i + 1) & mask;
+        }
+    }
+
+    private void markDeleted(int slot, int keyLength) {
+        index.putLong(slotPosition(slot) + 8, DELETED);
+        size--;
+        tombstones++;
+        deadBytes += RECORD_HEADER_SIZE + keyLength;
+    }
+
+    private boolean isExpired(int slot, long now) {
+        return timeToLive > 0 && now - index.getLong(slotPosition(slot) + 16) > timeToLive;
+    }
+
+    private long appendToLog(byte[] key, long timestamp, boolean removed) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + key.length);
+        buffer.putInt(removed ? -key.length : key.length);
+        buffer.putLong(timestamp);
+        buffer.put(key);
+        buffer.flip();
+        long position = logLength;
+        try {
+            long pos = position;
+            while (buffer.hasRemaining()) {
+                pos += log.write(buffer, pos);
+            }
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        logLength += RECORD_HEADER_SIZE + key.length;
+        return position;
+    }
+
+    private boolean keyEquals(long offset, byte[] key) {
+        ByteBuffer buffer = ByteBuffer.allocate(RECORD_HEADER_SIZE + key.length);
+        try {
+            readFully(log, buffer, offset);
+        } catch (IOException e) {
+            throw RuntimeCamelException.wrapRuntimeCamelException(e);
+        }
+        if (buffer.getInt(0) != key.length) {
+            return false;
+        }
+        for (int i = 0; i < key.length; i++) {
+            if (buffer.get(RECORD_HEADER_SIZE + i) != key[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private byte[] readKey(long offset) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(4);
+        readFully(log, header, offset);
+        ByteBuffer key = ByteBuffer.allocate(Math.abs(header.getInt(0)));
+        readFully(log, key, offset + RECORD_HEADER_SIZE);
+        return key.array();
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer, long position) throws IOException {
+        long pos = position;
+        while (buffer.hasRemaining()) {
+            int n = channel.read(buffer, pos);
+            if (n < 0) {
+                throw new EOFException("Unexpected end of file at position " + pos);
+            }
+            pos += n;
+        }
+    }
+
+    private void writeHeader() {
+        index.putInt(HEADER_MAGIC, MAGIC);
+        index.putInt(HEADER_VERSION, VERSION);
+        index.putInt(HEADER_SLOTS, slots);
+        index.putInt(HEADER_SIZE_COUNT, size);
+        index.putInt(HEADER_TOMBSTONES, tombstones);
+        index.putLong(HEADER_LOG_LENGTH, logLength);
+        index.putLong(HEADER_DEAD_BYTES, deadBytes);
+    }
+
+    private static int slotsFor(int capacity) {
+        long needed = (long) Math.ceil(Math.max(1, capacity) / MAX_LOAD);
+        int answer = MIN_SLOTS;
+        while (answer < needed && answer < MAX_SLOTS) {
+            answer <<= 1;
+        }
+        return answer;
+    }
+
+    private static long indexSize(int indexSlots) {
+        return HEADER_SIZE + (long) indexSlots * SLOT_SIZE;
+    }
+
+    private static int slotPosition(int slot) {
+        return HEADER_SIZE + slot * SLOT_SIZE;
+    }
+
+    private static int spread(long hash) {
+        return (int) (hash ^ (hash >>> 32));
+    }
+
+    /**
+     * 64-bit FNV-1a hash of the key, with a final mix to spread the bits. The hash is never 0, which marks an empty
+     * slot.
+     */
+    private static long hash(byte[] key) {
+        long h = 0xcbf29ce484222325L;
+        for (byte b : key) {
+            h ^= b & 0xff;
+            h *= 0x100000001b3L;
+        }
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        return h == 0 ? 1 : h;
+    }
+}
@@ -34,6 +34,10 @@ import java.io.OutputStreamWriter;
 import java.io.Reader;
 import java.io.UnsupportedEncodingException;
 import java.io.Writer;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
 import java.nio.ByteBuffer;
 import java.nio.CharBuffer;
 import java.nio.channels.FileChannel;
@@ -166,6 +170,25 @@ public final class IOHelper {
             long maxSize)
             throws IOException {
 
+        bufferSize = copyBufferSize(input, bufferSize);
+
+        if (LOG.isTraceEnabled()) {
+            LOG.trace("Copying InputStream: {} -> OutputStream: {} with buffer: {} and flush on each write {}", input, output,
+                    bufferSize, flushOnEachWrite);
+        }
+
+        return copy(input, output, new byte[bufferSize], flushOnEachWrite, maxSize);
+    }
+
+    /**
+     * Determines the size of the buffer to use for copying the input stream, which is the number of available bytes of
+     * the stream if that is bigger than the given buffer size, with an upper cap of 256kb.
+     *
+     * @param  input      the input stream
+     * @param  bufferSize the preferred buffer size
+     * @return            the buffer size to use
+     */
+    public static int copyBufferSize(final InputStream input, int bufferSize) throws IOException {
         if (input instanceof ByteArrayInputStream) {
             // optimized for byte array as we only need the max size it can be
             input.mark(0);
@@ -182,14 +205,25 @@ public final class IOHelper {
             // upper cap to avoid buffers too big
             bufferSize = 262144;
         }
+        return bufferSize;
+    }
 
-        if (LOG.isTraceEnabled()) {
-            LOG.trace("Copying InputStream: {} -> OutputStream: {} with buffer: {} and flush on each write {}", input, output,
-                    bufferSize, flushOnEachWrite);
-        }
+    /**
+     * Copies the input stream to the output stream using the given buffer, such as a buffer from a pool.
+     *
+     * @param  input            the input stream
+     * @param  output           the output stream
+     * @param  buffer           the buffer to use for copying
+     * @param  flushOnEachWrite whether to flush the output stream on each write
+     * @param  maxSize          the maximum number of bytes to copy, or -1 for no limit
+     * @return                  the number of bytes copied
+     */
+    public static int copy(
+            final InputStream input, final OutputStream output, final byte[] buffer, boolean flushOnEachWrite,
+            long maxSize)
+            throws IOException {
 
         int total = 0;
-        final byte[] buffer = new byte[bufferSize];
         int n = input.read(buffer);
 
         boolean hasData;
@@ -727,4 +761,53 @@ public final class IOHelper {
     public static BufferedWriter toWriter(FileOutputStream os, Charset charset) {
         return IOHelper.buffered(new EncodingFileWriter(os, charset));
     }
+
+    /**
+     * Frees the memory of the given direct or memory mapped buffer right away, instead of when the buffer is garbage
+     * collected. This also unmaps a memory mapped file, so the file can be deleted or replaced, which is not possible
+     * on Windows while the file is mapped.
+     * <p/>
+     * The buffer (and any views of the buffer) must not be used afterwards, as this will crash the JVM.
+     *
+     * @param  buffer the buffer
+     * @return        <tt>true</tt> if the buffer was freed, or <tt>false</tt> if the buffer is not direct, or is a view
+     *                of another buffer, or the JVM does not allow to free buffers, in which case the buffer is freed
+     *                when it is garbage collected.
+     */
+    public static boolean freeDirectBuffer(ByteBuffer buffer) {
+        MethodHandle cleaner = DirectBufferCleaner.INVOKE_CLEANER;
+        if (cleaner == null || buffer == null || !buffer.isDirect()) {
+            return false;
+        }
+        try {
+            cleaner.invokeExact(buffer);
+            return true;
+        } catch (Throwable e) {
+            LOG.debug("Cannot free direct buffer: {} due to: {}. This exception is ignored.", buffer, e.getMessage(), e);
+            return false;
+        }
+    }
+
+    /**
+     * Looks up sun.misc.Unsafe#invokeCleaner lazily, the first time a direct buffer is freed.
+     */
+    private static final class DirectBufferCleaner {
+
+        private static final MethodHandle INVOKE_CLEANER = findInvokeCleaner();
+
+        private static MethodHandle findInvokeCleaner() {
+            try {
+                Class<?> unsafeClass = Class.forName("sun.misc.Unsafe");
+                Field field = unsafeClass.getDeclaredField("theUnsafe");
+                field.setAccessible(true);
+                return MethodHandles.lookup()
+                        .findVirtual(unsafeClass, "invokeCleaner", MethodType.methodType(void.class, ByteBuffer.class))
+                        .bindTo(field.get(null));
+            } catch (Throwable e) {
+                LOG.debug("Cannot free direct buffers explicitly due to: {}. The buffers are freed when garbage collected.",
+                        e.getMessage());
+                return null;
+            }
+        }
+    }
 }
@@ -93,12 +93,14 @@ public class ModelParser extends BaseParser {
                 case "completionSize": def.setCompletionSize(val); break;
                 case "completionTimeout": def.setCompletionTimeout(val); break;
                 case "completionTimeoutCheckerInterval": def.setCompletionTimeoutCheckerInterval(val); break;
+                case "completionTimeoutTimingWheel": def.setCompletionTimeoutTimingWheel(val); break;
                 case "discardOnAggregationFailure": def.setDiscardOnAggregationFailure(val); break;
                 case "discardOnCompletionTimeout": def.setDiscardOnCompletionTimeout(val); break;
                 case "eagerCheckCompletion": def.setEagerCheckCompletion(val); break;
                 case "executorService": def.setExecutorService(val); break;
                 case "forceCompletionOnStop": def.setForceCompletionOnStop(val); break;
                 case "ignoreInvalidCorrelationKeys": def.setIgnoreInvalidCorrelationKeys(val); break;
+                case "lockStripeSize": def.setLockStripeSize(val); break;
                 case "optimisticLocking": def.setOptimisticLocking(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
                 case "timeoutCheckerExecutorService": def.setTimeoutCheckerExecutorService(val); break;
@@ -1337,6 +1339,7 @@ public class ModelParser extends BaseParser {
                 case "aggregationStrategyMethodName": def.setAggregationStrategyMethodName(val); break;
                 case "delimiter": def.setDelimiter(val); break;
                 case "executorService": def.setExecutorService(val); break;
+                case "maxInFlight": def.setMaxInFlight(val); break;
                 case "onPrepare": def.setOnPrepare(val); break;
                 case "parallelAggregate": def.setParallelAggregate(val); break;
                 case "parallelProcessing": def.setParallelProcessing(val); break;
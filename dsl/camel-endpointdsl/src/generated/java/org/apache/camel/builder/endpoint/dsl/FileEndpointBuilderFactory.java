@@ -2217,6 +2217,85 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("inProgressRepository", inProgressRepository);
             return this;
         }
+        /**
+         * Whether to keep the listings of the directories between polls, and
+         * only list the directories which have changed since the previous poll,
+         * as detected by a java.nio.file.WatchService. This reduces the cost of
+         * polling large directories, or directory trees with recursive, where
+         * few files change between polls. The file size and last modified
+         * timestamp used by the filters are the ones of the listing.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(
+                boolean incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
+        /**
+         * Whether to keep the listings of the directories between polls, and
+         * only list the directories which have changed since the previous poll,
+         * as detected by a java.nio.file.WatchService. This reduces the cost of
+         * polling large directories, or directory trees with recursive, where
+         * few files change between polls. The file size and last modified
+         * timestamp used by the filters are the ones of the listing.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScan the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScan(
+                String incrementalScan) {
+            doSetProperty("incrementalScan", incrementalScan);
+            return this;
+        }
+        /**
+         * The interval in millis to list all the directories again when
+         * incrementalScan is enabled, in case the file system did not report
+         * some changes. Use 0 to never list all the directories again.
+         * 
+         * The option is a: &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 300000
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScanReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScanReconcileInterval(
+                long incrementalScanReconcileInterval) {
+            doSetProperty("incrementalScanReconcileInterval", incrementalScanReconcileInterval);
+            return this;
+        }
+        /**
+         * The interval in millis to list all the directories again when
+         * incrementalScan is enabled, in case the file system did not report
+         * some changes. Use 0 to never list all the directories again.
+         * 
+         * The option will be converted to a &lt;code&gt;long&lt;/code&gt; type.
+         * 
+         * Default: 300000
+         * Group: consumer (advanced)
+         * 
+         * @param incrementalScanReconcileInterval the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder incrementalScanReconcileInterval(
+                String incrementalScanReconcileInterval) {
+            doSetProperty("incrementalScanReconcileInterval", incrementalScanReconcileInterval);
+            return this;
+        }
         /**
          * When consuming, a local work directory can be used to store the
          * remote file content directly in local files, to avoid loading the
@@ -2655,6 +2734,84 @@ public interface FileEndpointBuilderFactory {
             doSetProperty("synchronous", synchronous);
             return this;
         }
+        /**
+         * The maximum number of directories listed in parallel ahead of the
+         * polling thread when walkParallelism is enabled, which bounds the
+         * memory used by the listings.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer (advanced)
+         * 
+         * @param walkMaxPending the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder walkMaxPending(
+                int walkMaxPending) {
+            doSetProperty("walkMaxPending", walkMaxPending);
+            return this;
+        }
+        /**
+         * The maximum number of directories listed in parallel ahead of the
+         * polling thread when walkParallelism is enabled, which bounds the
+         * memory used by the listings.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer (advanced)
+         * 
+         * @param walkMaxPending the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder walkMaxPending(
+                String walkMaxPending) {
+            doSetProperty("walkMaxPending", walkMaxPending);
+            return this;
+        }
+        /**
+         * The number of threads to list the subdirectories in parallel when
+         * recursive is enabled. The files are still filtered and sorted by the
+         * polling thread, in the same order as when the directories are listed
+         * one by one, so options such as maxMessagesPerPoll and sorter work as
+         * usual. This reduces the time to poll large directory trees on file
+         * systems where listing a directory is slow, such as network file
+         * systems. Use 0 to list the directories on the polling thread.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param walkParallelism the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder walkParallelism(
+                int walkParallelism) {
+            doSetProperty("walkParallelism", walkParallelism);
+            return this;
+        }
+        /**
+         * The number of threads to list the subdirectories in parallel when
+         * recursive is enabled. The files are still filtered and sorted by the
+         * polling thread, in the same order as when the directories are listed
+         * one by one, so options such as maxMessagesPerPoll and sorter work as
+         * usual. This reduces the time to poll large directory trees on file
+         * systems where listing a directory is slow, such as network file
+         * systems. Use 0 to list the directories on the polling thread.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param walkParallelism the value to set
+         * @return the dsl builder
+         */
+        default AdvancedFileEndpointConsumerBuilder walkParallelism(
+                String walkParallelism) {
+            doSetProperty("walkParallelism", walkParallelism);
+            return this;
+        }
     }
 
     /**
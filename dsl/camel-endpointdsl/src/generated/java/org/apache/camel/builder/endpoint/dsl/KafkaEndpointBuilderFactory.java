@@ -368,6 +368,155 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("autoOffsetReset", autoOffsetReset);
             return this;
         }
+        /**
+         * Whether to consume the records in batches, where each exchange
+         * contains a batch of records as a java.util.List of exchanges, which
+         * each have the body and headers of a record. The offsets of the
+         * records are committed when the exchange of the batch has been
+         * processed. The batches are limited by the options batchingMaxRecords,
+         * batchingMaxBytes and batchingIntervalMs.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(boolean batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * Whether to consume the records in batches, where each exchange
+         * contains a batch of records as a java.util.List of exchanges, which
+         * each have the body and headers of a record. The offsets of the
+         * records are committed when the exchange of the batch has been
+         * processed. The batches are limited by the options batchingMaxRecords,
+         * batchingMaxBytes and batchingIntervalMs.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer
+         * 
+         * @param batching the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batching(String batching) {
+            doSetProperty("batching", batching);
+            return this;
+        }
+        /**
+         * The time in milliseconds to collect the records of further polls into
+         * a batch, from its first record, when batching is enabled. The batch
+         * is completed at the end of the first poll after the interval has
+         * elapsed, so it may be completed up to pollTimeoutMs later. This
+         * requires autoCommitEnable to be false. The default value 0 completes
+         * the batches at the end of each poll.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingIntervalMs(
+                int batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
+        /**
+         * The time in milliseconds to collect the records of further polls into
+         * a batch, from its first record, when batching is enabled. The batch
+         * is completed at the end of the first poll after the interval has
+         * elapsed, so it may be completed up to pollTimeoutMs later. This
+         * requires autoCommitEnable to be false. The default value 0 completes
+         * the batches at the end of each poll.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingIntervalMs the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingIntervalMs(
+                String batchingIntervalMs) {
+            doSetProperty("batchingIntervalMs", batchingIntervalMs);
+            return this;
+        }
+        /**
+         * The maximum size in bytes of the serialized keys and values of the
+         * records in a batch when batching is enabled. A batch is completed as
+         * soon as it reaches this size. The default value 0 does not limit the
+         * size of the batches.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingMaxBytes the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingMaxBytes(
+                int batchingMaxBytes) {
+            doSetProperty("batchingMaxBytes", batchingMaxBytes);
+            return this;
+        }
+        /**
+         * The maximum size in bytes of the serialized keys and values of the
+         * records in a batch when batching is enabled. A batch is completed as
+         * soon as it reaches this size. The default value 0 does not limit the
+         * size of the batches.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param batchingMaxBytes the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingMaxBytes(
+                String batchingMaxBytes) {
+            doSetProperty("batchingMaxBytes", batchingMaxBytes);
+            return this;
+        }
+        /**
+         * The maximum number of records in a batch when batching is enabled.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 500
+         * Group: consumer
+         * 
+         * @param batchingMaxRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingMaxRecords(
+                int batchingMaxRecords) {
+            doSetProperty("batchingMaxRecords", batchingMaxRecords);
+            return this;
+        }
+        /**
+         * The maximum number of records in a batch when batching is enabled.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 500
+         * Group: consumer
+         * 
+         * @param batchingMaxRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder batchingMaxRecords(
+                String batchingMaxRecords) {
+            doSetProperty("batchingMaxRecords", batchingMaxRecords);
+            return this;
+        }
         /**
          * This options controls what happens when a consumer is processing an
          * exchange and it fails. If the option is false then the consumer
@@ -815,6 +964,92 @@ public interface KafkaEndpointBuilderFactory {
             doSetProperty("keyDeserializer", keyDeserializer);
             return this;
         }
+        /**
+         * The maximum number of records each consumer has handed over to the
+         * processing threads, and which are not yet processed, when
+         * keyOrderedProcessingThreads is in use. When the limit is reached the
+         * consumer waits for records to be processed before handing over more
+         * records.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param keyOrderedMaxPendingRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedMaxPendingRecords(
+                int keyOrderedMaxPendingRecords) {
+            doSetProperty("keyOrderedMaxPendingRecords", keyOrderedMaxPendingRecords);
+            return this;
+        }
+        /**
+         * The maximum number of records each consumer has handed over to the
+         * processing threads, and which are not yet processed, when
+         * keyOrderedProcessingThreads is in use. When the limit is reached the
+         * consumer waits for records to be processed before handing over more
+         * records.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: consumer
+         * 
+         * @param keyOrderedMaxPendingRecords the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedMaxPendingRecords(
+                String keyOrderedMaxPendingRecords) {
+            doSetProperty("keyOrderedMaxPendingRecords", keyOrderedMaxPendingRecords);
+            return this;
+        }
+        /**
+         * Number of threads used by each consumer to process the polled records
+         * in parallel. Records with the same key are processed by the same
+         * thread, so the records of a key are processed in the order of the
+         * partition, while records without a key are spread over the threads.
+         * The offsets are committed up to the last record which has been
+         * processed together with all the records before it. This requires
+         * autoCommitEnable to be false, and cannot be used together with
+         * allowManualCommit. The default value 0 processes the records one at a
+         * time by the consumer thread.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedProcessingThreads(
+                int keyOrderedProcessingThreads) {
+            doSetProperty("keyOrderedProcessingThreads", keyOrderedProcessingThreads);
+            return this;
+        }
+        /**
+         * Number of threads used by each consumer to process the polled records
+         * in parallel. Records with the same key are processed by the same
+         * thread, so the records of a key are processed in the order of the
+         * partition, while records without a key are spread over the threads.
+         * The offsets are committed up to the last record which has been
+         * processed together with all the records before it. This requires
+         * autoCommitEnable to be false, and cannot be used together with
+         * allowManualCommit. The default value 0 processes the records one at a
+         * time by the consumer thread.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer
+         * 
+         * @param keyOrderedProcessingThreads the value to set
+         * @return the dsl builder
+         */
+        default KafkaEndpointConsumerBuilder keyOrderedProcessingThreads(
+                String keyOrderedProcessingThreads) {
+            doSetProperty("keyOrderedProcessingThreads", keyOrderedProcessingThreads);
+            return this;
+        }
         /**
          * The maximum amount of data per-partition the server will return. The
          * maximum total memory used for a request will be #partitions
@@ -2791,7 +2791,7 @@ public interface NettyEndpointBuilderFactory {
          * TimeoutCorrelationManagerSupport when you build custom correlation
          * managers. This provides support for timeout and other complexities
          * you otherwise would need to implement as well. See also the
-         * producerPoolEnabled option for more details.
+         * producerPoolEnabled and multiplexedChannels options for more details.
          * 
          * The option is a:
          * &lt;code&gt;org.apache.camel.component.netty.NettyCamelStateCorrelationManager&lt;/code&gt; type.
@@ -2819,7 +2819,7 @@ public interface NettyEndpointBuilderFactory {
          * TimeoutCorrelationManagerSupport when you build custom correlation
          * managers. This provides support for timeout and other complexities
          * you otherwise would need to implement as well. See also the
-         * producerPoolEnabled option for more details.
+         * producerPoolEnabled and multiplexedChannels options for more details.
          * 
          * The option will be converted to a
          * &lt;code&gt;org.apache.camel.component.netty.NettyCamelStateCorrelationManager&lt;/code&gt; type.
@@ -2918,6 +2918,110 @@ public interface NettyEndpointBuilderFactory {
             doSetProperty("lazyStartProducer", lazyStartProducer);
             return this;
         }
+        /**
+         * Number of channels the producer shares between all the requests, so
+         * many requests can be in flight on the same channel (multiplexing),
+         * instead of using a channel from the producer pool for each request
+         * until its reply has been received. The requests are sent on the next
+         * writable channel, and the writes are flushed in batches. When none of
+         * the channels are writable, as too much data is waiting to be sent,
+         * then the requests wait for the channel to become writable again, up
+         * to multiplexedMaxPendingWrites requests per channel. This is disabled
+         * by default (0). Important: The replies can come back out-of-order, so
+         * for request/reply you must configure a correlation manager which
+         * correlates the replies by a correlation id in the request and reply
+         * messages, such as by extending TimeoutCorrelationManagerSupport. The
+         * timeout of the correlation manager must be used instead of the
+         * requestTimeout option, which applies to the shared channel. As the
+         * channels are shared, the disconnect, reuseChannel and requestTimeout
+         * options cannot be used, and the CamelNettyCloseChannelWhenComplete
+         * and CamelNettyRequestTimeout headers are ignored. See also the
+         * correlationManager option for more details.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param multiplexedChannels the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder multiplexedChannels(
+                int multiplexedChannels) {
+            doSetProperty("multiplexedChannels", multiplexedChannels);
+            return this;
+        }
+        /**
+         * Number of channels the producer shares between all the requests, so
+         * many requests can be in flight on the same channel (multiplexing),
+         * instead of using a channel from the producer pool for each request
+         * until its reply has been received. The requests are sent on the next
+         * writable channel, and the writes are flushed in batches. When none of
+         * the channels are writable, as too much data is waiting to be sent,
+         * then the requests wait for the channel to become writable again, up
+         * to multiplexedMaxPendingWrites requests per channel. This is disabled
+         * by default (0). Important: The replies can come back out-of-order, so
+         * for request/reply you must configure a correlation manager which
+         * correlates the replies by a correlation id in the request and reply
+         * messages, such as by extending TimeoutCorrelationManagerSupport. The
+         * timeout of the correlation manager must be used instead of the
+         * requestTimeout option, which applies to the shared channel. As the
+         * channels are shared, the disconnect, reuseChannel and requestTimeout
+         * options cannot be used, and the CamelNettyCloseChannelWhenComplete
+         * and CamelNettyRequestTimeout headers are ignored. See also the
+         * correlationManager option for more details.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: producer (advanced)
+         * 
+         * @param multiplexedChannels the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder multiplexedChannels(
+                String multiplexedChannels) {
+            doSetProperty("multiplexedChannels", multiplexedChannels);
+            return this;
+        }
+        /**
+         * The maximum number of requests which can wait for a multiplexed
+         * channel to become writable again. When the limit is reached, as the
+         * remote peer does not keep up, then further requests on that channel
+         * fail with a org.apache.camel.CamelExchangeException instead of being
+         * held in memory. The default is 1000.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer (advanced)
+         * 
+         * @param multiplexedMaxPendingWrites the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder multiplexedMaxPendingWrites(
+                int multiplexedMaxPendingWrites) {
+            doSetProperty("multiplexedMaxPendingWrites", multiplexedMaxPendingWrites);
+            return this;
+        }
+        /**
+         * The maximum number of requests which can wait for a multiplexed
+         * channel to become writable again. When the limit is reached, as the
+         * remote peer does not keep up, then further requests on that channel
+         * fail with a org.apache.camel.CamelExchangeException instead of being
+         * held in memory. The default is 1000.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Default: 1000
+         * Group: producer (advanced)
+         * 
+         * @param multiplexedMaxPendingWrites the value to set
+         * @return the dsl builder
+         */
+        default AdvancedNettyEndpointProducerBuilder multiplexedMaxPendingWrites(
+                String multiplexedMaxPendingWrites) {
+            doSetProperty("multiplexedMaxPendingWrites", multiplexedMaxPendingWrites);
+            return this;
+        }
         /**
          * Sets the value for the blockWhenExhausted configuration attribute. It
          * determines whether to block when the borrowObject() method is invoked
@@ -120,6 +120,121 @@ public interface SedaEndpointBuilderFactory {
         default SedaEndpointConsumerBuilder basic() {
             return (SedaEndpointConsumerBuilder) this;
         }
+        /**
+         * Whether to route a batch of exchanges as a single grouped exchange,
+         * where the message body is a java.util.List with the exchanges taken
+         * from the queue. Otherwise, the exchanges in the batch are routed one
+         * by one. This option is only in use when batchSize is greater than 1.
+         * 
+         * The option is a: &lt;code&gt;boolean&lt;/code&gt; type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchGrouped(
+                boolean batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * Whether to route a batch of exchanges as a single grouped exchange,
+         * where the message body is a java.util.List with the exchanges taken
+         * from the queue. Otherwise, the exchanges in the batch are routed one
+         * by one. This option is only in use when batchSize is greater than 1.
+         * 
+         * The option will be converted to a &lt;code&gt;boolean&lt;/code&gt;
+         * type.
+         * 
+         * Default: false
+         * Group: consumer (advanced)
+         * 
+         * @param batchGrouped the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchGrouped(
+                String batchGrouped) {
+            doSetProperty("batchGrouped", batchGrouped);
+            return this;
+        }
+        /**
+         * To let the consumer take up to this number of exchanges from the
+         * queue in one go, instead of one exchange at a time. This reduces the
+         * number of handovers from the queue (and thereby context switches)
+         * when the queue holds many messages. The exchanges are routed one by
+         * one, unless batchGrouped is enabled. Exchanges are only taken in
+         * batches when the value is greater than 1.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(int batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * To let the consumer take up to this number of exchanges from the
+         * queue in one go, instead of one exchange at a time. This reduces the
+         * number of handovers from the queue (and thereby context switches)
+         * when the queue holds many messages. The exchanges are routed one by
+         * one, unless batchGrouped is enabled. Exchanges are only taken in
+         * batches when the value is greater than 1.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchSize the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchSize(String batchSize) {
+            doSetProperty("batchSize", batchSize);
+            return this;
+        }
+        /**
+         * The maximum time (in milliseconds) the consumer waits for more
+         * exchanges to arrive on the queue to fill up a partial batch. By
+         * default, the consumer does not wait, and processes the exchanges that
+         * were on the queue. This option is only in use when batchSize is
+         * greater than 1.
+         * 
+         * The option is a: &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                int batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
+        /**
+         * The maximum time (in milliseconds) the consumer waits for more
+         * exchanges to arrive on the queue to fill up a partial batch. By
+         * default, the consumer does not wait, and processes the exchanges that
+         * were on the queue. This option is only in use when batchSize is
+         * greater than 1.
+         * 
+         * The option will be converted to a &lt;code&gt;int&lt;/code&gt; type.
+         * 
+         * Group: consumer (advanced)
+         * 
+         * @param batchTimeout the value to set
+         * @return the dsl builder
+         */
+        default AdvancedSedaEndpointConsumerBuilder batchTimeout(
+                String batchTimeout) {
+            doSetProperty("batchTimeout", batchTimeout);
+            return this;
+        }
         /**
          * Allows for bridging the consumer to the Camel routing Error Handler,
          * which mean any exceptions occurred while the consumer is trying to
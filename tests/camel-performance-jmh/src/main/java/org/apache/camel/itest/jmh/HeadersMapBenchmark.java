@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.headersmap.FastHeadersMapFactory;
+import org.apache.camel.impl.engine.DefaultHeadersMapFactory;
+import org.apache.camel.impl.engine.HashMapHeadersMapFactory;
+import org.apache.camel.impl.engine.OpenAddressingHeadersMapFactory;
+import org.apache.camel.spi.HeadersMapFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures header map access with the case-insensitive {@link DefaultHeadersMapFactory},
+ * {@link OpenAddressingHeadersMapFactory} and {@link FastHeadersMapFactory} (camel-headersmap), and the case-sensitive
+ * {@link HashMapHeadersMapFactory}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class HeadersMapBenchmark {
+
+    private static final String[] KEYS = {
+            "CamelFileName", "CamelFileLength", "CamelFileLastModified", "JMSMessageID", "JMSCorrelationID",
+            "Content-Type", "Content-Length", "breadcrumbId", "foo", "bar" };
+
+    @Param({ "default", "open-addressing", "fast", "hashmap" })
+    public String factory;
+
+    private HeadersMapFactory headersMapFactory;
+    private Map<String, Object> headers;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        if ("hashmap".equals(factory)) {
+            headersMapFactory = new HashMapHeadersMapFactory();
+        } else if ("open-addressing".equals(factory)) {
+            headersMapFactory = new OpenAddressingHeadersMapFactory();
+        } else if ("fast".equals(factory)) {
+            headersMapFactory = new FastHeadersMapFactory();
+        } else {
+            headersMapFactory = new DefaultHeadersMapFactory();
+        }
+        headers = headersMapFactory.newMap();
+        for (String key : KEYS) {
+            headers.put(key, key);
+        }
+    }
+
+    @Benchmark
+    public Map<String, Object> create() {
+        Map<String, Object> map = headersMapFactory.newMap();
+        for (String key : KEYS) {
+            map.put(key, key);
+        }
+        return map;
+    }
+
+    @Benchmark
+    public int get() {
+        int hits = 0;
+        for (String key : KEYS) {
+            if (headers.get(key) != null) {
+                hits++;
+            }
+        }
+        return hits;
+    }
+
+    @Benchmark
+    public Map<String, Object> copy() {
+        return headersMapFactory.newMap(headers);
+    }
+}
@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.component.seda.ArrayBlockingQueueFactory;
+import org.apache.camel.component.seda.BlockingQueueFactory;
+import org.apache.camel.component.seda.LinkedBlockingQueueFactory;
+import org.apache.camel.component.seda.RingBufferBlockingQueueFactory;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures handing off elements from multiple producers to a single consumer with the queues from the SEDA
+ * {@link BlockingQueueFactory} implementations.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SedaQueueBenchmark {
+
+    private static final Object ELEMENT = new Object();
+
+    @Param({ "linked", "array", "ring", "ringSingleConsumer" })
+    public String factory;
+
+    private BlockingQueue<Object> queue;
+
+    @Setup(Level.Iteration)
+    public void setup() {
+        BlockingQueueFactory<Object> queueFactory;
+        if ("array".equals(factory)) {
+            queueFactory = new ArrayBlockingQueueFactory<>();
+        } else if ("ring".equals(factory) || "ringSingleConsumer".equals(factory)) {
+            RingBufferBlockingQueueFactory<Object> ring = new RingBufferBlockingQueueFactory<>();
+            ring.setSingleConsumer("ringSingleConsumer".equals(factory));
+            queueFactory = ring;
+        } else {
+            queueFactory = new LinkedBlockingQueueFactory<>();
+        }
+        queue = queueFactory.create(1024);
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(3)
+    public boolean offer() {
+        return queue.offer(ELEMENT);
+    }
+
+    @Benchmark
+    @Group("handoff")
+    @GroupThreads(1)
+    public Object poll() {
+        return queue.poll();
+    }
+}
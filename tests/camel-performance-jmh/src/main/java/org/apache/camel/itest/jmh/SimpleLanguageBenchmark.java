@@ -0,0 +1,98 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.Exchange;
+import org.apache.camel.Expression;
+import org.apache.camel.Predicate;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.apache.camel.spi.Language;
+import org.apache.camel.support.DefaultExchange;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures evaluating simple language expressions and predicates that have been parsed up front, as well as parsing
+ * them (which is cached by the simple language).
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SimpleLanguageBenchmark {
+
+    private static final String EXPRESSION = "Hello ${header.name} you ordered ${body} at ${exchangeProperty.shop}";
+    private static final String PREDICATE = "${header.amount} > 10 && ${body} contains 'Camel'";
+
+    private CamelContext context;
+    private Language simple;
+    private Exchange exchange;
+    private Expression expression;
+    private Predicate predicate;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new DefaultCamelContext();
+        context.start();
+        simple = context.resolveLanguage("simple");
+        expression = simple.createExpression(EXPRESSION);
+        expression.init(context);
+        predicate = simple.createPredicate(PREDICATE);
+        predicate.init(context);
+
+        exchange = new DefaultExchange(context);
+        exchange.getMessage().setBody("Camel in Action");
+        exchange.getMessage().setHeader("name", "Donald");
+        exchange.getMessage().setHeader("amount", 123);
+        exchange.setProperty("shop", "Manning");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public String evaluateExpression() {
+        return expression.evaluate(exchange, String.class);
+    }
+
+    @Benchmark
+    public boolean evaluatePredicate() {
+        return predicate.matches(exchange);
+    }
+
+    @Benchmark
+    public String createAndEvaluateExpression() {
+        return simple.createExpression(EXPRESSION).evaluate(exchange, String.class);
+    }
+}
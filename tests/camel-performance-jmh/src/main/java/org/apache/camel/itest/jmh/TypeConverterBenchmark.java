@@ -0,0 +1,100 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.itest.jmh;
+
+import java.util.concurrent.TimeUnit;
+
+import org.apache.camel.CamelContext;
+import org.apache.camel.TypeConverter;
+import org.apache.camel.impl.DefaultCamelContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures type converter lookups in the type converter registry, including a lookup of a conversion that does not
+ * exist.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TypeConverterBenchmark {
+
+    private CamelContext context;
+    private TypeConverter converter;
+    private final Object text = "12345";
+    private final Object number = 12345;
+    private final MyOrder order = new MyOrder();
+
+    @Setup(Level.Trial)
+    public void setup() {
+        context = new DefaultCamelContext();
+        context.start();
+        converter = context.getTypeConverter();
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        context.stop();
+    }
+
+    @Benchmark
+    public Object stringToInteger() {
+        return converter.convertTo(Integer.class, text);
+    }
+
+    @Benchmark
+    public Object integerToString() {
+        return converter.convertTo(String.class, number);
+    }
+
+    @Benchmark
+    public Object stringToBytes() {
+        return converter.convertTo(byte[].class, text);
+    }
+
+    @Benchmark
+    public Object sameType() {
+        return converter.convertTo(String.class, text);
+    }
+
+    @Benchmark
+    public Object miss() {
+        // there is no type converter from MyOrder to Integer
+        return converter.tryConvertTo(Integer.class, order);
+    }
+
+    public static class MyOrder {
+
+        @Override
+        public String toString() {
+            return "MyOrder";
+        }
+    }
+}
@@ -0,0 +1,283 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven.packaging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.StringJoiner;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.jboss.jandex.AnnotationInstance;
+import org.jboss.jandex.AnnotationTarget;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.jboss.jandex.Type;
+
+/**
+ * Abstract class for generating the bean methods of classes, so the bean component does not have to introspect these
+ * classes using reflection.
+ * <p/>
+ * The methods are only generated for classes where the entire class hierarchy is indexed, and no method name is
+ * declared by more than one type of the hierarchy, so the generated methods are the same as introspected by the bean
+ * component.
+ */
+public abstract class AbstractGenerateBeanMethodsMojo extends AbstractGeneratorMojo {
+
+    public static final DotName[] BEAN_ANNOTATIONS = {
+            DotName.createSimple("org.apache.camel.Handler"),
+            DotName.createSimple("org.apache.camel.Body"),
+            DotName.createSimple("org.apache.camel.Header"),
+            DotName.createSimple("org.apache.camel.Headers"),
+            DotName.createSimple("org.apache.camel.ExchangeProperty"),
+            DotName.createSimple("org.apache.camel.ExchangeProperties"),
+            DotName.createSimple("org.apache.camel.ExchangeException") };
+
+    private static final DotName OBJECT = DotName.createSimple("java.lang.Object");
+    private static final DotName SERIALIZABLE = DotName.createSimple("java.io.Serializable");
+    private static final int BRIDGE = 0x0040;
+
+    protected void doExecute(Index index, Collection<ClassInfo> classes, File sourcesOutputDir, File resourcesOutputDir)
+            throws MojoExecutionException {
+        try {
+            for (ClassInfo ci : classes) {
+                List<MethodInfo> methods = collectMethods(index, ci);
+                if (methods != null) {
+                    createBeanMethods(ci.name().toString(), methods, sourcesOutputDir, resourcesOutputDir);
+                } else {
+                    getLog().debug("Cannot generate bean methods for class: " + ci.name());
+                }
+            }
+        } catch (IOException e) {
+            throw new MojoExecutionException("IOException: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * Finds the classes declaring methods using the given annotations, and the classes inheriting these methods.
+     */
+    static Set<ClassInfo> findBeanClasses(Index index, DotName... annotations) {
+        Set<ClassInfo> classes = new LinkedHashSet<>();
+        for (DotName annotation : annotations) {
+            for (AnnotationInstance ai : index.getAnnotations(annotation)) {
+                ClassInfo ci;
+                if (ai.target().kind() == AnnotationTarget.Kind.METHOD) {
+                    ci = ai.target().asMethod().declaringClass();
+                } else if (ai.target().kind() == AnnotationTarget.Kind.METHOD_PARAMETER) {
+                    ci = ai.target().asMethodParameter().method().declaringClass();
+                } else {
+                    continue;
+                }
+                classes.add(ci);
+                classes.addAll(index.getAllKnownSubclasses(ci.name()));
+                classes.addAll(index.getAllKnownImplementors(ci.name()));
+            }
+        }
+        return classes;
+    }
+
+    /**
+     * Collects the methods of the class in the same order as the bean component introspects them, or returns
+     * <tt>null</tt> if the methods cannot be generated for the class.
+     */
+    static List<MethodInfo> collectMethods(Index index, ClassInfo ci) {
+        // the generated class is in the package of the bean, and refers to the declaring classes and parameter types
+        String packageName = packageName(ci.name());
+        if (Modifier.isInterface(ci.flags()) || !isAccessible(index, ci, packageName)) {
+            return null;
+        }
+        List<MethodInfo> answer = new ArrayList<>();
+        Set<String> names = new HashSet<>();
+        Set<DotName> visited = new HashSet<>();
+        if (!collectMethods(index, ci, answer, names, visited)) {
+            return null;
+        }
+        for (MethodInfo mi : answer) {
+            if (!isAccessible(index, mi.declaringClass(), packageName)) {
+                return null;
+            }
+            for (Type type : mi.descriptorParameterTypes()) {
+                Type element = type.kind() == Type.Kind.ARRAY ? type.asArrayType().component() : type;
+                ClassInfo pi = index.getClassByName(element.name());
+                if (pi != null && !isAccessible(index, pi, packageName)) {
+                    return null;
+                }
+            }
+        }
+        return answer;
+    }
+
+    private static boolean collectMethods(
+            Index index, ClassInfo ci, List<MethodInfo> methods, Set<String> names, Set<DotName> visited) {
+        if (!visited.add(ci.name())) {
+            // an interface which is implemented more than once has the same method names
+            return false;
+        }
+        Set<String> declared = new HashSet<>();
+        for (MethodInfo mi : ci.unsortedMethods()) {
+            if ((mi.flags() & BRIDGE) != 0 || mi.name().startsWith("<")) {
+                continue;
+            }
+            declared.add(mi.name());
+            if (!Modifier.isPrivate(mi.flags())) {
+                methods.add(mi);
+            }
+        }
+        for (String name : declared) {
+            if (!names.add(name)) {
+                // the method may be overridden
+                return false;
+            }
+        }
+
+        DotName superName = ci.superName();
+        if (superName != null && !superName.equals(OBJECT)) {
+            ClassInfo sci = index.getClassByName(superName);
+            if (sci == null || !collectMethods(index, sci, methods, names, visited)) {
+                return false;
+            }
+        }
+        for (DotName interfaceName : ci.interfaceNames()) {
+            if (interfaceName.equals(SERIALIZABLE)) {
+                continue;
+            }
+            ClassInfo ici = index.getClassByName(interfaceName);
+            if (ici == null || !collectMethods(index, ici, methods, names, visited)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Whether the class can be referred to from the given package, which is when the class and its enclosing classes
+     * are public, or are not private and in the given package.
+     */
+    private static boolean isAccessible(Index index, ClassInfo ci, String packageName) {
+        while (ci != null) {
+            if (Modifier.isPrivate(ci.flags())) {
+                return false;
+            }
+            if (!Modifier.isPublic(ci.flags()) && !packageName.equals(packageName(ci.name()))) {
+                // package-private or protected class of another package
+                return false;
+            }
+            if (ci.nestingType() == ClassInfo.NestingType.TOP_LEVEL) {
+                return true;
+            }
+            if (ci.nestingType() != ClassInfo.NestingType.INNER || ci.enclosingClass() == null) {
+                // local or anonymous class
+                return false;
+            }
+            ci = index.getClassByName(ci.enclosingClass());
+        }
+        return false;
+    }
+
+    private static String packageName(DotName name) {
+        String fqn = name.toString();
+        int pos = fqn.lastIndexOf('.');
+        return pos > 0 ? fqn.substring(0, pos) : "";
+    }
+
+    protected void createBeanMethods(String fqn, List<MethodInfo> methods, File sourcesOutputDir, File resourcesOutputDir)
+            throws IOException {
+        String tfqn = generateBeanMethods(fqn, methods, sourcesOutputDir);
+        updateResource(resourcesOutputDir.toPath(),
+                "META-INF/services/org/apache/camel/bean-methods/" + fqn,
+                "# " + GENERATED_MSG + NL + "class=" + tfqn + NL);
+    }
+
+    private String generateBeanMethods(String fqn, List<MethodInfo> methods, File outputDir) {
+        int pos = fqn.lastIndexOf('.');
+        String pn = fqn.substring(0, pos);
+        String cn = fqn.substring(pos + 1).replace('$', '_') + "BeanMethods";
+        String en = fqn.substring(pos + 1).replace('$', '.');
+
+        String source = generateBeanMethodsSource(pn, cn, en, methods);
+
+        String fileName = pn.replace('.', '/') + "/" + cn + ".java";
+        outputDir.mkdirs();
+        boolean updated = updateResource(buildContext, outputDir.toPath().resolve(fileName), source);
+        if (updated) {
+            getLog().info("Updated " + fileName);
+        }
+        return pn + "." + cn;
+    }
+
+    static String generateBeanMethodsSource(String pn, String cn, String en, List<MethodInfo> methods) {
+        StringWriter w = new StringWriter();
+        w.write("/* " + AbstractGeneratorMojo.GENERATED_MSG + " */\n");
+        w.write("package " + pn + ";\n");
+        w.write("\n");
+        w.write("import java.lang.reflect.Method;\n");
+        w.write("\n");
+        w.write("import org.apache.camel.spi.BeanMethods;\n");
+        w.write("\n");
+        w.write("/**\n");
+        w.write(" * " + AbstractGeneratorMojo.GENERATED_MSG + "\n");
+        w.write(" */\n");
+        w.write("public class " + cn + " implements BeanMethods {\n");
+        w.write("\n");
+        w.write("    @Override\n");
+        w.write("    public Method[] getMethods() throws NoSuchMethodException {\n");
+        w.write("        return new Method[] {\n");
+        for (int i = 0; i < methods.size(); i++) {
+            MethodInfo mi = methods.get(i);
+            StringJoiner sj = new StringJoiner(", ");
+            sj.add("\"" + mi.name() + "\"");
+            for (Type type : mi.descriptorParameterTypes()) {
+                sj.add(classLiteral(type));
+            }
+            String owner = mi.declaringClass().name().toString().replace('$', '.');
+            w.write("            " + owner + ".class.getDeclaredMethod(" + sj + ")");
+            w.write(i < methods.size() - 1 ? ",\n" : "\n");
+        }
+        w.write("        };\n");
+        w.write("    }\n");
+        w.write("\n");
+        w.write("    @Override\n");
+        w.write("    public String toString() {\n");
+        w.write("        return \"" + cn + "[" + en + "]\";\n");
+        w.write("    }\n");
+        w.write("\n");
+        w.write("}\n");
+        w.write("\n");
+        return w.toString();
+    }
+
+    private static String classLiteral(Type type) {
+        StringBuilder sb = new StringBuilder();
+        if (type.kind() == Type.Kind.ARRAY) {
+            sb.append(type.asArrayType().component().name().toString().replace('$', '.'));
+            sb.append("[]".repeat(type.asArrayType().dimensions()));
+        } else {
+            sb.append(type.name().toString().replace('$', '.'));
+        }
+        return sb.append(".class").toString();
+    }
+
+}
@@ -0,0 +1,162 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven.packaging;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugin.MojoFailureException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+
+/**
+ * Generates the bean methods of the given test classes, so the bean component does not have to introspect these
+ * classes using reflection.
+ */
+@Mojo(name = "generate-test-bean-methods", threadSafe = true, defaultPhase = LifecyclePhase.PROCESS_TEST_CLASSES,
+      requiresDependencyCollection = ResolutionScope.TEST,
+      requiresDependencyResolution = ResolutionScope.TEST)
+public class GenerateTestBeanMethodsMojo extends AbstractGenerateBeanMethodsMojo {
+
+    /**
+     * The output directory for generated test java source code
+     */
+    @Parameter(defaultValue = "${project.basedir}/src/test/java")
+    protected File sourcesOutputDir;
+
+    /**
+     * The output directory for generated test resource source code
+     */
+    @Parameter(defaultValue = "${project.basedir}/src/test/resources")
+    protected File resourcesOutputDir;
+
+    /**
+     * To generate bean methods for these test classes, using their binary names such as <tt>com.foo.MyTest$MyBean</tt>.
+     * The test classes and the classes of the project are indexed, so the bean methods are only generated if the class
+     * hierarchy is part of the project.
+     */
+    @Parameter
+    protected List<String> classes;
+
+    public GenerateTestBeanMethodsMojo() {
+    }
+
+    @Override
+    public void execute() throws MojoExecutionException, MojoFailureException {
+        if ("pom".equals(project.getPackaging()) || classes == null || classes.isEmpty()) {
+            return;
+        }
+
+        if (sourcesOutputDir == null) {
+            sourcesOutputDir = new File(project.getBasedir(), "src/test/java");
+        }
+        if (resourcesOutputDir == null) {
+            resourcesOutputDir = new File(project.getBasedir(), "src/test/resources");
+        }
+
+        File[] dirs = {
+                new File(project.getBuild().getTestOutputDirectory()),
+                new File(project.getBuild().getOutputDirectory()) };
+        try {
+            Index index = indexClasses(classes, dirs);
+            List<ClassInfo> beans = new ArrayList<>();
+            for (String name : classes) {
+                ClassInfo ci = index.getClassByName(DotName.createSimple(name));
+                if (ci == null) {
+                    throw new MojoExecutionException("Cannot find test class: " + name);
+                }
+                beans.add(ci);
+            }
+            doExecute(index, beans, sourcesOutputDir, resourcesOutputDir);
+        } catch (IOException e) {
+            throw new MojoExecutionException("IOException: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    protected boolean updateResource(Path dir, String fileName, String data) {
+        // the test resources have already been copied, so update the test output directory as well
+        boolean updated = updateResource(buildContext, dir.resolve(fileName), data);
+        Path outputDir = Paths.get(project.getBuild().getTestOutputDirectory());
+        updated |= updateResource(buildContext, outputDir.resolve(fileName), data);
+        return updated;
+    }
+
+    /**
+     * Indexes the given classes, and their super types and enclosing classes, which are found in the given class
+     * directories.
+     */
+    static Index indexClasses(List<String> classes, File... dirs) throws IOException {
+        List<File> files = new ArrayList<>();
+        Set<DotName> visited = new HashSet<>();
+        Deque<DotName> names = new ArrayDeque<>();
+        for (String name : classes) {
+            names.add(DotName.createSimple(name));
+        }
+        while (!names.isEmpty()) {
+            DotName name = names.poll();
+            if (!visited.add(name)) {
+                continue;
+            }
+            File file = findClassFile(name, dirs);
+            if (file == null) {
+                continue;
+            }
+            files.add(file);
+            ClassInfo ci;
+            try (InputStream is = Files.newInputStream(file.toPath())) {
+                ci = Index.singleClass(is);
+            }
+            if (ci.superName() != null) {
+                names.add(ci.superName());
+            }
+            names.addAll(ci.interfaceNames());
+            if (ci.enclosingClass() != null) {
+                names.add(ci.enclosingClass());
+            }
+        }
+        return Index.of(files.toArray(new File[0]));
+    }
+
+    private static File findClassFile(DotName name, File... dirs) {
+        String fileName = name.toString().replace('.', '/') + ".class";
+        for (File dir : dirs) {
+            File file = new File(dir, fileName);
+            if (file.isFile()) {
+                return file;
+            }
+        }
+        return null;
+    }
+
+}
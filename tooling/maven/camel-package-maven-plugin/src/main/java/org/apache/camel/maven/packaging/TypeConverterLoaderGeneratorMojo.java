@@ -255,14 +255,12 @@ public class TypeConverterLoaderGeneratorMojo extends AbstractGeneratorMojo {
         writer.append(
                 "    private Object doConvertTo(Class<?> from, Class<?> to, Exchange exchange, Object value) throws Exception {\n");
         writeLoader(converters, writer, converterClasses, false);
-        writer.append("        }\n");
         writer.append("        return null;\n");
         writer.append("    }\n");
         writer.append("\n");
         writer.append(
                 "    public TypeConverter lookup(Class<?> to, Class<?> from) {\n");
         writeLoader(converters, writer, converterClasses, true);
-        writer.append("        }\n");
         writer.append("        return null;\n");
         writer.append("    }\n");
         writer.append("\n");
@@ -285,7 +283,12 @@ public class TypeConverterLoaderGeneratorMojo extends AbstractGeneratorMojo {
 
     private void writeLoader(
             List<MethodInfo> converters, StringBuilder writer, Set<String> converterClasses, boolean lookup) {
+        // dispatch on the name of the to type, which the compiler turns into a hash table of the to types
+        // so the converters are found in constant time instead of comparing with every to type
+        writer.append("        switch (to.getName()) {\n");
+        Set<String> names = new TreeSet<>();
         String prevTo = null;
+        boolean skip = false;
         for (MethodInfo method : converters) {
             String to;
             if (Type.Kind.PRIMITIVE.equals(method.returnType().kind())) {
@@ -304,52 +307,73 @@ public class TypeConverterLoaderGeneratorMojo extends AbstractGeneratorMojo {
                 from = from.substring(0, from.indexOf('<'));
             }
 
-            boolean newTo = false;
-            if (prevTo == null) {
-                // first time
-                // if (to == java.lang.Integer || to == int.class)
-                writer.append("        if (to == ");
-                newTo = true;
-            } else if (!prevTo.equals(to)) {
+            if (prevTo == null || !prevTo.equals(to)) {
+                if (prevTo != null && !skip) {
+                    // end previous group
+                    writer.append("                }\n");
+                    writer.append("                break;\n");
+                }
+                prevTo = to;
                 // new group
-                // else if (to == java.lang.Integer || to == int.class)
-                writer.append("        } else if (to == ");
-                newTo = true;
-            }
-            if (newTo) {
-                writer.append(to).append(".class");
+                // case "java.lang.Integer":
+                // case "int":
+                //     if (to == java.lang.Integer || to == int.class)
+                String name = method.returnType().name().toString();
+                // a primitive type which is converted by the group of its wrapper type
+                skip = !names.add(name);
+                if (skip) {
+                    continue;
+                }
                 String primitiveTo = asPrimitiveType(method);
+                if (primitiveTo != null && names.contains(primitiveTo)) {
+                    // the primitive type has its own converters which are used instead
+                    primitiveTo = null;
+                }
+                writer.append("            case \"").append(name).append("\":\n");
+                if (primitiveTo != null) {
+                    names.add(primitiveTo);
+                    writer.append("            case \"").append(primitiveTo).append("\":\n");
+                }
+                // the same name may be used by a class from another classloader
+                writer.append("                if (to == ").append(to).append(".class");
                 if (primitiveTo != null) {
                     writer.append(" || to == ").append(primitiveTo).append(".class");
                 }
                 writer.append(") {\n");
+            } else if (skip) {
+                continue;
             }
 
             if (lookup) {
-                writer.append("            if (from == ").append(from).append(".class) {\n");
+                writer.append("                    if (from == ").append(from).append(".class) {\n");
             } else {
-                writer.append("            if (value instanceof ").append(from).append(") {\n");
+                writer.append("                    if (value instanceof ").append(from).append(") {\n");
             }
             if (lookup) {
-                writer.append("                return this;\n");
+                writer.append("                        return this;\n");
             } else {
                 if (isAllowNull(method)) {
-                    writer.append("                Object obj = ").append(toJava(method, converterClasses))
+                    writer.append("                        Object obj = ").append(toJava(method, converterClasses))
                             .append(";\n");
-                    writer.append("                if (obj == null) {\n");
-                    writer.append("                    return Void.class;\n");
-                    writer.append("                } else {\n");
-                    writer.append("                    return obj;\n");
-                    writer.append("                }\n");
+                    writer.append("                        if (obj == null) {\n");
+                    writer.append("                            return Void.class;\n");
+                    writer.append("                        } else {\n");
+                    writer.append("                            return obj;\n");
+                    writer.append("                        }\n");
                 } else {
-                    writer.append("                return ").append(toJava(method, converterClasses))
+                    writer.append("                        return ").append(toJava(method, converterClasses))
                             .append(";\n");
                 }
             }
-            writer.append("            }\n");
-
-            prevTo = to;
+            writer.append("                    }\n");
+        }
+        if (prevTo != null && !skip) {
+            writer.append("                }\n");
+            writer.append("                break;\n");
         }
+        writer.append("            default:\n");
+        writer.append("                break;\n");
+        writer.append("        }\n");
     }
 
     private static String asPrimitiveType(MethodInfo method) {
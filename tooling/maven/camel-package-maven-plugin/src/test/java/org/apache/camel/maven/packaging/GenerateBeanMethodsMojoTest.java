@@ -0,0 +1,251 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements.  See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License.  You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.camel.maven.packaging;
+
+import java.io.File;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.apache.camel.maven.packaging.bean.ProtectedTypes;
+import org.apache.camel.maven.packaging.bean.PublicBean;
+import org.jboss.jandex.ClassInfo;
+import org.jboss.jandex.DotName;
+import org.jboss.jandex.Index;
+import org.jboss.jandex.MethodInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class GenerateBeanMethodsMojoTest {
+
+    private static final DotName[] ANNOTATIONS = {
+            DotName.createSimple(MyHandler.class.getName()), DotName.createSimple(MyBody.class.getName()) };
+
+    private Index index;
+
+    @BeforeEach
+    public void setup() throws Exception {
+        index = Index.of(GenerateBeanMethodsMojoTest.class, MyHandler.class, MyBody.class, BaseBean.class, SubBean.class,
+                OverloadBean.class, OverridingBean.class, Outer.class, Outer.Inner.class, Outer.Hidden.class,
+                Greeter.class, GreeterBean.class, HiddenParameterBean.class, HiddenParameterBean.Secret.class,
+                PackagePrivateBean.class, CrossPackageBean.class, ProtectedParameterBean.class, PublicBean.class,
+                Class.forName("org.apache.camel.maven.packaging.bean.PackagePrivateBase"), ProtectedTypes.class,
+                Class.forName("org.apache.camel.maven.packaging.bean.ProtectedTypes$Protected"));
+    }
+
+    private ClassInfo classInfo(Class<?> type) {
+        return index.getClassByName(DotName.createSimple(type.getName()));
+    }
+
+    private List<String> methodNames(Class<?> type) {
+        List<MethodInfo> methods = AbstractGenerateBeanMethodsMojo.collectMethods(index, classInfo(type));
+        return methods != null ? methods.stream().map(MethodInfo::name).collect(Collectors.toList()) : null;
+    }
+
+    @Test
+    public void testFindBeanClasses() {
+        Set<String> names = AbstractGenerateBeanMethodsMojo.findBeanClasses(index, ANNOTATIONS).stream()
+                .map(ci -> ci.name().toString()).collect(Collectors.toSet());
+
+        // the annotated classes and the classes inheriting their methods
+        assertEquals(Set.of(BaseBean.class.getName(), SubBean.class.getName(), OverloadBean.class.getName(),
+                OverridingBean.class.getName(), Outer.Inner.class.getName(), Outer.Hidden.class.getName(),
+                Greeter.class.getName(), GreeterBean.class.getName(), HiddenParameterBean.class.getName()), names);
+    }
+
+    @Test
+    public void testCollectMethods() {
+        // the methods of the class and then its super class, without private methods
+        assertEquals(List.of("hello"), methodNames(BaseBean.class));
+        assertEquals(List.of("greet", "matrix", "hello"), methodNames(SubBean.class));
+        // overloaded methods in the same class
+        assertEquals(List.of("process", "process"), methodNames(OverloadBean.class));
+        // nested class
+        assertEquals(List.of("handle"), methodNames(Outer.Inner.class));
+        // package-private class in the same package
+        assertEquals(List.of("handle"), methodNames(PackagePrivateBean.class));
+        // package-private super class in the same package as the bean
+        assertEquals(List.of("bye", "hello"), methodNames(PublicBean.class));
+    }
+
+    @Test
+    public void testCannotCollectMethods() {
+        // the method is overridden
+        assertNull(methodNames(OverridingBean.class));
+        assertNull(methodNames(GreeterBean.class));
+        // interface
+        assertNull(methodNames(Greeter.class));
+        // not accessible
+        assertNull(methodNames(Outer.Hidden.class));
+        assertNull(methodNames(HiddenParameterBean.class));
+        // package-private super class in another package
+        assertNull(methodNames(CrossPackageBean.class));
+        // protected parameter type in another package
+        assertNull(methodNames(ProtectedParameterBean.class));
+    }
+
+    @Test
+    public void testGenerateSource() {
+        String source = AbstractGenerateBeanMethodsMojo.generateBeanMethodsSource("org.apache.camel.maven.packaging",
+                "GenerateBeanMethodsMojoTest_SubBeanBeanMethods", "GenerateBeanMethodsMojoTest.SubBean",
+                AbstractGenerateBeanMethodsMojo.collectMethods(index, classInfo(SubBean.class)));
+
+        String owner = "org.apache.camel.maven.packaging.GenerateBeanMethodsMojoTest.";
+        assertTrue(source.contains("public class GenerateBeanMethodsMojoTest_SubBeanBeanMethods implements BeanMethods {"));
+        assertTrue(source.contains(owner + "SubBean.class.getDeclaredMethod(\"greet\", java.lang.String[].class, int.class),"));
+        assertTrue(source.contains(owner + "SubBean.class.getDeclaredMethod(\"matrix\", long[][].class, char.class),"));
+        assertTrue(source.contains(owner + "BaseBean.class.getDeclaredMethod(\"hello\", java.lang.String.class)\n"));
+
+        source = AbstractGenerateBeanMethodsMojo.generateBeanMethodsSource("org.apache.camel.maven.packaging",
+                "GenerateBeanMethodsMojoTest_Outer_InnerBeanMethods", "GenerateBeanMethodsMojoTest.Outer.Inner",
+                AbstractGenerateBeanMethodsMojo.collectMethods(index, classInfo(Outer.Inner.class)));
+        assertTrue(source.contains(
+                owner + "Outer.Inner.class.getDeclaredMethod(\"handle\", " + owner + "Outer.Inner.class)"));
+    }
+
+    @Test
+    public void testIndexTestClasses() throws Exception {
+        // the super class and the enclosing classes are indexed from the class directory
+        Index testIndex = GenerateTestBeanMethodsMojo.indexClasses(List.of(SubBean.class.getName()),
+                new File("target/test-classes"));
+        assertNotNull(testIndex.getClassByName(DotName.createSimple(BaseBean.class.getName())));
+        assertNotNull(testIndex.getClassByName(DotName.createSimple(GenerateBeanMethodsMojoTest.class.getName())));
+
+        ClassInfo ci = testIndex.getClassByName(DotName.createSimple(SubBean.class.getName()));
+        assertEquals(3, AbstractGenerateBeanMethodsMojo.collectMethods(testIndex, ci).size());
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.METHOD)
+    public @interface MyHandler {
+    }
+
+    @Retention(RetentionPolicy.RUNTIME)
+    @Target(ElementType.PARAMETER)
+    public @interface MyBody {
+    }
+
+    public static class BaseBean {
+
+        public String hello(@MyBody String body) {
+            return "Hello " + body;
+        }
+
+        private void secret() {
+        }
+    }
+
+    public static class SubBean extends BaseBean {
+
+        @MyHandler
+        public String greet(String[] names, int count) {
+            return names[count];
+        }
+
+        public long[][] matrix(long[][] values, char separator) {
+            return values;
+        }
+    }
+
+    public static class OverloadBean {
+
+        @MyHandler
+        public String process(String body) {
+            return body;
+        }
+
+        public String process(int body) {
+            return String.valueOf(body);
+        }
+    }
+
+    public static class OverridingBean extends BaseBean {
+
+        @Override
+        public String hello(@MyBody String body) {
+            return "Hi " + body;
+        }
+    }
+
+    public static class Outer {
+
+        public static class Inner {
+
+            @MyHandler
+            public void handle(Inner other) {
+            }
+        }
+
+        private static class Hidden {
+
+            @MyHandler
+            public void handle(String body) {
+            }
+        }
+    }
+
+    public interface Greeter {
+
+        @MyHandler
+        String greet(String name);
+    }
+
+    public static class GreeterBean implements Greeter {
+
+        @Override
+        public String greet(String name) {
+            return "Hello " + name;
+        }
+    }
+
+    public static class HiddenParameterBean {
+
+        @MyHandler
+        public void handle(Secret secret) {
+        }
+
+        private static class Secret {
+        }
+    }
+
+    static class PackagePrivateBean {
+
+        public void handle(String body) {
+        }
+    }
+
+    public static class CrossPackageBean extends PublicBean {
+
+        public void handle(String body) {
+        }
+    }
+
+    public static class ProtectedParameterBean extends ProtectedTypes {
+
+        public void handle(Protected body) {
+        }
+    }
+}